@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.SynchronousBundleListener;
+
+/**
+ * Keeps the processed initial application model of an application definition,
+ * i.e. the model after all fragments of the model extension point have been
+ * merged, so that new sessions can start from a copy instead of loading and
+ * processing the model again.
+ * <p>
+ * Templates are only created if no processors are contributed to the model
+ * extension point, since processors are arbitrary code that may depend on the
+ * context of a session. All templates are discarded whenever the contributions
+ * to the model extension point change or a bundle is updated or uninstalled.
+ * </p>
+ */
+final class ApplicationModelTemplate {
+
+	private static final Map<URI, ApplicationModelTemplate> templates = new ConcurrentHashMap<URI, ApplicationModelTemplate>();
+	private static InvalidationListener listener;
+	// incremented whenever the templates are discarded
+	private static int generation;
+
+	private final E4XMIResource resource;
+
+	private ApplicationModelTemplate(E4XMIResource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * @param registry
+	 *            the extension registry
+	 * @return {@code true} if the processed initial model can be shared between
+	 *         sessions
+	 */
+	static boolean isApplicable(IExtensionRegistry registry) {
+		IExtensionPoint extPoint = registry.getExtensionPoint(ModelAssembler.extensionPointID);
+		if (extPoint == null) {
+			return true;
+		}
+		for (IExtension extension : extPoint.getExtensions()) {
+			for (IConfigurationElement ce : extension.getConfigurationElements()) {
+				if ("processor".equals(ce.getName())) { //$NON-NLS-1$
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param applicationDefinition
+	 *            the URI of the application definition
+	 * @return the template for the given application definition or
+	 *         {@code null} if there is none
+	 */
+	static ApplicationModelTemplate get(URI applicationDefinition) {
+		return templates.get(applicationDefinition);
+	}
+
+	/**
+	 * Starts listening for changes of the contributions to the model extension
+	 * point and returns the current generation of templates. The generation
+	 * has to be obtained before the initial model is built and passed to
+	 * {@link #put(URI, E4XMIResource, int)} afterwards.
+	 *
+	 * @param registry
+	 *            the extension registry
+	 * @return the current generation of templates
+	 */
+	static synchronized int getGeneration(IExtensionRegistry registry) {
+		if (listener == null) {
+			listener = new InvalidationListener(registry);
+			listener.register();
+		}
+		return generation;
+	}
+
+	/**
+	 * Stores a copy of the processed initial model as template for the given
+	 * application definition. Models that reference objects outside of their
+	 * resource are not stored, neither are models that were built while the
+	 * templates were discarded.
+	 *
+	 * @param applicationDefinition
+	 *            the URI of the application definition
+	 * @param processed
+	 *            the resource that contains the processed initial model
+	 * @param expectedGeneration
+	 *            the generation of templates that was current before the
+	 *            model was built
+	 */
+	static void put(URI applicationDefinition, E4XMIResource processed, int expectedGeneration) {
+		if (!EcoreUtil.ExternalCrossReferencer.find(processed).isEmpty()) {
+			return;
+		}
+		E4XMIResource copy = new E4XMIResource(applicationDefinition);
+		copy(processed, copy);
+		synchronized (ApplicationModelTemplate.class) {
+			if (generation == expectedGeneration) {
+				templates.put(applicationDefinition, new ApplicationModelTemplate(copy));
+			}
+		}
+	}
+
+	/**
+	 * Discards all templates.
+	 */
+	static synchronized void clear() {
+		generation++;
+		templates.clear();
+	}
+
+	/**
+	 * Discards all templates and stops listening for changes of contributing
+	 * bundles.
+	 */
+	static void dispose() {
+		synchronized (ApplicationModelTemplate.class) {
+			if (listener != null) {
+				listener.unregister();
+				listener = null;
+			}
+		}
+		clear();
+	}
+
+	/**
+	 * Copies the model of this template into the given resource.
+	 *
+	 * @param target
+	 *            the resource to receive the copy
+	 */
+	void copyTo(E4XMIResource target) {
+		// resolving the ids of the template may assign ids to its objects
+		synchronized (resource) {
+			copy(resource, target);
+		}
+	}
+
+	private static void copy(E4XMIResource source, E4XMIResource target) {
+		EcoreUtil.Copier copier = new EcoreUtil.Copier();
+		target.getContents().addAll(copier.copyAll(source.getContents()));
+		copier.copyReferences();
+		for (Map.Entry<EObject, EObject> entry : copier.entrySet()) {
+			String id = source.getID(entry.getKey());
+			if (id != null) {
+				target.setID(entry.getValue(), id);
+			}
+		}
+	}
+
+	private static final class InvalidationListener implements IRegistryEventListener,
+			SynchronousBundleListener {
+
+		private final IExtensionRegistry registry;
+		private BundleContext bundleContext;
+
+		InvalidationListener(IExtensionRegistry registry) {
+			this.registry = registry;
+		}
+
+		void register() {
+			registry.addListener(this, ModelAssembler.extensionPointID);
+			Activator activator = Activator.getDefault();
+			if (activator != null) {
+				bundleContext = activator.getContext();
+				if (bundleContext != null) {
+					bundleContext.addBundleListener(this);
+				}
+			}
+		}
+
+		void unregister() {
+			registry.removeListener(this);
+			if (bundleContext != null) {
+				try {
+					bundleContext.removeBundleListener(this);
+				} catch (IllegalStateException e) {
+					// the bundle context is no longer valid
+				}
+				bundleContext = null;
+			}
+		}
+
+		@Override
+		public void bundleChanged(BundleEvent event) {
+			int type = event.getType();
+			if (type == BundleEvent.UPDATED || type == BundleEvent.UNRESOLVED
+					|| type == BundleEvent.UNINSTALLED) {
+				clear();
+			}
+		}
+
+		@Override
+		public void added(IExtension[] extensions) {
+			clear();
+		}
+
+		@Override
+		public void removed(IExtension[] extensions) {
+			clear();
+		}
+
+		@Override
+		public void added(IExtensionPoint[] extensionPoints) {
+			clear();
+		}
+
+		@Override
+		public void removed(IExtensionPoint[] extensionPoints) {
+			clear();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.eclipse.core.internal.runtime.PlatformURLPluginConnection;
+import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -239,10 +240,25 @@ public class ResourceHandler implements IModelResourceHandler {
 				resource = null;
 			}
 		}
+		ApplicationModelTemplate template = null;
+		IExtensionRegistry registry = null;
+		int templateGeneration = 0;
 		if (resource == null) {
-			Resource applicationResource = loadResource(applicationDefinitionInstance);
-			MApplication theApp = (MApplication) applicationResource.getContents().get(0);
-			resource = createResourceWithApp(theApp);
+			template = ApplicationModelTemplate.get(applicationDefinitionInstance);
+			if (template != null) {
+				// start from a copy of the already processed model
+				resource = createResource();
+				template.copyTo((E4XMIResource) resource);
+			} else {
+				registry = context.get(IExtensionRegistry.class);
+				if (registry != null) {
+					// a model built while the contributions change is not stored
+					templateGeneration = ApplicationModelTemplate.getGeneration(registry);
+				}
+				Resource applicationResource = loadResource(applicationDefinitionInstance);
+				MApplication theApp = (MApplication) applicationResource.getContents().get(0);
+				resource = createResourceWithApp(theApp);
+			}
 			context.set(E4Workbench.NO_SAVED_MODEL_FOUND, Boolean.TRUE);
 			initialModel = true;
 		} else {
@@ -254,9 +270,15 @@ public class ResourceHandler implements IModelResourceHandler {
 		MApplication appElement = (MApplication) resource.getContents().get(0);
 
 		this.context.set(MApplication.class, appElement);
-		ModelAssembler contribProcessor = ContextInjectionFactory.make(ModelAssembler.class,
-				context);
-		contribProcessor.processModel(initialModel);
+		if (template == null) {
+			ModelAssembler contribProcessor = ContextInjectionFactory.make(ModelAssembler.class,
+					context);
+			contribProcessor.processModel(initialModel);
+			if (initialModel && registry != null && ApplicationModelTemplate.isApplicable(registry)) {
+				ApplicationModelTemplate.put(applicationDefinitionInstance, (E4XMIResource) resource,
+						templateGeneration);
+			}
+		}
 
 		if (!hasTopLevelWindows(resource) && logger != null) {
 			logger.error(new Exception(), // log a stack trace to help debug the
@@ -1,5 +1,12 @@
 package org.eclipse.rap.e4.internal;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
@@ -7,6 +14,9 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.util.tracker.ServiceTracker;
 
 public class Activator implements BundleActivator {
+	private static final int EVENT_DELIVERY_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+	private static final long EVENT_DELIVERY_KEEP_ALIVE = 60;
+
 	private static Activator singleton;
 	
 	private ServiceRegistration contextServiceReg; 
@@ -14,6 +24,7 @@ public class Activator implements BundleActivator {
 	
 	private ServiceTracker eventAdminTracker;
 	private BundleContext bundleContext;
+	private ExecutorService eventDeliveryExecutor;
 
 	/*
 	 * Returns the singleton for this Activator. Callers should be aware that
@@ -39,6 +50,26 @@ public class Activator implements BundleActivator {
 		return (EventAdmin) eventAdminTracker.getService();
 	}
 
+	/*
+	 * Returns the executor that delivers posted events of the session event
+	 * buses. Its threads are limited and terminate when the bundle is stopped.
+	 */
+	public synchronized Executor getEventDeliveryExecutor() {
+		if (eventDeliveryExecutor == null) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(EVENT_DELIVERY_THREADS, EVENT_DELIVERY_THREADS,
+					EVENT_DELIVERY_KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "RAP Session Event Delivery"); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+			eventDeliveryExecutor = executor;
+		}
+		return eventDeliveryExecutor;
+	}
+
 	public void stop(BundleContext context) throws Exception {
 		if (contextServiceReg != null) {
 			contextServiceReg.unregister();
@@ -53,6 +84,12 @@ public class Activator implements BundleActivator {
 			eventAdminTracker.close();
 			eventAdminTracker = null;
 		}
+		synchronized (this) {
+			if (eventDeliveryExecutor != null) {
+				eventDeliveryExecutor.shutdownNow();
+				eventDeliveryExecutor = null;
+			}
+		}
 		bundleContext = null;
 		singleton = null;
 	}
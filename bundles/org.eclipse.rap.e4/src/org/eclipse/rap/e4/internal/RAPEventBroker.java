@@ -11,6 +11,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
@@ -20,9 +21,7 @@ import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.osgi.util.NLS;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.event.EventConstants;
@@ -33,7 +32,8 @@ public class RAPEventBroker implements IEventBroker {
 
 	    private static final String	ASYNC_EVENT = "rap.async.event";
 
-		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
+		// Subscriptions are dispatched by the session event bus, see SessionEventBus
+		private Map<EventHandler, Collection<EventHandler>> registrations = new HashMap<EventHandler, Collection<EventHandler>>();
 
 		@Inject
 		Logger logger;
@@ -46,6 +46,11 @@ public class RAPEventBroker implements IEventBroker {
 		@Named(E4Application.INSTANCEID)
 		String instanceId;
 
+		@Inject
+		IEclipseContext context;
+
+		private SessionEventBus bus;
+
 		// This is a temporary code to ensure that bundle containing
 		// EventAdmin implementation is started. This code it to be removed once
 		// the proper method to start EventAdmin is added.
@@ -72,26 +77,33 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean send(String topic, Object data) {
 			Event event = constructEvent(topic, data, false);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
+			SessionEventBus eventBus = getBus();
+			if (eventBus == null) {
+				logger.error(NLS.bind("No event bus", event.toString()));
 				return false;
 			}
-			eventAdmin.sendEvent(event);
+			eventBus.send(event);
 			return true;
 		}
 
 		public boolean post(String topic, Object data) {
 			Event event = constructEvent(topic, data, true);
-			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
-			if (eventAdmin == null) {
-				logger.error(NLS.bind("No EventAdmin", event.toString()));
+			SessionEventBus eventBus = getBus();
+			if (eventBus == null) {
+				logger.error(NLS.bind("No event bus", event.toString()));
 				return false;
 			}
-			eventAdmin.postEvent(event);
+			eventBus.post(event);
 			return true;
 		}
 
+		private synchronized SessionEventBus getBus() {
+			if (bus == null) {
+				bus = SessionEventBus.getInstance(context);
+			}
+			return bus;
+		}
+
 		@SuppressWarnings("unchecked")
 		private Event constructEvent(String topic, Object data, boolean async) {
 			topic = rapifyTopic(instanceId, topic);
@@ -100,19 +112,22 @@ public class RAPEventBroker implements IEventBroker {
 				Dictionary<String,Object> properties = (Dictionary<String,Object>)data;
 				if (async)
 					properties.put(ASYNC_EVENT, Boolean.TRUE);
+				properties.put(SessionEventBus.SESSION_EVENT, Boolean.TRUE);
 				event = new Event(topic, properties);
 			} else if (data instanceof Map<?,?>) {
 				Map<String,Object> properties = (Map<String,Object>)data;
 				if (async)
 					properties.put(ASYNC_EVENT, Boolean.TRUE);
+				properties.put(SessionEventBus.SESSION_EVENT, Boolean.TRUE);
 				event = new Event(topic, properties);
 			} else {
-				Dictionary<String, Object> d = new Hashtable<String, Object>(3);
+				Dictionary<String, Object> d = new Hashtable<String, Object>(4);
 				d.put(EventConstants.EVENT_TOPIC, topic);
 				if (data != null)
 					d.put(IEventBroker.DATA, data);
 				if (async)
 					d.put(ASYNC_EVENT, Boolean.TRUE);
+				d.put(SessionEventBus.SESSION_EVENT, Boolean.TRUE);
 				event = new Event(topic, d);
 			}
 			return event;
@@ -124,50 +139,43 @@ public class RAPEventBroker implements IEventBroker {
 
 		public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
 			topic = rapifyTopic(instanceId, topic);
-			BundleContext bundleContext = Activator.getDefault().getBundleContext();
-			if (bundleContext == null) {
-				logger.error(NLS.bind("No EventAdmin", topic));
+			SessionEventBus eventBus = getBus();
+			if (eventBus == null) {
+				logger.error(NLS.bind("No event bus", topic));
 				return false;
 			}
-			String[] topics = new String[] {topic};
-			Dictionary<String, Object> d = new Hashtable<String, Object>();
-			d.put(EventConstants.EVENT_TOPIC, topics);
-			if (filter != null)
-				d.put(EventConstants.EVENT_FILTER, filter);
 			EventHandler wrappedHandler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
-			ServiceRegistration<?> registration = bundleContext.registerService(
-					EventHandler.class.getName(), wrappedHandler, d);
-			Collection<ServiceRegistration<?>> handled = registrations
+			if (!eventBus.subscribe(topic, filter, wrappedHandler))
+				return false;
+			Collection<EventHandler> handled = registrations
 					.get(eventHandler);
 			if (handled == null) {
 				registrations.put(eventHandler,
-						handled = new ArrayList<ServiceRegistration<?>>());
+						handled = new ArrayList<EventHandler>());
 			}
-			handled.add(registration);
+			handled.add(wrappedHandler);
 			return true;
 		}
 
 		public boolean unsubscribe(EventHandler eventHandler) {
-			Collection<ServiceRegistration<?>> handled = registrations
+			Collection<EventHandler> handled = registrations
 					.remove(eventHandler);
 			if (handled == null || handled.isEmpty())
 				return false;
-			for (ServiceRegistration<?> r : handled) {
-				r.unregister();
+			for (EventHandler wrappedHandler : handled) {
+				getBus().unsubscribe(wrappedHandler);
 			}
 			return true;
 		}
 
 		@PreDestroy
 		void dispose() {
-			Collection<Collection<ServiceRegistration<?>>> values = new ArrayList<Collection<ServiceRegistration<?>>>(
+			Collection<Collection<EventHandler>> values = new ArrayList<Collection<EventHandler>>(
 					registrations.values());
 			registrations.clear();
-			for (Collection<ServiceRegistration<?>> handled : values) {
-				for (ServiceRegistration<?> registration : handled) {
-					// System.out.println("EventBroker dispose:" + registration[i] +
-					// ")");
-					registration.unregister();
+			for (Collection<EventHandler> handled : values) {
+				for (EventHandler wrappedHandler : handled) {
+					getBus().unsubscribe(wrappedHandler);
 				}
 			}
 		}
@@ -3,9 +3,7 @@ package org.eclipse.rap.e4.internal;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.Dictionary;
 import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -14,6 +12,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.di.extensions.EventTopic;
@@ -23,12 +22,9 @@ import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
-import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
-import org.osgi.service.event.EventConstants;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -127,12 +123,18 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	// Subscriptions are dispatched by the session event bus, see SessionEventBus
+	private Map<Subscriber, EventHandler> registrations = new HashMap<Subscriber, EventHandler>();
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	protected IEclipseContext context;
+
+	private SessionEventBus bus;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -150,12 +152,11 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		String topic = getTopic(descriptor);
-		EventAdmin eventAdmin = getEventAdmin();
-		if (topic == null || eventAdmin == null || topic.length() == 0)
+		if (topic == null || topic.length() == 0)
 			return IInjector.NOT_A_VALUE;
 
 		if (track)
-			subscribe(topic, eventAdmin, requestor);
+			subscribe(topic, requestor);
 		else
 			unsubscribe(requestor);
 
@@ -169,27 +170,30 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		return currentEvents.get(topic).getProperty(EventUtils.DATA);
 	}
 
-	private void subscribe(String topic, EventAdmin eventAdmin, IRequestor requestor) {
+	private void subscribe(String topic, IRequestor requestor) {
 		Subscriber subscriber = new Subscriber(requestor, topic);
 		synchronized (registrations) {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
-		BundleContext bundleContext = Activator.getDefault().getBundleContext();
-		if (bundleContext == null)
-			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
+		SessionEventBus eventBus = getBus();
+		if (eventBus == null)
+			throw new InjectionException("Unable to subscribe to events: no application instance found"); //$NON-NLS-1$
 
-		String[] topics = new String[] {topic};
-		Dictionary<String, Object> d = new Hashtable<String, Object>();
-		d.put(EventConstants.EVENT_TOPIC, topics);
 		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
+		eventBus.subscribe(topic, null, wrappedHandler);
 		// due to the way requestors are constructed this limited synch should be OK
 		synchronized (registrations) {
-			registrations.put(subscriber, registration);
+			registrations.put(subscriber, wrappedHandler);
 		}
 	}
 
+	private synchronized SessionEventBus getBus() {
+		if (bus == null)
+			bus = SessionEventBus.getInstance(context);
+		return bus;
+	}
+
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
 		return new DIEventHandler(topic, requestor);
 	}
@@ -211,14 +215,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, EventHandler>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, EventHandler> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
-				registration.unregister();
+				getBus().unsubscribe(entry.getValue());
 				i.remove();
 			}
 		}
@@ -226,14 +229,14 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		EventHandler[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<EventHandler> values = registrations.values();
+			array = values.toArray(new EventHandler[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
-			array[i].unregister();
+			getBus().unsubscribe(array[i]);
 		}
 	}
 
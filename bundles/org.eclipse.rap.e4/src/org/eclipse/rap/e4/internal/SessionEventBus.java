@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.internal.contexts.EclipseContext;
+import org.eclipse.e4.core.internal.contexts.IContextDisposalListener;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Dispatches the events of a single e4 application instance (i.e. of a single
+ * UI session) to the handlers that are subscribed to them. Subscriptions are
+ * kept in a topic trie instead of being registered as {@link EventHandler}
+ * services, so that the number of sessions does not affect the OSGi service
+ * registry or the event matching of the EventAdmin.
+ * <p>
+ * Topics follow the EventAdmin conventions: a topic of a subscription either
+ * matches exactly or, if it ends with <code>/*</code>, matches all sub topics.
+ * Events sent to the EventAdmin for topics of this instance are forwarded to
+ * the bus by a single handler per instance.
+ * </p>
+ * <p>
+ * Events sent or posted to the bus are also passed on to the EventAdmin, so
+ * that handlers outside of the session, e.g. {@link EventHandler} services,
+ * still receive them. The handler that forwards events to the bus ignores
+ * events that carry the {@link #SESSION_EVENT} property to not dispatch them
+ * twice.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public final class SessionEventBus {
+
+	private static final Logger LOGGER = Logger.getLogger(SessionEventBus.class.getName());
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+	private static final String SEPARATOR = "/"; //$NON-NLS-1$
+
+	/**
+	 * Marks events that are dispatched by the bus before they are passed on to
+	 * the EventAdmin.
+	 */
+	static final String SESSION_EVENT = "rap.session.event"; //$NON-NLS-1$
+	static final String BRIDGE_FILTER = "(!(" + SESSION_EVENT + "=*))"; //$NON-NLS-1$ //$NON-NLS-2$
+
+	private final Executor executor;
+	private final EventAdmin eventAdmin;
+	private final TopicNode root = new TopicNode();
+	private final Map<EventHandler, List<Subscription>> subscriptions = new HashMap<EventHandler, List<Subscription>>();
+	private final Queue<Event> postedEvents = new ConcurrentLinkedQueue<Event>();
+	private final AtomicBoolean delivering = new AtomicBoolean();
+	private final Runnable deliveryTask = new Runnable() {
+		public void run() {
+			deliverPostedEvents();
+		}
+	};
+	private ServiceRegistration<?> bridgeRegistration;
+	private volatile boolean disposed;
+
+	/**
+	 * Returns the bus of the application instance that the given context
+	 * belongs to. The bus is created on first access and disposed together with
+	 * the application context.
+	 *
+	 * @return the bus or <code>null</code> if the context does not belong to an
+	 *         application instance or if the bundle is not active
+	 */
+	public static SessionEventBus getInstance(IEclipseContext context) {
+		IEclipseContext appContext = context;
+		while (appContext != null && appContext.getLocal(E4Application.INSTANCEID) == null) {
+			appContext = appContext.getParent();
+		}
+		Activator activator = Activator.getDefault();
+		if (appContext == null || activator == null) {
+			return null;
+		}
+		synchronized (SessionEventBus.class) {
+			SessionEventBus result = appContext.getLocal(SessionEventBus.class);
+			if (result == null) {
+				String instanceId = (String) appContext.getLocal(E4Application.INSTANCEID);
+				final SessionEventBus bus = new SessionEventBus(activator.getEventDeliveryExecutor(),
+						new TrackedEventAdmin());
+				bus.registerBridge(instanceId);
+				appContext.set(SessionEventBus.class, bus);
+				if (appContext instanceof EclipseContext) {
+					((EclipseContext) appContext).notifyOnDisposal(new IContextDisposalListener() {
+						public void disposed(IEclipseContext disposedContext) {
+							bus.dispose();
+						}
+					});
+				}
+				result = bus;
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Creates a bus that delivers posted events with the given executor and
+	 * passes all events on to the given EventAdmin. Outside of tests, buses are
+	 * created per application instance with
+	 * {@link #getInstance(IEclipseContext)}.
+	 */
+	SessionEventBus(Executor executor, EventAdmin eventAdmin) {
+		this.executor = executor;
+		this.eventAdmin = eventAdmin;
+	}
+
+	/**
+	 * Subscribes the handler to the given topic.
+	 *
+	 * @return <code>false</code> if the filter is not a valid LDAP filter
+	 */
+	public boolean subscribe(String topic, String filter, EventHandler handler) {
+		Filter eventFilter = null;
+		if (filter != null) {
+			try {
+				eventFilter = FrameworkUtil.createFilter(filter);
+			} catch (InvalidSyntaxException exception) {
+				LOGGER.log(Level.WARNING, "Invalid event filter: " + filter, exception); //$NON-NLS-1$
+				return false;
+			}
+		}
+		Subscription subscription = new Subscription(handler, eventFilter);
+		synchronized (subscriptions) {
+			List<Subscription> handled = subscriptions.get(handler);
+			if (handled == null) {
+				handled = new ArrayList<Subscription>(1);
+				subscriptions.put(handler, handled);
+			}
+			handled.add(subscription);
+			subscription.list = getSubscriptionList(topic);
+			subscription.list.add(subscription);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all subscriptions of the given handler.
+	 *
+	 * @return <code>true</code> if the handler was subscribed
+	 */
+	public boolean unsubscribe(EventHandler handler) {
+		List<Subscription> handled;
+		synchronized (subscriptions) {
+			handled = subscriptions.remove(handler);
+		}
+		if (handled == null) {
+			return false;
+		}
+		for (Subscription subscription : handled) {
+			subscription.list.remove(subscription);
+		}
+		return true;
+	}
+
+	/**
+	 * Delivers the event synchronously in the calling thread.
+	 */
+	public void send(Event event) {
+		dispatch(event);
+		if (!disposed) {
+			eventAdmin.sendEvent(event);
+		}
+	}
+
+	/**
+	 * Delivers the event asynchronously. Posted events are delivered in the
+	 * order they were posted.
+	 */
+	public void post(Event event) {
+		if (!disposed) {
+			postedEvents.add(event);
+			scheduleDelivery();
+			eventAdmin.postEvent(event);
+		}
+	}
+
+	void dispose() {
+		disposed = true;
+		postedEvents.clear();
+		Collection<EventHandler> handlers;
+		synchronized (subscriptions) {
+			handlers = new ArrayList<EventHandler>(subscriptions.keySet());
+		}
+		for (EventHandler handler : handlers) {
+			unsubscribe(handler);
+		}
+		synchronized (this) {
+			if (bridgeRegistration != null) {
+				try {
+					bridgeRegistration.unregister();
+				} catch (IllegalStateException exception) {
+					// already unregistered when the bundle was stopped
+				}
+				bridgeRegistration = null;
+			}
+		}
+	}
+
+	private void registerBridge(String instanceId) {
+		Activator activator = Activator.getDefault();
+		BundleContext bundleContext = activator != null ? activator.getBundleContext() : null;
+		if (bundleContext != null) {
+			Dictionary<String, Object> properties = new Hashtable<String, Object>();
+			properties.put(EventConstants.EVENT_TOPIC, new String[] { RAPEventBroker.rapifyTopic(instanceId, WILDCARD) });
+			properties.put(EventConstants.EVENT_FILTER, BRIDGE_FILTER);
+			EventHandler bridge = new EventHandler() {
+				public void handleEvent(Event event) {
+					dispatch(event);
+				}
+			};
+			synchronized (this) {
+				bridgeRegistration = bundleContext.registerService(EventHandler.class.getName(), bridge, properties);
+			}
+		}
+	}
+
+	private void scheduleDelivery() {
+		if (delivering.compareAndSet(false, true)) {
+			try {
+				executor.execute(deliveryTask);
+			} catch (RejectedExecutionException exception) {
+				// the bundle was stopped, posted events are no longer delivered
+				postedEvents.clear();
+				delivering.set(false);
+			}
+		}
+	}
+
+	private void deliverPostedEvents() {
+		Event event = postedEvents.poll();
+		while (event != null) {
+			dispatch(event);
+			event = postedEvents.poll();
+		}
+		delivering.set(false);
+		if (!postedEvents.isEmpty()) {
+			scheduleDelivery();
+		}
+	}
+
+	private void dispatch(Event event) {
+		if (disposed) {
+			return;
+		}
+		for (Subscription subscription : collectSubscriptions(event.getTopic())) {
+			if (subscription.filter == null || event.matches(subscription.filter)) {
+				try {
+					subscription.handler.handleEvent(event);
+				} catch (RuntimeException exception) {
+					// like the EventAdmin, do not let a failing handler affect the others
+					LOGGER.log(Level.WARNING, "Exception while dispatching event " + event, exception); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	private List<Subscription> collectSubscriptions(String topic) {
+		List<Subscription> result = new ArrayList<Subscription>();
+		result.addAll(root.wildcardSubscriptions);
+		String[] segments = topic.split(SEPARATOR);
+		TopicNode node = root;
+		for (int i = 0; i < segments.length && node != null; i++) {
+			node = node.children.get(segments[i]);
+			if (node != null) {
+				if (i == segments.length - 1) {
+					result.addAll(node.subscriptions);
+				} else {
+					result.addAll(node.wildcardSubscriptions);
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<Subscription> getSubscriptionList(String topic) {
+		if (WILDCARD.equals(topic)) {
+			return root.wildcardSubscriptions;
+		}
+		boolean wildcard = topic.endsWith(SEPARATOR + WILDCARD);
+		String path = wildcard ? topic.substring(0, topic.length() - 2) : topic;
+		TopicNode node = root;
+		for (String segment : path.split(SEPARATOR)) {
+			TopicNode child = node.children.get(segment);
+			if (child == null) {
+				TopicNode newChild = new TopicNode();
+				child = node.children.putIfAbsent(segment, newChild);
+				if (child == null) {
+					child = newChild;
+				}
+			}
+			node = child;
+		}
+		return wildcard ? node.wildcardSubscriptions : node.subscriptions;
+	}
+
+	/*
+	 * Looks up the EventAdmin for every event, like the broker did before it
+	 * used the bus, as the service may become available after the bus was
+	 * created.
+	 */
+	private static final class TrackedEventAdmin implements EventAdmin {
+		public void postEvent(Event event) {
+			EventAdmin eventAdmin = getEventAdmin();
+			if (eventAdmin != null) {
+				eventAdmin.postEvent(event);
+			}
+		}
+
+		public void sendEvent(Event event) {
+			EventAdmin eventAdmin = getEventAdmin();
+			if (eventAdmin != null) {
+				eventAdmin.sendEvent(event);
+			}
+		}
+
+		private static EventAdmin getEventAdmin() {
+			Activator activator = Activator.getDefault();
+			return activator != null ? activator.getEventAdmin() : null;
+		}
+	}
+
+	private static final class TopicNode {
+		final ConcurrentMap<String, TopicNode> children = new ConcurrentHashMap<String, TopicNode>();
+		// subscriptions for the topic of this node
+		final List<Subscription> subscriptions = new CopyOnWriteArrayList<Subscription>();
+		// subscriptions for all sub topics of this node
+		final List<Subscription> wildcardSubscriptions = new CopyOnWriteArrayList<Subscription>();
+	}
+
+	private static final class Subscription {
+		final EventHandler handler;
+		final Filter filter;
+		List<Subscription> list;
+
+		Subscription(EventHandler handler, Filter filter) {
+			this.handler = handler;
+			this.filter = filter;
+		}
+	}
+}
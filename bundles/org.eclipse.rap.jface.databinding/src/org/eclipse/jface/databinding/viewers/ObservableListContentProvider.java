@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.list.IListChangeListener;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.runtime.Assert;
@@ -111,10 +112,23 @@ public class ObservableListContentProvider implements
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			if (isBulkUpdate(event.diff.getDifferences().length)) {
+				bulkUpdate();
+			} else {
+				applyDiff(event.diff, suspendRedraw[0]);
+			}
+
+			if (realizedElements != null) {
+				realizedElements.addAll(knownElementAdditions);
+			}
+			knownElements.removeAll(knownElementRemovals);
+		}
+
+		private void applyDiff(ListDiff diff, boolean suspendRedraw) {
+			if (suspendRedraw)
 				viewer.getControl().setRedraw(false);
 			try {
-				event.diff.accept(new ListDiffVisitor() {
+				diff.accept(new ListDiffVisitor() {
 					public void handleAdd(int index, Object element) {
 						viewerUpdater.insert(element, index);
 					}
@@ -134,14 +148,9 @@ public class ObservableListContentProvider implements
 					}
 				});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw)
 					viewer.getControl().setRedraw(true);
 			}
-
-			if (realizedElements != null) {
-				realizedElements.addAll(knownElementAdditions);
-			}
-			knownElements.removeAll(knownElementRemovals);
 		}
 	}
 
@@ -190,6 +199,33 @@ public class ObservableListContentProvider implements
 		impl.dispose();
 	}
 
+	/**
+	 * Sets the minimum number of differences of a change to the input list
+	 * that is applied by refreshing the viewer as a whole instead of
+	 * inserting, removing, replacing or moving elements one by one. The
+	 * selection of the viewer is preserved. The default is 100. Changes are
+	 * never applied in bulk if a viewer updater was given to the constructor.
+	 * 
+	 * @param threshold
+	 *            the minimum number of differences, or
+	 *            {@link Integer#MAX_VALUE} to always update elements one by one
+	 * @since 3.16
+	 */
+	public void setBulkUpdateThreshold(int threshold) {
+		impl.setBulkUpdateThreshold(threshold);
+	}
+
+	/**
+	 * Returns the minimum number of differences of a change to the input
+	 * list that is applied by refreshing the viewer as a whole.
+	 * 
+	 * @return the bulk update threshold
+	 * @since 3.16
+	 */
+	public int getBulkUpdateThreshold() {
+		return impl.getBulkUpdateThreshold();
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -70,8 +70,12 @@ public class ObservableSetContentProvider implements IStructuredContentProvider
 			if (realizedElements != null)
 				realizedElements.removeAll(removals);
 
-			viewerUpdater.remove(removals.toArray());
-			viewerUpdater.add(additions.toArray());
+			if (isBulkUpdate(removals.size() + additions.size())) {
+				bulkUpdate();
+			} else {
+				viewerUpdater.remove(removals.toArray());
+				viewerUpdater.add(additions.toArray());
+			}
 
 			if (realizedElements != null)
 				realizedElements.addAll(additions);
@@ -124,6 +128,33 @@ public class ObservableSetContentProvider implements IStructuredContentProvider
 		impl.dispose();
 	}
 
+	/**
+	 * Sets the minimum number of differences of a change to the input set that
+	 * is applied by refreshing the viewer as a whole instead of adding or
+	 * removing elements one by one. The selection of the viewer is preserved.
+	 * The default is 100. Changes are never applied in bulk if a viewer updater
+	 * was given to the constructor.
+	 * 
+	 * @param threshold
+	 *            the minimum number of differences, or
+	 *            {@link Integer#MAX_VALUE} to always update elements one by one
+	 * @since 3.16
+	 */
+	public void setBulkUpdateThreshold(int threshold) {
+		impl.setBulkUpdateThreshold(threshold);
+	}
+
+	/**
+	 * Returns the minimum number of differences of a change to the input set
+	 * that is applied by refreshing the viewer as a whole.
+	 * 
+	 * @return the bulk update threshold
+	 * @since 3.16
+	 */
+	public int getBulkUpdateThreshold() {
+		return impl.getBulkUpdateThreshold();
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2009 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -79,6 +79,14 @@ public abstract class ObservableCollectionContentProvider implements
 
 	private IObservableCollection observableCollection;
 
+	/**
+	 * Default minimum number of differences of a change that is applied by
+	 * refreshing the viewer instead of updating its elements one by one.
+	 */
+	public static final int DEFAULT_BULK_UPDATE_THRESHOLD = 100;
+
+	private int bulkUpdateThreshold = DEFAULT_BULK_UPDATE_THRESHOLD;
+
 	/**
 	 * Constructs an ObservableCollectionContentProvider
 	 * 
@@ -239,6 +247,61 @@ public abstract class ObservableCollectionContentProvider implements
 				|| viewer.getControl().isDisposed();
 	}
 
+	/**
+	 * Sets the minimum number of differences of a change that is applied by
+	 * refreshing the viewer as a whole. Inserting or removing items one by one
+	 * shifts the items of the underlying widget each time, which makes large
+	 * changes expensive. Changes are never applied in bulk if an explicit
+	 * viewer updater was given.
+	 * 
+	 * @param threshold
+	 *            the minimum number of differences, or
+	 *            {@link Integer#MAX_VALUE} to always update elements one by one
+	 */
+	public void setBulkUpdateThreshold(int threshold) {
+		Assert.isTrue(threshold > 0, "Threshold must be positive"); //$NON-NLS-1$
+		bulkUpdateThreshold = threshold;
+	}
+
+	/**
+	 * Returns the minimum number of differences of a change that is applied by
+	 * refreshing the viewer as a whole.
+	 * 
+	 * @return the bulk update threshold
+	 */
+	public int getBulkUpdateThreshold() {
+		return bulkUpdateThreshold;
+	}
+
+	/**
+	 * Returns whether a change with the given number of differences should be
+	 * applied with {@link #bulkUpdate()} instead of through the viewer updater.
+	 * 
+	 * @param differenceCount
+	 *            the number of differences of the change
+	 * @return whether to refresh the viewer as a whole
+	 */
+	protected final boolean isBulkUpdate(int differenceCount) {
+		return explicitViewerUpdater == null
+				&& differenceCount >= bulkUpdateThreshold;
+	}
+
+	/**
+	 * Refreshes the viewer as a whole with redraw turned off. The selection of
+	 * the viewer is preserved. Virtual viewers only update their item count and
+	 * clear their items.
+	 */
+	protected final void bulkUpdate() {
+		StructuredViewer viewer = (StructuredViewer) viewerObservable
+				.getValue();
+		viewer.getControl().setRedraw(false);
+		try {
+			viewer.refresh(false);
+		} finally {
+			viewer.getControl().setRedraw(true);
+		}
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.internal.graphics.ImageFactory;
+import org.eclipse.swt.internal.graphics.InternalImage;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.widgets.Display;
+
+
+/*
+ * Exists in RAP only. Shares the images that are created for equal image descriptors across all
+ * UI sessions of an application.
+ *
+ * The first request for a descriptor creates the image, later requests create a new Image for the
+ * same InternalImage without computing the ImageData again. Entries are reference counted and
+ * removed when the last image that has been acquired for them is released.
+ *
+ * Descriptors are held weakly. A descriptor may reference objects of the UI session that created
+ * it, for example the base image of a DecorationOverlayIcon and its display. The entries only hold
+ * the InternalImage, which does not belong to a session, so that an entry never keeps a session
+ * alive. An entry whose descriptor has been garbage collected is dropped.
+ */
+public final class ImageDescriptorCache {
+
+  private final Map<ImageDescriptor, Entry> entries;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+
+  /*
+   * Returns the cache of the application that the given device belongs to, or of the application
+   * of the current context if the device does not belong to a UI session. Returns null if neither
+   * is available.
+   */
+  public static ImageDescriptorCache getInstance( Device device ) {
+    ApplicationContext applicationContext = getApplicationContext( device );
+    if( applicationContext == null ) {
+      return null;
+    }
+    return SingletonUtil.getUniqueInstance( ImageDescriptorCache.class, applicationContext );
+  }
+
+  public ImageDescriptorCache() {
+    entries = new WeakHashMap<>();
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+  }
+
+  public Image acquire( ImageDescriptor descriptor, Device device ) {
+    InternalImage internalImage = null;
+    synchronized( entries ) {
+      Entry entry = entries.get( descriptor );
+      if( entry != null ) {
+        entry.references++;
+        internalImage = entry.internalImage;
+      }
+    }
+    if( internalImage != null ) {
+      hitCount.incrementAndGet();
+      return ImageFactory.createImageInstance( device, internalImage );
+    }
+    missCount.incrementAndGet();
+    Image result = descriptor.createImage( false, device );
+    if( result != null ) {
+      synchronized( entries ) {
+        Entry entry = entries.get( descriptor );
+        if( entry == null ) {
+          entry = new Entry( result.internalImage );
+          entries.put( descriptor, entry );
+        }
+        if( entry.internalImage == result.internalImage ) {
+          entry.references++;
+        }
+      }
+    }
+    return result;
+  }
+
+  public void release( ImageDescriptor descriptor, Image image ) {
+    synchronized( entries ) {
+      Entry entry = entries.get( descriptor );
+      if( entry != null && entry.internalImage == image.internalImage ) {
+        entry.references--;
+        if( entry.references == 0 ) {
+          entries.remove( descriptor );
+        }
+      }
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public int getSize() {
+    synchronized( entries ) {
+      return entries.size();
+    }
+  }
+
+  private static ApplicationContext getApplicationContext( Device device ) {
+    ApplicationContext result = null;
+    if( device instanceof Display ) {
+      Display display = ( Display )device;
+      UISession uiSession = display.getAdapter( IDisplayAdapter.class ).getUISession();
+      if( uiSession != null ) {
+        result = uiSession.getApplicationContext();
+      }
+    }
+    if( result == null && ContextProvider.hasContext() ) {
+      result = ContextProvider.getApplicationContext();
+    }
+    return result;
+  }
+
+  private static final class Entry {
+
+    final InternalImage internalImage;
+    int references;
+
+    Entry( InternalImage internalImage ) {
+      this.internalImage = internalImage;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.jface.resource;
 
 import java.net.URL;
 
+import org.eclipse.jface.internal.ImageDescriptorCache;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
@@ -165,7 +166,9 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor  {
      */
     @Override
     public Object createResource(Device device) throws DeviceResourceException {
-        Image result = createImage(false, device);
+        // RAP: share images of equal descriptors across UI sessions
+        ImageDescriptorCache cache = ImageDescriptorCache.getInstance(device);
+        Image result = cache != null ? cache.acquire(this, device) : createImage(false, device);
         if (result == null) {
             throw new DeviceResourceException(this);
         }
@@ -179,6 +182,13 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor  {
     public void destroyResource(Object previouslyCreatedObject) {
 //      TODO [rst] This line is still disabled because of 320201
 //      ((Image)previouslyCreatedObject).dispose();
+        Image image = (Image)previouslyCreatedObject;
+        if (!image.isDisposed()) {
+            ImageDescriptorCache cache = ImageDescriptorCache.getInstance(image.getDevice());
+            if (cache != null) {
+                cache.release(this, image);
+            }
+        }
     }
 
     /**
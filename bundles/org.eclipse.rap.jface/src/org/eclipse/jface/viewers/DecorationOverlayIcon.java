@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -145,7 +145,9 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 			return false;
 		}
         DecorationOverlayIcon other = (DecorationOverlayIcon) o;
-        return base.equals(other.base)
+        // RAP: compare the shared internal image, base images differ between UI sessions
+        return base.internalImage == other.base.internalImage
+                && size.equals(other.size)
                 && Arrays.equals(overlays, other.overlays);
     }
 
@@ -153,7 +155,8 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
      * @see java.lang.Object#hashCode()
      */
     public int hashCode() {
-        int code = System.identityHashCode(base);
+        // RAP: use the shared internal image, base images differ between UI sessions
+        int code = System.identityHashCode(base.internalImage);
         for (int i = 0; i < overlays.length; i++) {
             if (overlays[i] != null) {
 				code ^= overlays[i].hashCode();
@@ -115,6 +115,7 @@ rwt.remote.HandlerUtil = {
     "menu",
     "activeKeys",
     "cancelKeys",
+    "eventPolicy",
     "data",
     "direction"
   ],
@@ -237,6 +238,9 @@ rwt.remote.HandlerUtil = {
     "cancelKeys" : function( widget, value ) {
       var map = rwt.util.Objects.fromArray( value );
       widget.setUserData( "cancelKeys", map );
+    },
+    "eventPolicy" : function( widget, value ) {
+      rwt.remote.Connection.getInstance().getRemoteObject( widget ).setEventPolicy( value );
     }
   },
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -67,6 +67,8 @@ rwt.remote.RemoteObject.prototype = {
       if( suppressSend !== true ) {
         if( typeof suppressSend === "number" ) {
           connection.sendDelayed( suppressSend );
+        } else if( this._.policyTimer ) {
+          this._sendWithPolicy();
         } else {
           connection.send();
         }
@@ -91,6 +93,49 @@ rwt.remote.RemoteObject.prototype = {
 
   isListening : function( type ) {
     return this._.listen[ type ] === true;
+  },
+
+  /**
+   * @private
+   * @param {Array|null} policy [ "throttle" | "debounce", time ] or null
+   */
+  setEventPolicy : function( policy ) {
+    if( this._.policyTimer ) {
+      this._.policyTimer.dispose();
+      this._.policyTimer = null;
+    }
+    if( policy ) {
+      this._.policy = policy[ 0 ];
+      this._.policyTimer = new rwt.client.Timer( policy[ 1 ] );
+      this._.policyTimer.addEventListener( "interval", this._onPolicyInterval, this );
+    }
+  },
+
+  /**
+   * @private
+   */
+  dispose : function() {
+    this.setEventPolicy( null );
+  },
+
+  _onPolicyInterval : function() {
+    var target = rwt.remote.ObjectRegistry.getObject( this._.id );
+    if( target == null || ( target.isDisposed instanceof Function && target.isDisposed() ) ) {
+      this.dispose();
+    } else {
+      this._.policyTimer.stop();
+      Connection.getInstance().send();
+    }
+  },
+
+  // Throttling sends at most one request per interval, debouncing sends a request when no
+  // further event occurred within the interval.
+  _sendWithPolicy : function() {
+    if( this._.policy === "debounce" ) {
+      this._.policyTimer.restart();
+    } else if( !this._.policyTimer.isEnabled() ) {
+      this._.policyTimer.start();
+    }
   }
 
 };
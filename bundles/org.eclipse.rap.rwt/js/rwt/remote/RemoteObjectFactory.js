@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,7 +26,10 @@ rwt.remote.RemoteObjectFactory = { // TODO [tb] : merge with Connection.js? (not
   },
 
   remove : function( id ) {
-    delete this._db[ id ];
+    if( this._db[ id ] != null ) {
+      this._db[ id ].dispose();
+      delete this._db[ id ];
+    }
   },
 
   _getRemoteObject : function( id ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -87,9 +87,16 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.Combo", {
 
   listenerHandler : rwt.remote.HandlerUtil.extendControlListenerHandler( {} ),
 
-  methods: [ "addListener", "removeListener" ],
+  methods: [ "addListener", "removeListener", "insertItems", "removeItems" ],
 
-  methodHandler : rwt.remote.HandlerUtil.extendListenerMethodHandler( {} ),
+  methodHandler : rwt.remote.HandlerUtil.extendListenerMethodHandler( {
+    "insertItems" : function( widget, properties ) {
+      widget.insertItems( properties.index, properties.items );
+    },
+    "removeItems" : function( widget, properties ) {
+      widget.removeItems( properties.index, properties.count );
+    }
+  } ),
 
   /**
    * @class RWT Scripting analoge to org.eclipse.swt.widgets.Combo
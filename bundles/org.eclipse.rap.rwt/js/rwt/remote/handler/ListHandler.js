@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -63,6 +63,17 @@ rwt.remote.HandlerRegistry.add( "rwt.widgets.List", {
 
   listenerHandler : rwt.remote.HandlerUtil.extendControlListenerHandler( {} ),
 
+  methods : [ "insertItems", "removeItems" ],
+
+  methodHandler : {
+    "insertItems" : function( widget, properties ) {
+      widget.insertItems( properties.index, properties.items );
+    },
+    "removeItems" : function( widget, properties ) {
+      widget.removeItems( properties.index, properties.count );
+    }
+  },
+
   scriptingMethods : rwt.remote.HandlerUtil.extendControlScriptingMethods( {
     "getSelection" : function() {
       var items = this.getSelectedItems();
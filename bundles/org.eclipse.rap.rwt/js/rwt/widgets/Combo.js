@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -56,6 +56,18 @@ rwt.qx.Class.define( "rwt.widgets.Combo", {
       }
     },
 
+    insertItems : function( index, value ) {
+      var items = this._list.getItems();
+      items.splice.apply( items, [ index, 0 ].concat( value ) );
+      this.setItems( items );
+    },
+
+    removeItems : function( index, count ) {
+      var items = this._list.getItems();
+      items.splice( index, count );
+      this.setItems( items );
+    },
+
     setVisibleItemCount : function( value ) {
       this._list.setVisibleItemCount( value );
     },
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -68,6 +68,9 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
      *  - To assign the last created linear gradient as a style, use "linearGradient" as the value.
      *  - strokeText behaves like fillText and fillText draws a rectangular background
      *  - ellipse is not a W3C standard, only WHATWG, but we need it for SWT arc to work.
+     *  - [ "polylines", fill, [ x0, y0, x1, y1, ... ], ... ] fills or strokes a single path with
+     *    one subpath per array of coordinates.
+     *  - [ "points", color, x0, y0, x1, y1, ... ] draws pixels in the given color.
      */
     draw : function( operations ) {
       this._paused = false;
@@ -99,6 +102,8 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
             case "drawImage":
             case "setTransform":
             case "resetClip":
+            case "polylines":
+            case "points":
               this[ "_" + op ]( operations[ offset ] );
             break;
             default:
@@ -228,6 +233,33 @@ rwt.qx.Class.define( "rwt.widgets.GC", {
       }
     },
 
+    _polylines : function( operation ) {
+      this._context.beginPath();
+      for( var i = 2; i < operation.length; i++ ) {
+        var points = operation[ i ];
+        if( points.length > 1 ) {
+          this._context.moveTo( points[ 0 ], points[ 1 ] );
+        }
+        for( var j = 2; j + 1 < points.length; j += 2 ) {
+          this._context.lineTo( points[ j ], points[ j + 1 ] );
+        }
+      }
+      if( operation[ 1 ] ) {
+        this._context.fill();
+      } else {
+        this._context.stroke();
+      }
+    },
+
+    _points : function( operation ) {
+      this._context.save();
+      this._context.fillStyle = rwt.util.Colors.rgbToRgbString( operation[ 1 ] );
+      for( var i = 2; i + 1 < operation.length; i += 2 ) {
+        this._context.fillRect( operation[ i ], operation[ i + 1 ], 1, 1 );
+      }
+      this._context.restore();
+    },
+
     _resetClip : function() {
       this._context.restore();
       this._applyCurrentState( this._currentGCState );
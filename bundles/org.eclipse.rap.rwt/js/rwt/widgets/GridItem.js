@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2010, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -72,10 +72,27 @@ rwt.qx.Class.define( "rwt.widgets.GridItem", {
     delete this._cellCheckable;
     this._rootItem = null;
     delete this._columnSpans;
+    delete this._clearedState;
   },
 
   statics : {
 
+    CLEARED_FIELDS : [
+      "_cached",
+      "_checked",
+      "_grayed",
+      "_texts",
+      "_images",
+      "_background",
+      "_foreground",
+      "_font",
+      "_cellBackgrounds",
+      "_cellForegrounds",
+      "_cellFonts",
+      "_columnSpans",
+      "_variant"
+    ],
+
     createItem : function( parent, index ) {
       var parentItem = this._getItem( parent );
       var result;
@@ -121,19 +138,35 @@ rwt.qx.Class.define( "rwt.widgets.GridItem", {
 
     clear : function() {
       // TODO [tb] : children?
-      delete this._cached;
-      delete this._checked;
-      delete this._grayed;
+      var fields = rwt.widgets.GridItem.CLEARED_FIELDS;
+      this._clearedState = {};
+      for( var i = 0; i < fields.length; i++ ) {
+        var field = fields[ i ];
+        if( this[ field ] !== undefined ) {
+          this._clearedState[ field ] = this[ field ];
+        }
+        delete this[ field ];
+      }
       this._texts = [ "..." ];
-      delete this._images;
-      delete this._background;
-      delete this._foreground;
-      delete this._font;
-      delete this._cellBackgrounds;
-      delete this._cellForegrounds;
-      delete this._cellFonts;
-      delete this._columnSpans;
-      delete this._variant;
+    },
+
+    restore : function() {
+      // Restores the state from before the last clear, the server renders only what has changed
+      // since then
+      if( this._clearedState ) {
+        delete this._texts;
+        for( var field in this._clearedState ) {
+          this[ field ] = this._clearedState[ field ];
+        }
+        delete this._clearedState;
+        this._update( "content" );
+      }
+    },
+
+    forget : function() {
+      // The server no longer remembers the state from before the last clear, it will be rendered
+      // in full when the item is materialized again
+      delete this._clearedState;
     },
 
     isCached : function() {
@@ -143,6 +176,7 @@ rwt.qx.Class.define( "rwt.widgets.GridItem", {
     markCached : function() {
       this._cached = true;
       delete this._texts;
+      delete this._clearedState;
     },
 
     setTexts : function( texts ) {
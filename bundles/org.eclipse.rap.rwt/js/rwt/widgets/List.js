@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright: 2004, 2018 1&1 Internet AG, Germany, http://www.1und1.de,
+ * Copyright: 2004, 2026 1&1 Internet AG, Germany, http://www.1und1.de,
  *                       and EclipseSource
  *
  * This program and the accompanying materials are made available under the
@@ -262,34 +262,15 @@ rwt.qx.Class.define( "rwt.widgets.List", {
         if( i < oldItems.length ) {
           oldItems[ i ].setLabel( items[ i ] );
         } else {
-          var item = new rwt.widgets.ListItem();
-          item.setDirection( this.getDirection() );
-          item.addEventListener( "mouseover", this._onListItemMouseOver, this );
-          item.addEventListener( "mouseout", this._onListItemMouseOut, this );
-          // prevent items from being drawn outside the list
-          this._renderItemDimension( item );
-          item.setTabIndex( null );
-          item.setLabel( items[ i ] );
+          var item = this._createItem( items[ i ] );
           if( i % 2 === 0 ) {
             item.addState( "even" );
           }
-          if( this._customVariant !== null ) {
-            item.addState( this._customVariant );
-          }
           this._clientArea.add( item );
         }
       }
-      var child = null;
       while( this._clientArea.getChildrenLength() > items.length ) {
-        child = this._clientArea.getLastChild();
-        child.removeEventListener( "mouseover", this._onListItemMouseOver, this );
-        child.removeEventListener( "mouseout", this._onListItemMouseOut, this );
-        // [if] Workaround for bug:
-        // 278361: [Combo] Overlays text after changing items
-        // https://bugs.eclipse.org/bugs/show_bug.cgi?id=278361
-        // Items are not removed from DOM if the _isDisplayable property is false.
-        child._isDisplayable = true;
-        child.destroy();
+        this._destroyItem( this._clientArea.getLastChild() );
       }
       // restore previous selection and focusItem
       this._manager.setSelectedItems( oldSelection );
@@ -301,6 +282,73 @@ rwt.qx.Class.define( "rwt.widgets.List", {
       this._applyTopIndex( this._topIndex );
     },
 
+    insertItems : function( index, value ) {
+      var items = this._escapeItems( value );
+      for( var i = 0; i < items.length; i++ ) {
+        this._clientArea.addAt( this._createItem( items[ i ] ), index + i );
+      }
+      this._updateEvenStates( index );
+      this._updateScrollDimension();
+      this._applyTopIndex( this._topIndex );
+    },
+
+    removeItems : function( index, count ) {
+      var removed = this.getItems().slice( index, index + count );
+      var selection = this._manager.getSelectedItems();
+      var remaining = [];
+      for( var i = 0; i < selection.length; i++ ) {
+        if( removed.indexOf( selection[ i ] ) === -1 ) {
+          remaining.push( selection[ i ] );
+        }
+      }
+      this._manager.setSelectedItems( remaining );
+      if( removed.indexOf( this._manager.getLeadItem() ) !== -1 ) {
+        this._manager.setLeadItem( null );
+      }
+      if( removed.indexOf( this._manager.getAnchorItem() ) !== -1 ) {
+        this._manager.setAnchorItem( null );
+      }
+      for( var j = 0; j < removed.length; j++ ) {
+        this._destroyItem( removed[ j ] );
+      }
+      this._updateEvenStates( index );
+      this._updateScrollDimension();
+      this._applyTopIndex( this._topIndex );
+    },
+
+    _createItem : function( label ) {
+      var item = new rwt.widgets.ListItem();
+      item.setDirection( this.getDirection() );
+      item.addEventListener( "mouseover", this._onListItemMouseOver, this );
+      item.addEventListener( "mouseout", this._onListItemMouseOut, this );
+      // prevent items from being drawn outside the list
+      this._renderItemDimension( item );
+      item.setTabIndex( null );
+      item.setLabel( label );
+      if( this._customVariant !== null ) {
+        item.addState( this._customVariant );
+      }
+      return item;
+    },
+
+    _destroyItem : function( item ) {
+      item.removeEventListener( "mouseover", this._onListItemMouseOver, this );
+      item.removeEventListener( "mouseout", this._onListItemMouseOut, this );
+      // [if] Workaround for bug:
+      // 278361: [Combo] Overlays text after changing items
+      // https://bugs.eclipse.org/bugs/show_bug.cgi?id=278361
+      // Items are not removed from DOM if the _isDisplayable property is false.
+      item._isDisplayable = true;
+      item.destroy();
+    },
+
+    _updateEvenStates : function( startIndex ) {
+      var items = this.getItems();
+      for( var i = startIndex; i < items.length; i++ ) {
+        items[ i ].toggleState( "even", i % 2 === 0 );
+      }
+    },
+
     _escapeItems : function( items ) {
       var result = items;
       if( !this._markupEnabled ) {
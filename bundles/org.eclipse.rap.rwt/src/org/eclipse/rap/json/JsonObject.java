@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 EclipseSource.
+ * Copyright (c) 2008, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -63,9 +63,14 @@ import org.eclipse.rap.json.JsonObject.Member;
 @SuppressWarnings( "serial" ) // use default serial UID
 public class JsonObject extends JsonValue implements Iterable<Member> {
 
+  // objects with more members are indexed by a MemberIndex instead of the HashIndexTable
+  private static final int MEMBER_INDEX_THRESHOLD = 32;
+
   private final List<String> names;
   private final List<JsonValue> values;
+  private final transient boolean unmodifiable;
   private transient HashIndexTable table;
+  private transient MemberIndex memberIndex;
 
   /**
    * Creates a new empty JsonObject.
@@ -73,6 +78,7 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
   public JsonObject() {
     names = new ArrayList<String>();
     values = new ArrayList<JsonValue>();
+    unmodifiable = false;
     table = new HashIndexTable();
   }
 
@@ -97,6 +103,7 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
       names = new ArrayList<String>( object.names );
       values = new ArrayList<JsonValue>( object.values );
     }
+    this.unmodifiable = unmodifiable;
     table = new HashIndexTable();
     updateHashIndex();
   }
@@ -312,7 +319,7 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
     if( value == null ) {
       throw new NullPointerException( "value is null" );
     }
-    table.add( name, names.size() );
+    addToIndex( name, names.size() );
     names.add( name );
     values.add( value );
     return this;
@@ -484,7 +491,7 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
     if( index != -1 ) {
       values.set( index, value );
     } else {
-      table.add( name, names.size() );
+      addToIndex( name, names.size() );
       names.add( name );
       values.add( value );
     }
@@ -506,9 +513,13 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
     }
     int index = indexOf( name );
     if( index != -1 ) {
-      table.remove( index );
       names.remove( index );
       values.remove( index );
+      if( memberIndex != null ) {
+        memberIndex.remove( name, index, names );
+      } else {
+        table.remove( index );
+      }
     }
     return this;
   }
@@ -627,6 +638,9 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
   }
 
   int indexOf( String name ) {
+    if( memberIndex != null ) {
+      return memberIndex.get( name );
+    }
     int index = table.get( name );
     if( index != -1 && name.equals( names.get( index ) ) ) {
       return index;
@@ -644,8 +658,23 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
 
   private void updateHashIndex() {
     int size = names.size();
-    for( int i = 0; i < size; i++ ) {
-      table.add( names.get( i ), i );
+    if( size > MEMBER_INDEX_THRESHOLD && !unmodifiable ) {
+      memberIndex = new MemberIndex( names );
+    } else {
+      for( int i = 0; i < size; i++ ) {
+        table.add( names.get( i ), i );
+      }
+    }
+  }
+
+  private void addToIndex( String name, int index ) {
+    if( memberIndex != null ) {
+      memberIndex.add( name, index );
+    } else if( index >= MEMBER_INDEX_THRESHOLD && !unmodifiable ) {
+      memberIndex = new MemberIndex( names );
+      memberIndex.add( name, index );
+    } else {
+      table.add( name, index );
     }
   }
 
@@ -749,4 +778,112 @@ public class JsonObject extends JsonValue implements Iterable<Member> {
 
   }
 
+  /*
+   * Maps each name to the index of the last member with this name. In contrast to the
+   * HashIndexTable, the index is exact and grows with the object. It uses open addressing with
+   * linear probing.
+   */
+  static class MemberIndex {
+
+    private String[] keys;
+    private int[] indexes;
+    private int size;
+
+    MemberIndex( List<String> names ) {
+      int capacity = 64;
+      while( names.size() * 2 >= capacity ) {
+        capacity *= 2;
+      }
+      keys = new String[capacity];
+      indexes = new int[capacity];
+      for( int i = 0; i < names.size(); i++ ) {
+        add( names.get( i ), i );
+      }
+    }
+
+    void add( String name, int index ) {
+      if( ( size + 1 ) * 2 > keys.length ) {
+        grow();
+      }
+      int slot = slotFor( name );
+      if( keys[slot] == null ) {
+        keys[slot] = name;
+        size++;
+      }
+      indexes[slot] = index;
+    }
+
+    int get( String name ) {
+      int slot = slotFor( name );
+      return keys[slot] == null ? -1 : indexes[slot];
+    }
+
+    /*
+     * Updates the index after the member at the given index has been removed from the names.
+     */
+    void remove( String name, int index, List<String> names ) {
+      for( int i = 0; i < keys.length; i++ ) {
+        if( keys[i] != null && indexes[i] > index ) {
+          indexes[i]--;
+        }
+      }
+      int slot = slotFor( name );
+      if( keys[slot] != null && indexes[slot] == index ) {
+        int previous = names.subList( 0, index ).lastIndexOf( name );
+        if( previous != -1 ) {
+          indexes[slot] = previous;
+        } else {
+          delete( slot );
+        }
+      }
+    }
+
+    private int slotFor( String name ) {
+      int mask = keys.length - 1;
+      int slot = hash( name ) & mask;
+      while( keys[slot] != null && !keys[slot].equals( name ) ) {
+        slot = ( slot + 1 ) & mask;
+      }
+      return slot;
+    }
+
+    private void delete( int slot ) {
+      // shift the following entries of the probe sequence back instead of leaving a tombstone
+      int mask = keys.length - 1;
+      int gap = slot;
+      int next = ( gap + 1 ) & mask;
+      while( keys[next] != null ) {
+        int home = hash( keys[next] ) & mask;
+        if( ( ( next - home ) & mask ) >= ( ( next - gap ) & mask ) ) {
+          keys[gap] = keys[next];
+          indexes[gap] = indexes[next];
+          gap = next;
+        }
+        next = ( next + 1 ) & mask;
+      }
+      keys[gap] = null;
+      size--;
+    }
+
+    private void grow() {
+      String[] oldKeys = keys;
+      int[] oldIndexes = indexes;
+      keys = new String[oldKeys.length * 2];
+      indexes = new int[oldKeys.length * 2];
+      for( int i = 0; i < oldKeys.length; i++ ) {
+        if( oldKeys[i] != null ) {
+          int slot = slotFor( oldKeys[i] );
+          keys[slot] = oldKeys[i];
+          indexes[slot] = oldIndexes[i];
+        }
+      }
+    }
+
+    private static int hash( String name ) {
+      int hash = name.hashCode() * 0x9E3779B9;
+      return hash ^ ( hash >>> 16 );
+    }
+
+  }
+
 }
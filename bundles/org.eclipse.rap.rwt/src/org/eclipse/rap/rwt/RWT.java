@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -240,6 +240,47 @@ public final class RWT {
    */
   public static final String CANCEL_KEYS = "org.eclipse.rap.rwt.cancelKeys";
 
+  /**
+   * The property to use in <code>Control.setData()</code> in order to limit the rate of requests
+   * that are sent for the events of the control. The value for this property has to be an
+   * <code>Integer</code> that specifies an interval in milliseconds. The first event is sent after
+   * the interval has passed, all further events that occur within this interval are sent along
+   * with it.
+   * <p>
+   * Consecutive <code>Selection</code> and <code>Modify</code> events of the control that arrive
+   * in the same request are merged into the last one. Events that are sent immediately by the
+   * client, like key events, are not affected.
+   * </p>
+   * <p>
+   * Example code:<code><pre>
+   * scale.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 250 ) );
+   * </pre></code>
+   * </p>
+   *
+   * @see Control#setData(String,Object)
+   * @see RWT#EVENT_DEBOUNCE
+   * @since 3.16
+   */
+  public static final String EVENT_THROTTLE = "org.eclipse.rap.rwt.eventThrottle";
+
+  /**
+   * The property to use in <code>Control.setData()</code> in order to delay the requests that are
+   * sent for the events of the control until no further event has occurred for a given time. The
+   * value for this property has to be an <code>Integer</code> that specifies the time in
+   * milliseconds. If {@link RWT#EVENT_THROTTLE} is also set on the control, this property takes
+   * precedence.
+   * <p>
+   * Consecutive <code>Selection</code> and <code>Modify</code> events of the control that arrive
+   * in the same request are merged into the last one. Events that are sent immediately by the
+   * client, like key events, are not affected.
+   * </p>
+   *
+   * @see Control#setData(String,Object)
+   * @see RWT#EVENT_THROTTLE
+   * @since 3.16
+   */
+  public static final String EVENT_DEBOUNCE = "org.eclipse.rap.rwt.eventDebounce";
+
   /**
    * The property to use in <code>Display.setData()</code> in order to set the key combination for
    * mnemonics activation. The value for this property has to be a String.
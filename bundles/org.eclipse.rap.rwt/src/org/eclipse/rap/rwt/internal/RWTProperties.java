@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,26 @@ public final class RWTProperties {
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
 
+  /*
+   * In session failover mode, only replicate UI sessions that changed during a request.
+   */
+  public static final String REPLICATE_CHANGED_SESSIONS_ONLY
+    = "org.eclipse.rap.rwt.replicateChangedSessionsOnly";
+
+  /*
+   * Register client, theme and application resources with loaders and write them to the
+   * resource directory when their location is requested for the first time. Not supported in
+   * session failover mode, where resources are always registered eagerly.
+   */
+  public static final String LAZY_RESOURCE_REGISTRATION
+    = "org.eclipse.rap.rwt.lazyResourceRegistration";
+
+  /*
+   * Minimum time in milliseconds between two DragOver events with the same target, item,
+   * operation and data type that are passed to the drop listeners. Zero disables throttling.
+   */
+  public static final String DRAG_OVER_INTERVAL = "org.eclipse.rap.rwt.dragOverInterval";
+
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
    * to activate support for custom widget ids.</p>
@@ -40,6 +60,18 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  public static boolean isReplicateChangedSessionsOnly() {
+    return getBooleanProperty( REPLICATE_CHANGED_SESSIONS_ONLY, false );
+  }
+
+  public static boolean isLazyResourceRegistration() {
+    return getBooleanProperty( LAZY_RESOURCE_REGISTRATION, false );
+  }
+
+  public static int getDragOverInterval() {
+    return getIntProperty( DRAG_OVER_INTERVAL, 0 );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
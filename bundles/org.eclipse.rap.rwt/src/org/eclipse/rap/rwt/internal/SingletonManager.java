@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,18 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
@@ -25,35 +32,113 @@ public class SingletonManager implements SerializableCompatibility {
   private static final String ATTR_SINGLETON_MANAGER
     = SingletonManager.class.getName() + "#instance";
 
-  private final SharedInstanceBuffer<Class<?>, AtomicReference<Object>> singletonHolders;
-  private InstanceCreator<Class<?>, AtomicReference<Object>> instanceCreator;
+  // every singleton type gets a slot index that is valid in all singleton managers of the VM
+  private static final ClassValue<Integer> SLOTS = new ClassValue<Integer>() {
+    @Override
+    protected Integer computeValue( Class<?> type ) {
+      return Integer.valueOf( allocateSlot( type ) );
+    }
+  };
+  // the slots of unloaded types are reused, hence the number of slots does not grow with every
+  // redeployment of an application
+  private static final ReferenceQueue<Class<?>> unloadedTypes = new ReferenceQueue<>();
+  private static final List<SlotReference> slotReferences = new ArrayList<>();
+  private static final List<Integer> freeSlots = new ArrayList<>();
+  private static volatile int slotCount;
+
+  private transient volatile AtomicReferenceArray<Object> singletons;
+  private transient ConcurrentMap<Class<?>, Object> creationLocks;
 
   SingletonManager() {
-    singletonHolders = new SharedInstanceBuffer<>();
-    instanceCreator = new InstanceCreator<Class<?>, AtomicReference<Object>>() {
-      @Override
-      public AtomicReference<Object> createInstance( Class<?> key ) {
-        return new AtomicReference<>();
-      }
-    };
+    initialize();
   }
 
+  @SuppressWarnings( "unchecked" )
   public <T> T getSingleton( Class<T> type ) {
-    AtomicReference<T> singletonHolder = getSingletonHolder( type );
-    synchronized( singletonHolder ) {
-      T singleton = singletonHolder.get();
-      if( singleton == null ) {
-        singleton = ClassUtil.newInstance( type );
-        singletonHolder.set( singleton );
+    int slot = SLOTS.get( type ).intValue();
+    Object result = getSingleton( slot );
+    if( result == null ) {
+      result = createSingleton( type, slot );
+    }
+    return ( T )result;
+  }
+
+  private Object getSingleton( int slot ) {
+    AtomicReferenceArray<Object> array = singletons;
+    return slot < array.length() ? array.get( slot ) : null;
+  }
+
+  private Object createSingleton( Class<?> type, int slot ) {
+    // only the creation of the same type is serialized, singletons may create other singletons,
+    // even in other threads
+    synchronized( getCreationLock( type ) ) {
+      Object result = getSingleton( slot );
+      if( result == null ) {
+        result = ClassUtil.newInstance( type );
+        setSingleton( slot, result );
       }
-      return singleton;
+      return result;
     }
   }
 
-  @SuppressWarnings( "unchecked" )
-  private <T> AtomicReference<T> getSingletonHolder( Class<T> type ) {
-    Object result = singletonHolders.get( type, instanceCreator );
-    return ( AtomicReference<T> )result;
+  private Object getCreationLock( Class<?> type ) {
+    Object result = creationLocks.get( type );
+    if( result == null ) {
+      Object lock = new Object();
+      result = creationLocks.putIfAbsent( type, lock );
+      if( result == null ) {
+        result = lock;
+      }
+    }
+    return result;
+  }
+
+  private synchronized void setSingleton( int slot, Object singleton ) {
+    AtomicReferenceArray<Object> array = singletons;
+    if( slot >= array.length() ) {
+      int length = Math.max( slot + 1, slotCount );
+      AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>( length );
+      for( int i = 0; i < array.length(); i++ ) {
+        grown.set( i, array.get( i ) );
+      }
+      array = grown;
+      singletons = grown;
+    }
+    array.set( slot, singleton );
+  }
+
+  private void initialize() {
+    singletons = new AtomicReferenceArray<>( slotCount );
+    creationLocks = new ConcurrentHashMap<>();
+  }
+
+  /*
+   * A singleton keeps its type loaded, so a type is only unloaded when no singleton manager holds
+   * an instance of it anymore. Its slot is empty in all singleton managers and can be reused.
+   */
+  private static int allocateSlot( Class<?> type ) {
+    synchronized( slotReferences ) {
+      SlotReference reference = ( SlotReference )unloadedTypes.poll();
+      while( reference != null ) {
+        slotReferences.set( reference.slot, null );
+        freeSlots.add( Integer.valueOf( reference.slot ) );
+        reference = ( SlotReference )unloadedTypes.poll();
+      }
+      int slot;
+      if( freeSlots.isEmpty() ) {
+        slot = slotCount;
+        slotReferences.add( null );
+        slotCount = slot + 1;
+      } else {
+        slot = freeSlots.remove( freeSlots.size() - 1 ).intValue();
+      }
+      slotReferences.set( slot, new SlotReference( type, slot ) );
+      return slot;
+    }
+  }
+
+  static int getSlotCount() {
+    return slotCount;
   }
 
   public static void install( UISession uiSession ) {
@@ -88,4 +173,41 @@ public class SingletonManager implements SerializableCompatibility {
     }
   }
 
+  private synchronized void writeObject( ObjectOutputStream stream ) throws IOException {
+    // slot indices are only valid within the VM, the singletons are written without them
+    stream.defaultWriteObject();
+    List<Object> instances = new ArrayList<>();
+    for( int i = 0; i < singletons.length(); i++ ) {
+      Object singleton = singletons.get( i );
+      if( singleton != null ) {
+        instances.add( singleton );
+      }
+    }
+    stream.writeInt( instances.size() );
+    for( Object singleton : instances ) {
+      stream.writeObject( singleton );
+    }
+  }
+
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    initialize();
+    int count = stream.readInt();
+    for( int i = 0; i < count; i++ ) {
+      Object singleton = stream.readObject();
+      setSingleton( SLOTS.get( singleton.getClass() ).intValue(), singleton );
+    }
+  }
+
+  private static final class SlotReference extends WeakReference<Class<?>> {
+
+    final int slot;
+
+    SlotReference( Class<?> type, int slot ) {
+      super( type, unloadedTypes );
+      this.slot = slot;
+    }
+
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -108,6 +108,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private volatile long resourceRegistrationTime;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -344,6 +345,14 @@ public class ApplicationContextImpl implements ApplicationContext {
     return clientSelector;
   }
 
+  /**
+   * Returns the time in milliseconds it took to register the client, theme and application
+   * resources during the last activation.
+   */
+  public long getResourceRegistrationTime() {
+    return resourceRegistrationTime;
+  }
+
   public ExceptionHandler getExceptionHandler() {
     return exceptionHandler;
   }
@@ -376,11 +385,13 @@ public class ApplicationContextImpl implements ApplicationContext {
     lifeCycleFactory.activate();
     // Note: order is crucial here
     themeManager.activate();
+    long start = System.nanoTime();
     if( !skipResoureRegistration ) {
       ClientResources clientResources = new ClientResources( this );
       clientResources.registerResources();
     }
     resourceRegistry.registerResources();
+    resourceRegistrationTime = ( System.nanoTime() - start ) / 1000000;
     clientSelector.activate();
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,8 @@ import javax.servlet.ServletRegistration;
 import org.eclipse.rap.rwt.engine.RWTServlet;
 import org.eclipse.rap.rwt.internal.engine.RWTClusterSupport;
 import org.eclipse.rap.rwt.internal.lifecycle.SimpleLifeCycle;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.service.ResourceManager;
 
 /*
  * This class requires the servlet 3.0 API to be on the class path.
@@ -42,12 +44,24 @@ class SessionFailoverConfigurator {
     checkRWTServletRegistration( servletRegistration );
     configureJEECompatibility();
     configureSessionFailoverFilter( servletRegistration );
+    disableLazyResourceRegistration();
   }
 
   private void configureJEECompatibility() {
     applicationContext.getLifeCycleFactory().configure( SimpleLifeCycle.class );
   }
 
+  /*
+   * Lazily registered resources are only written on the node that resolved their location, other
+   * nodes of the cluster could not deliver them after a failover.
+   */
+  private void disableLazyResourceRegistration() {
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      ( ( ResourceManagerImpl )resourceManager ).disableLazyRegistration();
+    }
+  }
+
   private void configureSessionFailoverFilter( ServletRegistration servletRegistration ) {
     Dynamic filterRegistration = registerSessionFailoverFilter();
     mapFilterToServlet( filterRegistration, servletRegistration );
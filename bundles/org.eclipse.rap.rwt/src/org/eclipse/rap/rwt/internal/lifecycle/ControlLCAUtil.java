@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderToolTip
 import static org.eclipse.swt.internal.widgets.ControlUtil.getControlAdapter;
 
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
+import org.eclipse.rap.rwt.internal.util.EventPolicyUtil;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
@@ -69,6 +70,7 @@ public class ControlLCAUtil {
     renderData( control );
     ActiveKeysUtil.renderActiveKeys( control );
     ActiveKeysUtil.renderCancelKeys( control );
+    EventPolicyUtil.renderEventPolicy( control );
     renderListenActivate( control );
     renderListenMouse( control );
     renderListenFocus( control );
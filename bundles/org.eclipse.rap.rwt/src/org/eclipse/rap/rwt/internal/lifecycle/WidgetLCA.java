@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
+import org.eclipse.rap.rwt.internal.util.EventPolicyUtil;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -44,7 +45,7 @@ public abstract class WidgetLCA<T extends Widget>  {
   public void readData( T widget ) {
     ClientMessage clientMessage = ProtocolUtil.getClientMessage();
     String id = getId( widget );
-    List<Operation> operations = clientMessage.getAllOperationsFor( id );
+    List<Operation> operations = EventPolicyUtil.getOperations( clientMessage, widget );
     if( !operations.isEmpty() ) {
       OperationHandler handler = getOperationHandler( id );
       for( Operation operation : operations ) {
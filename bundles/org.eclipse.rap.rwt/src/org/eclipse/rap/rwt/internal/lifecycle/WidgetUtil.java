@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,9 +13,11 @@ package org.eclipse.rap.rwt.internal.lifecycle;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.swt.internal.widgets.WidgetRegistry;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -49,19 +51,40 @@ public final class WidgetUtil {
     return lca;
   }
 
-  public static Widget find( Composite root, final String id ) {
-    final Widget[] result = { null };
+  public static Widget find( Composite root, String id ) {
+    Widget result = null;
     if( id != null ) {
-      WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          if( getId( widget ).equals( id ) ) {
-            result[ 0 ] = widget;
-          }
-          return result[ 0 ] == null;
-        }
-      } );
+      Widget widget = WidgetRegistry.getInstance( RWT.getUISession( root.getDisplay() ) ).find( id );
+      if( widget == null ) {
+        // ids that are not handed out by the IdGenerator are not registered
+        result = findInTree( root, id );
+      } else if( isDescendant( widget, root ) ) {
+        result = widget;
+      }
+    }
+    return result;
+  }
+
+  private static boolean isDescendant( Widget widget, Composite root ) {
+    Widget current = widget;
+    while( current != root && current != null && !current.isDisposed() ) {
+      // child shells are not part of the widget tree of their parent
+      current = current instanceof Shell ? null : getAdapter( current ).getParent();
     }
+    return current == root;
+  }
+
+  private static Widget findInTree( Composite root, final String id ) {
+    final Widget[] result = { null };
+    WidgetTreeUtil.accept( root, new WidgetTreeVisitor() {
+      @Override
+      public boolean visit( Widget widget ) {
+        if( getId( widget ).equals( id ) ) {
+          result[ 0 ] = widget;
+        }
+        return result[ 0 ] == null;
+      }
+    } );
     return result[ 0 ];
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,10 +11,12 @@
 package org.eclipse.rap.rwt.internal.protocol;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
@@ -37,7 +39,7 @@ public class ClientMessage extends RequestMessage {
   }
 
   private void createOperationsIndex() {
-    index = new HashMap<>();
+    index = new LinkedHashMap<>();
     for( Operation operation : getOperations() ) {
       String target = operation.getTarget();
       List<Operation> targetOperations = index.get( target );
@@ -49,6 +51,13 @@ public class ClientMessage extends RequestMessage {
     }
   }
 
+  /**
+   * Returns the targets of the operations in this message, in the order of their first operation.
+   */
+  public Set<String> getTargets() {
+    return Collections.unmodifiableSet( index.keySet() );
+  }
+
   public List<Operation> getAllOperationsFor( String target ) {
     List<Operation> operations = index.get( target );
     if( operations == null ) {
@@ -57,6 +66,28 @@ public class ClientMessage extends RequestMessage {
     return Collections.unmodifiableList( operations );
   }
 
+  /**
+   * Returns the operations for the given target, where a notify operation for one of the given
+   * events is omitted if it is followed by another notify operation for the same event with only
+   * set operations in between.
+   */
+  public List<Operation> getCoalescedOperationsFor( String target,
+                                                   Collection<String> eventNames )
+  {
+    List<Operation> operations = index.get( target );
+    if( operations == null ) {
+      return Collections.emptyList();
+    }
+    List<Operation> result = new ArrayList<>( operations.size() );
+    for( int i = 0; i < operations.size(); i++ ) {
+      Operation operation = operations.get( i );
+      if( !isFollowedBySameNotify( operations, i, eventNames ) ) {
+        result.add( operation );
+      }
+    }
+    return Collections.unmodifiableList( result );
+  }
+
   public List<CallOperation> getAllCallOperationsFor( String target, String methodName ) {
     List<CallOperation> result = new ArrayList<>();
     List<Operation> selected = target == null ? getOperations() : index.get( target );
@@ -105,4 +136,26 @@ public class ClientMessage extends RequestMessage {
     return result;
   }
 
+  private static boolean isFollowedBySameNotify( List<Operation> operations,
+                                                 int index,
+                                                 Collection<String> eventNames )
+  {
+    Operation operation = operations.get( index );
+    if( operation instanceof NotifyOperation ) {
+      String eventName = ( ( NotifyOperation )operation ).getEventName();
+      if( eventNames.contains( eventName ) ) {
+        for( int i = index + 1; i < operations.size(); i++ ) {
+          Operation next = operations.get( i );
+          if( next instanceof NotifyOperation ) {
+            return eventName.equals( ( ( NotifyOperation )next ).getEventName() );
+          }
+          if( !( next instanceof SetOperation ) ) {
+            return false;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.remote;
 
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -23,129 +21,227 @@ import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
  * A remote object implementation that does not write operations directly, but keeps them in a
  * render queue. The {@link RemoteObjectLifeCycleAdapter} will write the operations by calling the
  * <code>render</code> method.
+ * <p>
+ * Operations that are superseded before they are rendered are dropped: when a property is set or
+ * a listener is changed again, the earlier operation is marked as dropped unless a call has been
+ * queued in between. Dropped operations are removed in a single pass when the queue has to grow,
+ * the remaining operations keep their order.
+ * </p>
  */
 public class DeferredRemoteObject extends RemoteObjectImpl {
 
-  private final List<RenderRunnable> renderQueue;
+  private static final int INITIAL_CAPACITY = 4;
+  private static final int MAX_RETAINED_CAPACITY = 64;
+
+  private static final byte CREATE = 0;
+  private static final byte SET_INT = 1;
+  private static final byte SET_DOUBLE = 2;
+  private static final byte SET_BOOLEAN = 3;
+  private static final byte SET_STRING = 4;
+  private static final byte SET_JSON = 5;
+  private static final byte LISTEN = 6;
+  private static final byte CALL = 7;
+  private static final byte DESTROY = 8;
+  private static final byte DROPPED = 9;
+
+  // the render queue, kept in parallel arrays to avoid an object per operation
+  private byte[] types;
+  private String[] names;
+  private Object[] values;
+  private int size;
+  // operations before this index must not be dropped
+  private int barrier;
+  private int droppedOperations;
   private boolean created;
 
-  public DeferredRemoteObject( final String id, final String createType ) {
+  public DeferredRemoteObject( String id, String createType ) {
     super( id );
-    renderQueue = new ArrayList<>();
+    initQueue();
     if( createType != null ) {
-      renderQueue.add( new RenderRunnable() {
-        @Override
-        public void render( ProtocolMessageWriter writer ) {
-          writer.appendCreate( id, createType );
-        }
-      } );
+      enqueue( CREATE, createType, null );
+      barrier = size;
     }
   }
 
   @Override
-  public void set( final String name, final int value ) {
+  public void set( String name, int value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    enqueue( SET_INT, name, Integer.valueOf( value ) );
   }
 
   @Override
-  public void set( final String name, final double value ) {
+  public void set( String name, double value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    enqueue( SET_DOUBLE, name, Double.valueOf( value ) );
   }
 
   @Override
-  public void set( final String name, final boolean value ) {
+  public void set( String name, boolean value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    enqueue( SET_BOOLEAN, name, Boolean.valueOf( value ) );
   }
 
   @Override
-  public void set( final String name, final String value ) {
+  public void set( String name, String value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    enqueue( SET_STRING, name, value );
   }
 
   @Override
-  public void set( final String name, final JsonValue value ) {
+  public void set( String name, JsonValue value ) {
     super.set( name, value );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendSet( getId(), name, value );
-      }
-    } );
+    enqueue( SET_JSON, name, value );
   }
 
   @Override
-  public void listen( final String eventType, final boolean listen ) {
+  public void listen( String eventType, boolean listen ) {
     super.listen( eventType, listen );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendListen( getId(), eventType, listen );
-      }
-    } );
+    enqueue( LISTEN, eventType, Boolean.valueOf( listen ) );
   }
 
   @Override
-  public void call( final String method, final JsonObject parameters ) {
+  public void call( String method, JsonObject parameters ) {
     super.call( method, parameters );
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendCall( getId(), method, parameters );
-      }
-    } );
+    enqueue( CALL, method, parameters );
+    barrier = size;
   }
 
   @Override
   public void destroy() {
     super.destroy();
-    renderQueue.add( new RenderRunnable() {
-      @Override
-      public void render( ProtocolMessageWriter writer ) {
-        writer.appendDestroy( getId() );
-      }
-    } );
+    enqueue( DESTROY, null, null );
+    barrier = size;
+  }
+
+  /**
+   * Returns the number of operations that have been dropped since the last call to
+   * <code>render</code> because they were superseded by later operations.
+   */
+  public int getDroppedOperationCount() {
+    return droppedOperations;
   }
 
   public void render( ProtocolMessageWriter writer ) {
     if( isDestroyed() && !created ) {
       // skip rendering for objects that are disposed just after creation (see bug 395272)
     } else {
-      for( RenderRunnable runnable : renderQueue ) {
-        runnable.render( writer );
+      for( int i = 0; i < size; i++ ) {
+        render( writer, i );
       }
       created = true;
     }
-    renderQueue.clear();
+    clearQueue();
   }
 
-  private static interface RenderRunnable extends Serializable {
+  private void render( ProtocolMessageWriter writer, int index ) {
+    String id = getId();
+    String name = names[ index ];
+    Object value = values[ index ];
+    switch( types[ index ] ) {
+      case CREATE:
+        writer.appendCreate( id, name );
+        break;
+      case SET_INT:
+        writer.appendSet( id, name, ( ( Integer )value ).intValue() );
+        break;
+      case SET_DOUBLE:
+        writer.appendSet( id, name, ( ( Double )value ).doubleValue() );
+        break;
+      case SET_BOOLEAN:
+        writer.appendSet( id, name, ( ( Boolean )value ).booleanValue() );
+        break;
+      case SET_STRING:
+        writer.appendSet( id, name, ( String )value );
+        break;
+      case SET_JSON:
+        writer.appendSet( id, name, ( JsonValue )value );
+        break;
+      case LISTEN:
+        writer.appendListen( id, name, ( ( Boolean )value ).booleanValue() );
+        break;
+      case CALL:
+        writer.appendCall( id, name, ( JsonObject )value );
+        break;
+      case DESTROY:
+        writer.appendDestroy( id );
+        break;
+      default:
+        // dropped operation
+    }
+  }
 
-    void render( ProtocolMessageWriter writer );
+  private void enqueue( byte type, String name, Object value ) {
+    if( type != CREATE && type != CALL && type != DESTROY ) {
+      dropSuperseded( type == LISTEN, name );
+    }
+    if( size == types.length ) {
+      compactQueue();
+    }
+    if( size == types.length ) {
+      int capacity = size * 2;
+      types = Arrays.copyOf( types, capacity );
+      names = Arrays.copyOf( names, capacity );
+      values = Arrays.copyOf( values, capacity );
+    }
+    types[ size ] = type;
+    names[ size ] = name;
+    values[ size ] = value;
+    size++;
+  }
+
+  private void dropSuperseded( boolean listen, String name ) {
+    // only sets, listens and dropped operations are queued after the barrier, each name of a set
+    // or listen occurs at most once
+    for( int i = size - 1; i >= barrier; i-- ) {
+      if(    types[ i ] != DROPPED
+          && ( types[ i ] == LISTEN ) == listen
+          && name.equals( names[ i ] ) )
+      {
+        types[ i ] = DROPPED;
+        names[ i ] = null;
+        values[ i ] = null;
+        droppedOperations++;
+        return;
+      }
+    }
+  }
+
+  private void compactQueue() {
+    int target = 0;
+    int compactedBarrier = 0;
+    for( int i = 0; i < size; i++ ) {
+      if( types[ i ] != DROPPED ) {
+        types[ target ] = types[ i ];
+        names[ target ] = names[ i ];
+        values[ target ] = values[ i ];
+        target++;
+      }
+      if( i < barrier ) {
+        compactedBarrier = target;
+      }
+    }
+    barrier = compactedBarrier;
+    Arrays.fill( names, target, size, null );
+    Arrays.fill( values, target, size, null );
+    size = target;
+  }
+
+  private void clearQueue() {
+    if( types.length > MAX_RETAINED_CAPACITY ) {
+      initQueue();
+    } else {
+      Arrays.fill( names, 0, size, null );
+      Arrays.fill( values, 0, size, null );
+    }
+    size = 0;
+    barrier = 0;
+    droppedOperations = 0;
+  }
 
+  private void initQueue() {
+    types = new byte[ INITIAL_CAPACITY ];
+    names = new String[ INITIAL_CAPACITY ];
+    values = new Object[ INITIAL_CAPACITY ];
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,14 +21,19 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.remote.OperationHandler;
 
 
 public class RemoteObjectLifeCycleAdapter {
 
+  private static final String ATTR_DROPPED_OPERATIONS
+    = RemoteObjectLifeCycleAdapter.class.getName() + "#droppedOperations";
+
   public static void readData( ClientMessage message ) {
     RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
-    for( RemoteObjectImpl remoteObject : registry.getRemoteObjects() ) {
+    for( String target : message.getTargets() ) {
+      RemoteObjectImpl remoteObject = registry.get( target );
       if( remoteObject instanceof DeferredRemoteObject ) {
         dispatchOperations( message, remoteObject );
       }
@@ -38,14 +43,29 @@ public class RemoteObjectLifeCycleAdapter {
   public static void render() {
     RemoteObjectRegistry registry = RemoteObjectRegistry.getInstance();
     ProtocolMessageWriter writer = ContextProvider.getProtocolWriter();
+    int droppedOperations = getDroppedOperationCount();
     for( RemoteObjectImpl remoteObject : registry.getRemoteObjects() ) {
       if( remoteObject instanceof DeferredRemoteObject ) {
-        ( ( DeferredRemoteObject )remoteObject ).render( writer );
+        DeferredRemoteObject deferredRemoteObject = ( DeferredRemoteObject )remoteObject;
+        droppedOperations += deferredRemoteObject.getDroppedOperationCount();
+        deferredRemoteObject.render( writer );
       }
       if( remoteObject.isDestroyed() ) {
         RemoteObjectRegistry.getInstance().remove( remoteObject );
       }
     }
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    serviceStore.setAttribute( ATTR_DROPPED_OPERATIONS, Integer.valueOf( droppedOperations ) );
+  }
+
+  /**
+   * Returns the number of remote object operations that have been dropped in the current request
+   * because they were superseded by later operations.
+   */
+  public static int getDroppedOperationCount() {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    Integer result = ( Integer )serviceStore.getAttribute( ATTR_DROPPED_OPERATIONS );
+    return result == null ? 0 : result.intValue();
   }
 
   private static void dispatchOperations( ClientMessage message, RemoteObjectImpl remoteObject ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.rap.rwt.internal.theme.AppearanceWriter;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 
@@ -32,6 +33,7 @@ public final class ClientResources {
 
   private static final String CLIENT_FILES = "client.files";
   private static final String CLIENT_JS = "client.js";
+  private static final String BLANK_HTML = "resource/static/html/blank.html";
 
   private static final List<String> JAVASCRIPT_FILES = getInputFiles( CLIENT_FILES );
 
@@ -69,18 +71,32 @@ public final class ClientResources {
 
   public void registerResources() {
     try {
-      registerTextResource( "resource/static/html/blank.html" );
-      registerJavascriptFiles();
-      registerThemeResources();
+      registerStaticResource( BLANK_HTML );
       registerWidgetImages();
+      registerThemeResources();
+      registerJavascriptFiles();
     } catch( IOException ioe ) {
       throw new RuntimeException( "Failed to register resources", ioe );
     }
   }
 
-  private void registerJavascriptFiles()
-    throws IOException
-  {
+  private void registerJavascriptFiles() throws IOException {
+    String name = SWT.getVersion() + "/rap-client.js";
+    ResourceUtil.register( resourceManager, name, new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) throws IOException {
+        // the client requests these resources once it is loaded
+        resourceManager.getLocation( BLANK_HTML );
+        for( String resourcePath : WIDGET_IMAGES ) {
+          resourceManager.getLocation( resourcePath );
+        }
+        return createJavascriptContent().getContentAsStream();
+      }
+    } );
+    applicationContext.getStartupPage().setClientJsResource( name );
+  }
+
+  private ContentBuffer createJavascriptContent() throws IOException {
     ContentBuffer contentBuffer = new ContentBuffer();
     String appearanceCode = createAppearanceCode();
     if( RWTProperties.isDevelopmentMode() ) {
@@ -92,7 +108,7 @@ public final class ClientResources {
       append( contentBuffer, CLIENT_JS );
     }
     contentBuffer.append( appearanceCode.getBytes( HTTP.CHARSET_UTF_8 ) );
-    registerJavascriptResource( contentBuffer, SWT.getVersion() + "/rap-client.js" );
+    return contentBuffer;
   }
 
   private String createAppearanceCode() {
@@ -122,30 +138,17 @@ public final class ClientResources {
 
   private void registerWidgetImages() throws IOException {
     for( String resourcePath : WIDGET_IMAGES ) {
-      InputStream inputStream = openResourceStream( resourcePath );
-      resourceManager.register( resourcePath, inputStream );
-      inputStream.close();
+      registerStaticResource( resourcePath );
     }
   }
 
-  private void registerTextResource( String name ) throws IOException {
-    InputStream inputStream = openResourceStream( name );
-    try {
-      resourceManager.register( name, inputStream );
-    } finally {
-      inputStream.close();
-    }
-  }
-
-  private void registerJavascriptResource( ContentBuffer buffer, String name ) throws IOException {
-    InputStream inputStream = buffer.getContentAsStream();
-    try {
-      resourceManager.register( name, inputStream );
-    } finally {
-      inputStream.close();
-    }
-    String location = resourceManager.getLocation( name );
-    applicationContext.getStartupPage().setClientJsLibrary( location );
+  private void registerStaticResource( String name ) throws IOException {
+    ResourceUtil.register( resourceManager, name, new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) {
+        return openResourceStream( resourceName );
+      }
+    } );
   }
 
   private InputStream openResourceStream( String name ) {
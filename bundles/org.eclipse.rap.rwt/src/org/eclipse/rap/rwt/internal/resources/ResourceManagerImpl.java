@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,7 +23,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
@@ -38,6 +40,10 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * requested. Usually resources are stored in libraries in the WEB-INF/lib
  * directory of a web-application
  * <p>
+ * Resources can also be registered lazily with a loader. They are written to the resource
+ * directory when their location or content is requested for the first time.
+ * </p>
+ * <p>
  * Implementation as singleton.
  * </p>
  * <p>
@@ -48,10 +54,46 @@ public class ResourceManagerImpl implements ResourceManager {
 
   private final ResourceDirectory resourceDirectory;
   private final Set<String> resources;
+  private final Map<String, ResourceLoader> pendingResources;
+  private volatile boolean lazyRegistrationSupported;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
     this.resourceDirectory = resourceDirectory;
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    pendingResources = new ConcurrentHashMap<>();
+    lazyRegistrationSupported = true;
+  }
+
+  /**
+   * Registers a resource without writing it. The content is obtained from the given loader when
+   * the location or the content of the resource is requested for the first time. The loader may
+   * request the location of other resources it depends on.
+   */
+  public void registerLazily( String name, ResourceLoader loader ) {
+    ParamCheck.notNull( name, "name" );
+    ParamCheck.notNull( loader, "loader" );
+    checkPath( name );
+    pendingResources.put( name, loader );
+  }
+
+  /**
+   * Disables lazy registration for this resource manager. Lazily registered resources are only
+   * written on the server that resolved their location. In a cluster, requests for such a resource
+   * that are routed to another server would fail.
+   */
+  public void disableLazyRegistration() {
+    lazyRegistrationSupported = false;
+  }
+
+  public boolean supportsLazyRegistration() {
+    return lazyRegistrationSupported;
+  }
+
+  /**
+   * Returns the number of lazily registered resources that have not been written yet.
+   */
+  public int getPendingResourceCount() {
+    return pendingResources.size();
   }
 
   /////////////////////////////
@@ -60,7 +102,7 @@ public class ResourceManagerImpl implements ResourceManager {
   public void registerOnce( String resource, ResourceLoader loader ) {
     ParamCheck.notNull( resource, "resource" );
     ParamCheck.notNull( loader, "loader" );
-    if( !resources.contains( resource ) ) {
+    if( !isRegistered( resource ) ) {
       checkPath( resource );
       InputStream stream = null;
       try {
@@ -81,13 +123,14 @@ public class ResourceManagerImpl implements ResourceManager {
     ParamCheck.notNull( path, "name" );
     ParamCheck.notNull( inputStream, "inputStream" );
     checkPath( path );
+    pendingResources.remove( path );
     internalRegister( path, inputStream );
   }
 
   @Override
   public boolean unregister( String name ) {
     ParamCheck.notNull( name, "name" );
-    boolean result = false;
+    boolean result = pendingResources.remove( name ) != null;
     if( resources.remove( name ) ) {
       result = true;
       File file = getDiskLocation( name );
@@ -99,12 +142,13 @@ public class ResourceManagerImpl implements ResourceManager {
   @Override
   public boolean isRegistered( String name ) {
     ParamCheck.notNull( name, "name" );
-    return resources.contains( name );
+    return resources.contains( name ) || pendingResources.containsKey( name );
   }
 
   @Override
   public String getLocation( String name ) {
     ParamCheck.notNull( name, "name" );
+    materialize( name );
     if( !resources.contains( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
@@ -115,6 +159,7 @@ public class ResourceManagerImpl implements ResourceManager {
   public InputStream getRegisteredContent( String name ) {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
+    materialize( name );
     if( resources.contains( name ) ) {
       File file = getDiskLocation( name );
       try {
@@ -137,6 +182,32 @@ public class ResourceManagerImpl implements ResourceManager {
       .toString();
   }
 
+  private void materialize( String name ) {
+    if( pendingResources.containsKey( name ) ) {
+      // loaders may materialize the resources they depend on, the lock is reentrant
+      synchronized( pendingResources ) {
+        ResourceLoader loader = pendingResources.get( name );
+        if( loader != null ) {
+          InputStream stream = null;
+          try {
+            stream = loader.getResourceAsStream( name );
+            if( stream == null ) {
+              throw new IOException( "Resource not found: " + name );
+            }
+            internalRegister( name, stream );
+          } catch( IOException ioe ) {
+            throw new RuntimeException( "Failed to register resource: " + name, ioe );
+          } finally {
+            if( stream != null ) {
+              StreamUtil.close( stream );
+            }
+          }
+          pendingResources.remove( name );
+        }
+      }
+    }
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
     try {
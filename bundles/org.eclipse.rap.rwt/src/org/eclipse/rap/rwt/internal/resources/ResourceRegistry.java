@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,7 +17,6 @@ import java.io.InputStream;
 import java.util.Collection;
 import java.util.LinkedList;
 
-import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.service.ResourceManager;
 
@@ -51,12 +50,17 @@ public class ResourceRegistry {
     resources.clear();
   }
 
-  private void registerResource( ResourceRegistration resourceRegistration ) {
-    InputStream inputStream = resourceRegistration.openResource();
+  private void registerResource( final ResourceRegistration resourceRegistration ) {
+    String resourceName = resourceRegistration.getResourceName();
     try {
-      resourceManager.register( resourceRegistration.getResourceName(), inputStream );
-    } finally {
-      StreamUtil.close( inputStream );
+      ResourceUtil.register( resourceManager, resourceName, new ResourceLoader() {
+        @Override
+        public InputStream getResourceAsStream( String name ) {
+          return resourceRegistration.openResource();
+        }
+      } );
+    } catch( IOException ioe ) {
+      throw new RuntimeException( "Failed to load resource: " + resourceName, ioe );
     }
   }
 
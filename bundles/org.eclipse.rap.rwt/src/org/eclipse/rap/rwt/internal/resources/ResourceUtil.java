@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.StreamUtil;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
 
 public final class ResourceUtil {
 
@@ -49,6 +54,34 @@ public final class ResourceUtil {
     return bufferedResult.toByteArray();
   }
 
+  /**
+   * Registers the resource with the given loader. If lazy resource registration is enabled, the
+   * loader is not called before the location of the resource is requested.
+   */
+  public static void register( ResourceManager resourceManager,
+                               String name,
+                               ResourceLoader loader )
+    throws IOException
+  {
+    if( RWTProperties.isLazyResourceRegistration() && supportsLazyRegistration( resourceManager ) ) {
+      ( ( ResourceManagerImpl )resourceManager ).registerLazily( name, loader );
+    } else {
+      InputStream inputStream = loader.getResourceAsStream( name );
+      try {
+        resourceManager.register( name, inputStream );
+      } finally {
+        if( inputStream != null ) {
+          StreamUtil.close( inputStream );
+        }
+      }
+    }
+  }
+
+  private static boolean supportsLazyRegistration( ResourceManager resourceManager ) {
+    return    resourceManager instanceof ResourceManagerImpl
+           && ( ( ResourceManagerImpl )resourceManager ).supportsLazyRegistration();
+  }
+
   private ResourceUtil() {
     // prevent instantiation
   }
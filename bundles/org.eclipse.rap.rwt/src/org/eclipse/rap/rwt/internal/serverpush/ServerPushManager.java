@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import javax.servlet.http.HttpSession;
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.rap.rwt.service.UISessionEvent;
@@ -177,7 +178,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   private static TerminationListener attachTerminationListener() {
-    UISession uiSession = ContextProvider.getUISession();
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
     TerminationListener result = new TerminationListener( uiSession );
     result.attach();
     return result;
@@ -222,19 +223,19 @@ public final class ServerPushManager implements SerializableCompatibility {
   private static class TerminationListener implements UISessionListener {
 
     private transient final Thread currentThread;
-    private transient final UISession uiSession;
+    private transient final UISessionImpl uiSession;
 
-    private TerminationListener( UISession uiSession ) {
+    private TerminationListener( UISessionImpl uiSession ) {
       this.uiSession = uiSession;
       currentThread = Thread.currentThread();
     }
 
     public void attach() {
-      uiSession.addUISessionListener( this );
+      uiSession.addTransientUISessionListener( this );
     }
 
     public void detach() {
-      uiSession.removeUISessionListener( this );
+      uiSession.removeTransientUISessionListener( this );
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -97,6 +97,8 @@ public class LifeCycleServiceHandler implements ServiceHandler {
         writeInvalidRequestCounterError( response );
       }
     } else {
+      // processing a message may change any part of the session state
+      ( ( UISessionImpl )getUISession() ).markChanged();
       ResponseMessage responseMessage = processMessage( requestMessage );
       writeResponseMessage( responseMessage, response );
       RequestCounter.getInstance().nextRequestId();
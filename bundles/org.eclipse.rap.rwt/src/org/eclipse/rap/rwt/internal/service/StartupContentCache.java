@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.util.HTTP;
+
+
+/**
+ * Caches the rendered startup page and startup JSON of an application. The rendered content only
+ * depends on a few values like the entry point path, the theme and the client locale, which make up
+ * the key of an entry. Every entry carries a strong ETag that allows browsers to revalidate their
+ * copy with a conditional request. When the cache is full, the least recently used entry is
+ * evicted.
+ */
+final class StartupContentCache {
+
+  static final String HEADER_ETAG = "ETag";
+  static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  static final int MAX_ENTRIES = 256;
+
+  private final Map<List<Object>, Entry> entries;
+
+  StartupContentCache() {
+    entries = new LeastRecentlyUsedMap<>( MAX_ENTRIES );
+  }
+
+  Entry get( List<Object> key ) {
+    synchronized( entries ) {
+      return entries.get( key );
+    }
+  }
+
+  Entry put( List<Object> key, String content ) {
+    Entry entry = new Entry( content );
+    synchronized( entries ) {
+      entries.put( key, entry );
+    }
+    return entry;
+  }
+
+  void clear() {
+    synchronized( entries ) {
+      entries.clear();
+    }
+  }
+
+  int size() {
+    synchronized( entries ) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Sends the content of the given entry, or an empty response with status 304 if the request
+   * contains a matching <code>If-None-Match</code> header. Unlike the uncached startup content, the
+   * response is not marked as <code>no-store</code>, so that browsers keep their copy and revalidate
+   * it with a conditional request.
+   */
+  static void send( HttpServletRequest request, HttpServletResponse response, Entry entry )
+    throws IOException
+  {
+    response.setHeader( "Cache-Control", "max-age=0, no-cache, must-revalidate" );
+    response.setHeader( "Pragma", "no-cache" );
+    response.setDateHeader( "Expires", 0 );
+    response.setHeader( HEADER_ETAG, entry.getETag() );
+    if( matches( request.getHeader( HEADER_IF_NONE_MATCH ), entry.getETag() ) ) {
+      response.setStatus( HttpServletResponse.SC_NOT_MODIFIED );
+    } else {
+      response.getWriter().write( entry.getContent() );
+    }
+  }
+
+  static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String candidate : ifNoneMatch.split( "," ) ) {
+        String trimmed = candidate.trim();
+        if( "*".equals( trimmed ) || etag.equals( trimmed ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  static String createETag( String content ) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance( "SHA-1" );
+      byte[] hash = digest.digest( content.getBytes( HTTP.CHARSET_UTF_8 ) );
+      StringBuilder result = new StringBuilder( hash.length * 2 + 2 );
+      result.append( '"' );
+      for( byte value : hash ) {
+        result.append( Character.forDigit( ( value >> 4 ) & 0xF, 16 ) );
+        result.append( Character.forDigit( value & 0xF, 16 ) );
+      }
+      result.append( '"' );
+      return result.toString();
+    } catch( NoSuchAlgorithmException | UnsupportedEncodingException exception ) {
+      throw new IllegalStateException( "Failed to create ETag", exception );
+    }
+  }
+
+  private static final class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+
+    private final int maxEntries;
+
+    LeastRecentlyUsedMap( int maxEntries ) {
+      super( 16, 0.75f, true );
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry( Map.Entry<K, V> eldest ) {
+      return size() > maxEntries;
+    }
+
+  }
+
+  static final class Entry {
+
+    private final String content;
+    private final String etag;
+
+    Entry( String content ) {
+      this.content = content;
+      etag = createETag( content );
+    }
+
+    String getContent() {
+      return content;
+    }
+
+    String getETag() {
+      return etag;
+    }
+
+  }
+
+}
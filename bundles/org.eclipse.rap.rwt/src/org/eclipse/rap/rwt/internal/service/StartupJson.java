@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,14 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.theme.Theme;
@@ -34,14 +37,26 @@ public class StartupJson {
   static final String THEME_STORE_TYPE = "rwt.theme.ThemeStore";
   static final String METHOD_LOAD_FALLBACK_THEME = "loadFallbackTheme";
   static final String METHOD_LOAD_ACTIVE_THEME = "loadActiveTheme";
+  private static final String ATTR_CONTENT_CACHE = StartupJson.class.getName() + "#contentCache";
 
   private StartupJson() {
     // prevent instantiation
   }
 
   public static void send( HttpServletResponse response ) throws IOException {
-    setResponseHeaders( response );
-    get().writeTo( response.getWriter() );
+    if( isCacheable() ) {
+      StartupContentCache contentCache = getContentCache();
+      List<Object> key = createCacheKey();
+      StartupContentCache.Entry entry = contentCache.get( key );
+      if( entry == null ) {
+        entry = contentCache.put( key, get().toString() );
+      }
+      setContentHeaders( response );
+      StartupContentCache.send( getRequest(), response, entry );
+    } else {
+      setResponseHeaders( response );
+      get().writeTo( response.getWriter() );
+    }
   }
 
   static JsonObject get() {
@@ -52,14 +67,49 @@ public class StartupJson {
     return writer.createMessage().toJson();
   }
 
+  /*
+   * The startup content can only be shared if the servlet container does not encode the session id
+   * into the URL.
+   */
+  static boolean isCacheable() {
+    String url = getRawUrl();
+    return url.equals( ContextProvider.getResponse().encodeURL( url ) );
+  }
+
+  /*
+   * The cache lives in the application store, which is reset when the application is deactivated
+   * and thus when the themes could change.
+   */
+  private static StartupContentCache getContentCache() {
+    ApplicationContextImpl applicationContext = getApplicationContext();
+    Object result = applicationContext.getAttribute( ATTR_CONTENT_CACHE );
+    if( result == null ) {
+      result = new StartupContentCache();
+      applicationContext.setAttribute( ATTR_CONTENT_CACHE, result );
+    }
+    return ( StartupContentCache )result;
+  }
+
+  private static List<Object> createCacheKey() {
+    String servletPath = getRequest().getServletPath();
+    return Arrays.<Object>asList( HTTP.CONTENT_TYPE_JSON,
+                                  servletPath,
+                                  getThemeIdFor( servletPath ),
+                                  Integer.valueOf( MeasurementUtil.getStartupProbeCount() ) );
+  }
+
   private static void setResponseHeaders( HttpServletResponse response ) {
-    response.setContentType( HTTP.CONTENT_TYPE_JSON );
-    response.setCharacterEncoding( HTTP.CHARSET_UTF_8 );
+    setContentHeaders( response );
     response.addHeader( "Cache-Control", "max-age=0, no-cache, must-revalidate, no-store" );
     response.setHeader( "Pragma", "no-cache" );
     response.setDateHeader( "Expires", 0 );
   }
 
+  private static void setContentHeaders( HttpServletResponse response ) {
+    response.setContentType( HTTP.CONTENT_TYPE_JSON );
+    response.setCharacterEncoding( HTTP.CHARSET_UTF_8 );
+  }
+
   private static void appendCreateDisplay( String id, ProtocolMessageWriter writer ) {
     writer.appendCreate( id, DISPLAY_TYPE );
     writer.appendHead( PROPERTY_URL, JsonValue.valueOf( getUrl() ) );
@@ -81,9 +131,12 @@ public class StartupJson {
   }
 
   private static String getUrl() {
+    return ContextProvider.getResponse().encodeURL( getRawUrl() );
+  }
+
+  private static String getRawUrl() {
     String servletPath = getRequest().getServletPath();
-    String url = "".equals( servletPath ) ? "./" : servletPath.substring( 1 );
-    return ContextProvider.getResponse().encodeURL( url );
+    return "".equals( servletPath ) ? "./" : servletPath.substring( 1 );
   }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,17 +19,22 @@ import static org.eclipse.rap.rwt.internal.theme.ThemeUtil.getThemeIdFor;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.RWTMessages;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
+import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.service.StartupPageTemplate.VariableWriter;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.theme.CssImage;
 import org.eclipse.rap.rwt.internal.theme.SimpleSelector;
 import org.eclipse.rap.rwt.internal.util.HTTP;
@@ -38,38 +43,85 @@ import org.eclipse.rap.rwt.internal.util.HTTP;
 public class StartupPage {
   private final ApplicationContextImpl applicationContext;
   private final List<String> jsLibraries;
+  private final StartupContentCache contentCache;
   private String clientJsLibrary;
+  private String clientJsResource;
   StartupPageTemplate startupPageTemplate;
 
   public StartupPage( ApplicationContextImpl applicationContext ) {
     this.applicationContext = applicationContext;
     jsLibraries = new ArrayList<>();
+    contentCache = new StartupContentCache();
   }
 
   public void activate() {
     startupPageTemplate = new StartupPageTemplate();
+    contentCache.clear();
   }
 
   public void deactivate() {
     startupPageTemplate = null;
+    contentCache.clear();
   }
 
   public void setClientJsLibrary( String location ) {
     clientJsLibrary = location;
+    clientJsResource = null;
+    contentCache.clear();
+  }
+
+  /*
+   * The location of the given resource is resolved when the page is rendered, allowing the
+   * resource to be registered lazily.
+   */
+  public void setClientJsResource( String name ) {
+    clientJsResource = name;
+    clientJsLibrary = null;
+    contentCache.clear();
   }
 
   public void addJsLibrary( String location ) {
     jsLibraries.add( location );
+    contentCache.clear();
   }
 
   public void send( HttpServletResponse response ) throws IOException {
-    setResponseHeaders( response );
-    startupPageTemplate.writePage( response.getWriter(), new StartupPageValueProvider() );
+    if( StartupJson.isCacheable() ) {
+      List<Object> key = createCacheKey();
+      StartupContentCache.Entry entry = contentCache.get( key );
+      if( entry == null ) {
+        entry = contentCache.put( key, render() );
+      }
+      setContentHeaders( response );
+      StartupContentCache.send( getRequest(), response, entry );
+    } else {
+      setResponseHeaders( response );
+      startupPageTemplate.writePage( response.getWriter(), new StartupPageValueProvider() );
+    }
+  }
+
+  /*
+   * The rendered page depends on the entry point that is rendered (including its branding and
+   * theme), the locale of the no-script message and the font probes that are sent with the startup
+   * JSON. The theme and the libraries are fixed while the application is active.
+   */
+  private List<Object> createCacheKey() {
+    HttpServletRequest request = getRequest();
+    return Arrays.<Object>asList( HTTP.CONTENT_TYPE_HTML,
+                                  request.getServletPath(),
+                                  getCurrentEntryPointRegistration(),
+                                  request.getLocale(),
+                                  Integer.valueOf( MeasurementUtil.getStartupProbeCount() ) );
+  }
+
+  private String render() {
+    StringWriter stringWriter = new StringWriter();
+    startupPageTemplate.writePage( new PrintWriter( stringWriter ), new StartupPageValueProvider() );
+    return stringWriter.toString();
   }
 
   static void setResponseHeaders( HttpServletResponse response ) {
-    response.setContentType( HTTP.CONTENT_TYPE_HTML );
-    response.setCharacterEncoding( HTTP.CHARSET_UTF_8 );
+    setContentHeaders( response );
     // TODO [rh] this is a preliminary fix for a behavior that was easily
     //      reproducible in IE but also happened in FF: when restarting a
     //      web app (hit return in location bar), the browser used a cached
@@ -81,6 +133,11 @@ public class StartupPage {
     response.setDateHeader( "Expires", 0 );
   }
 
+  private static void setContentHeaders( HttpServletResponse response ) {
+    response.setContentType( HTTP.CONTENT_TYPE_HTML );
+    response.setCharacterEncoding( HTTP.CHARSET_UTF_8 );
+  }
+
   protected void writeTitle( PrintWriter printWriter ) {
     writeEntryPointProperty( printWriter, WebClient.PAGE_TITLE );
   }
@@ -101,7 +158,11 @@ public class StartupPage {
   }
 
   private void writeLibraries( PrintWriter printWriter ) {
-    writeScriptTag( printWriter, clientJsLibrary );
+    if( clientJsResource != null ) {
+      writeScriptTag( printWriter, getResourceLocation( clientJsResource ) );
+    } else {
+      writeScriptTag( printWriter, clientJsLibrary );
+    }
     for( String location : jsLibraries ) {
       writeScriptTag( printWriter, location );
     }
@@ -149,8 +210,12 @@ public class StartupPage {
   }
 
   private Map<String, String> getCurrentEntryPointProperties() {
+    return getCurrentEntryPointRegistration().getProperties();
+  }
+
+  private EntryPointRegistration getCurrentEntryPointRegistration() {
     EntryPointManager entryPointManager = applicationContext.getEntryPointManager();
-    return entryPointManager.getEntryPointRegistration( getRequest() ).getProperties();
+    return entryPointManager.getEntryPointRegistration( getRequest() );
   }
 
   private String getResourceLocation( String resourceName ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,10 @@ package org.eclipse.rap.rwt.internal.service;
 
 import java.text.MessageFormat;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionBindingEvent;
@@ -50,17 +48,26 @@ public class UISessionImpl
   private static final String ATTR_LOCALE = UISessionImpl.class.getName() + "#locale";
 
   private final SerializableLock requestLock;
-  private final SerializableLock lock;
-  private final Map<String, Object> attributes;
+  // Guards modifications of the attributes and the bound state. Reading attributes does not need
+  // the lock.
+  private final SerializableLock attributeLock;
+  // Guards modifications of the listeners and the inDestroy state, so that attaching listeners
+  // does not contend with attribute writes. Notifying listeners does not need the lock.
+  private final SerializableLock listenerLock;
+  // null values are stored as NullValue.INSTANCE
+  private final ConcurrentHashMap<String, Object> attributes;
   private final Set<UISessionListener> listeners;
   private final String id;
   private final String connectionId;
   private Connection connection;
-  private boolean bound;
+  private volatile boolean bound;
   private boolean inDestroy;
-  private transient HttpSession httpSession;
+  private transient volatile HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
+  // Whether the session has changed since it was last attached to the HTTP session. Not
+  // serialized, as a deserialized session equals the replicated state.
+  private transient volatile boolean changed;
 
   public UISessionImpl( ApplicationContextImpl applicationContext, HttpSession httpSession ) {
     this( applicationContext, httpSession, null );
@@ -74,12 +81,14 @@ public class UISessionImpl
     this.httpSession = httpSession;
     this.connectionId = connectionId;
     requestLock = new SerializableLock();
-    lock = new SerializableLock();
-    attributes = new HashMap<>();
-    listeners = new HashSet<>();
+    attributeLock = new SerializableLock();
+    listenerLock = new SerializableLock();
+    attributes = new ConcurrentHashMap<>();
+    listeners = new CopyOnWriteArraySet<>();
     id = Integer.toHexString( hashCode() );
     bound = true;
     connection = new ConnectionImpl( this );
+    changed = true;
   }
 
   public static UISessionImpl getInstanceFromSession( HttpSession httpSession, String connectionId )
@@ -88,9 +97,25 @@ public class UISessionImpl
   }
 
   public void attachToHttpSession() {
+    changed = false;
     httpSession.setAttribute( getUISessionAttributeName( connectionId ), this );
   }
 
+  /**
+   * Marks this UI session as changed, so that it is replicated after the current request even if
+   * only changed sessions are replicated.
+   */
+  public void markChanged() {
+    changed = true;
+  }
+
+  /**
+   * Returns whether this UI session has changed since it was last attached to the HTTP session.
+   */
+  public boolean isChanged() {
+    return changed;
+  }
+
   public void setApplicationContext( ApplicationContextImpl applicationContext ) {
     if( this.applicationContext != null ) {
       this.applicationContext.removeApplicationContextListener( this );
@@ -142,21 +167,19 @@ public class UISessionImpl
   @Override
   public Object getAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
-    Object result = null;
-    synchronized( lock ) {
-      result = attributes.get( name );
-    }
-    return result;
+    Object result = attributes.get( name );
+    return result == NullValue.INSTANCE ? null : result;
   }
 
   @Override
   public boolean setAttribute( String name, Object value ) {
     ParamCheck.notNull( name, "name" );
     boolean result = false;
-    synchronized( lock ) {
+    synchronized( attributeLock ) {
       if( bound ) {
         result = true;
-        attributes.put( name, value );
+        attributes.put( name, value == null ? NullValue.INSTANCE : value );
+        changed = true;
       }
     }
     return result;
@@ -166,10 +189,11 @@ public class UISessionImpl
   public boolean removeAttribute( String name ) {
     ParamCheck.notNull( name, "name" );
     boolean result = false;
-    synchronized( lock ) {
+    synchronized( attributeLock ) {
       if( bound ) {
         result = true;
         attributes.remove( name );
+        changed = true;
       }
     }
     return result;
@@ -177,7 +201,8 @@ public class UISessionImpl
 
   @Override
   public Enumeration<String> getAttributeNames() {
-    return createAttributeNameEnumeration();
+    // weakly consistent, may or may not reflect modifications made while enumerating
+    return attributes.keys();
   }
 
   @Override
@@ -187,23 +212,17 @@ public class UISessionImpl
 
   @Override
   public HttpSession getHttpSession() {
-    synchronized( lock ) {
-      return httpSession;
-    }
+    return httpSession;
   }
 
   public void setHttpSession( HttpSession httpSession ) {
     ParamCheck.notNull( httpSession, "httpSession" );
-    synchronized( lock ) {
-      this.httpSession = httpSession;
-    }
+    this.httpSession = httpSession;
   }
 
   @Override
   public boolean isBound() {
-    synchronized( lock ) {
-      return bound;
-    }
+    return bound;
   }
 
   @Override
@@ -254,24 +273,56 @@ public class UISessionImpl
   @Override
   public boolean addUISessionListener( UISessionListener listener ) {
     ParamCheck.notNull( listener, "listener" );
+    return addListener( listener, true );
+  }
+
+  @Override
+  public boolean removeUISessionListener( UISessionListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    return removeListener( listener, true );
+  }
+
+  /**
+   * Adds a listener that is only attached for the duration of the current request. Unlike
+   * <code>addUISessionListener</code>, this does not mark the UI session as changed.
+   */
+  public boolean addTransientUISessionListener( UISessionListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    return addListener( listener, false );
+  }
+
+  /**
+   * Removes a listener that was added with <code>addTransientUISessionListener</code>. This does
+   * not mark the UI session as changed.
+   */
+  public boolean removeTransientUISessionListener( UISessionListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    return removeListener( listener, false );
+  }
+
+  private boolean addListener( UISessionListener listener, boolean markChanged ) {
     boolean result = false;
-    synchronized( lock ) {
+    synchronized( listenerLock ) {
       if( bound && !inDestroy ) {
         result = true;
         listeners.add( listener );
+        if( markChanged ) {
+          changed = true;
+        }
       }
     }
     return result;
   }
 
-  @Override
-  public boolean removeUISessionListener( UISessionListener listener ) {
-    ParamCheck.notNull( listener, "listener" );
+  private boolean removeListener( UISessionListener listener, boolean markChanged ) {
     boolean result = false;
-    synchronized( lock ) {
+    synchronized( listenerLock ) {
       if( bound && !inDestroy ) {
         result = true;
         listeners.remove( listener );
+        if( markChanged ) {
+          changed = true;
+        }
       }
     }
     return result;
@@ -279,8 +330,10 @@ public class UISessionImpl
 
   @Override
   public void valueBound( HttpSessionBindingEvent event ) {
-    synchronized( lock ) {
+    synchronized( attributeLock ) {
       bound = true;
+    }
+    synchronized( listenerLock ) {
       inDestroy = false;
     }
   }
@@ -326,27 +379,26 @@ public class UISessionImpl
   }
 
   private void destroy() {
-    synchronized( lock ) {
+    synchronized( listenerLock ) {
       inDestroy = true;
     }
     fireBeforeDestroy();
-    synchronized( lock ) {
+    synchronized( attributeLock ) {
       setApplicationContext( null );
       attributes.clear();
-      listeners.clear();
       bound = false;
+    }
+    // listeners that check the bound state from now on are rejected
+    synchronized( listenerLock ) {
+      listeners.clear();
       inDestroy = false;
     }
   }
 
   private void fireBeforeDestroy() {
-    UISessionListener[] listenersCopy;
-    synchronized( lock ) {
-      int size = listeners.size();
-      listenersCopy = listeners.toArray( new UISessionListener[ size ] );
-    }
+    // no listeners are added after inDestroy is set, the iterator is a snapshot of all of them
     UISessionEvent event = new UISessionEvent( this );
-    for( UISessionListener listener : listenersCopy ) {
+    for( UISessionListener listener : listeners ) {
       try {
         listener.beforeDestroy( event );
       } catch( RuntimeException exception ) {
@@ -363,22 +415,8 @@ public class UISessionImpl
     httpSession.getServletContext().log( msg, exception );
   }
 
-  private Enumeration<String> createAttributeNameEnumeration() {
-    Set<String> names;
-    synchronized( lock ) {
-      names = new HashSet<>( attributes.keySet() );
-    }
-    final Iterator<String> iterator = names.iterator();
-    return new Enumeration<String>() {
-      @Override
-      public boolean hasMoreElements() {
-        return iterator.hasNext();
-      }
-      @Override
-      public String nextElement() {
-        return iterator.next();
-      }
-    };
+  private enum NullValue {
+    INSTANCE
   }
 
 }
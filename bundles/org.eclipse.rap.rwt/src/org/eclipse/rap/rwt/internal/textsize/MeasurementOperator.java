@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,9 +18,13 @@ import static org.eclipse.rap.rwt.internal.textsize.MeasurementUtil.createProbeP
 import static org.eclipse.rap.rwt.internal.textsize.MeasurementUtil.getId;
 import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.rap.json.JsonArray;
@@ -35,6 +39,7 @@ import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Control;
 
 
 class MeasurementOperator implements SerializableCompatibility {
@@ -48,6 +53,8 @@ class MeasurementOperator implements SerializableCompatibility {
   private final RemoteObject remoteObject;
   private final Set<Probe> probes;
   private final Set<MeasurementItem> items;
+  private final Map<MeasurementItem, Set<Control>> scopes;
+  private final Set<MeasurementItem> unscopedItems;
 
   MeasurementOperator() {
     ConnectionImpl connection = ( ConnectionImpl )RWT.getUISession().getConnection();
@@ -55,6 +62,8 @@ class MeasurementOperator implements SerializableCompatibility {
     remoteObject.setHandler( new MeasurementOperatorHandler() );
     probes = new HashSet<>();
     items = new HashSet<>();
+    scopes = new HashMap<>();
+    unscopedItems = new HashSet<>();
     addStartupProbesToBuffer();
   }
 
@@ -88,7 +97,45 @@ class MeasurementOperator implements SerializableCompatibility {
   }
 
   void addItemToMeasure( MeasurementItem newItem ) {
+    addItemToMeasure( newItem, null );
+  }
+
+  /**
+   * Adds an item to measure and remembers the control whose layout or size computation has used
+   * the estimated size of the item. A <code>null</code> scope means that the estimated size may
+   * have been used anywhere.
+   */
+  void addItemToMeasure( MeasurementItem newItem, Control scope ) {
     items.add( newItem );
+    if( scope == null ) {
+      unscopedItems.add( newItem );
+    } else {
+      Set<Control> itemScopes = scopes.get( newItem );
+      if( itemScopes == null ) {
+        itemScopes = new HashSet<>();
+        scopes.put( newItem, itemScopes );
+      }
+      itemScopes.add( scope );
+    }
+  }
+
+  /**
+   * Removes and returns the controls that have used the estimated sizes of the given items.
+   *
+   * @return the controls or <code>null</code> if at least one of the items has been used outside
+   *         of a known scope
+   */
+  Set<Control> removeScopes( List<MeasurementItem> measuredItems ) {
+    Set<Control> result = new HashSet<>();
+    boolean unscoped = false;
+    for( MeasurementItem item : measuredItems ) {
+      unscoped |= unscopedItems.remove( item );
+      Set<Control> itemScopes = scopes.remove( item );
+      if( itemScopes != null ) {
+        result.addAll( itemScopes );
+      }
+    }
+    return unscoped ? null : result;
   }
 
   void renderMeasurementItems() {
@@ -123,8 +170,14 @@ class MeasurementOperator implements SerializableCompatibility {
             @Override
             public void run() {
               handleMeasuredFontProbeSizes( results );
-              if( handleMeasuredTextSizes( results ) ) {
-                TextSizeRecalculation.execute();
+              List<MeasurementItem> measuredItems = handleMeasuredTextSizes( results );
+              if( !measuredItems.isEmpty() ) {
+                Set<Control> controls = removeScopes( measuredItems );
+                if( controls == null ) {
+                  TextSizeRecalculation.execute();
+                } else {
+                  TextSizeRecalculation.execute( controls );
+                }
               }
             }
           } );
@@ -144,8 +197,8 @@ class MeasurementOperator implements SerializableCompatibility {
       }
     }
 
-    private boolean handleMeasuredTextSizes( JsonObject results ) {
-      int originalItemsSize = items.size();
+    private List<MeasurementItem> handleMeasuredTextSizes( JsonObject results ) {
+      List<MeasurementItem> result = new ArrayList<>();
       Iterator<MeasurementItem> itemList = items.iterator();
       while( itemList.hasNext() ) {
         MeasurementItem item = itemList.next();
@@ -153,9 +206,10 @@ class MeasurementOperator implements SerializableCompatibility {
         if( size != null ) {
           storeTextMeasurement( item, size );
           itemList.remove();
+          result.add( item );
         }
       }
-      return originalItemsSize != items.size();
+      return result;
     }
 
     private Point readMeasuredSize( JsonObject results, String id ) {
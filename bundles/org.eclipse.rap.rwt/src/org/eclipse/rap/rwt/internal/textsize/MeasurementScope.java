@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.swt.widgets.Control;
+
+
+/**
+ * Keeps track of the control whose layout or size computation is currently in progress. Texts
+ * that can only be estimated are associated with this control, so that only the affected parts of
+ * the widget tree have to be laid out again once the measurement results arrive.
+ * <p>
+ * Usage:
+ * <pre>
+ * Control previous = MeasurementScope.enter( this );
+ * try {
+ *   ...
+ * } finally {
+ *   MeasurementScope.exit( previous );
+ * }
+ * </pre>
+ * </p>
+ */
+public class MeasurementScope {
+
+  private static final String ATTR_CONTROL = MeasurementScope.class.getName() + "#control";
+
+  /**
+   * Makes the given control the current scope.
+   *
+   * @return the previous scope that has to be passed to <code>exit</code>
+   */
+  public static Control enter( Control control ) {
+    Control result = getCurrent();
+    setCurrent( control );
+    return result;
+  }
+
+  /**
+   * Restores the previous scope.
+   */
+  public static void exit( Control previous ) {
+    setCurrent( previous );
+  }
+
+  /**
+   * Returns the control whose layout or size computation is in progress or <code>null</code> if
+   * there is none.
+   */
+  static Control getCurrent() {
+    if( ContextProvider.hasContext() ) {
+      return ( Control )ContextProvider.getServiceStore().getAttribute( ATTR_CONTROL );
+    }
+    return null;
+  }
+
+  private static void setCurrent( Control control ) {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.getServiceStore().setAttribute( ATTR_CONTROL, control );
+    }
+  }
+
+  private MeasurementScope() {
+    // prevent instantiation
+  }
+
+}
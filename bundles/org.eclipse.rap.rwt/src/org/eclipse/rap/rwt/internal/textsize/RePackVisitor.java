@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.textsize;
 
+import java.util.Set;
+
 import org.eclipse.swt.internal.widgets.ControlUtil;
 import org.eclipse.swt.internal.widgets.IColumnAdapter;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
@@ -24,26 +26,40 @@ import org.eclipse.swt.widgets.Widget;
 
 public class RePackVisitor implements WidgetTreeVisitor {
 
+  private final Set<Control> affectedControls;
+
+  public RePackVisitor() {
+    this( null );
+  }
+
+  /**
+   * Creates a visitor that only re-packs the given controls and the columns of these controls.
+   * If <code>null</code> is given, all packed controls and columns are re-packed.
+   */
+  public RePackVisitor( Set<Control> affectedControls ) {
+    this.affectedControls = affectedControls;
+  }
+
   @Override
   public boolean visit( Widget widget ) {
     if( widget instanceof Control ) {
       Control control = ( Control )widget;
       IControlAdapter adapter = ControlUtil.getControlAdapter( control );
-      if( adapter.isPacked() ) {
+      if( adapter.isPacked() && isAffected( control ) ) {
         control.pack();
         adapter.clearPacked();
       }
     } else if( widget instanceof TableColumn ) {
       TableColumn column = ( TableColumn )widget;
       IColumnAdapter adapter = getAdapter( column );
-      if( adapter.isPacked() ) {
+      if( adapter.isPacked() && isAffected( column.getParent() ) ) {
         column.pack();
         adapter.clearPacked();
       }
     } else if( widget instanceof TreeColumn ) {
       TreeColumn column = ( TreeColumn )widget;
       IColumnAdapter adapter = getAdapter( column );
-      if( adapter.isPacked() ) {
+      if( adapter.isPacked() && isAffected( column.getParent() ) ) {
         column.pack();
         adapter.clearPacked();
       }
@@ -51,6 +67,10 @@ public class RePackVisitor implements WidgetTreeVisitor {
     return true;
   }
 
+  private boolean isAffected( Control control ) {
+    return affectedControls == null || affectedControls.contains( control );
+  }
+
   private static IColumnAdapter getAdapter( Item column ) {
     return column.getAdapter( IColumnAdapter.class );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.textsize;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
@@ -18,7 +22,9 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.ControlUtil;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IShellAdapter;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 
@@ -31,34 +37,82 @@ class TextSizeRecalculation {
   static final String KEY_SCROLLED_COMPOSITE_CONTENT_SIZE = "org.eclipse.rap.content-size";
   static final int RESIZE_OFFSET = 1000;
 
+  /**
+   * Recalculates the layout of all shells.
+   */
   static void execute() {
+    int layoutCount = getLayoutCount();
     for( Shell shell : getShells() ) {
-      forceShellRecalculations( shell );
+      forceShellRecalculations( shell, null );
     }
+    recordRecalculation( layoutCount );
   }
 
-  private static void forceShellRecalculations( Shell shell ) {
+  /**
+   * Recalculates the layout of the given controls, i.e. the controls whose layout or size
+   * computation has used estimated text sizes. Only the shells that contain these controls are
+   * resized and only the layout caches of these controls and their ancestors are cleared.
+   */
+  static void execute( Collection<Control> controls ) {
+    int layoutCount = getLayoutCount();
+    Set<Control> affectedControls = getAffectedControls( controls );
+    for( Shell shell : getShells() ) {
+      if( affectedControls.contains( shell ) ) {
+        forceShellRecalculations( shell, affectedControls );
+      }
+    }
+    recordRecalculation( layoutCount );
+  }
+
+  private static void forceShellRecalculations( Shell shell, Set<Control> affectedControls ) {
     boolean isPacked = ControlUtil.getControlAdapter( shell ).isPacked();
     Rectangle boundsBuffer = shell.getBounds();
     bufferScrolledCompositeOrigins( shell );
-    clearLayoutBuffers( shell );
+    clearLayoutBuffers( shell, affectedControls );
     setTemporaryResize( true );
     enlargeScrolledCompositeContent( shell );
     enlargeShell( shell );
     setTemporaryResize( false );
-    clearLayoutBuffers( shell );
+    clearLayoutBuffers( shell, affectedControls );
     markLayoutNeeded( shell );
-    rePack( shell );
+    rePack( shell, affectedControls );
     restoreScrolledCompositeOrigins( shell );
     restoreShellSize( shell, boundsBuffer, isPacked );
   }
 
-  private static void rePack( Shell shell ) {
-    WidgetTreeUtil.accept( shell, new RePackVisitor() );
+  /*
+   * The given controls together with their ancestors up to the shell, as the preferred size of a
+   * composite depends on the preferred sizes of its children.
+   */
+  private static Set<Control> getAffectedControls( Collection<Control> controls ) {
+    Set<Control> result = new HashSet<>();
+    for( Control control : controls ) {
+      Control current = control;
+      while( current != null && !current.isDisposed() && result.add( current ) ) {
+        current = current instanceof Shell ? null : current.getParent();
+      }
+    }
+    return result;
+  }
+
+  private static void rePack( Shell shell, Set<Control> affectedControls ) {
+    RePackVisitor visitor = affectedControls == null
+                          ? new RePackVisitor()
+                          : new RePackVisitor( affectedControls );
+    WidgetTreeUtil.accept( shell, visitor );
   }
 
-  private static void clearLayoutBuffers( Shell shell ) {
-    WidgetTreeUtil.accept( shell, new ClearLayoutBuffersVisitor() );
+  private static void clearLayoutBuffers( Shell shell, Set<Control> affectedControls ) {
+    ClearLayoutBuffersVisitor visitor = new ClearLayoutBuffersVisitor();
+    if( affectedControls == null ) {
+      WidgetTreeUtil.accept( shell, visitor );
+    } else {
+      for( Control control : affectedControls ) {
+        if( control.getShell() == shell ) {
+          visitor.visit( control );
+        }
+      }
+    }
   }
 
   private static void markLayoutNeeded( Shell shell ) {
@@ -107,6 +161,15 @@ class TextSizeRecalculation {
     shell.getAdapter( IShellAdapter.class ).setBounds( bounds );
   }
 
+  private static int getLayoutCount() {
+    return LayoutStatistics.getInstance().getLayoutCount();
+  }
+
+  private static void recordRecalculation( int layoutCountBefore ) {
+    LayoutStatistics statistics = LayoutStatistics.getInstance();
+    statistics.recalculationPerformed( statistics.getLayoutCount() - layoutCountBefore );
+  }
+
   private static void setTemporaryResize( boolean value ) {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     if( value ) {
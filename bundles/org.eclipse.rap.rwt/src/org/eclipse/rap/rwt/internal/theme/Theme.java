@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,16 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.resources.ResourceUtil;
 import org.eclipse.rap.rwt.internal.theme.css.CssElementHolder;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.service.ResourceManager;
 
 
@@ -33,6 +38,8 @@ public class Theme {
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
 
+  private ResourceManager resourceManager;
+  private String registeredName;
   private String registeredLocation;
 
   private CssElement[] elements;
@@ -104,6 +111,9 @@ public class Theme {
   }
 
   public String getRegisteredLocation() {
+    if( registeredLocation == null && registeredName != null ) {
+      registeredLocation = resourceManager.getLocation( registeredName );
+    }
     return registeredLocation;
   }
 
@@ -117,52 +127,67 @@ public class Theme {
   }
 
   private void registerThemeResources( ApplicationContext applicationContext ) throws IOException {
-    CssValue[] values = valuesMap.getAllValues();
-    for( CssValue value : values ) {
-      if( value instanceof ThemeResource ) {
-        registerResource( applicationContext, ( ThemeResource )value );
-      }
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    for( Entry<String, ThemeResource> entry : getThemeResources( applicationContext ).entrySet() ) {
+      ResourceUtil.register( resourceManager, entry.getKey(), createLoader( entry.getValue() ) );
     }
   }
 
-  private void registerThemeStoreFile( ApplicationContext applicationContext ) {
-    ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, this, elements );
-    String name = "rap-" + jsId + ".json";
-    String code = storeWriter.createJson();
-    registeredLocation = registerResource( applicationContext, name, code );
-  }
-
-  private static void registerResource( ApplicationContext applicationContext, ThemeResource value )
+  private void registerThemeStoreFile( final ApplicationContext applicationContext )
     throws IOException
   {
-    String registerPath = value.getResourcePath( applicationContext );
-    if( registerPath != null ) {
-      InputStream inputStream = value.getResourceAsStream();
-      if( inputStream == null ) {
-        throw new IllegalArgumentException( "Resource not found for theme property: " + value );
+    resourceManager = applicationContext.getResourceManager();
+    registeredName = "rap-" + jsId + ".json";
+    registeredLocation = null;
+    ResourceUtil.register( resourceManager, registeredName, new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) {
+        // the theme store refers to the resources of the theme
+        for( String path : getThemeResources( applicationContext ).keySet() ) {
+          resourceManager.getLocation( path );
+        }
+        Theme theme = Theme.this;
+        ThemeStoreWriter storeWriter = new ThemeStoreWriter( applicationContext, theme, elements );
+        return createInputStream( storeWriter.createJson() );
       }
-      try {
-        applicationContext.getResourceManager().register( registerPath, inputStream );
-      } finally {
-        inputStream.close();
+    } );
+  }
+
+  private Map<String, ThemeResource> getThemeResources( ApplicationContext applicationContext ) {
+    Map<String, ThemeResource> result = new LinkedHashMap<>();
+    for( CssValue value : valuesMap.getAllValues() ) {
+      if( value instanceof ThemeResource ) {
+        ThemeResource resource = ( ThemeResource )value;
+        String path = resource.getResourcePath( applicationContext );
+        if( path != null ) {
+          result.put( path, resource );
+        }
       }
     }
+    return result;
   }
 
-  private static String registerResource( ApplicationContext applicationContext,
-                                          String name,
-                                          String content )
-  {
+  private static ResourceLoader createLoader( final ThemeResource value ) {
+    return new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) throws IOException {
+        InputStream inputStream = value.getResourceAsStream();
+        if( inputStream == null ) {
+          throw new IllegalArgumentException( "Resource not found for theme property: " + value );
+        }
+        return inputStream;
+      }
+    };
+  }
+
+  private static InputStream createInputStream( String content ) {
     byte[] buffer;
     try {
       buffer = content.getBytes( "UTF-8" );
     } catch( UnsupportedEncodingException shouldNotHappen ) {
       throw new RuntimeException( shouldNotHappen );
     }
-    InputStream inputStream = new ByteArrayInputStream( buffer );
-    ResourceManager resourceManager = applicationContext.getResourceManager();
-    resourceManager.register( name, inputStream );
-    return resourceManager.getLocation( name );
+    return new ByteArrayInputStream( buffer );
   }
 
   private static String createUniqueJsId( String id ) {
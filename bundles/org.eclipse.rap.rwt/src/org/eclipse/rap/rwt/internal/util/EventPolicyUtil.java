@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.Operation;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Renders the event policy that is set on a control with {@link RWT#EVENT_THROTTLE} or
+ * {@link RWT#EVENT_DEBOUNCE}. The client delays the requests for the events of the control
+ * accordingly, consecutive events that report a new state of the control are merged on the
+ * server.
+ */
+public final class EventPolicyUtil {
+
+  static final String PROP_EVENT_POLICY = "eventPolicy";
+  private static final String THROTTLE = "throttle";
+  private static final String DEBOUNCE = "debounce";
+  private static final List<String> COALESCED_EVENTS
+    = Collections.unmodifiableList( Arrays.asList( "Selection", "Modify" ) );
+
+  private EventPolicyUtil() {
+    // prevent instantiation
+  }
+
+  public static boolean isEventPolicyKey( String key ) {
+    return RWT.EVENT_THROTTLE.equals( key ) || RWT.EVENT_DEBOUNCE.equals( key );
+  }
+
+  public static void checkEventPolicy( String key, Object value ) {
+    if(    value != null
+        && ( !( value instanceof Integer ) || ( ( Integer )value ).intValue() < 0 ) )
+    {
+      String name = RWT.EVENT_THROTTLE.equals( key ) ? "EVENT_THROTTLE" : "EVENT_DEBOUNCE";
+      String mesg = "Illegal value for RWT." + name + " in data, must be a non-negative Integer";
+      throw new IllegalArgumentException( mesg );
+    }
+  }
+
+  public static void preserveEventPolicy( Control control ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( control );
+    if( !adapter.isPreserved( PROP_EVENT_POLICY ) ) {
+      adapter.preserve( PROP_EVENT_POLICY, getEventPolicy( control ) );
+    }
+  }
+
+  public static void renderEventPolicy( Control control ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( control );
+    if( adapter.isPreserved( PROP_EVENT_POLICY ) ) {
+      JsonValue actual = getEventPolicy( control );
+      if( !actual.equals( adapter.getPreserved( PROP_EVENT_POLICY ) ) ) {
+        getRemoteObject( control ).set( PROP_EVENT_POLICY, actual );
+      }
+    }
+  }
+
+  public static boolean hasEventPolicy( Widget widget ) {
+    return    getDelay( widget, RWT.EVENT_DEBOUNCE ) > 0
+           || getDelay( widget, RWT.EVENT_THROTTLE ) > 0;
+  }
+
+  /*
+   * Returns the operations of the client message for the given widget. If the widget has an
+   * event policy, consecutive notify operations for events that report a new state of the widget
+   * are merged into the last one.
+   */
+  public static List<Operation> getOperations( ClientMessage message, Widget widget ) {
+    String id = WidgetUtil.getId( widget );
+    if( hasEventPolicy( widget ) ) {
+      return message.getCoalescedOperationsFor( id, COALESCED_EVENTS );
+    }
+    return message.getAllOperationsFor( id );
+  }
+
+  static JsonValue getEventPolicy( Widget widget ) {
+    int debounce = getDelay( widget, RWT.EVENT_DEBOUNCE );
+    if( debounce > 0 ) {
+      return new JsonArray().add( DEBOUNCE ).add( debounce );
+    }
+    int throttle = getDelay( widget, RWT.EVENT_THROTTLE );
+    if( throttle > 0 ) {
+      return new JsonArray().add( THROTTLE ).add( throttle );
+    }
+    return JsonValue.NULL;
+  }
+
+  private static int getDelay( Widget widget, String key ) {
+    Object value = widget.getData( key );
+    return value instanceof Integer ? ( ( Integer )value ).intValue() : 0;
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1074,6 +1074,9 @@ public class CCombo extends Composite {
       }
       return ( T )textAdapter;
     }
+    if( adapter == ListModel.class ) {
+      return ( T )model;
+    }
     if( adapter == WidgetLCA.class ) {
       return ( T )CComboLCA.INSTANCE;
     }
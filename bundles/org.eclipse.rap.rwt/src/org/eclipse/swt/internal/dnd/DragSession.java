@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.dnd;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.swt.dnd.DropTarget;
+import org.eclipse.swt.dnd.Transfer;
+import org.eclipse.swt.dnd.TransferData;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Item;
+
+
+/**
+ * Keeps the state of the current drag operation of a UI session across requests.
+ * <p>
+ * The data types that a drag source and a drop target have in common are negotiated once and
+ * reused as long as neither of them changes its transfers. The last DragOver event that has been
+ * passed to the listeners is remembered, so that repeated events can be skipped.
+ * </p>
+ */
+public final class DragSession implements SerializableCompatibility {
+
+  private transient Transfer[] sourceTransfers;
+  private transient Transfer[] targetTransfers;
+  private transient int[] types;
+  private transient DropTarget dragOverTarget;
+  private transient Item dragOverItem;
+  private transient int dragOverDetail;
+  private transient Integer dragOverDataType;
+  private transient int dragOverTime;
+
+  public static DragSession getInstance() {
+    return SingletonUtil.getSessionInstance( DragSession.class );
+  }
+
+  /*
+   * Returns new instances of the data types negotiated for the given transfers, or null if the
+   * transfers have not been negotiated yet.
+   */
+  public TransferData[] getDataTypes( Transfer[] sourceTransfers, Transfer[] targetTransfers ) {
+    TransferData[] result = null;
+    if(    types != null
+        && this.sourceTransfers == sourceTransfers
+        && this.targetTransfers == targetTransfers )
+    {
+      result = new TransferData[ types.length ];
+      for( int i = 0; i < types.length; i++ ) {
+        result[ i ] = new TransferData();
+        result[ i ].type = types[ i ];
+      }
+    }
+    return result;
+  }
+
+  public void setDataTypes( Transfer[] sourceTransfers,
+                            Transfer[] targetTransfers,
+                            TransferData[] dataTypes )
+  {
+    this.sourceTransfers = sourceTransfers;
+    this.targetTransfers = targetTransfers;
+    types = new int[ dataTypes.length ];
+    for( int i = 0; i < dataTypes.length; i++ ) {
+      types[ i ] = dataTypes[ i ].type;
+    }
+  }
+
+  /*
+   * Returns whether the last DragOver event that has been passed to the listeners had the same
+   * target, item, operation and data type and occurred less than interval milliseconds before.
+   */
+  public boolean isDragOverRepeated( DropTarget target,
+                                     Item item,
+                                     int detail,
+                                     TransferData dataType,
+                                     int time,
+                                     int interval )
+  {
+    return    dragOverTarget == target
+           && dragOverItem == item
+           && dragOverDetail == detail
+           && sameType( dragOverDataType, getType( dataType ) )
+           && time >= dragOverTime
+           && time - dragOverTime < interval;
+  }
+
+  public void setDragOver( DropTarget target,
+                           Item item,
+                           int detail,
+                           TransferData dataType,
+                           int time )
+  {
+    dragOverTarget = target;
+    dragOverItem = item;
+    dragOverDetail = detail;
+    dragOverDataType = getType( dataType );
+    dragOverTime = time;
+  }
+
+  public void resetDragOver() {
+    dragOverTarget = null;
+    dragOverItem = null;
+    dragOverDataType = null;
+  }
+
+  private static Integer getType( TransferData dataType ) {
+    return dataType == null ? null : Integer.valueOf( dataType.type );
+  }
+
+  private static boolean sameType( Integer type1, Integer type2 ) {
+    return type1 == null ? type2 == null : type1.equals( type2 );
+  }
+
+}
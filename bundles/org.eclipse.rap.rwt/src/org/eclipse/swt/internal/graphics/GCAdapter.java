@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ public final class GCAdapter {
   private final List<GCOperation> gcOperations;
   private boolean forceRedraw;
   private Rectangle paintRect;
+  private byte[] frameDigest;
 
   public GCAdapter() {
     gcOperations = new LinkedList<>();
@@ -72,6 +73,14 @@ public final class GCAdapter {
     return paintRect;
   }
 
+  public void setFrameDigest( byte[] frameDigest ) {
+    this.frameDigest = frameDigest;
+  }
+
+  public byte[] getFrameDigest() {
+    return frameDigest;
+  }
+
   private static boolean isDrawOperation( GCOperation operation ) {
     return !( operation instanceof SetProperty );
   }
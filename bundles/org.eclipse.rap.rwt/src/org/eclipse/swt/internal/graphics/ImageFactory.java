@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -85,7 +85,7 @@ public class ImageFactory {
     return createImageInstance( device, internalImage );
   }
 
-  static Image createImageInstance( Device device, InternalImage internalImage ) {
+  public static Image createImageInstance( Device device, InternalImage internalImage ) {
     Class[] paramTypes = new Class[] { Device.class, InternalImage.class };
     Object[] paramValues = new Object[] { device, internalImage };
     return ClassUtil.newInstance( Image.class, paramTypes, paramValues );
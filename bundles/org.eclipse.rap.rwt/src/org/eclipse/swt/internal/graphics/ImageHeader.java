@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import java.util.zip.CRC32;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * The format and size of an encoded image, read from the image header without decoding the
+ * pixel data. Only headers that the image decoders are known to accept are read, for all other
+ * images <code>read()</code> returns <code>null</code> and the image has to be decoded.
+ * <p>
+ * The structure of the image is checked as far as this is possible without decoding: PNG chunks
+ * must have valid CRCs, JPEG images must contain a scan and end with an EOI marker, GIF blocks
+ * must reach the trailer, and the pixel data of BMP, ICO and TIFF images must be within the
+ * image. Images that fail these checks are left to the decoder, which rejects corrupt images.
+ * </p>
+ */
+final class ImageHeader {
+
+  private static final int TIFF_IMAGE_WIDTH = 256;
+  private static final int TIFF_IMAGE_LENGTH = 257;
+  private static final int TIFF_COMPRESSION = 259;
+  private static final int TIFF_STRIP_OFFSETS = 273;
+  private static final int TIFF_STRIP_BYTE_COUNTS = 279;
+  private static final int TIFF_SHORT = 3;
+  private static final int TIFF_LONG = 4;
+  private static final int PNG_IDAT = 0x49444154;
+  private static final int PNG_IEND = 0x49454E44;
+
+  final int type;
+  final int width;
+  final int height;
+
+  ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    try {
+      result = readHeader( bytes );
+    } catch( @SuppressWarnings( "unused" ) ArrayIndexOutOfBoundsException truncated ) {
+      // leave truncated images to the decoder
+    }
+    if( result != null && ( result.width <= 0 || result.height <= 0 ) ) {
+      result = null;
+    }
+    return result;
+  }
+
+  private static ImageHeader readHeader( byte[] bytes ) {
+    ImageHeader result = null;
+    if( bytes.length >= 4 ) {
+      if( isPNG( bytes ) ) {
+        result = readPNG( bytes );
+      } else if( u8( bytes, 0 ) == 0xFF && u8( bytes, 1 ) == 0xD8 ) {
+        result = readJPEG( bytes );
+      } else if( bytes[ 0 ] == 'G' && bytes[ 1 ] == 'I' && bytes[ 2 ] == 'F' ) {
+        result = readGIF( bytes );
+      } else if( bytes[ 0 ] == 'B' && bytes[ 1 ] == 'M' ) {
+        result = readBMP( bytes );
+      } else if( le16( bytes, 0 ) == 0 && le16( bytes, 2 ) == 1 ) {
+        result = readICO( bytes );
+      } else if( bytes[ 0 ] == 'I' && bytes[ 1 ] == 'I' && le16( bytes, 2 ) == 42 ) {
+        result = readTIFF( bytes, true );
+      } else if( bytes[ 0 ] == 'M' && bytes[ 1 ] == 'M' && be16( bytes, 2 ) == 42 ) {
+        result = readTIFF( bytes, false );
+      }
+    }
+    return result;
+  }
+
+  private static boolean isPNG( byte[] bytes ) {
+    return u8( bytes, 0 ) == 0x89 && bytes[ 1 ] == 'P' && bytes[ 2 ] == 'N' && bytes[ 3 ] == 'G';
+  }
+
+  private static ImageHeader readPNG( byte[] bytes ) {
+    // signature (8), IHDR length (4) and type (4), followed by width and height
+    ImageHeader result = null;
+    if(    bytes[ 12 ] == 'I' && bytes[ 13 ] == 'H' && bytes[ 14 ] == 'D' && bytes[ 15 ] == 'R'
+        && isSupportedPNG( bytes )
+        && hasValidPNGChunks( bytes ) )
+    {
+      result = new ImageHeader( SWT.IMAGE_PNG, be32( bytes, 16 ), be32( bytes, 20 ) );
+    }
+    return result;
+  }
+
+  private static boolean isSupportedPNG( byte[] bytes ) {
+    int bitDepth = u8( bytes, 24 );
+    int colorType = u8( bytes, 25 );
+    boolean supported;
+    switch( colorType ) {
+      case 0:
+        supported = bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8
+                    || bitDepth == 16;
+        break;
+      case 3:
+        supported = bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8;
+        break;
+      case 2:
+      case 4:
+      case 6:
+        supported = bitDepth == 8 || bitDepth == 16;
+        break;
+      default:
+        supported = false;
+    }
+    // compression and filter method 0, no or Adam7 interlace
+    return supported && bytes[ 26 ] == 0 && bytes[ 27 ] == 0 && u8( bytes, 28 ) <= 1;
+  }
+
+  private static boolean hasValidPNGChunks( byte[] bytes ) {
+    // the decoder verifies the CRC of every chunk and requires image data and an end chunk
+    CRC32 crc = new CRC32();
+    boolean hasData = false;
+    int offset = 8;
+    while( offset + 12 <= bytes.length ) {
+      int length = be32( bytes, offset );
+      if( length < 0 || length > bytes.length - offset - 12 ) {
+        return false;
+      }
+      crc.reset();
+      crc.update( bytes, offset + 4, length + 4 );
+      if( ( int )crc.getValue() != be32( bytes, offset + 8 + length ) ) {
+        return false;
+      }
+      int type = be32( bytes, offset + 4 );
+      if( type == PNG_IDAT ) {
+        hasData = true;
+      } else if( type == PNG_IEND ) {
+        return hasData;
+      }
+      offset += length + 12;
+    }
+    return false;
+  }
+
+  private static ImageHeader readJPEG( byte[] bytes ) {
+    ImageHeader result = null;
+    int offset = 2;
+    while( result == null && offset + 4 <= bytes.length ) {
+      if( u8( bytes, offset ) != 0xFF ) {
+        return null;
+      }
+      int marker = u8( bytes, offset + 1 );
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD7 ) {
+        // markers without segment
+        offset += 2;
+      } else if( marker == 0xC0 || marker == 0xC1 || marker == 0xC2 ) {
+        // start of a baseline, extended sequential or progressive huffman frame
+        int width = be16( bytes, offset + 7 );
+        int height = be16( bytes, offset + 5 );
+        if( !hasJPEGScan( bytes, offset + 2 + be16( bytes, offset + 2 ) ) ) {
+          return null;
+        }
+        result = new ImageHeader( SWT.IMAGE_JPEG, width, height );
+      } else if( isUnsupportedFrame( marker ) || marker == 0xD9 || marker == 0xDA ) {
+        // frames that are not supported by the decoder or no frame before the image data
+        return null;
+      } else {
+        offset += 2 + be16( bytes, offset + 2 );
+      }
+    }
+    return result;
+  }
+
+  private static boolean hasJPEGScan( byte[] bytes, int offset ) {
+    // a scan must follow the frame and the image must end with an EOI marker
+    int end = bytes.length;
+    if( end < 2 || u8( bytes, end - 2 ) != 0xFF || u8( bytes, end - 1 ) != 0xD9 ) {
+      return false;
+    }
+    int position = offset;
+    while( position + 4 <= end && u8( bytes, position ) == 0xFF ) {
+      int marker = u8( bytes, position + 1 );
+      if( marker == 0xDA ) {
+        return true;
+      } else if( marker == 0xFF ) {
+        position++;
+      } else if( marker == 0xD9 || isUnsupportedFrame( marker ) ) {
+        return false;
+      } else {
+        position += 2 + be16( bytes, position + 2 );
+      }
+    }
+    return false;
+  }
+
+  private static boolean isUnsupportedFrame( int marker ) {
+    // SOF3 to SOF15, except for DHT, JPG and DAC
+    return marker >= 0xC3 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+  }
+
+  private static ImageHeader readGIF( byte[] bytes ) {
+    // the decoder returns the first image, which may be smaller than the logical screen
+    int flags = u8( bytes, 10 );
+    int offset = 13;
+    if( ( flags & 0x80 ) != 0 ) {
+      offset += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+    }
+    while( offset < bytes.length ) {
+      int block = u8( bytes, offset );
+      if( block == 0x2C ) {
+        int width = le16( bytes, offset + 5 );
+        int height = le16( bytes, offset + 7 );
+        return hasGIFTrailer( bytes, offset ) ? new ImageHeader( SWT.IMAGE_GIF, width, height )
+                                              : null;
+      } else if( block == 0x21 ) {
+        offset = skipGIFSubBlocks( bytes, offset + 2 );
+      } else {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasGIFTrailer( byte[] bytes, int offset ) {
+    // walks the image and extension blocks up to the trailer
+    int position = offset;
+    while( position < bytes.length ) {
+      int block = u8( bytes, position );
+      if( block == 0x3B ) {
+        return true;
+      } else if( block == 0x2C ) {
+        int flags = u8( bytes, position + 9 );
+        position += 10;
+        if( ( flags & 0x80 ) != 0 ) {
+          position += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+        }
+        int codeSize = u8( bytes, position );
+        if( codeSize < 1 || codeSize > 11 ) {
+          return false;
+        }
+        position = skipGIFSubBlocks( bytes, position + 1 );
+      } else if( block == 0x21 ) {
+        position = skipGIFSubBlocks( bytes, position + 2 );
+      } else {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private static int skipGIFSubBlocks( byte[] bytes, int offset ) {
+    int position = offset;
+    int size = u8( bytes, position );
+    while( size != 0 ) {
+      position += size + 1;
+      size = u8( bytes, position );
+    }
+    return position + 1;
+  }
+
+  private static ImageHeader readBMP( byte[] bytes ) {
+    ImageHeader result = null;
+    int infoHeaderSize = le32( bytes, 14 );
+    int dataOffset = le32( bytes, 10 );
+    if( infoHeaderSize == 12 ) {
+      int width = le16( bytes, 18 );
+      int height = le16( bytes, 20 );
+      int bitCount = le16( bytes, 24 );
+      if(    isSupportedBitCount( bitCount )
+          && hasBMPData( bytes, dataOffset, width, height, bitCount ) )
+      {
+        result = new ImageHeader( SWT.IMAGE_BMP, width, height );
+      }
+    } else if( infoHeaderSize >= 40 ) {
+      int width = le32( bytes, 18 );
+      int height = Math.abs( le32( bytes, 22 ) );
+      int bitCount = le16( bytes, 28 );
+      int compression = le32( bytes, 30 );
+      // no compression, RLE8, RLE4 or bit fields, the decoder does not support JPEG or PNG (4, 5)
+      if( compression == 0 && isSupportedBitCount( bitCount ) ) {
+        if( hasBMPData( bytes, dataOffset, width, height, bitCount ) ) {
+          result = new ImageHeader( SWT.IMAGE_BMP, width, height );
+        }
+      } else if( compression == 1 && bitCount == 8 || compression == 2 && bitCount == 4 ) {
+        int compressedSize = le32( bytes, 34 );
+        if(    dataOffset > 0
+            && compressedSize > 0
+            && ( long )dataOffset + compressedSize <= bytes.length )
+        {
+          result = new ImageHeader( SWT.IMAGE_BMP_RLE, width, height );
+        }
+      } else if( compression == 3 && ( bitCount == 16 || bitCount == 32 ) ) {
+        if( hasBMPData( bytes, dataOffset, width, height, bitCount ) ) {
+          result = new ImageHeader( SWT.IMAGE_BMP, width, height );
+        }
+      }
+    }
+    return result;
+  }
+
+  private static boolean isSupportedBitCount( int bitCount ) {
+    return    bitCount == 1 || bitCount == 4 || bitCount == 8
+           || bitCount == 16 || bitCount == 24 || bitCount == 32;
+  }
+
+  private static boolean hasBMPData( byte[] bytes,
+                                     int dataOffset,
+                                     int width,
+                                     int height,
+                                     int bitCount )
+  {
+    // rows are padded to 4 bytes
+    long rowSize = ( ( long )width * bitCount + 31 ) / 32 * 4;
+    return dataOffset > 0 && dataOffset + rowSize * height <= bytes.length;
+  }
+
+  private static ImageHeader readICO( byte[] bytes ) {
+    // the decoder returns the first icon, icons of 256 pixels and more are left to the decoder
+    ImageHeader result = null;
+    if( le16( bytes, 4 ) > 0 ) {
+      int dataSize = le32( bytes, 6 + 8 );
+      int dataOffset = le32( bytes, 6 + 12 );
+      if(    dataOffset > 0
+          && dataSize > 0
+          && ( long )dataOffset + dataSize <= bytes.length
+          && le32( bytes, dataOffset ) == 40 )
+      {
+        result = new ImageHeader( SWT.IMAGE_ICO, u8( bytes, 6 ), u8( bytes, 7 ) );
+      }
+    }
+    return result;
+  }
+
+  private static ImageHeader readTIFF( byte[] bytes, boolean littleEndian ) {
+    int offset = int32( bytes, 4, littleEndian );
+    int count = int16( bytes, offset, littleEndian );
+    int width = 0;
+    int height = 0;
+    int compression = 1;
+    int stripOffsets = -1;
+    int stripByteCounts = -1;
+    for( int i = 0; i < count; i++ ) {
+      int entry = offset + 2 + i * 12;
+      int tag = int16( bytes, entry, littleEndian );
+      if( tag == TIFF_IMAGE_WIDTH ) {
+        width = readTIFFValue( bytes, entry, 0, littleEndian );
+      } else if( tag == TIFF_IMAGE_LENGTH ) {
+        height = readTIFFValue( bytes, entry, 0, littleEndian );
+      } else if( tag == TIFF_COMPRESSION ) {
+        compression = readTIFFValue( bytes, entry, 0, littleEndian );
+      } else if( tag == TIFF_STRIP_OFFSETS ) {
+        stripOffsets = entry;
+      } else if( tag == TIFF_STRIP_BYTE_COUNTS ) {
+        stripByteCounts = entry;
+      }
+    }
+    // uncompressed, CCITT or PackBits, like the decoder
+    boolean supported = compression >= 1 && compression <= 3 || compression == 32773;
+    return    supported && hasTIFFStrips( bytes, stripOffsets, stripByteCounts, littleEndian )
+            ? new ImageHeader( SWT.IMAGE_TIFF, width, height )
+            : null;
+  }
+
+  private static boolean hasTIFFStrips( byte[] bytes,
+                                        int offsetsEntry,
+                                        int byteCountsEntry,
+                                        boolean littleEndian )
+  {
+    if( offsetsEntry == -1 || byteCountsEntry == -1 ) {
+      return false;
+    }
+    int count = int32( bytes, offsetsEntry + 4, littleEndian );
+    if( count <= 0 || count != int32( bytes, byteCountsEntry + 4, littleEndian ) ) {
+      return false;
+    }
+    for( int i = 0; i < count; i++ ) {
+      long stripOffset = readTIFFValue( bytes, offsetsEntry, i, littleEndian ) & 0xFFFFFFFFL;
+      long stripSize = readTIFFValue( bytes, byteCountsEntry, i, littleEndian ) & 0xFFFFFFFFL;
+      if( stripOffset + stripSize > bytes.length ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int readTIFFValue( byte[] bytes, int entry, int index, boolean littleEndian ) {
+    // values that do not fit into the entry are stored at the offset given in the entry
+    int result = 0;
+    int type = int16( bytes, entry + 2, littleEndian );
+    int count = int32( bytes, entry + 4, littleEndian );
+    if( type == TIFF_SHORT ) {
+      int offset = count > 2 ? int32( bytes, entry + 8, littleEndian ) : entry + 8;
+      result = int16( bytes, offset + index * 2, littleEndian );
+    } else if( type == TIFF_LONG ) {
+      int offset = count > 1 ? int32( bytes, entry + 8, littleEndian ) : entry + 8;
+      result = int32( bytes, offset + index * 4, littleEndian );
+    }
+    return result;
+  }
+
+  private static int u8( byte[] bytes, int offset ) {
+    return bytes[ offset ] & 0xFF;
+  }
+
+  private static int le16( byte[] bytes, int offset ) {
+    return u8( bytes, offset ) | u8( bytes, offset + 1 ) << 8;
+  }
+
+  private static int le32( byte[] bytes, int offset ) {
+    return le16( bytes, offset ) | le16( bytes, offset + 2 ) << 16;
+  }
+
+  private static int be16( byte[] bytes, int offset ) {
+    return u8( bytes, offset ) << 8 | u8( bytes, offset + 1 );
+  }
+
+  private static int be32( byte[] bytes, int offset ) {
+    return be16( bytes, offset ) << 16 | be16( bytes, offset + 2 );
+  }
+
+  private static int int16( byte[] bytes, int offset, boolean littleEndian ) {
+    return littleEndian ? le16( bytes, offset ) : be16( bytes, offset );
+  }
+
+  private static int int32( byte[] bytes, int offset, boolean littleEndian ) {
+    return littleEndian ? le32( bytes, offset ) : be32( bytes, offset );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -46,12 +45,12 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
+    final byte[] bytes = readBytes( stream );
+    final ImageHeader header = readImageHeader( bytes );
+    String path = createGeneratedImagePath( header.type, bytes );
     return cache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( path, bytes, header );
       }
     } );
   }
@@ -69,35 +68,44 @@ public class InternalImageFactory {
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
 
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
-    try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
+  /*
+   * Only the size of an image is needed to create an InternalImage. It is read from the image
+   * header if possible, the pixel data is decoded lazily from the registered resource when the
+   * ImageData is requested.
+   */
+  static ImageHeader readImageHeader( byte[] bytes ) throws SWTException {
+    ImageHeader result = ImageHeader.read( bytes );
+    if( result == null ) {
+      // unknown headers are left to the decoder, which also reports invalid images
+      ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+      result = new ImageHeader( imageData.type, imageData.width, imageData.height );
     }
     return result;
   }
 
+  private static byte[] readBytes( InputStream stream ) {
+    if( stream == null ) {
+      throw new SWTException( SWT.ERROR_IO, "Stream closed" );
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    try {
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+    return outputStream.toByteArray();
+  }
+
   static InputStream createInputStream( ImageData imageData ) {
     ImageLoader imageLoader = new ImageLoader();
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -123,10 +131,18 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    byte[] bytes = readBytes( stream );
+    ImageHeader header = readImageHeader( bytes );
+    String path = createGeneratedImagePath( header.type, bytes );
+    return createInternalImage( path, bytes, header );
+  }
+
+  private static InternalImage createInternalImage( String path,
+                                                    byte[] bytes,
+                                                    ImageHeader header )
+  {
+    RWT.getResourceManager().register( path, new ByteArrayInputStream( bytes ) );
+    return new InternalImage( path, header.width, header.height, false );
   }
 
   private static InternalImage createInternalImage( String path,
@@ -137,16 +153,30 @@ public class InternalImageFactory {
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
-  private static int getOutputFormat( ImageData imageData ) {
-    int result = imageData.type;
-    if( imageData.type == SWT.IMAGE_UNDEFINED ) {
+  private static int getOutputFormat( int type ) {
+    int result = type;
+    if( type == SWT.IMAGE_UNDEFINED ) {
       result = SWT.IMAGE_PNG;
     }
     return result;
   }
 
+  private static int getOutputFormat( ImageData imageData ) {
+    return getOutputFormat( imageData.type );
+  }
+
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return "generated/" + getHash( data ) + getExtension( getOutputFormat( data ) );
+  }
+
+  private static String createGeneratedImagePath( int type, byte[] bytes ) {
+    CRC32 crc32 = new CRC32();
+    crc32.update( bytes );
+    String hash = Long.toHexString( crc32.getValue() );
+    return "generated/" + hash + getExtension( getOutputFormat( type ) );
+  }
+
+  private static String getExtension( int outputFormat ) {
     String extension;
     switch( outputFormat ) {
       case SWT.IMAGE_BMP:
@@ -170,8 +200,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return extension;
   }
 
   /*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -82,7 +82,11 @@ public class ControlRemoteAdapter extends WidgetRemoteAdapter {
   private transient String[] cancelKeys;
 
   public ControlRemoteAdapter( String id ) {
-    super( id );
+    super( id, Control.class );
+  }
+
+  public ControlRemoteAdapter( String id, Class<? extends Control> controlType ) {
+    super( id, controlType );
   }
 
   public void preserveParent( Composite parent ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,4 +42,6 @@ public interface ITreeAdapter {
 
   int getFixedColumns();
   boolean isFixedColumn( TreeColumn column );
+
+  ItemStateCache getItemStateCache();
 }
\ No newline at end of file
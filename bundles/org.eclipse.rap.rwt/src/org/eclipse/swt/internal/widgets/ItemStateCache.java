@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter.PreservedState;
+import org.eclipse.swt.widgets.Item;
+
+
+/**
+ * Remembers the state of items that were cleared on the client, i.e. the values the client still
+ * holds for an item after a <code>clear</code> call. When such an item is materialized again, the
+ * client is asked to restore these values and only the properties that differ are rendered.
+ * <p>
+ * The number of remembered items is bounded, the least recently cleared items are dropped first.
+ * Items without a remembered state are rendered completely, as before. The state of an item is
+ * also dropped when the item is disposed.
+ * </p>
+ */
+public class ItemStateCache {
+
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final int capacity;
+  private final Map<Item, PreservedState> states;
+
+  public ItemStateCache() {
+    this( DEFAULT_CAPACITY );
+  }
+
+  public ItemStateCache( int capacity ) {
+    this.capacity = capacity;
+    states = new LinkedHashMap<>();
+  }
+
+  /**
+   * Remembers the preserved values of the given item, which are the values the client holds at
+   * the time the item is cleared.
+   *
+   * @return the item whose state was dropped to make room for the given item, or
+   *         <code>null</code> if no item was dropped. The client should drop the state of this
+   *         item as well.
+   */
+  public Item put( Item item ) {
+    Item evicted = null;
+    if( !states.containsKey( item ) && !states.isEmpty() && states.size() >= capacity ) {
+      Iterator<Item> iterator = states.keySet().iterator();
+      evicted = iterator.next();
+      iterator.remove();
+    }
+    states.put( item, getRemoteAdapter( item ).getPreservedState() );
+    return evicted;
+  }
+
+  /**
+   * Restores the remembered state of the given item into its remote adapter and removes it from
+   * the cache.
+   *
+   * @return <code>true</code> if a state was remembered for the item, <code>false</code> otherwise
+   */
+  public boolean restore( Item item ) {
+    PreservedState state = states.remove( item );
+    if( state != null ) {
+      getRemoteAdapter( item ).restorePreservedState( state );
+      return true;
+    }
+    return false;
+  }
+
+  public void remove( Item item ) {
+    states.remove( item );
+  }
+
+  public int size() {
+    return states.size();
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Item item ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
+  }
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
+
+
+/**
+ * The result of a layout or size computation together with the input it was computed from.
+ * <p>
+ * The input is described by a key of integers (hints, margins, cached child sizes, layout data
+ * settings) and by the identity of a number of elements (children and their layout data). A
+ * layout may reuse the solution as long as both are unchanged.
+ * </p>
+ */
+public final class LayoutSolution {
+
+  private final int[] key;
+  private final Object[] elements;
+  private final List<Control> controls;
+  private final List<Rectangle> bounds;
+  private Point size;
+
+  public LayoutSolution( int[] key, Object[] elements ) {
+    this.key = key;
+    this.elements = elements;
+    controls = new ArrayList<>();
+    bounds = new ArrayList<>();
+  }
+
+  public boolean matches( int[] key, Object[] elements ) {
+    if( !Arrays.equals( this.key, key ) || this.elements.length != elements.length ) {
+      return false;
+    }
+    for( int i = 0; i < elements.length; i++ ) {
+      if( this.elements[ i ] != elements[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void addBounds( Control control, int x, int y, int width, int height ) {
+    controls.add( control );
+    bounds.add( new Rectangle( x, y, width, height ) );
+  }
+
+  /**
+   * Sets the bounds of all controls to the values recorded with <code>addBounds</code>.
+   */
+  public void applyBounds() {
+    for( int i = 0; i < controls.size(); i++ ) {
+      Control control = controls.get( i );
+      if( !control.isDisposed() ) {
+        Rectangle rectangle = bounds.get( i );
+        control.setBounds( rectangle.x, rectangle.y, rectangle.width, rectangle.height );
+      }
+    }
+  }
+
+  public void setSize( Point size ) {
+    this.size = new Point( size.x, size.y );
+  }
+
+  /**
+   * Returns the computed size or <code>null</code> if no size was recorded.
+   */
+  public Point getSize() {
+    return size == null ? null : new Point( size.x, size.y );
+  }
+
+}
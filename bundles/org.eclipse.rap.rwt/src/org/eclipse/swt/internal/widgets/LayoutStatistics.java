@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
+
+
+/**
+ * Counts the layout passes that are performed while processing the current request. A high
+ * number of layout passes in a single request usually indicates a cascade of relayouts.
+ */
+public class LayoutStatistics {
+
+  private static final String ATTR_INSTANCE = LayoutStatistics.class.getName() + "#instance";
+
+  private int layoutCount;
+  private int reusedSolutionCount;
+  private int recalculationLayoutCount;
+
+  public static LayoutStatistics getInstance() {
+    ServiceStore serviceStore = ContextProvider.getServiceStore();
+    LayoutStatistics result = ( LayoutStatistics )serviceStore.getAttribute( ATTR_INSTANCE );
+    if( result == null ) {
+      result = new LayoutStatistics();
+      serviceStore.setAttribute( ATTR_INSTANCE, result );
+    }
+    return result;
+  }
+
+  /**
+   * Records that a composite has laid out its children.
+   */
+  public static void layoutPerformed() {
+    if( ContextProvider.hasContext() ) {
+      getInstance().layoutCount++;
+    }
+  }
+
+  /**
+   * Records that a layout has reused a previously computed solution instead of solving the
+   * column and row geometry again.
+   */
+  public static void solutionReused() {
+    if( ContextProvider.hasContext() ) {
+      getInstance().reusedSolutionCount++;
+    }
+  }
+
+  LayoutStatistics() {
+    // prevent instantiation from outside
+  }
+
+  /**
+   * Records the number of layout passes that were caused by recalculating the layout after text
+   * size measurements arrived from the client.
+   */
+  public void recalculationPerformed( int layoutCount ) {
+    recalculationLayoutCount += layoutCount;
+  }
+
+  /**
+   * Returns the number of times a composite has laid out its children in the current request.
+   */
+  public int getLayoutCount() {
+    return layoutCount;
+  }
+
+  /**
+   * Returns the number of layout or size computations in the current request that were answered
+   * from a cached solution.
+   */
+  public int getReusedSolutionCount() {
+    return reusedSolutionCount;
+  }
+
+  /**
+   * Returns the number of times a composite has laid out its children in the current request
+   * because of text size measurements that arrived from the client.
+   */
+  public int getRecalculationLayoutCount() {
+    return recalculationLayoutCount;
+  }
+
+}
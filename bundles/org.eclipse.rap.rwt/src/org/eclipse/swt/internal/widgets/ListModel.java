@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,15 +22,21 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public final class ListModel implements SerializableCompatibility {
 
   private static final int[] EMPTY_SELECTION = new int[ 0 ];
+  private static final int MAX_LOGGED_CHANGES = 16;
 
   private final boolean single;
   private final java.util.List<String> items;
   private int[] selection;
+  private final java.util.List<Change> changes;
+  private int revision;
+  private int firstLoggedRevision;
+  private int markedRevision;
 
   public ListModel( boolean single ) {
     this.single = single;
     items = new ArrayList<>();
     selection = EMPTY_SELECTION;
+    changes = new ArrayList<>();
   }
 
   ///////////////////////////////
@@ -177,6 +183,7 @@ public final class ListModel implements SerializableCompatibility {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
     items.add( string );
+    logChange( items.size() - 1, 0, string );
   }
 
   public void add( String string, int index ) {
@@ -187,12 +194,14 @@ public final class ListModel implements SerializableCompatibility {
       checkIndex( index );
     }
     items.add( index, string );
+    logChange( index, 0, string );
     adjustSelectionIdicesAfterAdd( index );
   }
 
   public void remove( int index ) {
     checkIndex( index );
     items.remove( index );
+    logChange( index, 1, null );
     adjustSelectionIdicesAfterRemove( index );
   }
 
@@ -230,6 +239,9 @@ public final class ListModel implements SerializableCompatibility {
   }
 
   public void removeAll() {
+    if( !items.isEmpty() ) {
+      logChange( 0, items.size(), null );
+    }
     items.clear();
     deselectAll();
   }
@@ -240,6 +252,7 @@ public final class ListModel implements SerializableCompatibility {
     }
     checkIndex( index );
     items.set( index, string );
+    logChange( index, 1, string );
   }
 
   public void setItems( String[] items ) {
@@ -251,8 +264,15 @@ public final class ListModel implements SerializableCompatibility {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
     }
-    this.items.clear();
-    this.items.addAll( Arrays.asList( items ) );
+    List<String> newItems = Arrays.asList( items );
+    // viewers set all items on every refresh, keep the revision if nothing changed
+    if( !this.items.equals( newItems ) ) {
+      this.items.clear();
+      this.items.addAll( newItems );
+      revision++;
+      changes.clear();
+      firstLoggedRevision = revision;
+    }
     deselectAll();
   }
 
@@ -282,9 +302,117 @@ public final class ListModel implements SerializableCompatibility {
     return result;
   }
 
+  ///////////////////////////////////
+  // Methods to track changes of items
+
+  /**
+   * Returns the current revision of the items, which is incremented with every modification. The
+   * changes made after the returned revision remain available through
+   * <code>getChangesSince()</code> as long as they fit into the change log.
+   */
+  public int markRevision() {
+    markedRevision = revision;
+    return revision;
+  }
+
+  public int getRevision() {
+    return revision;
+  }
+
+  /**
+   * Returns the changes that lead from the given revision to the current items, in the order in
+   * which they have to be applied, or <code>null</code> if the changes are no longer known.
+   * <code>setItems()</code> always discards the changes made before.
+   */
+  public java.util.List<Change> getChangesSince( int revision ) {
+    java.util.List<Change> result = null;
+    if( revision >= firstLoggedRevision && revision <= this.revision ) {
+      result = new ArrayList<>();
+      for( Change change : changes ) {
+        if( change.startRevision >= revision ) {
+          result.add( change );
+        } else if( change.endRevision > revision ) {
+          return null;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A contiguous range of items that was replaced by the inserted items.
+   */
+  public static final class Change implements SerializableCompatibility {
+
+    final int startRevision;
+    int endRevision;
+    int index;
+    int removeCount;
+    final java.util.List<String> inserted;
+
+    Change( int startRevision, int index, int removeCount ) {
+      this.startRevision = startRevision;
+      this.index = index;
+      this.removeCount = removeCount;
+      inserted = new ArrayList<>();
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public int getRemoveCount() {
+      return removeCount;
+    }
+
+    public String[] getInsertedItems() {
+      return inserted.toArray( new String[ inserted.size() ] );
+    }
+
+    boolean merge( int index, int removeCount, String item ) {
+      boolean result = false;
+      if( removeCount == 0 && index == this.index + inserted.size() ) {
+        inserted.add( item );
+        result = true;
+      } else if( item == null && inserted.isEmpty() ) {
+        if( index == this.index ) {
+          this.removeCount += removeCount;
+          result = true;
+        } else if( index + removeCount == this.index ) {
+          this.index = index;
+          this.removeCount += removeCount;
+          result = true;
+        }
+      }
+      return result;
+    }
+
+  }
+
   //////////////////
   // Helping methods
 
+  private void logChange( int index, int removeCount, String item ) {
+    int startRevision = revision++;
+    Change last = changes.isEmpty() ? null : changes.get( changes.size() - 1 );
+    // changes must not be merged across a revision that has been handed out
+    boolean merged = last != null
+                  && last.startRevision >= markedRevision
+                  && last.merge( index, removeCount, item );
+    if( !merged ) {
+      if( changes.size() == MAX_LOGGED_CHANGES ) {
+        changes.remove( 0 );
+        firstLoggedRevision = changes.get( 0 ).startRevision;
+      }
+      last = new Change( startRevision, index, removeCount );
+      if( item != null ) {
+        last.inserted.add( item );
+      }
+      changes.add( last );
+    }
+    last.endRevision = revision;
+  }
+
   private void adjustSelectionIdicesAfterRemove( int indexToRemove ) {
     int counter = 0;
     int[] newSelection = new int[ selection.length ];
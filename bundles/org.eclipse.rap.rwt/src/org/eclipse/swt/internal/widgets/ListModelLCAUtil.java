@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+
+import java.util.List;
+
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
+import org.eclipse.rap.rwt.remote.RemoteObject;
+import org.eclipse.swt.internal.widgets.ListModel.Change;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Renders the items of a widget that is backed by a {@link ListModel}. Instead of the items, only
+ * the revision of the model is preserved. Changes are rendered as <code>removeItems</code> and
+ * <code>insertItems</code> calls, unless they are no longer known or insert more than half of the
+ * items, in which case the <code>items</code> property is set.
+ */
+public class ListModelLCAUtil {
+
+  private static final String PROP_ITEMS = "items";
+  private static final String METHOD_INSERT_ITEMS = "insertItems";
+  private static final String METHOD_REMOVE_ITEMS = "removeItems";
+  private static final String PARAM_INDEX = "index";
+  private static final String PARAM_COUNT = "count";
+  private static final String PARAM_ITEMS = "items";
+
+  private ListModelLCAUtil() {
+    // prevent instantiation
+  }
+
+  public static void preserveItems( Widget widget ) {
+    preserveProperty( widget, PROP_ITEMS, Integer.valueOf( getModel( widget ).markRevision() ) );
+  }
+
+  public static boolean hasItemsChanged( Widget widget ) {
+    ListModel model = getModel( widget );
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter.isInitialized() ) {
+      Object preserved = adapter.getPreserved( PROP_ITEMS );
+      return !Integer.valueOf( model.getRevision() ).equals( preserved );
+    }
+    return model.getItemCount() > 0;
+  }
+
+  public static void renderItems( Widget widget ) {
+    if( hasItemsChanged( widget ) ) {
+      ListModel model = getModel( widget );
+      RemoteObject remoteObject = getRemoteObject( widget );
+      List<Change> changes = getChanges( widget, model );
+      if( changes == null ) {
+        remoteObject.set( PROP_ITEMS, createJsonArray( model.getItems() ) );
+      } else {
+        for( Change change : changes ) {
+          renderChange( remoteObject, change );
+        }
+      }
+    }
+  }
+
+  private static List<Change> getChanges( Widget widget, ListModel model ) {
+    List<Change> result = null;
+    RemoteAdapter adapter = getAdapter( widget );
+    Object preserved = adapter.getPreserved( PROP_ITEMS );
+    if( adapter.isInitialized() && preserved instanceof Integer ) {
+      result = model.getChangesSince( ( ( Integer )preserved ).intValue() );
+    }
+    if( result != null ) {
+      int insertedItems = 0;
+      for( Change change : result ) {
+        insertedItems += change.inserted.size();
+      }
+      if( insertedItems * 2 > model.getItemCount() ) {
+        result = null;
+      }
+    }
+    return result;
+  }
+
+  private static void renderChange( RemoteObject remoteObject, Change change ) {
+    if( change.getRemoveCount() > 0 ) {
+      JsonObject parameters = new JsonObject()
+        .add( PARAM_INDEX, change.getIndex() )
+        .add( PARAM_COUNT, change.getRemoveCount() );
+      remoteObject.call( METHOD_REMOVE_ITEMS, parameters );
+    }
+    if( !change.inserted.isEmpty() ) {
+      JsonObject parameters = new JsonObject()
+        .add( PARAM_INDEX, change.getIndex() )
+        .add( PARAM_ITEMS, createJsonArray( change.getInsertedItems() ) );
+      remoteObject.call( METHOD_INSERT_ITEMS, parameters );
+    }
+  }
+
+  private static ListModel getModel( Widget widget ) {
+    return widget.getAdapter( ListModel.class );
+  }
+
+}
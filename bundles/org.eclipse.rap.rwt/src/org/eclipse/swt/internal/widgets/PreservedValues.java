@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Holds the values that are preserved for a widget during a request. Property names are mapped
+ * to slots by a table that is shared by all widgets of the same type. Integer and boolean values
+ * are stored in a primitive array, all other values in an object array.
+ * <p>
+ * A slot is only valid when it has been written in the current generation. Clearing the values
+ * increments the generation instead of resetting every slot. The slots that hold an object
+ * reference are recorded when they are written, and only these are released on clear.
+ * </p>
+ */
+final class PreservedValues {
+
+  private static final byte OBJECT = 0;
+  private static final byte INT = 1;
+  private static final byte BOOLEAN = 2;
+
+  private static final ClassValue<SlotTable> SLOT_TABLES = new ClassValue<SlotTable>() {
+    @Override
+    protected SlotTable computeValue( Class<?> type ) {
+      return new SlotTable();
+    }
+  };
+
+  private final SlotTable slotTable;
+  private int generation;
+  private int[] generations;
+  private byte[] kinds;
+  private int[] primitives;
+  private Object[] objects;
+  private int[] referenceSlots;
+  private int referenceCount;
+
+  PreservedValues( Class<?> type ) {
+    slotTable = SLOT_TABLES.get( type );
+    generation = 1;
+    generations = new int[ 0 ];
+    kinds = new byte[ 0 ];
+    primitives = new int[ 0 ];
+    objects = new Object[ 0 ];
+    referenceSlots = new int[ 0 ];
+  }
+
+  private PreservedValues( PreservedValues values ) {
+    slotTable = values.slotTable;
+    generation = values.generation;
+    generations = values.generations.clone();
+    kinds = values.kinds.clone();
+    primitives = values.primitives.clone();
+    objects = values.objects.clone();
+    referenceSlots = Arrays.copyOf( values.referenceSlots, values.referenceCount );
+    referenceCount = values.referenceCount;
+  }
+
+  void put( String name, Object value ) {
+    if( value instanceof Integer ) {
+      putInt( name, ( ( Integer )value ).intValue() );
+    } else if( value instanceof Boolean ) {
+      putBoolean( name, ( ( Boolean )value ).booleanValue() );
+    } else {
+      int slot = prepareSlot( name, OBJECT );
+      primitives[ slot ] = 0;
+      setObject( slot, value );
+    }
+  }
+
+  void putInt( String name, int value ) {
+    int slot = prepareSlot( name, INT );
+    primitives[ slot ] = value;
+    objects[ slot ] = null;
+  }
+
+  void putBoolean( String name, boolean value ) {
+    int slot = prepareSlot( name, BOOLEAN );
+    primitives[ slot ] = value ? 1 : 0;
+    objects[ slot ] = null;
+  }
+
+  Object get( String name ) {
+    Object result = null;
+    int slot = findValidSlot( name );
+    if( slot != -1 ) {
+      if( kinds[ slot ] == INT ) {
+        result = Integer.valueOf( primitives[ slot ] );
+      } else if( kinds[ slot ] == BOOLEAN ) {
+        result = Boolean.valueOf( primitives[ slot ] != 0 );
+      } else {
+        result = objects[ slot ];
+      }
+    }
+    return result;
+  }
+
+  boolean contains( String name ) {
+    return findValidSlot( name ) != -1;
+  }
+
+  /*
+   * Returns whether an int value equal to the given value is preserved, without boxing it.
+   */
+  boolean containsInt( String name, int value ) {
+    int slot = findValidSlot( name );
+    if( slot != -1 && kinds[ slot ] == INT ) {
+      return primitives[ slot ] == value;
+    }
+    return slot != -1 && Integer.valueOf( value ).equals( objects[ slot ] );
+  }
+
+  /*
+   * Returns whether a boolean value equal to the given value is preserved.
+   */
+  boolean containsBoolean( String name, boolean value ) {
+    int slot = findValidSlot( name );
+    if( slot != -1 && kinds[ slot ] == BOOLEAN ) {
+      return ( primitives[ slot ] != 0 ) == value;
+    }
+    return slot != -1 && Boolean.valueOf( value ).equals( objects[ slot ] );
+  }
+
+  void clear() {
+    for( int i = 0; i < referenceCount; i++ ) {
+      objects[ referenceSlots[ i ] ] = null;
+    }
+    referenceCount = 0;
+    generation++;
+    if( generation == 0 ) {
+      Arrays.fill( generations, 0 );
+      generation = 1;
+    }
+  }
+
+  PreservedValues copy() {
+    return new PreservedValues( this );
+  }
+
+  /*
+   * Copies the values of the given instance that are not preserved in this instance.
+   */
+  void merge( PreservedValues values ) {
+    int length = Math.min( values.generations.length, slotTable.size() );
+    for( int slot = 0; slot < length; slot++ ) {
+      if( values.generations[ slot ] == values.generation && !isValid( slot ) ) {
+        ensureCapacity( slot + 1 );
+        generations[ slot ] = generation;
+        kinds[ slot ] = values.kinds[ slot ];
+        primitives[ slot ] = values.primitives[ slot ];
+        setObject( slot, values.objects[ slot ] );
+      }
+    }
+  }
+
+  private int prepareSlot( String name, byte kind ) {
+    int slot = slotTable.getSlot( name );
+    ensureCapacity( slot + 1 );
+    generations[ slot ] = generation;
+    kinds[ slot ] = kind;
+    return slot;
+  }
+
+  private void setObject( int slot, Object value ) {
+    if( value != null && objects[ slot ] == null ) {
+      if( referenceCount == referenceSlots.length ) {
+        referenceSlots = Arrays.copyOf( referenceSlots, Math.max( 4, referenceCount * 2 ) );
+      }
+      referenceSlots[ referenceCount++ ] = slot;
+    }
+    objects[ slot ] = value;
+  }
+
+  private int findValidSlot( String name ) {
+    int slot = slotTable.findSlot( name );
+    return slot != -1 && isValid( slot ) ? slot : -1;
+  }
+
+  private boolean isValid( int slot ) {
+    return slot < generations.length && generations[ slot ] == generation;
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( generations.length < capacity ) {
+      int length = Math.max( capacity, slotTable.size() );
+      generations = Arrays.copyOf( generations, length );
+      kinds = Arrays.copyOf( kinds, length );
+      primitives = Arrays.copyOf( primitives, length );
+      objects = Arrays.copyOf( objects, length );
+    }
+  }
+
+  private static final class SlotTable {
+
+    private final ConcurrentMap<String, Integer> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+
+    int getSlot( String name ) {
+      Integer slot = slots.get( name );
+      if( slot == null ) {
+        synchronized( this ) {
+          slot = slots.get( name );
+          if( slot == null ) {
+            slot = Integer.valueOf( count.get() );
+            slots.put( name, slot );
+            count.incrementAndGet();
+          }
+        }
+      }
+      return slot.intValue();
+    }
+
+    int findSlot( String name ) {
+      Integer slot = slots.get( name );
+      return slot == null ? -1 : slot.intValue();
+    }
+
+    int size() {
+      return count.get();
+    }
+
+  }
+
+}
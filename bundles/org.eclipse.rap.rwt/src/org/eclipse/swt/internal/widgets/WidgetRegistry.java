@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.widgets.Widget;
+
+
+/**
+ * Maps the ids created by the {@link IdGenerator} back to the widgets of a UI session. Only ids
+ * of the form <code>w&lt;n&gt;</code> are registered, the numeric part is used as key of an open
+ * addressing table. Widgets are held through weak references and are removed when disposed.
+ */
+public final class WidgetRegistry implements SerializableCompatibility {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private transient int[] keys;
+  private transient WeakReference<Widget>[] values;
+  private transient int size;
+
+  WidgetRegistry() {
+    // prevent instantiation from outside
+    init( INITIAL_CAPACITY );
+  }
+
+  public static WidgetRegistry getInstance( UISession uiSession ) {
+    return SingletonUtil.getUniqueInstance( WidgetRegistry.class, uiSession );
+  }
+
+  public synchronized void register( String id, Widget widget ) {
+    int key = toKey( id );
+    if( key > 0 ) {
+      if( ( size + 1 ) * 2 > keys.length ) {
+        rehash();
+      }
+      int index = indexOf( key );
+      if( keys[ index ] == 0 ) {
+        keys[ index ] = key;
+        size++;
+      }
+      values[ index ] = new WeakReference<>( widget );
+    }
+  }
+
+  public synchronized void remove( String id ) {
+    int key = toKey( id );
+    if( key > 0 ) {
+      int index = indexOf( key );
+      if( keys[ index ] != 0 ) {
+        delete( index );
+      }
+    }
+  }
+
+  /**
+   * Returns the widget that is registered with the given id or <code>null</code> if there is no
+   * such widget.
+   */
+  public synchronized Widget find( String id ) {
+    Widget result = null;
+    int key = toKey( id );
+    if( key > 0 ) {
+      int index = indexOf( key );
+      if( keys[ index ] != 0 ) {
+        result = values[ index ].get();
+      }
+    }
+    return result;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private int indexOf( int key ) {
+    int mask = keys.length - 1;
+    int index = hash( key ) & mask;
+    while( keys[ index ] != 0 && keys[ index ] != key ) {
+      index = ( index + 1 ) & mask;
+    }
+    return index;
+  }
+
+  private void delete( int index ) {
+    // shift the following entries of the probe sequence back instead of leaving a tombstone
+    int mask = keys.length - 1;
+    int gap = index;
+    int next = ( gap + 1 ) & mask;
+    while( keys[ next ] != 0 ) {
+      int home = hash( keys[ next ] ) & mask;
+      if( ( ( next - home ) & mask ) >= ( ( next - gap ) & mask ) ) {
+        keys[ gap ] = keys[ next ];
+        values[ gap ] = values[ next ];
+        gap = next;
+      }
+      next = ( next + 1 ) & mask;
+    }
+    keys[ gap ] = 0;
+    values[ gap ] = null;
+    size--;
+  }
+
+  private void rehash() {
+    int[] oldKeys = keys;
+    WeakReference<Widget>[] oldValues = values;
+    int live = 0;
+    for( int i = 0; i < oldKeys.length; i++ ) {
+      if( oldKeys[ i ] != 0 && oldValues[ i ].get() != null ) {
+        live++;
+      }
+    }
+    // entries of collected widgets are dropped, grow only if the live entries need the space
+    int capacity = oldKeys.length;
+    while( ( live + 1 ) * 2 > capacity ) {
+      capacity *= 2;
+    }
+    init( capacity );
+    for( int i = 0; i < oldKeys.length; i++ ) {
+      if( oldKeys[ i ] != 0 && oldValues[ i ].get() != null ) {
+        int index = indexOf( oldKeys[ i ] );
+        keys[ index ] = oldKeys[ i ];
+        values[ index ] = oldValues[ i ];
+        size++;
+      }
+    }
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private void init( int capacity ) {
+    keys = new int[ capacity ];
+    values = new WeakReference[ capacity ];
+    size = 0;
+  }
+
+  private static int hash( int key ) {
+    int result = key * 0x9E3779B9;
+    return result ^ ( result >>> 16 );
+  }
+
+  private static int toKey( String id ) {
+    int result = 0;
+    int length = id == null ? 0 : id.length();
+    if( length > 1 && length <= 10 && id.charAt( 0 ) == 'w' ) {
+      for( int i = 1; i < length && result >= 0; i++ ) {
+        char ch = id.charAt( i );
+        result = ch >= '0' && ch <= '9' ? result * 10 + ch - '0' : -1;
+      }
+    }
+    return result;
+  }
+
+  private synchronized void writeObject( ObjectOutputStream stream ) throws IOException {
+    stream.defaultWriteObject();
+    // hold the widgets strongly, so that none is collected between counting and writing them
+    List<Widget> widgets = new ArrayList<>( size );
+    int[] widgetKeys = new int[ size ];
+    for( int i = 0; i < keys.length; i++ ) {
+      Widget widget = keys[ i ] != 0 ? values[ i ].get() : null;
+      if( widget != null ) {
+        widgetKeys[ widgets.size() ] = keys[ i ];
+        widgets.add( widget );
+      }
+    }
+    stream.writeInt( widgets.size() );
+    for( int i = 0; i < widgets.size(); i++ ) {
+      stream.writeInt( widgetKeys[ i ] );
+      stream.writeObject( widgets.get( i ) );
+    }
+  }
+
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    int count = stream.readInt();
+    int capacity = INITIAL_CAPACITY;
+    while( ( count + 1 ) * 2 > capacity ) {
+      capacity *= 2;
+    }
+    init( capacity );
+    for( int i = 0; i < count; i++ ) {
+      int key = stream.readInt();
+      Widget widget = ( Widget )stream.readObject();
+      int index = indexOf( key );
+      keys[ index ] = key;
+      values[ index ] = new WeakReference<>( widget );
+      size++;
+    }
+  }
+
+}
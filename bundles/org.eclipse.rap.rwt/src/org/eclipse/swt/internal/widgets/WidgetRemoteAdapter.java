@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
@@ -30,22 +27,32 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private static final int VARIANT = 3;
 
   private final String id;
+  private final Class<?> widgetType;
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PreservedValues preservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
 
   public WidgetRemoteAdapter( String id ) {
+    this( id, Widget.class );
+  }
+
+  /**
+   * Creates an adapter for a widget of the given type. The slots of the preserved properties are
+   * shared by all widgets of the same type.
+   */
+  public WidgetRemoteAdapter( String id, Class<? extends Widget> widgetType ) {
     this.id = id;
+    this.widgetType = widgetType;
     initialize();
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    preservedValues = new PreservedValues( widgetType );
   }
 
   @Override
@@ -76,11 +83,42 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     preservedValues.put( propertyName, value );
   }
 
+  public void preserve( String propertyName, int value ) {
+    preservedValues.putInt( propertyName, value );
+  }
+
+  public void preserve( String propertyName, boolean value ) {
+    preservedValues.putBoolean( propertyName, value );
+  }
+
   @Override
   public Object getPreserved( String propertyName ) {
     return preservedValues.get( propertyName );
   }
 
+  /**
+   * Returns <code>true</code> if a value has been preserved for the property.
+   */
+  public boolean isPreserved( String propertyName ) {
+    return preservedValues.contains( propertyName );
+  }
+
+  /**
+   * Returns <code>true</code> if an int value equal to the given value has been preserved for
+   * the property.
+   */
+  public boolean isPreserved( String propertyName, int value ) {
+    return preservedValues.containsInt( propertyName, value );
+  }
+
+  /**
+   * Returns <code>true</code> if a boolean value equal to the given value has been preserved for
+   * the property.
+   */
+  public boolean isPreserved( String propertyName, boolean value ) {
+    return preservedValues.containsBoolean( propertyName, value );
+  }
+
   public void preserveListeners( long eventList ) {
     markPreserved( LISTENERS );
     preservedListeners = eventList;
@@ -128,6 +166,28 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     variant = null;
   }
 
+  /**
+   * Returns a copy of the values that are currently preserved. Used to remember the state a
+   * client holds for a widget across requests.
+   */
+  public PreservedState getPreservedState() {
+    return new PreservedState( preserved, preservedValues.copy(), data, variant );
+  }
+
+  /**
+   * Merges a previously obtained state into the preserved values. Values that have already been
+   * preserved in the current request take precedence.
+   */
+  public void restorePreservedState( PreservedState state ) {
+    preservedValues.merge( state.values );
+    if( !hasPreserved( DATA ) && ( state.preserved & ( 1 << DATA ) ) != 0 ) {
+      preserveData( state.data );
+    }
+    if( !hasPreserved( VARIANT ) && ( state.preserved & ( 1 << VARIANT ) ) != 0 ) {
+      preserveVariant( state.variant );
+    }
+  }
+
   protected void markPreserved( int index ) {
     preserved |= ( 1 << index );
   }
@@ -171,4 +231,20 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return this;
   }
 
+  public static final class PreservedState {
+
+    private final int preserved;
+    private final PreservedValues values;
+    private final Object[] data;
+    private final String variant;
+
+    PreservedState( int preserved, PreservedValues values, Object[] data, String variant ) {
+      this.preserved = preserved;
+      this.values = values;
+      this.data = data;
+      this.variant = variant;
+    }
+
+  }
+
 }
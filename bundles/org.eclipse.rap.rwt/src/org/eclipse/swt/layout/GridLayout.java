@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,8 @@ import org.eclipse.rap.rwt.theme.ControlThemeAdapter;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.LayoutSolution;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Layout;
@@ -134,6 +136,11 @@ public final class GridLayout extends Layout {
    * The default value is 5.
    */
   public int verticalSpacing = 5;
+
+  // RAP: Solutions of the last layout and size computation, reused as long as neither the
+  //      children nor their cached sizes and layout data change
+  private transient LayoutSolution layoutSolution;
+  private transient LayoutSolution sizeSolution;
  
 /**
  * Constructs a new instance of this class
@@ -166,6 +173,8 @@ protected Point computeSize (Composite composite, int wHint, int hHint, boolean
 protected boolean flushCache (Control control) {
   Object data = control.getLayoutData ();
   if (data != null) ((GridData) data).flushCache ();
+  // RAP: the solutions depend on the cached size of the control
+  layoutSolution = sizeSolution = null;
   return true;
 }
 
@@ -233,6 +242,18 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
     }
   }
 
+  // RAP: reuse the previous solution if the children, their cached sizes and layout data are
+  //      unchanged, flushCache always solves again
+  int [] key = createSolutionKey (children, count, x, y, width, height);
+  Object [] elements = createSolutionElements (children, count);
+  LayoutSolution solution = move ? layoutSolution : sizeSolution;
+  if (!flushCache && solution != null && solution.matches (key, elements)) {
+    LayoutStatistics.solutionReused ();
+    if (move) solution.applyBounds ();
+    return solution.getSize ();
+  }
+  solution = new LayoutSolution (key, elements);
+
   /* Build the grid */
   int row = 0, column = 0, rowCount = 0, columnCount = numColumns;
   Control [][] grid = new Control [4] [columnCount];
@@ -687,6 +708,7 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
           Control child = grid [i][j];
           if (child != null) {
             child.setBounds (childX, childY, childWidth, childHeight);
+            solution.addBounds (child, childX, childY, childWidth, childHeight);
           }
         }
         gridX += widths [j] + horizontalSpacing;
@@ -710,7 +732,63 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
   }
   totalDefaultWidth += horizontalSpacing * (columnCount - 1) + marginLeft + marginWidth * 2 + marginRight;
   totalDefaultHeight += verticalSpacing * (rowCount - 1) + marginTop + marginHeight * 2 + marginBottom;
-  return new Point (totalDefaultWidth, totalDefaultHeight);
+  Point result = new Point (totalDefaultWidth, totalDefaultHeight);
+  // RAP: remember the solution for subsequent calls with the same input
+  solution.setSize (result);
+  if (move) {
+    layoutSolution = solution;
+  } else {
+    sizeSolution = solution;
+  }
+  return result;
+}
+
+// RAP: everything the solution of layout() depends on besides the identity of the children
+int [] createSolutionKey (Control [] children, int count, int x, int y, int width, int height) {
+  int [] key = new int [14 + count * 14];
+  int index = 0;
+  key [index++] = x;
+  key [index++] = y;
+  key [index++] = width;
+  key [index++] = height;
+  key [index++] = numColumns;
+  key [index++] = makeColumnsEqualWidth ? 1 : 0;
+  key [index++] = marginWidth;
+  key [index++] = marginHeight;
+  key [index++] = marginLeft;
+  key [index++] = marginTop;
+  key [index++] = marginRight;
+  key [index++] = marginBottom;
+  key [index++] = horizontalSpacing;
+  key [index++] = verticalSpacing;
+  for (int i=0; i<count; i++) {
+    GridData data = (GridData) children [i].getLayoutData ();
+    key [index++] = data.cacheWidth;
+    key [index++] = data.cacheHeight;
+    key [index++] = data.widthHint;
+    key [index++] = data.heightHint;
+    key [index++] = data.horizontalSpan;
+    key [index++] = data.verticalSpan;
+    key [index++] = data.horizontalAlignment;
+    key [index++] = data.verticalAlignment;
+    key [index++] = data.horizontalIndent;
+    key [index++] = data.verticalIndent;
+    key [index++] = data.minimumWidth;
+    key [index++] = data.minimumHeight;
+    key [index++] = data.grabExcessHorizontalSpace ? 1 : 0;
+    key [index++] = data.grabExcessVerticalSpace ? 1 : 0;
+  }
+  return key;
+}
+
+// RAP: the children and their layout data, compared by identity
+Object [] createSolutionElements (Control [] children, int count) {
+  Object [] elements = new Object [count * 2];
+  for (int i=0; i<count; i++) {
+    elements [i * 2] = children [i];
+    elements [i * 2 + 1] = children [i].getLayoutData ();
+  }
+  return elements;
 }
 
 String getName () {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.List;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementScope;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Point;
@@ -24,6 +25,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.ICompositeAdapter;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
 import org.eclipse.swt.internal.widgets.compositekit.CompositeLCA;
 
 
@@ -566,7 +568,13 @@ public class Composite extends Scrollable {
       boolean changed = hasState( LAYOUT_CHANGED );
       removeState( LAYOUT_NEEDED | LAYOUT_CHANGED );
 // if (resize) setResizeChildren (false);
-      layout.layout( this, changed );
+      LayoutStatistics.layoutPerformed();
+      Control previous = MeasurementScope.enter( this );
+      try {
+        layout.layout( this, changed );
+      } finally {
+        MeasurementScope.exit( previous );
+      }
 // if (resize) setResizeChildren (true);
     }
     if( all ) {
@@ -590,7 +598,12 @@ public class Composite extends Scrollable {
       if( wHint == SWT.DEFAULT || hHint == SWT.DEFAULT ) {
         hasChanged |= hasState( LAYOUT_CHANGED );
         removeState( LAYOUT_CHANGED );
-        size = layout.computeSize( this, wHint, hHint, hasChanged );
+        Control previous = MeasurementScope.enter( this );
+        try {
+          size = layout.computeSize( this, wHint, hHint, hasChanged );
+        } finally {
+          MeasurementScope.exit( previous );
+        }
       } else {
         size = new Point( wHint, hHint );
       }
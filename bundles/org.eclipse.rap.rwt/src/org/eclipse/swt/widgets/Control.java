@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,8 +19,10 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementScope;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
+import org.eclipse.rap.rwt.internal.util.EventPolicyUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.rap.rwt.theme.ControlThemeAdapter;
 import org.eclipse.swt.SWT;
@@ -1223,7 +1225,12 @@ public abstract class Control extends Widget implements Drawable {
    */
   public void pack( boolean changed ) {
     checkWidget();
-    setSize( computeSize( SWT.DEFAULT, SWT.DEFAULT, changed ) );
+    Control previous = MeasurementScope.enter( this );
+    try {
+      setSize( computeSize( SWT.DEFAULT, SWT.DEFAULT, changed ) );
+    } finally {
+      MeasurementScope.exit( previous );
+    }
     packed = true;
   }
 
@@ -1587,7 +1594,7 @@ public abstract class Control extends Widget implements Drawable {
 
   @Override
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id );
+    ControlRemoteAdapter remoteAdapter = new ControlRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
@@ -2521,6 +2528,10 @@ public abstract class Control extends Widget implements Drawable {
       }
       ActiveKeysUtil.preserveCancelKeys( this );
     }
+    if( EventPolicyUtil.isEventPolicyKey( key ) ) {
+      EventPolicyUtil.checkEventPolicy( key, value );
+      EventPolicyUtil.preserveEventPolicy( this );
+    }
     if( RWT.CUSTOM_VARIANT.equals( key ) ) {
       bufferedPadding = null;
     }
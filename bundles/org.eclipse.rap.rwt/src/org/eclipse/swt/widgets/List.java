@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -134,6 +134,9 @@ public class List extends Scrollable {
       }
       return ( T )listAdapter;
     }
+    if( adapter == ListModel.class ) {
+      return ( T )model;
+    }
     if( adapter == WidgetLCA.class ) {
       return ( T )ListLCA.INSTANCE;
     }
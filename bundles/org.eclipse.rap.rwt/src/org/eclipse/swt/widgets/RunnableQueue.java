@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * A multi-producer single-consumer FIFO queue of <code>RunnableLock</code>s.
+ * <p>
+ * Producers (any thread that calls <code>asyncExec</code> or <code>syncExec</code>) never block,
+ * they append a node by atomically swapping the tail. The consumer side (<code>poll</code>) must
+ * not be called concurrently, callers are responsible to serialize access to it.
+ * </p>
+ * <p>
+ * The linked nodes are not serialized as an object graph. Instead, the pending locks are written
+ * as a flat sequence so that long queues do not exhaust the stack during session failover.
+ * </p>
+ */
+class RunnableQueue implements SerializableCompatibility {
+
+  private transient AtomicReference<Node> tail;
+  private transient AtomicInteger size;
+  private transient Node head;
+
+  RunnableQueue() {
+    initialize();
+  }
+
+  /**
+   * Appends the given lock to the end of the queue. May be called from any thread.
+   *
+   * @return the size of the queue including the added lock
+   */
+  int offer( RunnableLock lock ) {
+    Node node = new Node( lock );
+    // reserve before linking, so that size never falls below the number of reachable nodes
+    int result = size.incrementAndGet();
+    Node previous = tail.getAndSet( node );
+    previous.next = node;
+    return result;
+  }
+
+  /**
+   * Removes the first lock from the queue. Must only be called by one thread at a time.
+   *
+   * @return the first lock or <code>null</code> if the queue is empty
+   */
+  RunnableLock poll() {
+    Node next = head.next;
+    while( next == null ) {
+      if( tail.get() == head ) {
+        return null;
+      }
+      // a producer has swapped the tail but not yet linked its node
+      Thread.yield();
+      next = head.next;
+    }
+    head = next;
+    RunnableLock result = next.lock;
+    next.lock = null;
+    size.decrementAndGet();
+    return result;
+  }
+
+  /**
+   * Returns the number of locks in the queue. Locks that are concurrently being added may already
+   * be included.
+   */
+  int size() {
+    return size.get();
+  }
+
+  private void initialize() {
+    head = new Node( null );
+    tail = new AtomicReference<>( head );
+    size = new AtomicInteger();
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    stream.defaultWriteObject();
+    Node node = head.next;
+    while( node != null ) {
+      if( node.lock != null ) {
+        stream.writeObject( node.lock );
+      }
+      node = node.next;
+    }
+    stream.writeObject( null );
+  }
+
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    initialize();
+    RunnableLock lock = ( RunnableLock )stream.readObject();
+    while( lock != null ) {
+      offer( lock );
+      lock = ( RunnableLock )stream.readObject();
+    }
+  }
+
+  private static final class Node {
+
+    volatile Node next;
+    RunnableLock lock;
+
+    Node( RunnableLock lock ) {
+      this.lock = lock;
+    }
+
+  }
+
+}
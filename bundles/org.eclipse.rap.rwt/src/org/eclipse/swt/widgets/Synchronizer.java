@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.swt.widgets;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -44,13 +45,16 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
+// RAP: producers enqueue without locking, messageLock only guards the consumer side and the
+//      server push notifications on empty/non-empty transitions
+//	int messageCount;
+//	RunnableLock [] messages;
+  RunnableQueue messages = new RunnableQueue();
+  boolean hasRunnables;
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
   Object messageLock = new SerializableLock();
   Thread syncThread;
-  static final int GROW_SIZE = 4;
   static final int MESSAGE_LIMIT = 64;
 
   //TEMPORARY CODE
@@ -68,32 +72,42 @@ public Synchronizer (Display display) {
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  boolean wake = messages.offer (lock) == 1;
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
+  if (wake) {
+    updateHasRunnables ();
+  }
+  // pending runnables are part of the session state, also when added outside of a request
+  markUISessionChanged ();
+  runnableAdded( lock.runnable );
+// END RAP
+  if (wake) {
+    display.wakeThread ();
+  }
+}
+
+// RAP: called after every empty/non-empty transition of the queue, re-reads the size under
+//      messageLock so that the last notification always reflects the current state
+void updateHasRunnables () {
+  synchronized (messageLock) {
+    final boolean newHasRunnables = messages.size () > 0;
+    if (newHasRunnables != hasRunnables) {
+      hasRunnables = newHasRunnables;
       RWT.getUISession( display ).exec( new Runnable() {
         @Override
         public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
+          ServerPushManager.getInstance().setHasRunnables( newHasRunnables );
         }
       } );
     }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
   }
-  if (wake) {
-    display.wakeThread ();
+}
+
+// RAP: marks the session to be replicated after the next request
+void markUISessionChanged () {
+  Object uiSession = RWT.getUISession( display );
+  if (uiSession instanceof UISessionImpl) {
+    ((UISessionImpl) uiSession).markChanged ();
   }
 }
 
@@ -124,9 +138,7 @@ protected void asyncExec (Runnable runnable) {
 }
 
 int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
-  }
+  return messages.size ();
 }
 
 void releaseSynchronizer () {
@@ -149,30 +161,16 @@ void releaseSynchronizer () {
 }
 
 RunnableLock removeFirst () {
+  RunnableLock lock;
   synchronized (messageLock) {
-    if (messageCount == 0) {
-      return null;
-    }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
-    }
+    lock = messages.poll ();
+  }
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
-    }
-// END RAP
-    return lock;
+  if (lock != null && messages.size () == 0) {
+    updateHasRunnables ();
   }
+// END RAP
+  return lock;
 }
 
 boolean runAsyncMessages () {
@@ -181,6 +179,9 @@ boolean runAsyncMessages () {
 
 boolean runAsyncMessages (boolean all) {
   boolean run = false;
+// RAP: run a batch of the runnables that are already queued instead of a single one per call,
+//      runnables added meanwhile are left for the next call unless all are requested
+  int batchSize = Math.min (Math.max (messages.size (), 1), MESSAGE_LIMIT);
   do {
     RunnableLock lock = removeFirst ();
     if (lock == null) {
@@ -203,7 +204,7 @@ boolean runAsyncMessages (boolean all) {
         lock.notifyAll ();
       }
     }
-  } while (all);
+  } while ((all || --batchSize > 0) && messages != null);
   return run;
 }
 
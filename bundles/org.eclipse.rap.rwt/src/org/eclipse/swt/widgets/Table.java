@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -43,6 +43,7 @@ import org.eclipse.swt.internal.widgets.IControlAdapter;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.internal.widgets.tablekit.TableLCA;
 import org.eclipse.swt.internal.widgets.tablekit.TableThemeAdapter;
@@ -141,6 +142,7 @@ public class Table extends Composite {
   {
     private String toolTipText;
     private ICellToolTipProvider provider;
+    private transient ItemStateCache itemStateCache;
 
     @Override
     public int getCheckWidthWithMargin() {
@@ -289,6 +291,14 @@ public class Table extends Composite {
     public boolean isFixedColumn( TableColumn column ) {
       return Table.this.isFixedColumn( Table.this.indexOf( column ) );
     }
+
+    @Override
+    public ItemStateCache getItemStateCache() {
+      if( itemStateCache == null ) {
+        itemStateCache = new ItemStateCache();
+      }
+      return itemStateCache;
+    }
   }
 
   /**
@@ -2334,6 +2344,7 @@ public class Table extends Composite {
       itemCount--;
       if( item != null ) {
         item.index = -1;
+        tableAdapter.getItemStateCache().remove( item );
       }
       if( itemCount == 0 ) {
         setTableEmpty();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementScope;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -287,7 +288,13 @@ public class TableColumn extends Item {
    */
   public void pack() {
     checkWidget();
-    int width = getPreferredWidth();
+    int width;
+    Control previous = MeasurementScope.enter( parent );
+    try {
+      width = getPreferredWidth();
+    } finally {
+      MeasurementScope.exit( previous );
+    }
     if( width != getWidth() ) {
       setWidth( width );
     }
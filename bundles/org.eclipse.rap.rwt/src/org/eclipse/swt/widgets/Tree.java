@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -46,6 +46,7 @@ import org.eclipse.swt.internal.widgets.IControlAdapter;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeAdapter;
 import org.eclipse.swt.internal.widgets.ItemHolder;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.MarkupValidator;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
@@ -143,8 +144,8 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
-  private int visibleItemsCount;
+  private VisibleRowIndex rowIndex;
+  private boolean isTopItemIndexValid;
   private int preloadedItems;
 
   /**
@@ -183,6 +184,7 @@ public class Tree extends Composite {
     super( parent, checkStyle( style ) );
     columnHolder = new ItemHolder<>( TreeColumn.class );
     treeAdapter = new InternalTreeAdapter();
+    rowIndex = new VisibleRowIndex();
     setTreeEmpty();
     sortDirection = SWT.NONE;
     selection = EMPTY_SELECTION;
@@ -276,6 +278,7 @@ public class Tree extends Composite {
           item.dispose();
         } else {
           destroyItem( deleteIndex );
+          itemsChanged( null, -1 );
         }
         deleteIndex--;
       }
@@ -288,8 +291,8 @@ public class Tree extends Composite {
           items[ i ] = new TreeItem( this, SWT.NONE, i );
         }
       }
+      itemsChanged( null, newItemCount - itemCount );
       itemCount = newItemCount;
-      invalidateFlatIndex();
       updateScrollBars();
       redraw();
     }
@@ -427,13 +430,16 @@ public class Tree extends Composite {
    */
   public void removeAll() {
     checkWidget();
+    int removedCount = 0;
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
       } else {
         itemCount--;
+        removedCount++;
       }
     }
+    itemsChanged( null, -removedCount );
     setTreeEmpty();
     selection = EMPTY_SELECTION;
   }
@@ -538,8 +544,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -548,12 +553,12 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      resolveVisibleItems();
     }
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -1010,13 +1015,8 @@ public class Tree extends Composite {
     if( point == null ) {
       error( SWT.ERROR_NULL_ARGUMENT );
     }
-    TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
-    }
-    return result;
+    return getVisibleItem( index, false );
   }
 
   /**
@@ -1780,13 +1780,7 @@ public class Tree extends Composite {
       }
     }
     height += getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && !item.isInDispose() && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    height += getVisibleItemsCount() * getItemHeight();
     if( width == 0 ) {
       width = DEFAULT_WIDTH;
     }
@@ -2166,7 +2160,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      resolveVisibleItems();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2185,6 +2179,7 @@ public class Tree extends Composite {
     if( topItemIndex > visibleItems - visibleRows - correction ) {
       topItemIndex = Math.max( 0, visibleItems - visibleRows - correction );
     }
+    isTopItemIndexValid = true;
   }
 
   final int getVisibleRowCount( boolean includePartlyVisible ) {
@@ -2200,67 +2195,105 @@ public class Tree extends Composite {
     return result;
   }
 
-  private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
-    }
-    return visibleItemsCount;
+  int getVisibleItemsCount() {
+    return rowIndex.getTotal();
   }
 
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
-  }
-
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
+  /*
+   * Returns the item that is shown in the row with the given flat index. Items of a virtual tree
+   * that have not been created yet are only created when requested, otherwise null is returned.
+   */
+  TreeItem getVisibleItem( int flatIndex, boolean create ) {
+    TreeItem result = null;
+    if( flatIndex >= 0 && flatIndex < getVisibleItemsCount() ) {
+      int row = flatIndex;
+      TreeItem parentItem = null;
+      boolean found = false;
+      while( !found ) {
+        TreeItem[] items = parentItem == null ? this.items : parentItem.items;
+        int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
+        VisibleRowIndex rowIndex = parentItem == null ? this.rowIndex : parentItem.getRowIndex();
+        int index = rowIndex.findChild( row, items, itemCount );
+        row -= rowIndex.getRowsBefore( index, items, itemCount );
+        result = items[ index ];
+        if( result == null && create ) {
+          result = parentItem == null ? _getItem( index ) : parentItem._getItem( index );
+        }
+        // items that have not been created yet have no child items
+        found = row == 0 || result == null;
+        row--;
+        parentItem = result;
       }
     }
     return result;
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
-    }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+  int getFlatIndex( TreeItem item ) {
+    int result = 0;
+    TreeItem current = item;
+    while( current.parentItem != null ) {
+      TreeItem parentItem = current.parentItem;
+      VisibleRowIndex parentRowIndex = parentItem.getRowIndex();
+      int rowsBefore = parentRowIndex.getRowsBefore( current.index,
+                                                     parentItem.items,
+                                                     parentItem.itemCount );
+      result += 1 + rowsBefore;
+      current = parentItem;
+    }
+    return result + rowIndex.getRowsBefore( current.index, items, itemCount );
+  }
+
+  /*
+   * Items were added to or removed from the given parent item, or from the root items if the
+   * parent item is null, changing the number of visible rows by delta.
+   */
+  void itemsChanged( TreeItem parentItem, int delta ) {
+    updateVisibleRows( parentItem, -1, delta );
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
+  /*
+   * The number of rows shown by the given item changed by delta, as it was expanded or collapsed.
+   */
+  void itemRowsChanged( TreeItem item, int delta ) {
+    updateVisibleRows( item.parentItem, item.index, delta );
+  }
+
+  private void updateVisibleRows( TreeItem parentItem, int index, int delta ) {
+    TreeItem current = parentItem;
+    int currentIndex = index;
+    while( current != null ) {
+      if( currentIndex == -1 ) {
+        current.getRowIndex().itemsChanged( delta );
+      } else {
+        current.getRowIndex().update( currentIndex, delta );
       }
-      checkData( item, index );
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+      if( !current.expanded || delta == 0 ) {
+        return;
       }
+      currentIndex = current.index;
+      current = current.parentItem;
     }
-    return newFlatIndex;
+    if( currentIndex == -1 ) {
+      rowIndex.itemsChanged( delta );
+    } else {
+      rowIndex.update( currentIndex, delta );
+    }
+    isTopItemIndexValid = false;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  void resolveVisibleItems() {
+    if( isVirtual() ) {
+      int visibleRows = getVisibleRowCount( true );
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + visibleRows + preloadedItems;
+      for( int flatIndex = startIndex; flatIndex < endIndex && !isDisposed(); flatIndex++ ) {
+        TreeItem item = getVisibleItem( flatIndex, true );
+        if( item != null ) {
+          checkData( item, item.index );
+        }
+      }
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2279,11 +2312,6 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
-  }
-
   private static int checkStyle( int style ) {
     int result = style;
     if( ( style & SWT.NO_SCROLL ) == 0 ) {
@@ -2338,13 +2366,7 @@ public class Tree extends Composite {
   boolean needsVScrollBar() {
     int availableHeight = getClientArea().height;
     int height = getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    height += getVisibleItemsCount() * getItemHeight();
     return height > availableHeight;
   }
 
@@ -2411,6 +2433,7 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    itemsChanged( null, 1 );
   }
 
   void destroyItem( int index ) {
@@ -2501,10 +2524,11 @@ public class Tree extends Composite {
   {
     private String toolTipText;
     private ICellToolTipProvider provider;
+    private transient ItemStateCache itemStateCache;
 
     @Override
     public void checkData() {
-      updateAllItems();
+      resolveVisibleItems();
     }
 
     @Override
@@ -2624,6 +2648,14 @@ public class Tree extends Composite {
       return Tree.this.isFixedColumn( Tree.this.indexOf( column ) );
     }
 
+    @Override
+    public ItemStateCache getItemStateCache() {
+      if( itemStateCache == null ) {
+        itemStateCache = new ItemStateCache();
+      }
+      return itemStateCache;
+    }
+
   }
 
   static final class LayoutCache implements SerializableCompatibility {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.eclipse.swt.internal.widgets.MarkupValidator.isValidationDisab
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
+import org.eclipse.rap.rwt.internal.textsize.MeasurementScope;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeUtil;
 import org.eclipse.rap.rwt.theme.BoxDimensions;
 import org.eclipse.swt.SWT;
@@ -415,9 +416,13 @@ public class TreeColumn extends Item {
    */
   public void pack() {
     checkWidget();
-    int newWidth = getPreferredWidth();
-    int contentWidth = parent.getMaxContentWidth( this );
-    newWidth = Math.max( newWidth, contentWidth );
+    int newWidth;
+    Control previous = MeasurementScope.enter( parent );
+    try {
+      newWidth = Math.max( getPreferredWidth(), parent.getMaxContentWidth( this ) );
+    } finally {
+      MeasurementScope.exit( previous );
+    }
     // Mimic Windows behaviour that has a minimal width
     if( newWidth < 12 ) {
       newWidth = 12;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
+import org.eclipse.swt.internal.widgets.ITreeAdapter;
 import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
@@ -52,7 +53,7 @@ import org.eclipse.swt.internal.widgets.treeitemkit.TreeItemLCA;
  */
 public class TreeItem extends Item {
 
-  private final TreeItem parentItem;
+  final TreeItem parentItem;
   final Tree parent;
   TreeItem[] items;
   int itemCount;
@@ -60,14 +61,14 @@ public class TreeItem extends Item {
   int index;
   private Data[] data;
   private Font font;
-  private boolean expanded;
+  boolean expanded;
   private boolean checked;
   private Color background;
   private Color foreground;
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  private VisibleRowIndex rowIndex;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +223,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -266,6 +266,7 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    parent.itemsChanged( this, 1 );
   }
 
   private void destroyItem( int index ) {
@@ -360,13 +361,14 @@ public class TreeItem extends Item {
     checkWidget();
     if( this.expanded != expanded && ( !expanded || itemCount > 0 ) ) {
       this.expanded = expanded;
+      int childRows = getRowIndex().getTotal();
+      parent.itemRowsChanged( this, expanded ? childRows : -childRows );
       if( !expanded ) {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.resolveVisibleItems();
     }
   }
 
@@ -1383,13 +1385,16 @@ public class TreeItem extends Item {
    */
   public void removeAll() {
     checkWidget();
+    int removedCount = 0;
     for( int i = itemCount - 1; i >= 0; i-- ) {
       if( items[ i ] != null ) {
         items[ i ].dispose();
       } else {
         itemCount--;
+        removedCount++;
       }
     }
+    parent.itemsChanged( this, -removedCount );
     setEmpty();
   }
 
@@ -1425,8 +1430,8 @@ public class TreeItem extends Item {
           new TreeItem( this, SWT.NONE, i );
         }
       }
+      parent.itemsChanged( this, newItemCount - itemCount );
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1446,15 +1451,17 @@ public class TreeItem extends Item {
 
   @Override
   final void releaseParent() {
+    int rows = getVisibleRowCount();
     if( parentItem != null ) {
       parentItem.destroyItem( index );
     } else {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
+      parent.itemsChanged( parentItem, -rows );
       parent.removeFromSelection( this );
       parent.updateScrollBars();
+      parent.getAdapter( ITreeAdapter.class ).getItemStateCache().remove( this );
     }
     super.releaseParent();
   }
@@ -1478,14 +1485,18 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
-    }
-    return flatIndex;
+    return parent.getFlatIndex( this );
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  int getVisibleRowCount() {
+    return expanded && rowIndex != null ? 1 + rowIndex.getTotal() : 1;
+  }
+
+  VisibleRowIndex getRowIndex() {
+    if( rowIndex == null ) {
+      rowIndex = new VisibleRowIndex();
+    }
+    return rowIndex;
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -1523,17 +1534,6 @@ public class TreeItem extends Item {
     }
   }
 
-  int getInnerHeight() {
-    int innerHeight = itemCount * parent.getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        innerHeight += item.getInnerHeight();
-      }
-    }
-    return innerHeight;
-  }
-
   void markCached() {
     if( parent.isVirtual() ) {
       cached = true;
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/**
+ * Counts the visible rows of the child items of a tree or a tree item. Each child contributes
+ * one row for itself and, when expanded, the visible rows of its own children. Items of a virtual
+ * tree that have not been created yet contribute a single row.
+ * <p>
+ * The total is maintained incrementally. The prefix sums over the children are kept in a Fenwick
+ * tree, which is updated in place when the rows of a child change and rebuilt on demand after
+ * children have been added or removed.
+ * </p>
+ */
+final class VisibleRowIndex implements SerializableCompatibility {
+
+  private int total;
+  private int[] sums;
+
+  int getTotal() {
+    return total;
+  }
+
+  /*
+   * The rows of the child at the given index changed by delta.
+   */
+  void update( int index, int delta ) {
+    total += delta;
+    if( sums != null ) {
+      for( int i = index + 1; i < sums.length; i += i & -i ) {
+        sums[ i ] += delta;
+      }
+    }
+  }
+
+  /*
+   * Children were added or removed, changing the rows by delta.
+   */
+  void itemsChanged( int delta ) {
+    total += delta;
+    sums = null;
+  }
+
+  /*
+   * Returns the number of rows of the children before the given index.
+   */
+  int getRowsBefore( int index, TreeItem[] items, int itemCount ) {
+    ensureSums( items, itemCount );
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += sums[ i ];
+    }
+    return result;
+  }
+
+  /*
+   * Returns the index of the child whose rows contain the given row.
+   */
+  int findChild( int row, TreeItem[] items, int itemCount ) {
+    ensureSums( items, itemCount );
+    int result = 0;
+    int remaining = row;
+    for( int step = Integer.highestOneBit( itemCount ); step > 0; step >>= 1 ) {
+      int next = result + step;
+      if( next <= itemCount && sums[ next ] <= remaining ) {
+        result = next;
+        remaining -= sums[ next ];
+      }
+    }
+    return result;
+  }
+
+  private void ensureSums( TreeItem[] items, int itemCount ) {
+    if( sums == null || sums.length != itemCount + 1 ) {
+      sums = new int[ itemCount + 1 ];
+      for( int i = 1; i <= itemCount; i++ ) {
+        sums[ i ] += getRows( items[ i - 1 ] );
+        int parent = i + ( i & -i );
+        if( parent <= itemCount ) {
+          sums[ parent ] += sums[ i ];
+        }
+      }
+    }
+  }
+
+  static int getRows( TreeItem item ) {
+    return item == null ? 1 : item.getVisibleRowCount();
+  }
+
+}
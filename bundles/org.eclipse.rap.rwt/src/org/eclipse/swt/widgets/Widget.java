@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil;
 import org.eclipse.rap.rwt.internal.theme.ThemeAdapter;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.scripting.ClientListener;
+import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.events.DisposeListener;
@@ -37,6 +38,7 @@ import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
 import org.eclipse.swt.internal.widgets.ParentHolderRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetGraphicsAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRegistry;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 
 
@@ -847,7 +849,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
         addState( RELEASED );
         releaseParent();
         releaseWidget();
-        getAdapter( RemoteAdapter.class ).markDisposed( this );
+        RemoteAdapter adapter = getAdapter( RemoteAdapter.class );
+        adapter.markDisposed( this );
+        WidgetRegistry.getInstance( RWT.getUISession( display ) ).remove( adapter.getId() );
       }
     }
   }
@@ -1047,12 +1051,15 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
   }
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
-    String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
-    return createRemoteAdapter( parent, id );
+    UISession uiSession = RWT.getUISession( display );
+    String id = IdGenerator.getInstance( uiSession ).createId( this );
+    RemoteAdapter result = createRemoteAdapter( parent, id );
+    WidgetRegistry.getInstance( uiSession ).register( result.getId(), this );
+    return result;
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
-    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id );
+    WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( id, getClass() );
     remoteAdapter.setParent( parent );
     return remoteAdapter;
   }
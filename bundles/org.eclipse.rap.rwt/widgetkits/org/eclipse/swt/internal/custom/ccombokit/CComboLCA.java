@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,8 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.hasItemsChanged;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.preserveItems;
 
 import java.io.IOException;
 
@@ -31,6 +33,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.custom.CCombo;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.widgets.ListModelLCAUtil;
 
 
 public final class CComboLCA extends WidgetLCA<CCombo> {
@@ -41,7 +44,6 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
   private static final String[] ALLOWED_STYLES = { "FLAT", "BORDER" };
 
   // Property names for preserve-value facility
-  static final String PROP_ITEMS = "items";
   static final String PROP_TEXT = "text";
   static final String PROP_SELECTION_INDEX = "selectionIndex";
   static final String PROP_SELECTION = "selection";
@@ -51,14 +53,13 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
   static final String PROP_VISIBLE_ITEM_COUNT = "visibleItemCount";
 
   // Default values
-  private static final String[] DEFAUT_ITEMS = new String[ 0 ];
   private static final Integer DEFAULT_SELECTION_INDEX = Integer.valueOf( -1 );
   private static final Point DEFAULT_SELECTION = new Point( 0, 0 );
   private static final int DEFAULT_VISIBLE_ITEM_COUNT = 5;
 
   @Override
   public void preserveValues( CCombo ccombo ) {
-    preserveProperty( ccombo, PROP_ITEMS, ccombo.getItems() );
+    preserveItems( ccombo );
     preserveProperty( ccombo, PROP_SELECTION_INDEX, ccombo.getSelectionIndex() );
     preserveProperty( ccombo, PROP_SELECTION, ccombo.getSelection() );
     preserveProperty( ccombo, PROP_TEXT_LIMIT, getTextLimit( ccombo ) );
@@ -103,7 +104,7 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
   }
 
   private static void renderItems( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_ITEMS, ccombo.getItems(), DEFAUT_ITEMS );
+    ListModelLCAUtil.renderItems( ccombo );
   }
 
   private static void renderListVisible( CCombo ccombo ) {
@@ -119,7 +120,7 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
     // -- in a subsequent request --
     // combo.removeAll();  combo.add( "b" );  combo.select( 0 );
     // When only examining selectionIndex, a change cannot be determined
-    boolean itemsChanged = hasChanged( ccombo, PROP_ITEMS, ccombo.getItems(), DEFAUT_ITEMS );
+    boolean itemsChanged = hasItemsChanged( ccombo );
     boolean isInitialized = WidgetUtil.getAdapter( ccombo ).isInitialized();
     if( selectionChanged || ( itemsChanged && isInitialized ) ) {
       getRemoteObject( ccombo ).set( PROP_SELECTION_INDEX, newSelectionIndex.intValue() );
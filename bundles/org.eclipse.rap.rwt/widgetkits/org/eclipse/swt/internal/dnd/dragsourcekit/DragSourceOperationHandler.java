@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,7 @@ import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.DragSource;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.dnd.DNDEvent;
+import org.eclipse.swt.internal.dnd.DragSession;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Event;
 
@@ -100,6 +101,7 @@ public class DragSourceOperationHandler extends WidgetOperationHandler<DragSourc
         cancelDetailChanged();
         cancelFeedbackChanged();
         cancelDataTypeChanged();
+        DragSession.getInstance().resetDragOver();
       }
     } );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,6 +32,7 @@ import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.client.ClientFile;
 import org.eclipse.rap.rwt.dnd.ClientFileTransfer;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientFileImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.ProcessActionRunner;
@@ -42,6 +43,7 @@ import org.eclipse.swt.dnd.DropTarget;
 import org.eclipse.swt.dnd.Transfer;
 import org.eclipse.swt.dnd.TransferData;
 import org.eclipse.swt.internal.dnd.DNDEvent;
+import org.eclipse.swt.internal.dnd.DragSession;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Shell;
@@ -116,6 +118,7 @@ public class DropTargetOperationHandler extends WidgetOperationHandler<DropTarge
                                                 dataTypes,
                                                 dataTypes[ 0 ],
                                                 item );
+        DragSession.getInstance().resetDragOver();
         dropTarget.notifyListeners( DND.DragEnter, event );
         if( event.detail != detail ) {
           changeOperation( dragSource, dropTarget, event.detail );
@@ -204,6 +207,9 @@ public class DropTargetOperationHandler extends WidgetOperationHandler<DropTarge
         int feedback = getFeedback( properties.get( EVENT_PARAM_FEEDBACK ) );
         TransferData dataType = getDataType( properties.get( EVENT_PARAM_DATATYPE ) );
         Item item = getWidget( properties.get( EVENT_PARAM_ITEM ) );
+        if( isDragOverRepeated( dropTarget, item, detail, dataType, time ) ) {
+          return;
+        }
         Control sourceControl = getWidget( properties.get( EVENT_PARAM_SOURCE ) );
         DragSource dragSource = getDragSource( sourceControl );
         int operations = getOperations( dragSource, dropTarget );
@@ -248,6 +254,7 @@ public class DropTargetOperationHandler extends WidgetOperationHandler<DropTarge
         int time = properties.get( EVENT_PARAM_TIME ).asInt();
         int detail = translateOperation( properties.get( EVENT_PARAM_OPERATION ).asString() );
         DNDEvent event = createDropTargetEvent( x, y, time, detail, 0, 0, null, null, null );
+        DragSession.getInstance().resetDragOver();
         dropTarget.notifyListeners( DND.DragLeave, event );
       }
     } );
@@ -269,6 +276,7 @@ public class DropTargetOperationHandler extends WidgetOperationHandler<DropTarge
       @Override
       public void run() {
         DropData dropData = createDropData( dropTarget, properties );
+        DragSession.getInstance().resetDragOver();
         if( !isFileDrop( dropData ) ) { // In this case no DRAG_ENTER was fired by the client
           fireDragLeave( dropTarget, dropData ); // DRAG_LEAVE was suppressed by the client
         }
@@ -488,12 +496,51 @@ public class DropTargetOperationHandler extends WidgetOperationHandler<DropTarge
     setDataTypeChanged( dropTarget.getControl(), value );
   }
 
+  /*
+   * Skips a DragOver event that does not differ from the last one passed to the listeners and
+   * follows it within the interval configured by RWTProperties#DRAG_OVER_INTERVAL.
+   */
+  private static boolean isDragOverRepeated( DropTarget dropTarget,
+                                             Item item,
+                                             int detail,
+                                             TransferData dataType,
+                                             int time )
+  {
+    int interval = RWTProperties.getDragOverInterval();
+    if( interval > 0 ) {
+      DragSession session = DragSession.getInstance();
+      if( session.isDragOverRepeated( dropTarget, item, detail, dataType, time, interval ) ) {
+        return true;
+      }
+      session.setDragOver( dropTarget, item, detail, dataType, time );
+    }
+    return false;
+  }
+
+  /*
+   * The negotiated data types are cached in the DragSession for the transfers of the drag source
+   * and the drop target, as this method is called several times for every drag event.
+   */
   static TransferData[] determineDataTypes( DragSource dragSource, DropTarget dropTarget ) {
+    Transfer[] sourceTransfers = dragSource == null ? null : dragSource.getTransfer();
+    Transfer[] targetTransfers = dropTarget.getTransfer();
+    DragSession session = DragSession.getInstance();
+    TransferData[] result = session.getDataTypes( sourceTransfers, targetTransfers );
+    if( result == null ) {
+      result = negotiateDataTypes( sourceTransfers, targetTransfers );
+      session.setDataTypes( sourceTransfers, targetTransfers, result );
+    }
+    return result;
+  }
+
+  private static TransferData[] negotiateDataTypes( Transfer[] sourceTransfers,
+                                                    Transfer[] targetTransfers )
+  {
     List<TransferData> supportedTypes = new ArrayList<>();
-    for( Transfer dropTargetTransfer : dropTarget.getTransfer() ) {
+    for( Transfer dropTargetTransfer : targetTransfers ) {
       TransferData[] dataTypes = dropTargetTransfer.getSupportedTypes();
       for( TransferData dataType : dataTypes ) {
-        if( dragSource == null || transfersSupport( dragSource.getTransfer(), dataType ) ) {
+        if( sourceTransfers == null || transfersSupport( sourceTransfers, dataType ) ) {
           supportedTypes.add( dataType );
         }
       }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,9 +14,16 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.remote.RemoteObject;
+import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
@@ -39,6 +46,7 @@ import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
 import org.eclipse.swt.internal.graphics.GCOperation.SetTransform;
 import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -46,8 +54,12 @@ final class GCOperationWriter {
 
   private final Control control;
   private boolean initialized;
+  private JsonObject parameters;
   private JsonArray operations;
+  private JsonArray strokeRun;
+  private JsonArray pointRun;
   private int lineWidth;
+  private int alpha;
   private RGB foreground;
   private RGB background;
 
@@ -58,10 +70,11 @@ final class GCOperationWriter {
   void initialize() {
     if( !initialized ) {
       lineWidth = 1;
+      alpha = 255;
       foreground = control.getForeground().getRGB();
       background = control.getBackground().getRGB();
       Rectangle paintRect = getPaintRect();
-      JsonObject parameters = new JsonObject()
+      parameters = new JsonObject()
         .add( "x", paintRect.x )
         .add( "y", paintRect.y )
         .add( "width", paintRect.width )
@@ -69,7 +82,6 @@ final class GCOperationWriter {
         .add( "font", toJson( control.getFont() ) )
         .add( "fillStyle", toJson( background ) )
         .add( "strokeStyle", toJson( foreground ) );
-      getRemoteObject( getGcId( control ) ).call( "init", parameters );
       operations = new JsonArray();
       initialized = true;
     }
@@ -77,6 +89,12 @@ final class GCOperationWriter {
 
   void write( GCOperation operation ) {
     initialize();
+    if( !( operation instanceof DrawLine || operation instanceof DrawPolyline ) ) {
+      strokeRun = null;
+    }
+    if( !( operation instanceof DrawPoint ) ) {
+      pointRun = null;
+    }
     if( operation instanceof DrawLine ) {
       drawLine( ( DrawLine )operation );
     } else if( operation instanceof DrawPoint ) {
@@ -111,34 +129,71 @@ final class GCOperationWriter {
 
   void render() {
     if( operations != null ) {
-      if( !operations.isEmpty() ) {
-        JsonObject parameters = new JsonObject().add( "operations", operations );
-        getRemoteObject( getGcId( control ) ).call( "draw", parameters );
+      if( isNewFrame() ) {
+        RemoteObject remoteObject = getRemoteObject( getGcId( control ) );
+        remoteObject.call( "init", parameters );
+        if( !operations.isEmpty() ) {
+          remoteObject.call( "draw", new JsonObject().add( "operations", operations ) );
+        }
       }
       operations = null;
     }
   }
 
+  /*
+   * The client keeps the last drawing until the next init, a frame that equals the last one
+   * rendered does not have to be sent again. Resizing the canvas clears the drawing on the
+   * client, hence the size is part of the frame. Client-side paint listeners are notified on
+   * init, so canvases with such listeners are always redrawn.
+   */
+  private boolean isNewFrame() {
+    GCAdapter adapter = control.getAdapter( GCAdapter.class );
+    byte[] frameDigest = getFrameDigest();
+    boolean result =    !MessageDigest.isEqual( frameDigest, adapter.getFrameDigest() )
+                     || hasClientPaintListener();
+    adapter.setFrameDigest( frameDigest );
+    return result;
+  }
+
+  private byte[] getFrameDigest() {
+    try {
+      MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+      digest.update( control.getSize().toString().getBytes( HTTP.CHARSET_UTF_8 ) );
+      digest.update( parameters.toString().getBytes( HTTP.CHARSET_UTF_8 ) );
+      digest.update( operations.toString().getBytes( HTTP.CHARSET_UTF_8 ) );
+      return digest.digest();
+    } catch( NoSuchAlgorithmException | UnsupportedEncodingException exception ) {
+      throw new IllegalStateException( "Failed to compute frame digest", exception );
+    }
+  }
+
+  private boolean hasClientPaintListener() {
+    for( Listener listener : control.getListeners( SWT.Paint ) ) {
+      if( listener instanceof ClientListener ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void drawLine( DrawLine operation ) {
     float offset = getOffset( false );
-    addClientOperation( "beginPath" );
-    addClientOperation( "moveTo", operation.x1 + offset, operation.y1 + offset );
-    addClientOperation( "lineTo", operation.x2 + offset, operation.y2 + offset );
-    addClientOperation( "stroke" );
+    if( strokeRun == null || alpha != 255 ) {
+      startStrokeRun();
+    }
+    strokeRun.add( new JsonArray()
+      .add( operation.x1 + offset )
+      .add( operation.y1 + offset )
+      .add( operation.x2 + offset )
+      .add( operation.y2 + offset ) );
   }
 
   private void drawPoint( DrawPoint operation ) {
-    float x = operation.x;
-    float y = operation.y;
-    addClientOperation( "save" );
-    operations.add( new JsonArray()
-      .add( "fillStyle" )
-      .add( toJson( foreground ) ) );
-    addClientOperation( "lineWidth", 1 );
-    addClientOperation( "beginPath" );
-    addClientOperation( "rect", x, y, 1, 1 );
-    addClientOperation( "fill" );
-    addClientOperation( "restore" );
+    if( pointRun == null ) {
+      pointRun = new JsonArray().add( "points" ).add( toJson( foreground ) );
+      operations.add( pointRun );
+    }
+    pointRun.add( operation.x ).add( operation.y );
   }
 
   private void drawRectangle( DrawRectangle operation ) {
@@ -247,18 +302,32 @@ final class GCOperationWriter {
   private void drawPolyline( DrawPolyline operation ) {
     int[] points = operation.points;
     float offset = getOffset( operation.fill );
-    addClientOperation( "beginPath" );
+    JsonArray path = new JsonArray();
     for( int i = 0; i < points.length; i += 2 ) {
-      if( i == 0 ) {
-        addClientOperation( "moveTo", points[ i ] + offset, points[ i + 1 ] + offset );
-      } else {
-        addClientOperation( "lineTo", points[ i ] + offset, points[ i + 1 ] + offset );
-      }
+      path.add( points[ i ] + offset ).add( points[ i + 1 ] + offset );
     }
     if( operation.close && points.length > 1 ) {
-      addClientOperation( "lineTo", points[ 0 ] + offset, points[ 1 ] + offset );
+      path.add( points[ 0 ] + offset ).add( points[ 1 ] + offset );
     }
-    addClientOperation( operation.fill ? "fill" : "stroke" );
+    if( operation.fill ) {
+      operations.add( new JsonArray().add( "polylines" ).add( true ).add( path ) );
+      strokeRun = null;
+    } else {
+      if( strokeRun == null || alpha != 255 ) {
+        startStrokeRun();
+      }
+      strokeRun.add( path );
+    }
+  }
+
+  /*
+   * Consecutive lines and polylines are stroked as a single path with one subpath each, so every
+   * line keeps its own caps. Translucent lines are stroked one by one, as otherwise their
+   * overlapping parts would not be blended.
+   */
+  private void startStrokeRun() {
+    strokeRun = new JsonArray().add( "polylines" ).add( false );
+    operations.add( strokeRun );
   }
 
   private void drawImage( DrawImage operation ) {
@@ -317,8 +386,8 @@ final class GCOperationWriter {
         value = toJson( background );
       break;
       case SetProperty.ALPHA:
-        float alpha = ( ( Integer )operation.value ).floatValue();
-        float globalAlpha = round( alpha / 255, 2 );
+        alpha = ( ( Integer )operation.value ).intValue();
+        float globalAlpha = round( ( float )alpha / 255, 2 );
         name = "globalAlpha";
         value = JsonValue.valueOf( globalAlpha );
       break;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,8 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.hasItemsChanged;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.preserveItems;
 
 import java.io.IOException;
 
@@ -33,6 +35,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.internal.widgets.ListModelLCAUtil;
 import org.eclipse.swt.widgets.Combo;
 
 
@@ -44,7 +47,6 @@ public class ComboLCA extends WidgetLCA<Combo> {
   private static final String[] ALLOWED_STYLES = { "DROP_DOWN", "SIMPLE", "BORDER" };
 
   // Property names for preserve-value facility
-  static final String PROP_ITEMS = "items";
   static final String PROP_TEXT = "text";
   static final String PROP_SELECTION_INDEX = "selectionIndex";
   static final String PROP_SELECTION = "selection";
@@ -54,14 +56,13 @@ public class ComboLCA extends WidgetLCA<Combo> {
   static final String PROP_VISIBLE_ITEM_COUNT = "visibleItemCount";
 
   // Default values
-  private static final String[] DEFAUT_ITEMS = new String[ 0 ];
   private static final Integer DEFAULT_SELECTION_INDEX = Integer.valueOf( -1 );
   private static final Point DEFAULT_SELECTION = new Point( 0, 0 );
   private static final int DEFAULT_VISIBLE_ITEM_COUNT = 5;
 
   @Override
   public void preserveValues( Combo combo ) {
-    preserveProperty( combo, PROP_ITEMS, combo.getItems() );
+    preserveItems( combo );
     preserveProperty( combo, PROP_SELECTION_INDEX, Integer.valueOf( combo.getSelectionIndex() ) );
     preserveProperty( combo, PROP_SELECTION, combo.getSelection() );
     preserveProperty( combo, PROP_TEXT_LIMIT, getTextLimit( combo ) );
@@ -106,7 +107,7 @@ public class ComboLCA extends WidgetLCA<Combo> {
   }
 
   private static void renderItems( Combo combo ) {
-    renderProperty( combo, PROP_ITEMS, combo.getItems(), DEFAUT_ITEMS );
+    ListModelLCAUtil.renderItems( combo );
   }
 
   private static void renderListVisible( Combo combo ) {
@@ -122,7 +123,7 @@ public class ComboLCA extends WidgetLCA<Combo> {
     // -- in a subsequent request --
     // combo.removeAll();  combo.add( "b" );  combo.select( 0 );
     // When only examining selectionIndex, a change cannot be determined
-    boolean itemsChanged = hasChanged( combo, PROP_ITEMS, combo.getItems(), DEFAUT_ITEMS );
+    boolean itemsChanged = hasItemsChanged( combo );
     boolean isInitialized = WidgetUtil.getAdapter( combo ).isInitialized();
     if( selectionChanged || ( itemsChanged && isInitialized ) ) {
       getRemoteObject( combo ).set( PROP_SELECTION_INDEX, newSelectionIndex.intValue() );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -48,6 +48,7 @@ import org.eclipse.rap.rwt.remote.OperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRegistry;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.internal.widgets.WidgetTreeUtil;
 import org.eclipse.swt.internal.widgets.WidgetTreeVisitor;
@@ -66,7 +67,7 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    readWidgets( display );
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -136,16 +137,22 @@ public class DisplayLCA {
     }
   }
 
-  private static void visitWidgets( Display display ) {
-    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
-      @Override
-      public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
-        return true;
+  /*
+   * Only the widgets that are targeted by operations are read, in the order of their first
+   * operation. As notify operations are turned into events that are processed after all
+   * operations have been read, the new widget state is in place when listeners are notified.
+   */
+  private static void readWidgets( Display display ) {
+    ClientMessage clientMessage = ProtocolUtil.getClientMessage();
+    String displayId = getId( display );
+    WidgetRegistry registry = WidgetRegistry.getInstance( RWT.getUISession( display ) );
+    for( String target : clientMessage.getTargets() ) {
+      if( !target.equals( displayId ) ) {
+        Widget widget = registry.find( target );
+        if( widget != null && !widget.isDisposed() ) {
+          getLCA( widget ).readData( widget );
+        }
       }
-    };
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
     }
   }
 
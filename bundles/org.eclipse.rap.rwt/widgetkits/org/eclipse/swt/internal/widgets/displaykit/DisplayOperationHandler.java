@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,17 +15,17 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_RES
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
-import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.remote.AbstractOperationHandler;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.events.EventUtil;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRegistry;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
-import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 
 
@@ -99,14 +99,9 @@ public class DisplayOperationHandler extends AbstractOperationHandler {
     if( value != null && !value.isNull() ) {
       String id = value.asString();
       Control focusControl = null;
-      // TODO [rh] revise this: traversing the widget tree once more only to find
-      //      out which control is focused. Could that be optimized?
-      Shell[] shells = getDisplayAdapter( display ).getShells();
-      for( int i = 0; focusControl == null && i < shells.length; i++ ) {
-        Widget widget = WidgetUtil.find( shells[ i ], id );
-        if( widget instanceof Control ) {
-          focusControl = ( Control )widget;
-        }
+      Widget widget = WidgetRegistry.getInstance( RWT.getUISession( display ) ).find( id );
+      if( widget instanceof Control && !widget.isDisposed() ) {
+        focusControl = ( Control )widget;
       }
       if( focusControl != null && EventUtil.isAccessible( focusControl ) ) {
         getDisplayAdapter( display ).setFocusControl( focusControl, false );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,8 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenD
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.preserveItems;
+import static org.eclipse.swt.internal.widgets.ListModelLCAUtil.renderItems;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
 
 import java.io.IOException;
@@ -39,14 +41,12 @@ public class ListLCA extends WidgetLCA<List> {
   private static final String TYPE = "rwt.widgets.List";
   private static final String[] ALLOWED_STYLES = { "SINGLE", "MULTI", "BORDER" };
 
-  private static final String PROP_ITEMS = "items";
   private static final String PROP_SELECTION_INDICES = "selectionIndices";
   private static final String PROP_TOP_INDEX = "topIndex";
   private static final String PROP_FOCUS_INDEX = "focusIndex";
   private static final String PROP_ITEM_DIMENSIONS = "itemDimensions";
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
 
-  private static final String[] DEFAUT_ITEMS = new String[ 0 ];
   private static final int[] DEFAUT_SELECTION_INDICES = new int[ 0 ];
   private static final int DEFAULT_TOP_INDEX = 0;
   private static final int DEFAULT_FOCUS_INDEX = -1;
@@ -54,7 +54,7 @@ public class ListLCA extends WidgetLCA<List> {
 
   @Override
   public void preserveValues( List list ) {
-    preserveProperty( list, PROP_ITEMS, list.getItems() );
+    preserveItems( list );
     preserveProperty( list, PROP_SELECTION_INDICES, list.getSelectionIndices() );
     preserveProperty( list, PROP_TOP_INDEX, list.getTopIndex() );
     preserveProperty( list, PROP_FOCUS_INDEX, list.getFocusIndex() );
@@ -74,7 +74,7 @@ public class ListLCA extends WidgetLCA<List> {
   public void renderChanges( List list ) throws IOException {
     ControlLCAUtil.renderChanges( list );
     WidgetLCAUtil.renderCustomVariant( list );
-    renderProperty( list, PROP_ITEMS, list.getItems(), DEFAUT_ITEMS );
+    renderItems( list );
     renderProperty( list,
                     PROP_SELECTION_INDICES,
                     list.getSelectionIndices(),
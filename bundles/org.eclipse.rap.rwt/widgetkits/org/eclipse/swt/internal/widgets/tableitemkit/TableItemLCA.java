@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,7 +30,9 @@ import org.eclipse.swt.internal.widgets.ITableAdapter;
 import org.eclipse.swt.internal.widgets.ITableItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableItem;
 
@@ -92,9 +94,14 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
           @Override
           public void run() throws IOException {
             // items that were uncached and are now cached (materialized) are
-            // handled as if they were just created (initialized = false)
+            // handled as if they were just created (initialized = false), unless
+            // the client still holds their state from before they were cleared
             if( !wasCached( item ) ) {
-              setInitialized( item, false );
+              if( isInitialized( item ) && getItemStateCache( item ).restore( item ) ) {
+                renderRestore( item );
+              } else {
+                setInitialized( item, false );
+              }
             }
             renderProperties( item );
           }
@@ -119,9 +126,17 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
   }
 
   private static void renderClear( TableItem item ) {
+    Item evicted = getItemStateCache( item ).put( item );
+    if( evicted != null ) {
+      getRemoteObject( evicted ).call( "forget", null );
+    }
     getRemoteObject( item ).call( "clear", null );
   }
 
+  private static void renderRestore( TableItem item ) {
+    getRemoteObject( item ).call( "restore", null );
+  }
+
   private static int getIndex( TableItem item ) {
     return item.getParent().indexOf( item );
   }
@@ -182,6 +197,10 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
     return wasCached;
   }
 
+  private static ItemStateCache getItemStateCache( TableItem item ) {
+    return item.getParent().getAdapter( ITableAdapter.class ).getItemStateCache();
+  }
+
   private static ITableItemAdapter getTableItemAdapter( TableItem item ) {
     return item.getAdapter( ITableItemAdapter.class );
   }
@@ -194,6 +213,10 @@ public final class TableItemLCA extends WidgetLCA<TableItem> {
     setInitialized( item, initialized );
   }
 
+  private static boolean isInitialized( TableItem item ) {
+    return WidgetUtil.getAdapter( item ).isInitialized();
+  }
+
   private static void setInitialized( TableItem item, boolean initialized ) {
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
     adapter.setInitialized( initialized );
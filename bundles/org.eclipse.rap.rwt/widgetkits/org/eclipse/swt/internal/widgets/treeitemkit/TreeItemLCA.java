@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,7 +31,9 @@ import org.eclipse.swt.internal.widgets.ITreeAdapter;
 import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetFontAdapter;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.swt.widgets.Widget;
 
@@ -94,9 +96,14 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
         @Override
         public void run() {
           // items that were uncached and are now cached (materialized) are handled as if they were
-          // just created (initialized = false)
+          // just created (initialized = false), unless the client still holds their state from
+          // before they were cleared
           if( !wasCached( item ) ) {
-            setInitialized( item, false );
+            if( isInitialized( item ) && getItemStateCache( item ).restore( item ) ) {
+              renderRestore( item );
+            } else {
+              setInitialized( item, false );
+            }
           }
           renderProperties( item );
         }
@@ -105,9 +112,17 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   }
 
   private static void renderClear( TreeItem item ) {
+    Item evicted = getItemStateCache( item ).put( item );
+    if( evicted != null ) {
+      getRemoteObject( evicted ).call( "forget", null );
+    }
     getRemoteObject( item ).call( "clear", null );
   }
 
+  private static void renderRestore( TreeItem item ) {
+    getRemoteObject( item ).call( "restore", null );
+  }
+
   private static void renderProperties( TreeItem item ) {
     renderProperty( item, PROP_ITEM_COUNT, item.getItemCount(), DEFAULT_ITEM_COUNT );
     renderProperty( item, PROP_TEXTS, getTexts( item ), null );
@@ -194,6 +209,10 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
     return getTreeItemAdapter( item ).getCellFonts();
   }
 
+  private static ItemStateCache getItemStateCache( TreeItem item ) {
+    return item.getParent().getAdapter( ITreeAdapter.class ).getItemStateCache();
+  }
+
   private static ITreeItemAdapter getTreeItemAdapter( TreeItem item ) {
     return item.getAdapter( ITreeItemAdapter.class );
   }
@@ -204,6 +223,10 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
     setInitialized( item, initialized );
   }
 
+  private static boolean isInitialized( TreeItem item ) {
+    return WidgetUtil.getAdapter( item ).isInitialized();
+  }
+
   private static void setInitialized( TreeItem item, boolean initialized ) {
     WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
     adapter.setInitialized( initialized );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2009 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -16,6 +16,8 @@ import java.util.Vector;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.internal.widgets.LayoutSolution;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -103,6 +105,13 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 
 	private LayoutCache cache = new LayoutCache();
 
+	// RAP: solutions of the last layout and size computation, reused until the
+	// layout is called with changed == true or the children or their layout
+	// data change
+	private transient LayoutSolution layoutSolution;
+
+	private transient LayoutSolution sizeSolution;
+
 	private class RowSpan {
 		Control child;
 
@@ -147,7 +156,7 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 
 		Control[] children = parent.getChildren();
 		if (changed) {
-			cache.flush();
+			flushCache();
 		}
 
 		cache.setControls(children);
@@ -179,7 +188,7 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 	public int computeMaximumWidth(Composite parent, boolean changed) {
 		Control[] children = parent.getChildren();
 		if (changed) {
-			cache.flush();
+			flushCache();
 		}
 
 		cache.setControls(children);
@@ -211,7 +220,7 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 		Rectangle clientArea = parent.getClientArea();
 		Control[] children = parent.getChildren();
 		if (changed) {
-			cache.flush();
+			flushCache();
 		}
 
 		if (children.length == 0)
@@ -226,6 +235,15 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 			changed = true;
 			initialLayout = false;
 		}
+		int[] key = createSolutionKey(children, clientArea.x, clientArea.y,
+				clientArea.width, clientArea.height);
+		Object[] elements = createSolutionElements(children);
+		if (layoutSolution != null && layoutSolution.matches(key, elements)) {
+			LayoutStatistics.solutionReused();
+			layoutSolution.applyBounds();
+			return;
+		}
+		LayoutSolution solution = new LayoutSolution(key, elements);
 		if (grid == null || changed) {
 			changed = true;
 			grid = new Vector();
@@ -286,6 +304,9 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 				if (td.isItemData) {
 					Control child = children[td.childIndex];
 					placeControl(child, td, x, y, rowHeights, i);
+					Rectangle bounds = child.getBounds();
+					solution.addBounds(child, bounds.x, bounds.y, bounds.width,
+							bounds.height);
 				}
 				x += columnWidths[j];
 				if (j < numColumns - 1)
@@ -293,6 +314,7 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 			}
 			y += rowHeight + verticalSpacing;
 		}
+		layoutSolution = solution;
 	}
 
 	int[] computeRowHeights(Control[] children, int[] columnWidths,
@@ -580,7 +602,7 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 			boolean changed) {
 		Control[] children = parent.getChildren();
 		if (changed) {
-			cache.flush();
+			flushCache();
 		}
 		if (children.length == 0) {
 			return new Point(0, 0);
@@ -594,6 +616,12 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 			changed = true;
 			initialLayout = false;
 		}
+		int[] key = createSolutionKey(children, 0, 0, wHint, hHint);
+		Object[] elements = createSolutionElements(children);
+		if (sizeSolution != null && sizeSolution.matches(key, elements)) {
+			LayoutStatistics.solutionReused();
+			return sizeSolution.getSize();
+		}
 		if (grid == null || changed) {
 			changed = true;
 			grid = new Vector();
@@ -685,7 +713,66 @@ public final class TableWrapLayout extends Layout implements ILayoutExtension {
 		if (!rowspans.isEmpty())
 			innerHeight = compensateForRowSpans(innerHeight);
 		totalHeight = topMargin + innerHeight + bottomMargin;
-		return new Point(tableWidth, totalHeight);
+		Point result = new Point(tableWidth, totalHeight);
+		sizeSolution = new LayoutSolution(key, elements);
+		sizeSolution.setSize(result);
+		return result;
+	}
+
+	/*
+	 * Flushes the cached sizes of the children and the solutions that were
+	 * computed from them.
+	 */
+	private void flushCache() {
+		cache.flush();
+		layoutSolution = null;
+		sizeSolution = null;
+	}
+
+	/*
+	 * Everything a solution depends on besides the identity of the children
+	 * and their layout data. The sizes of the children are cached until the
+	 * layout is called with changed == true.
+	 */
+	int[] createSolutionKey(Control[] children, int x, int y, int width,
+			int height) {
+		int[] key = new int[12 + children.length * 10];
+		int index = 0;
+		key[index++] = x;
+		key[index++] = y;
+		key[index++] = width;
+		key[index++] = height;
+		key[index++] = numColumns;
+		key[index++] = makeColumnsEqualWidth ? 1 : 0;
+		key[index++] = leftMargin;
+		key[index++] = rightMargin;
+		key[index++] = topMargin;
+		key[index++] = bottomMargin;
+		key[index++] = horizontalSpacing;
+		key[index++] = verticalSpacing;
+		for (int i = 0; i < children.length; i++) {
+			TableWrapData td = (TableWrapData) children[i].getLayoutData();
+			key[index++] = td.colspan;
+			key[index++] = td.rowspan;
+			key[index++] = td.align;
+			key[index++] = td.valign;
+			key[index++] = td.indent;
+			key[index++] = td.maxWidth;
+			key[index++] = td.maxHeight;
+			key[index++] = td.heightHint;
+			key[index++] = td.grabHorizontal ? 1 : 0;
+			key[index++] = td.grabVertical ? 1 : 0;
+		}
+		return key;
+	}
+
+	Object[] createSolutionElements(Control[] children) {
+		Object[] elements = new Object[children.length * 2];
+		for (int i = 0; i < children.length; i++) {
+			elements[i * 2] = children[i];
+			elements[i * 2 + 1] = children[i].getLayoutData();
+		}
+		return elements;
 	}
 
 	private void updateRowSpans(int row, int rowHeight) {
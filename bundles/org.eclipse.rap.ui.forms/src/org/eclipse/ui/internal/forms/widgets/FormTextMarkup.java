@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.forms.widgets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The parsed form of a FormText markup. The markup is read with a streaming
+ * parser into a tree of elements and text nodes that only holds what
+ * {@link FormTextModel} needs to create its paragraphs. As the tree is
+ * immutable and independent of any session, parsed markup is cached and
+ * shared by all FormText widgets of the application.
+ */
+public final class FormTextMarkup {
+
+	static final int MAX_CACHE_SIZE = 256;
+
+	// longer markup is parsed each time to keep the memory held by the cache low
+	static final int MAX_CACHED_LENGTH = 64 * 1024;
+
+	private static final String LEXICAL_HANDLER = "http://xml.org/sax/properties/lexical-handler"; //$NON-NLS-1$
+
+	private static final SAXParserFactory parserFactory = SAXParserFactory
+			.newInstance();
+
+	private static final Map cache = new LinkedHashMap(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry eldest) {
+			return size() > MAX_CACHE_SIZE;
+		}
+	};
+
+	static {
+		parserFactory.setNamespaceAware(true);
+	}
+
+	private final Node root;
+
+	private FormTextMarkup(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the parsed form of the given markup. Markup that has been parsed
+	 * before is taken from the cache.
+	 */
+	public static FormTextMarkup parse(String markup)
+			throws ParserConfigurationException, SAXException, IOException {
+		boolean cacheable = markup.length() <= MAX_CACHED_LENGTH;
+		if (cacheable) {
+			synchronized (cache) {
+				FormTextMarkup result = (FormTextMarkup) cache.get(markup);
+				if (result != null)
+					return result;
+			}
+		}
+		FormTextMarkup result = parse(new InputSource(new StringReader(markup)));
+		if (cacheable) {
+			synchronized (cache) {
+				cache.put(markup, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Parses the markup read from the given stream. The result is not cached.
+	 */
+	public static FormTextMarkup parse(InputStream stream)
+			throws ParserConfigurationException, SAXException, IOException {
+		return parse(new InputSource(stream));
+	}
+
+	private static FormTextMarkup parse(InputSource source)
+			throws ParserConfigurationException, SAXException, IOException {
+		SAXParser parser;
+		synchronized (parserFactory) {
+			parser = parserFactory.newSAXParser();
+		}
+		TreeBuilder builder = new TreeBuilder();
+		try {
+			parser.setProperty(LEXICAL_HANDLER, builder);
+		} catch (SAXException e) {
+			// parser does not report CDATA sections, their content is kept as text
+		}
+		parser.parse(source, builder);
+		return new FormTextMarkup(builder.getRoot());
+	}
+
+	static void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	static int getCacheSize() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the root element of the markup.
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	/**
+	 * An element or a text node of the markup.
+	 */
+	public static final class Node {
+
+		private static final Node[] NO_CHILDREN = new Node[0];
+
+		private final String name;
+		private final String text;
+		private final Map attributes;
+		private final Node[] children;
+
+		private Node(String name, Map attributes, Node[] children) {
+			this.name = name;
+			this.text = null;
+			this.attributes = attributes;
+			this.children = children;
+		}
+
+		private Node(String text) {
+			this.name = null;
+			this.text = text;
+			this.attributes = Collections.EMPTY_MAP;
+			this.children = NO_CHILDREN;
+		}
+
+		public boolean isText() {
+			return name == null;
+		}
+
+		/**
+		 * Returns the qualified name of an element or <code>null</code> for
+		 * text nodes.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the content of a text node or <code>null</code> for
+		 * elements.
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Returns the value of the given attribute or <code>null</code> if the
+		 * element does not have this attribute.
+		 */
+		public String getAttribute(String attributeName) {
+			return (String) attributes.get(attributeName);
+		}
+
+		public int getChildCount() {
+			return children.length;
+		}
+
+		public Node getChild(int index) {
+			return children[index];
+		}
+	}
+
+	/*
+	 * Creates the nodes while the markup is parsed. Like in a DOM, adjacent
+	 * character data forms a single text node, while comments are dropped and
+	 * CDATA sections are not treated as text.
+	 */
+	private static final class TreeBuilder extends DefaultHandler implements
+			LexicalHandler {
+
+		private final ArrayList elements = new ArrayList();
+		private final StringBuffer text = new StringBuffer();
+		private boolean inCDATA;
+		private Node root;
+
+		Node getRoot() {
+			return root;
+		}
+
+		public void startElement(String uri, String localName, String qName,
+				Attributes atts) {
+			flushText();
+			Map attributes = Collections.EMPTY_MAP;
+			if (atts.getLength() > 0) {
+				attributes = new HashMap(atts.getLength() * 2);
+				for (int i = 0; i < atts.getLength(); i++) {
+					attributes.put(getName(atts.getQName(i), atts.getLocalName(i)),
+							atts.getValue(i));
+				}
+			}
+			elements.add(new ElementBuilder(getName(qName, localName), attributes));
+		}
+
+		public void endElement(String uri, String localName, String qName) {
+			flushText();
+			ElementBuilder element = (ElementBuilder) elements.remove(elements
+					.size() - 1);
+			Node node = element.build();
+			if (elements.isEmpty()) {
+				root = node;
+			} else {
+				addChild(node);
+			}
+		}
+
+		public void characters(char[] ch, int start, int length) {
+			if (!inCDATA && !elements.isEmpty())
+				text.append(ch, start, length);
+		}
+
+		public void processingInstruction(String target, String data) {
+			flushText();
+		}
+
+		public void startCDATA() {
+			flushText();
+			inCDATA = true;
+		}
+
+		public void endCDATA() {
+			inCDATA = false;
+		}
+
+		public void startDTD(String name, String publicId, String systemId) {
+		}
+
+		public void endDTD() {
+		}
+
+		public void startEntity(String name) {
+		}
+
+		public void endEntity(String name) {
+		}
+
+		public void comment(char[] ch, int start, int length) {
+		}
+
+		private void flushText() {
+			if (text.length() > 0) {
+				addChild(new Node(text.toString()));
+				text.setLength(0);
+			}
+		}
+
+		private void addChild(Node node) {
+			((ElementBuilder) elements.get(elements.size() - 1)).children
+					.add(node);
+		}
+
+		private static String getName(String qName, String localName) {
+			return qName == null || qName.length() == 0 ? localName : qName;
+		}
+	}
+
+	private static final class ElementBuilder {
+
+		final String name;
+		final Map attributes;
+		final ArrayList children = new ArrayList();
+
+		ElementBuilder(String name, Map attributes) {
+			this.name = name;
+			this.attributes = attributes;
+		}
+
+		Node build() {
+			Node[] nodes = Node.NO_CHILDREN;
+			if (!children.isEmpty())
+				nodes = (Node[]) children.toArray(new Node[children.size()]);
+			return new Node(name, attributes, nodes);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,47 +10,19 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.forms.widgets;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 import java.util.Vector;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.ui.forms.HyperlinkSettings;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.ErrorHandler;
-import org.xml.sax.InputSource;
+import org.eclipse.ui.internal.forms.widgets.FormTextMarkup.Node;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 public class FormTextModel {
 
-	/*
-	 * This class prevents parse errors from being written to standard output
-	 */
-	public class ParseErrorHandler implements ErrorHandler {
-
-		public void error(SAXParseException arg0) throws SAXException {
-		}
-
-		public void fatalError(SAXParseException arg0) throws SAXException {
-		}
-
-		public void warning(SAXParseException arg0) throws SAXException {
-		}
-	}
-	
-	private static final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory
-			.newInstance();
-
 	private boolean whitespaceNormalized = true;
 
 	private Vector paragraphs;
@@ -101,32 +73,25 @@ public class FormTextModel {
 	 * @see ITextModel#parse(String)
 	 */
 	public void parseTaggedText(String taggedText, boolean expandURLs) {
-		if (taggedText == null) {
-			reset();
+		reset();
+		if (taggedText == null)
 			return;
-		}
 		try {
-			InputStream stream = new ByteArrayInputStream(taggedText
-					.getBytes("UTF8")); //$NON-NLS-1$
-			parseInputStream(stream, expandURLs);
-		} catch (UnsupportedEncodingException e) {
-			SWT.error(SWT.ERROR_UNSUPPORTED_FORMAT, e);
+			// identical markup is parsed only once per application
+			processDocument(FormTextMarkup.parse(taggedText), expandURLs);
+		} catch (ParserConfigurationException e) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, e, " " + e.getMessage()); //$NON-NLS-1$
+		} catch (SAXException e) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT, e, " " + e.getMessage()); //$NON-NLS-1$
+		} catch (IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
 		}
 	}
 
 	public void parseInputStream(InputStream is, boolean expandURLs) {
-
-		documentBuilderFactory.setNamespaceAware(true);
-		documentBuilderFactory.setIgnoringComments(true);
-
 		reset();
 		try {
-			DocumentBuilder parser = documentBuilderFactory
-					.newDocumentBuilder();
-			parser.setErrorHandler(new ParseErrorHandler());
-			InputSource source = new InputSource(is);
-			Document doc = parser.parse(source);
-			processDocument(doc, expandURLs);
+			processDocument(FormTextMarkup.parse(is), expandURLs);
 		} catch (ParserConfigurationException e) {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT, e, " " + e.getMessage()); //$NON-NLS-1$
 		} catch (SAXException e) {
@@ -136,16 +101,14 @@ public class FormTextModel {
 		}
 	}
 
-	private void processDocument(Document doc, boolean expandURLs) {
-		Node root = doc.getDocumentElement();
-		NodeList children = root.getChildNodes();
-		processSubnodes(paragraphs, children, expandURLs);
+	private void processDocument(FormTextMarkup markup, boolean expandURLs) {
+		processSubnodes(paragraphs, markup.getRoot(), expandURLs);
 	}
 
-	private void processSubnodes(Vector plist, NodeList children, boolean expandURLs) {
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE) {
+	private void processSubnodes(Vector plist, Node parent, boolean expandURLs) {
+		for (int i = 0; i < parent.getChildCount(); i++) {
+			Node child = parent.getChild(i);
+			if (child.isText()) {
 				// Make an implicit paragraph
 				String text = getSingleNodeText(child);
 				if (text != null && !isIgnorableWhiteSpace(text, true)) {
@@ -154,8 +117,8 @@ public class FormTextModel {
 							getHyperlinkSettings(), null);
 					plist.add(p);
 				}
-			} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-				String tag = child.getNodeName().toLowerCase();
+			} else {
+				String tag = child.getName().toLowerCase();
 				if (tag.equals("p")) { //$NON-NLS-1$
 					Paragraph p = processParagraph(child, expandURLs);
 					if (p != null)
@@ -170,32 +133,27 @@ public class FormTextModel {
 	}
 
 	private Paragraph processParagraph(Node paragraph, boolean expandURLs) {
-		NodeList children = paragraph.getChildNodes();
-		NamedNodeMap atts = paragraph.getAttributes();
-		Node addSpaceAtt = atts.getNamedItem("addVerticalSpace"); //$NON-NLS-1$
+		String addSpaceAtt = paragraph.getAttribute("addVerticalSpace"); //$NON-NLS-1$
 		boolean addSpace = true;
 
 		if (addSpaceAtt == null)
-			addSpaceAtt = atts.getNamedItem("vspace"); //$NON-NLS-1$
+			addSpaceAtt = paragraph.getAttribute("vspace"); //$NON-NLS-1$
 
 		if (addSpaceAtt != null) {
-			String value = addSpaceAtt.getNodeValue();
-			addSpace = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			addSpace = addSpaceAtt.equalsIgnoreCase("true"); //$NON-NLS-1$
 		}
 		Paragraph p = new Paragraph(addSpace);
 
-		processSegments(p, children, expandURLs);
+		processSegments(p, paragraph, expandURLs);
 		return p;
 	}
 
 	private Paragraph processListItem(Node listItem, boolean expandURLs) {
-		NodeList children = listItem.getChildNodes();
-		NamedNodeMap atts = listItem.getAttributes();
-		Node addSpaceAtt = atts.getNamedItem("addVerticalSpace");//$NON-NLS-1$
-		Node styleAtt = atts.getNamedItem("style");//$NON-NLS-1$
-		Node valueAtt = atts.getNamedItem("value");//$NON-NLS-1$
-		Node indentAtt = atts.getNamedItem("indent");//$NON-NLS-1$
-		Node bindentAtt = atts.getNamedItem("bindent");//$NON-NLS-1$
+		String addSpaceAtt = listItem.getAttribute("addVerticalSpace");//$NON-NLS-1$
+		String styleAtt = listItem.getAttribute("style");//$NON-NLS-1$
+		String valueAtt = listItem.getAttribute("value");//$NON-NLS-1$
+		String indentAtt = listItem.getAttribute("indent");//$NON-NLS-1$
+		String bindentAtt = listItem.getAttribute("bindent");//$NON-NLS-1$
 		int style = BulletParagraph.CIRCLE;
 		int indent = -1;
 		int bindent = -1;
@@ -203,11 +161,10 @@ public class FormTextModel {
 		boolean addSpace = true;
 
 		if (addSpaceAtt != null) {
-			String value = addSpaceAtt.getNodeValue();
-			addSpace = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			addSpace = addSpaceAtt.equalsIgnoreCase("true"); //$NON-NLS-1$
 		}
 		if (styleAtt != null) {
-			String value = styleAtt.getNodeValue();
+			String value = styleAtt;
 			if (value.equalsIgnoreCase("text")) { //$NON-NLS-1$
 				style = BulletParagraph.TEXT;
 			} else if (value.equalsIgnoreCase("image")) { //$NON-NLS-1$
@@ -217,21 +174,19 @@ public class FormTextModel {
 			}
 		}
 		if (valueAtt != null) {
-			text = valueAtt.getNodeValue();
+			text = valueAtt;
 			if (style == BulletParagraph.IMAGE)
 				text = "i." + text; //$NON-NLS-1$
 		}
 		if (indentAtt != null) {
-			String value = indentAtt.getNodeValue();
 			try {
-				indent = Integer.parseInt(value);
+				indent = Integer.parseInt(indentAtt);
 			} catch (NumberFormatException e) {
 			}
 		}
 		if (bindentAtt != null) {
-			String value = bindentAtt.getNodeValue();
 			try {
-				bindent = Integer.parseInt(value);
+				bindent = Integer.parseInt(bindentAtt);
 			} catch (NumberFormatException e) {
 			}
 		}
@@ -242,25 +197,25 @@ public class FormTextModel {
 		p.setBulletStyle(style);
 		p.setBulletText(text);
 
-		processSegments(p, children, expandURLs);
+		processSegments(p, listItem, expandURLs);
 		return p;
 	}
 
-	private void processSegments(Paragraph p, NodeList children,
+	private void processSegments(Paragraph p, Node parent,
 			boolean expandURLs) {
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
+		for (int i = 0; i < parent.getChildCount(); i++) {
+			Node child = parent.getChild(i);
 			ParagraphSegment segment = null;
 
-			if (child.getNodeType() == Node.TEXT_NODE) {
+			if (child.isText()) {
 				String value = getSingleNodeText(child);
 
 				if (value != null && !isIgnorableWhiteSpace(value, false)) {
 					p.parseRegularText(value, expandURLs, true,
 							getHyperlinkSettings(), null);
 				}
-			} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-				String name = child.getNodeName();
+			} else {
+				String name = child.getName();
 				if (name.equalsIgnoreCase("img")) { //$NON-NLS-1$
 					segment = processImageSegment(child);
 				} else if (name.equalsIgnoreCase("a")) { //$NON-NLS-1$
@@ -306,23 +261,20 @@ public class FormTextModel {
 	private ControlSegment processControlSegment(Node control) {
 		ControlSegment segment = new ControlSegment();
 		processObjectSegment(segment, control, "o."); //$NON-NLS-1$
-		Node fill = control.getAttributes().getNamedItem("fill"); //$NON-NLS-1$
+		String fill = control.getAttribute("fill"); //$NON-NLS-1$
 		if (fill!=null) {
-			String value = fill.getNodeValue();
-			boolean doFill = value.equalsIgnoreCase("true"); //$NON-NLS-1$
+			boolean doFill = fill.equalsIgnoreCase("true"); //$NON-NLS-1$
 			segment.setFill(doFill);
 		}
 		try {
-			Node width = control.getAttributes().getNamedItem("width"); //$NON-NLS-1$
+			String width = control.getAttribute("width"); //$NON-NLS-1$
 			if (width!=null) {
-				String value = width.getNodeValue();
-				int doWidth = Integer.parseInt(value);
+				int doWidth = Integer.parseInt(width);
 				segment.setWidth(doWidth);
 			}
-			Node height = control.getAttributes().getNamedItem("height"); //$NON-NLS-1$
+			String height = control.getAttribute("height"); //$NON-NLS-1$
 			if (height!=null) {
-				String value = height.getNodeValue();
-				int doHeight = Integer.parseInt(value);
+				int doHeight = Integer.parseInt(height);
 				segment.setHeight(doHeight);
 			}
 		}
@@ -333,15 +285,13 @@ public class FormTextModel {
 	}
 
 	private void processObjectSegment(ObjectSegment segment, Node object, String prefix) {
-		NamedNodeMap atts = object.getAttributes();
-		Node id = atts.getNamedItem("href"); //$NON-NLS-1$
-		Node align = atts.getNamedItem("align"); //$NON-NLS-1$
+		String id = object.getAttribute("href"); //$NON-NLS-1$
+		String align = object.getAttribute("align"); //$NON-NLS-1$
 		if (id != null) {
-			String value = id.getNodeValue();
-			segment.setObjectId(prefix + value);
+			segment.setObjectId(prefix + id);
 		}
 		if (align != null) {
-			String value = align.getNodeValue().toLowerCase();
+			String value = align.toLowerCase();
 			if (value.equals("top")) //$NON-NLS-1$
 				segment.setVerticalAlignment(ImageSegment.TOP);
 			else if (value.equals("middle")) //$NON-NLS-1$
@@ -387,18 +337,17 @@ public class FormTextModel {
 	}
 
 	private String getSingleNodeText(Node node) {
-		return getNormalizedText(node.getNodeValue());
+		return getNormalizedText(node.getText());
 	}
 
 	private String getNodeText(Node node) {
-		NodeList children = node.getChildNodes();
 		StringBuffer buf = new StringBuffer();
 		int[] spaceCounter = new int[1];
 
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE) {
-				String value = child.getNodeValue();
+		for (int i = 0; i < node.getChildCount(); i++) {
+			Node child = node.getChild(i);
+			if (child.isText()) {
+				String value = child.getText();
 				appendText(value, buf, spaceCounter);
 			}
 		}
@@ -407,23 +356,17 @@ public class FormTextModel {
 
 	private ParagraphSegment processHyperlinkSegment(Node link,
 			HyperlinkSettings settings) {
-		NamedNodeMap atts = link.getAttributes();
-		String href = null;
+		String href = link.getAttribute("href"); //$NON-NLS-1$
 		boolean wrapAllowed = true;
 		String boldFontId = null;
 
-		Node hrefAtt = atts.getNamedItem("href"); //$NON-NLS-1$
-		if (hrefAtt != null) {
-			href = hrefAtt.getNodeValue();
-		}
-		Node boldAtt = atts.getNamedItem("bold"); //$NON-NLS-1$
+		String boldAtt = link.getAttribute("bold"); //$NON-NLS-1$
 		if (boldAtt != null) {
 			boldFontId = BOLD_FONT_ID;
 		}
-		Node nowrap = atts.getNamedItem("nowrap"); //$NON-NLS-1$
+		String nowrap = link.getAttribute("nowrap"); //$NON-NLS-1$
 		if (nowrap != null) {
-			String value = nowrap.getNodeValue();
-			if (value != null && value.equalsIgnoreCase("true")) //$NON-NLS-1$
+			if (nowrap.equalsIgnoreCase("true")) //$NON-NLS-1$
 				wrapAllowed = false;
 		}
 		Object status = checkChildren(link);
@@ -432,12 +375,12 @@ public class FormTextModel {
 			ImageHyperlinkSegment segment = new ImageHyperlinkSegment();
 			segment.setHref(href);
 			segment.setWordWrapAllowed(wrapAllowed);
-			Node alt = child.getAttributes().getNamedItem("alt"); //$NON-NLS-1$
+			String alt = child.getAttribute("alt"); //$NON-NLS-1$
 			if (alt!=null)
-				segment.setTooltipText(alt.getNodeValue());
-			Node text = child.getAttributes().getNamedItem("text"); //$NON-NLS-1$
+				segment.setTooltipText(alt);
+			String text = child.getAttribute("text"); //$NON-NLS-1$
 			if (text!=null)
-				segment.setText(text.getNodeValue());
+				segment.setText(text);
 			processObjectSegment(segment, child, "i."); //$NON-NLS-1$
 			return segment;
 		}  else if (status instanceof String) {
@@ -446,34 +389,33 @@ public class FormTextModel {
 					settings, null);
 			segment.setHref(href);
 			segment.setFontId(boldFontId);
-			Node alt = atts.getNamedItem("alt"); //$NON-NLS-1$
+			String alt = link.getAttribute("alt"); //$NON-NLS-1$
 			if (alt!=null)
-				segment.setTooltipText(alt.getNodeValue());
+				segment.setTooltipText(alt);
 			segment.setWordWrapAllowed(wrapAllowed);
 			return segment;
 		} else {
 			AggregateHyperlinkSegment parent = new AggregateHyperlinkSegment();
 			parent.setHref(href);
-			NodeList children = link.getChildNodes();
-			for (int i = 0; i < children.getLength(); i++) {
-				Node child = children.item(i);
-				if (child.getNodeType() == Node.TEXT_NODE) {
-					String value = child.getNodeValue();
+			for (int i = 0; i < link.getChildCount(); i++) {
+				Node child = link.getChild(i);
+				if (child.isText()) {
+					String value = child.getText();
 					TextHyperlinkSegment ts = new TextHyperlinkSegment(
 							getNormalizedText(value), settings, null);
-					Node alt = atts.getNamedItem("alt"); //$NON-NLS-1$
+					String alt = link.getAttribute("alt"); //$NON-NLS-1$
 					if (alt!=null)
-						ts.setTooltipText(alt.getNodeValue());
+						ts.setTooltipText(alt);
 					ts.setWordWrapAllowed(wrapAllowed);
 					parent.add(ts);
-				} else if (child.getNodeType() == Node.ELEMENT_NODE) {
-					String name = child.getNodeName();
+				} else {
+					String name = child.getName();
 					if (name.equalsIgnoreCase("img")) { //$NON-NLS-1$
 						ImageHyperlinkSegment is = new ImageHyperlinkSegment();
 						processObjectSegment(is, child, "i."); //$NON-NLS-1$
-						Node alt = child.getAttributes().getNamedItem("alt"); //$NON-NLS-1$
+						String alt = child.getAttribute("alt"); //$NON-NLS-1$
 						if (alt!=null)
-							is.setTooltipText(alt.getNodeValue());
+							is.setTooltipText(alt);
 						parent.add(is);
 						is.setWordWrapAllowed(wrapAllowed);
 					}
@@ -488,13 +430,11 @@ public class FormTextModel {
 		Node imgNode = null;
 		//int status = 0;
 
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.TEXT_NODE)
+		for (int i = 0; i < node.getChildCount(); i++) {
+			Node child = node.getChild(i);
+			if (child.isText())
 				text = true;
-			else if (child.getNodeType() == Node.ELEMENT_NODE
-					&& child.getNodeName().equalsIgnoreCase("img")) { //$NON-NLS-1$
+			else if (child.getName().equalsIgnoreCase("img")) { //$NON-NLS-1$
 				imgNode = child;
 			}
 		}
@@ -509,23 +449,21 @@ public class FormTextModel {
 			Node textNode) {
 		String text = getNodeText(textNode);
 
-		NamedNodeMap atts = textNode.getAttributes();
-		Node font = atts.getNamedItem("font"); //$NON-NLS-1$
-		Node color = atts.getNamedItem("color"); //$NON-NLS-1$
+		String font = textNode.getAttribute("font"); //$NON-NLS-1$
+		String color = textNode.getAttribute("color"); //$NON-NLS-1$
 		boolean wrapAllowed=true;
-		Node nowrap = atts.getNamedItem("nowrap"); //$NON-NLS-1$
+		String nowrap = textNode.getAttribute("nowrap"); //$NON-NLS-1$
 		if (nowrap != null) {
-			String value = nowrap.getNodeValue();
-			if (value != null && value.equalsIgnoreCase("true")) //$NON-NLS-1$
+			if (nowrap.equalsIgnoreCase("true")) //$NON-NLS-1$
 				wrapAllowed = false;
 		}
 		String fontId = null;
 		String colorId = null;
 		if (font != null) {
-			fontId = "f." + font.getNodeValue(); //$NON-NLS-1$
+			fontId = "f." + font; //$NON-NLS-1$
 		}
 		if (color != null) {
-			colorId = "c." + color.getNodeValue(); //$NON-NLS-1$
+			colorId = "c." + color; //$NON-NLS-1$
 		}
 		p.parseRegularText(text, expandURLs, wrapAllowed, getHyperlinkSettings(), fontId,
 				colorId);
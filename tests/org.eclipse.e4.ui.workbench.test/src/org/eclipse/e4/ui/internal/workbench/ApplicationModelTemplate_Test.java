@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ApplicationModelTemplate_Test {
+
+	private static final URI DEFINITION = URI.createURI("platform:/plugin/test/Application.e4xmi"); //$NON-NLS-1$
+
+	private IExtensionRegistry registry;
+	private E4XMIResource processed;
+
+	@Before
+	public void setUp() {
+		registry = mock(IExtensionRegistry.class);
+		processed = createProcessedModel();
+	}
+
+	@After
+	public void tearDown() {
+		ApplicationModelTemplate.dispose();
+	}
+
+	@Test
+	public void testGet_withoutTemplate() {
+		assertNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	@Test
+	public void testPut_reusesProcessedModel() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+		E4XMIResource first = copyTemplate();
+		E4XMIResource second = copyTemplate();
+
+		MApplication application = (MApplication) first.getContents().get(0);
+		assertEquals("app", application.getElementId()); //$NON-NLS-1$
+		assertEquals("window", application.getChildren().get(0).getElementId()); //$NON-NLS-1$
+		assertEquals("window-xmi-id", first.getID((EObject) application.getChildren().get(0))); //$NON-NLS-1$
+		assertNotSame(application, second.getContents().get(0));
+		assertNotSame(processed.getContents().get(0), application);
+	}
+
+	@Test
+	public void testPut_isIndependentOfProcessedModel() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		((MApplication) processed.getContents().get(0)).setElementId("changed"); //$NON-NLS-1$
+
+		MApplication application = (MApplication) copyTemplate().getContents().get(0);
+		assertEquals("app", application.getElementId()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testGetGeneration_registersInvalidationListener() {
+		ApplicationModelTemplate.getGeneration(registry);
+
+		verify(registry).addListener(any(IRegistryEventListener.class),
+				eq(ModelAssembler.extensionPointID));
+	}
+
+	@Test
+	public void testClear_discardsTemplates() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		ApplicationModelTemplate.clear();
+
+		assertNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	@Test
+	public void testPut_afterClear_isNotStored() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+
+		ApplicationModelTemplate.clear();
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		assertNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	@Test
+	public void testPut_withNewGenerationAfterClear() {
+		ApplicationModelTemplate.getGeneration(registry);
+		ApplicationModelTemplate.clear();
+
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		assertNotNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	@Test
+	public void testRegistryChange_discardsTemplates() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		getInvalidationListener().added(new IExtension[0]);
+
+		assertNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	@Test
+	public void testRegistryChange_whileBuildingModel() {
+		int generation = ApplicationModelTemplate.getGeneration(registry);
+
+		getInvalidationListener().removed(new IExtension[0]);
+		ApplicationModelTemplate.put(DEFINITION, processed, generation);
+
+		assertNull(ApplicationModelTemplate.get(DEFINITION));
+	}
+
+	private IRegistryEventListener getInvalidationListener() {
+		ArgumentCaptor<IRegistryEventListener> captor = ArgumentCaptor
+				.forClass(IRegistryEventListener.class);
+		verify(registry).addListener(captor.capture(), eq(ModelAssembler.extensionPointID));
+		return captor.getValue();
+	}
+
+	private static E4XMIResource copyTemplate() {
+		E4XMIResource result = new E4XMIResource();
+		ApplicationModelTemplate.get(DEFINITION).copyTo(result);
+		return result;
+	}
+
+	private static E4XMIResource createProcessedModel() {
+		MApplication application = MApplicationFactory.INSTANCE.createApplication();
+		application.setElementId("app"); //$NON-NLS-1$
+		MTrimmedWindow window = MBasicFactory.INSTANCE.createTrimmedWindow();
+		window.setElementId("window"); //$NON-NLS-1$
+		application.getChildren().add(window);
+		E4XMIResource result = new E4XMIResource(DEFINITION);
+		result.getContents().add((EObject) application);
+		result.setID((EObject) window, "window-xmi-id"); //$NON-NLS-1$
+		return result;
+	}
+}
@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventHandler;
+
+
+public class SessionEventBus_Test {
+
+  private QueueExecutor executor;
+  private FakeEventAdmin eventAdmin;
+  private SessionEventBus bus;
+
+  @Before
+  public void setUp() {
+    executor = new QueueExecutor();
+    eventAdmin = new FakeEventAdmin();
+    bus = new SessionEventBus( executor, eventAdmin );
+  }
+
+  @After
+  public void tearDown() {
+    bus.dispose();
+  }
+
+  @Test
+  public void testSend_exactTopic() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a/b", null, handler );
+
+    bus.send( createEvent( "id/a" ) );
+    bus.send( createEvent( "id/a/b" ) );
+    bus.send( createEvent( "id/a/b/c" ) );
+    bus.send( createEvent( "id/a/bc" ) );
+
+    assertEquals( singletonList( "id/a/b" ), handler.topics );
+  }
+
+  @Test
+  public void testSend_wildcardTopic_matchesAllSubTopics() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a/*", null, handler );
+
+    bus.send( createEvent( "id/a" ) );
+    bus.send( createEvent( "id/a/b" ) );
+    bus.send( createEvent( "id/a/b/c" ) );
+    bus.send( createEvent( "id/b/a" ) );
+
+    assertEquals( asList( "id/a/b", "id/a/b/c" ), handler.topics );
+  }
+
+  @Test
+  public void testSend_wildcardOnly_matchesEveryTopic() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "*", null, handler );
+
+    bus.send( createEvent( "id" ) );
+    bus.send( createEvent( "id/a/b" ) );
+
+    assertEquals( asList( "id", "id/a/b" ), handler.topics );
+  }
+
+  @Test
+  public void testSend_sharedTopicPrefix() {
+    RecordingHandler handlerB = new RecordingHandler();
+    RecordingHandler handlerC = new RecordingHandler();
+    RecordingHandler handlerA = new RecordingHandler();
+    bus.subscribe( "id/a/b", null, handlerB );
+    bus.subscribe( "id/a/c", null, handlerC );
+    bus.subscribe( "id/a", null, handlerA );
+
+    bus.send( createEvent( "id/a/c" ) );
+
+    assertEquals( emptyList(), handlerB.topics );
+    assertEquals( singletonList( "id/a/c" ), handlerC.topics );
+    assertEquals( emptyList(), handlerA.topics );
+  }
+
+  @Test
+  public void testSend_withFilter() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a", "(key=foo)", handler );
+
+    bus.send( createEvent( "id/a", "bar" ) );
+    bus.send( createEvent( "id/a", "foo" ) );
+
+    assertEquals( singletonList( "id/a" ), handler.topics );
+    assertEquals( "foo", handler.events.get( 0 ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testSubscribe_withInvalidFilter() {
+    RecordingHandler handler = new RecordingHandler();
+
+    boolean subscribed = bus.subscribe( "id/a", "(key=", handler );
+    bus.send( createEvent( "id/a" ) );
+
+    assertFalse( subscribed );
+    assertEquals( emptyList(), handler.topics );
+  }
+
+  @Test
+  public void testSend_isolatesFailingHandler() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a", null, new EventHandler() {
+      @Override
+      public void handleEvent( Event event ) {
+        throw new RuntimeException();
+      }
+    } );
+    bus.subscribe( "id/a", null, handler );
+
+    bus.send( createEvent( "id/a" ) );
+
+    assertEquals( singletonList( "id/a" ), handler.topics );
+  }
+
+  @Test
+  public void testUnsubscribe_removesAllSubscriptionsOfHandler() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a", null, handler );
+    bus.subscribe( "id/b/*", null, handler );
+
+    boolean unsubscribed = bus.unsubscribe( handler );
+    bus.send( createEvent( "id/a" ) );
+    bus.send( createEvent( "id/b/c" ) );
+
+    assertTrue( unsubscribed );
+    assertEquals( emptyList(), handler.topics );
+  }
+
+  @Test
+  public void testUnsubscribe_unknownHandler() {
+    assertFalse( bus.unsubscribe( new RecordingHandler() ) );
+  }
+
+  @Test
+  public void testPost_deliversWithExecutor() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a", null, handler );
+
+    bus.post( createEvent( "id/a" ) );
+
+    assertEquals( emptyList(), handler.topics );
+    executor.runAll();
+    assertEquals( singletonList( "id/a" ), handler.topics );
+  }
+
+  @Test
+  public void testPost_schedulesSingleDeliveryForConsecutiveEvents() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/*", null, handler );
+
+    bus.post( createEvent( "id/a" ) );
+    bus.post( createEvent( "id/b" ) );
+    bus.post( createEvent( "id/c" ) );
+
+    assertEquals( 1, executor.tasks.size() );
+    executor.runAll();
+    assertEquals( asList( "id/a", "id/b", "id/c" ), handler.topics );
+  }
+
+  @Test
+  public void testPost_keepsOrderWithConcurrentExecutor() throws InterruptedException {
+    int count = 1000;
+    ExecutorService threadPool = Executors.newFixedThreadPool( 4 );
+    SessionEventBus concurrentBus = new SessionEventBus( threadPool, new FakeEventAdmin() );
+    final CountDownLatch delivered = new CountDownLatch( count );
+    final List<Object> received = Collections.synchronizedList( new ArrayList<Object>() );
+    concurrentBus.subscribe( "id/a", null, new EventHandler() {
+      @Override
+      public void handleEvent( Event event ) {
+        received.add( event.getProperty( "key" ) );
+        delivered.countDown();
+      }
+    } );
+    List<Object> expected = new ArrayList<>();
+
+    try {
+      for( int i = 0; i < count; i++ ) {
+        expected.add( Integer.valueOf( i ) );
+        concurrentBus.post( createEvent( "id/a", Integer.valueOf( i ) ) );
+      }
+      assertTrue( delivered.await( 10, TimeUnit.SECONDS ) );
+    } finally {
+      concurrentBus.dispose();
+      threadPool.shutdownNow();
+    }
+
+    assertEquals( expected, received );
+  }
+
+  @Test
+  public void testPost_afterExecutorShutdown() {
+    ExecutorService threadPool = Executors.newSingleThreadExecutor();
+    threadPool.shutdown();
+    SessionEventBus stoppedBus = new SessionEventBus( threadPool, new FakeEventAdmin() );
+    RecordingHandler handler = new RecordingHandler();
+    stoppedBus.subscribe( "id/a", null, handler );
+
+    stoppedBus.post( createEvent( "id/a" ) );
+    stoppedBus.post( createEvent( "id/a" ) );
+
+    assertEquals( emptyList(), handler.topics );
+  }
+
+  @Test
+  public void testDispose_discardsPostedEvents() {
+    RecordingHandler handler = new RecordingHandler();
+    bus.subscribe( "id/a", null, handler );
+    bus.post( createEvent( "id/a" ) );
+
+    bus.dispose();
+    executor.runAll();
+    bus.post( createEvent( "id/a" ) );
+    bus.send( createEvent( "id/a" ) );
+
+    assertEquals( emptyList(), handler.topics );
+    assertEquals( 0, executor.tasks.size() );
+  }
+
+  @Test
+  public void testSend_forwardsToEventAdmin() {
+    RecordingHandler sessionHandler = new RecordingHandler();
+    RecordingHandler globalHandler = new RecordingHandler();
+    bus.subscribe( "id/a", null, sessionHandler );
+    eventAdmin.handler = globalHandler;
+
+    bus.send( createEvent( "id/a" ) );
+
+    assertEquals( singletonList( "id/a" ), sessionHandler.topics );
+    assertEquals( singletonList( "id/a" ), globalHandler.topics );
+    assertEquals( 0, eventAdmin.postedEvents.size() );
+  }
+
+  @Test
+  public void testPost_forwardsToEventAdmin() {
+    RecordingHandler sessionHandler = new RecordingHandler();
+    RecordingHandler globalHandler = new RecordingHandler();
+    bus.subscribe( "id/a", null, sessionHandler );
+    eventAdmin.handler = globalHandler;
+
+    bus.post( createEvent( "id/a" ) );
+
+    assertEquals( emptyList(), globalHandler.topics );
+    eventAdmin.deliverPostedEvents();
+    executor.runAll();
+    assertEquals( singletonList( "id/a" ), sessionHandler.topics );
+    assertEquals( singletonList( "id/a" ), globalHandler.topics );
+  }
+
+  @Test
+  public void testDispose_stopsForwardingToEventAdmin() {
+    RecordingHandler globalHandler = new RecordingHandler();
+    eventAdmin.handler = globalHandler;
+
+    bus.dispose();
+    bus.send( createEvent( "id/a" ) );
+    bus.post( createEvent( "id/a" ) );
+    eventAdmin.deliverPostedEvents();
+
+    assertEquals( emptyList(), globalHandler.topics );
+  }
+
+  @Test
+  public void testBridgeFilter_excludesSessionEvents() throws InvalidSyntaxException {
+    Filter filter = FrameworkUtil.createFilter( SessionEventBus.BRIDGE_FILTER );
+
+    assertFalse( createEvent( "id/a", SessionEventBus.SESSION_EVENT, Boolean.TRUE ).matches( filter ) );
+    assertTrue( createEvent( "id/a" ).matches( filter ) );
+  }
+
+  private static Event createEvent( String topic ) {
+    return new Event( topic, ( Map<String, ?> )null );
+  }
+
+  private static Event createEvent( String topic, Object value ) {
+    return createEvent( topic, "key", value );
+  }
+
+  private static Event createEvent( String topic, String key, Object value ) {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put( key, value );
+    return new Event( topic, properties );
+  }
+
+  private static class RecordingHandler implements EventHandler {
+
+    final List<Event> events = new ArrayList<>();
+    final List<String> topics = new ArrayList<>();
+
+    @Override
+    public void handleEvent( Event event ) {
+      events.add( event );
+      topics.add( event.getTopic() );
+    }
+
+  }
+
+  private static class FakeEventAdmin implements EventAdmin {
+
+    final List<Event> postedEvents = new ArrayList<>();
+    EventHandler handler;
+
+    @Override
+    public void sendEvent( Event event ) {
+      if( handler != null ) {
+        handler.handleEvent( event );
+      }
+    }
+
+    @Override
+    public void postEvent( Event event ) {
+      postedEvents.add( event );
+    }
+
+    void deliverPostedEvents() {
+      while( !postedEvents.isEmpty() ) {
+        sendEvent( postedEvents.remove( 0 ) );
+      }
+    }
+
+  }
+
+  private static class QueueExecutor implements Executor {
+
+    final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public void execute( Runnable task ) {
+      tasks.add( task );
+    }
+
+    void runAll() {
+      while( !tasks.isEmpty() ) {
+        tasks.remove( 0 ).run();
+      }
+    }
+
+  }
+
+}
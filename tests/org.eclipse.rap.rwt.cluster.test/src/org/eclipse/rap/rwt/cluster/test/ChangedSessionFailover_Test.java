@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.test;
+
+import static org.eclipse.rap.rwt.cluster.testfixture.ClusterTestHelper.getFirstUISession;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.cluster.test.entrypoints.AsyncExecEntryPoint;
+import org.eclipse.rap.rwt.cluster.test.entrypoints.ButtonEntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ClusterTestHelper;
+import org.eclipse.rap.rwt.cluster.testfixture.client.RWTClient;
+import org.eclipse.rap.rwt.cluster.testfixture.client.Response;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineCluster;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineFactory;
+import org.eclipse.rap.rwt.cluster.testfixture.server.JettyFactory;
+import org.eclipse.rap.rwt.cluster.testfixture.server.TomcatFactory;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+
+/*
+ * Session failover with only those UI sessions being replicated that changed during a request.
+ */
+@SuppressWarnings("restriction")
+@RunWith( Parameterized.class )
+public class ChangedSessionFailover_Test {
+
+  private final IServletEngineFactory servletEngineFactory;
+  private IServletEngineCluster cluster;
+  private IServletEngine primary;
+  private IServletEngine secondary;
+  private RWTClient client;
+
+  @Parameters
+  public static Collection<Object[]> getParameters() {
+    return Arrays.asList( new Object[][] { { new JettyFactory() }, { new TomcatFactory() } } );
+  }
+
+  public ChangedSessionFailover_Test( IServletEngineFactory servletEngineFactory ) {
+    this.servletEngineFactory = servletEngineFactory;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY, "true" );
+    ClusterTestHelper.enableUITests( true );
+    cluster = servletEngineFactory.createServletEngineCluster();
+    primary = cluster.addServletEngine();
+    secondary = cluster.addServletEngine();
+    client = new RWTClient( primary );
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    cluster.stop();
+    System.clearProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY );
+  }
+
+  @Test
+  public void testButtonEntryPoint() throws Exception {
+    initializeClient( ButtonEntryPoint.class );
+    clickCenterButton( 1, 4 );
+
+    cluster.removeServletEngine( primary );
+    client.changeServletEngine( secondary );
+    clickCenterButton( 5, 8 );
+
+    assertEquals( 1, secondary.getSessions().length );
+    HttpSession secondarySession = ClusterTestHelper.getFirstHttpSession( secondary );
+    assertNotNull( ClusterTestHelper.getSessionDisplay( secondarySession, client.getConnectionId() ) );
+  }
+
+  @Test
+  public void testAsyncExecEntryPoint() throws Exception {
+    initializeClient( AsyncExecEntryPoint.class );
+    // the runnable is added outside of a request, the next request must replicate it
+    AsyncExecEntryPoint.scheduleAsyncRunnable( getFirstDisplay( primary ) );
+    client.sendDisplayResizeRequest( 200, 200 );
+
+    cluster.removeServletEngine( primary );
+    client.changeServletEngine( secondary );
+    client.sendDisplayResizeRequest( 100, 100 );
+
+    prepareExamination( secondary, client.getConnectionId() );
+    UISession secondaryUiSession = getFirstUISession( secondary, client.getConnectionId() );
+    assertTrue( AsyncExecEntryPoint.wasRunnableExecuted( secondaryUiSession ) );
+  }
+
+  private void initializeClient( Class<? extends EntryPoint> entryPoint ) throws Exception {
+    cluster.start( entryPoint );
+    client.sendStartupRequest();
+    client.sendInitializationRequest();
+  }
+
+  private static void prepareExamination( IServletEngine servletEngine, String connectionId ) {
+    HttpSession session = ClusterTestHelper.getFirstHttpSession( servletEngine );
+    UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( session, connectionId );
+    ServletContext servletContext = session.getServletContext();
+    uiSession.setApplicationContext( ApplicationContextImpl.getFrom( servletContext ) );
+    Display display = ClusterTestHelper.getSessionDisplay( session, connectionId );
+    display.getAdapter( IDisplayAdapter.class ).attachThread();
+  }
+
+  private Display getFirstDisplay( IServletEngine servletEngine ) {
+    HttpSession session = ClusterTestHelper.getFirstHttpSession( servletEngine );
+    return ClusterTestHelper.getSessionDisplay( session, client.getConnectionId() );
+  }
+
+  private void clickCenterButton( int start, int end ) throws IOException {
+    for( int i = start; i <= end; i++ ) {
+      Response response = client.sendWidgetSelectedRequest( "w5" );
+      assertTrue( response.isValidJsonResponse() );
+      String expectedLabelPart = "relocated " + i + "/1";
+      String msg = "label update mismatch, missing part: '" + expectedLabelPart + "'";
+      assertTrue( msg, response.getContentText().contains( expectedLabelPart ) );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -162,6 +162,36 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ComboTest", {
       widget.destroy();
     },
 
+    testInsertAndRemoveItemsByProtocol : function() {
+      Processor.processOperation( {
+        "target" : "w3",
+        "action" : "create",
+        "type" : "rwt.widgets.Combo",
+        "properties" : {
+          "style" : [],
+          "parent" : "w2",
+          "items" : [ "a", "b", "c" ]
+        }
+      } );
+      var widget = ObjectRegistry.getObject( "w3" );
+
+      Processor.processOperation( {
+        "target" : "w3",
+        "action" : "call",
+        "method" : "removeItems",
+        "properties" : { "index" : 0, "count" : 1 }
+      } );
+      Processor.processOperation( {
+        "target" : "w3",
+        "action" : "call",
+        "method" : "insertItems",
+        "properties" : { "index" : 1, "items" : [ "x", "y" ] }
+      } );
+
+      assertEquals( [ "b", "x", "y", "c" ], widget._list.getItems() );
+      widget.destroy();
+    },
+
     testSetListVisibleByProtocol : function() {
       Processor.processOperation( {
         "target" : "w3",
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -108,6 +108,83 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.GCCanvasTest", {
       assertFalse( context.isPointInPath( 130, 131 ) );
       canvas.destroy();
       TestUtil.flush();
+    },
+
+    testDrawPolylines : function() {
+      var TestUtil = org.eclipse.rwt.test.fixture.TestUtil;
+      var canvas = new rwt.widgets.Composite();
+      canvas.setDimension( 300, 300 );
+      canvas.addToDocument();
+      TestUtil.flush();
+      var gc = new rwt.widgets.GC( canvas );
+      gc.init( 0, 0, 300, 300,
+               [ [ "Arial" ], 10, false, false ],
+               [ 255, 0, 0, 255 ], [ 0, 0, 255, 255 ] );
+
+      gc.draw( [
+        [ "polylines", true, [ 10, 10, 20, 10, 20, 20, 10, 20 ], [ 50, 50, 60, 50, 60, 60 ] ]
+      ] );
+
+      var context = gc._context;
+      assertTrue( context.isPointInPath( 15, 15 ) );
+      assertTrue( context.isPointInPath( 58, 52 ) );
+      assertFalse( context.isPointInPath( 30, 30 ) );
+      assertFalse( context.isPointInPath( 52, 58 ) );
+      canvas.destroy();
+      TestUtil.flush();
+    },
+
+    testDrawPolylines_strokesSubpathsWithoutJoins : function() {
+      var TestUtil = org.eclipse.rwt.test.fixture.TestUtil;
+      var canvas = new rwt.widgets.Composite();
+      canvas.setDimension( 300, 300 );
+      canvas.addToDocument();
+      TestUtil.flush();
+      var gc = new rwt.widgets.GC( canvas );
+      gc.init( 0, 0, 300, 300,
+               [ [ "Arial" ], 10, false, false ],
+               [ 255, 0, 0, 255 ], [ 0, 0, 255, 255 ] );
+
+      gc.draw( [
+        [ "lineWidth", 10 ],
+        [ "polylines", false, [ 20, 50, 50, 50 ], [ 50, 50, 50, 80 ] ]
+      ] );
+
+      var context = gc._context;
+      assertEquals( [ 0, 0, 255, 255 ], this._getPixel( context, 30, 50 ) );
+      assertEquals( [ 0, 0, 255, 255 ], this._getPixel( context, 50, 70 ) );
+      assertEquals( [ 0, 0, 0, 0 ], this._getPixel( context, 53, 47 ) );
+      canvas.destroy();
+      TestUtil.flush();
+    },
+
+    testDrawPoints : function() {
+      var TestUtil = org.eclipse.rwt.test.fixture.TestUtil;
+      var canvas = new rwt.widgets.Composite();
+      canvas.setDimension( 300, 300 );
+      canvas.addToDocument();
+      TestUtil.flush();
+      var gc = new rwt.widgets.GC( canvas );
+      gc.init( 0, 0, 300, 300,
+               [ [ "Arial" ], 10, false, false ],
+               [ 255, 0, 0, 255 ], [ 0, 0, 255, 255 ] );
+
+      var context = gc._context;
+      var fillStyle = context.fillStyle;
+
+      gc.draw( [ [ "points", [ 0, 255, 0, 255 ], 10, 20, 30, 40 ] ] );
+
+      assertEquals( [ 0, 255, 0, 255 ], this._getPixel( context, 10, 20 ) );
+      assertEquals( [ 0, 255, 0, 255 ], this._getPixel( context, 30, 40 ) );
+      assertEquals( [ 0, 0, 0, 0 ], this._getPixel( context, 11, 20 ) );
+      assertEquals( fillStyle, context.fillStyle );
+      canvas.destroy();
+      TestUtil.flush();
+    },
+
+    _getPixel : function( context, x, y ) {
+      var data = context.getImageData( x, y, 1, 1 ).data;
+      return [ data[ 0 ], data[ 1 ], data[ 2 ], data[ 3 ] ];
     }
 
   }
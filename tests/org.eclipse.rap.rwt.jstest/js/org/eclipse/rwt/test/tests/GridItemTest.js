@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -591,6 +591,55 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.GridItemTest", {
       tree.destroy();
     },
 
+    testRestoreByProtocol : function() {
+      var shell = TestUtil.createShellByProtocol( "w2" );
+      var tree = this._createTreeByProtocol( "w3", "w2", [] );
+      MessageProcessor.processOperation( {
+        "target" : "w4",
+        "action" : "create",
+        "type" : "rwt.widgets.GridItem",
+        "properties" : {
+          "parent" : "w3",
+          "index": 0,
+          "texts" : [ "foo" ]
+        }
+      } );
+      TestUtil.protocolCall( "w4", "clear" );
+
+      TestUtil.protocolCall( "w4", "restore" );
+
+      var item = ObjectRegistry.getObject( "w4" );
+      assertTrue( item.isCached() );
+      assertEquals( "foo", item.getText( 0 ) );
+      shell.destroy();
+      tree.destroy();
+    },
+
+    testForgetByProtocol : function() {
+      var shell = TestUtil.createShellByProtocol( "w2" );
+      var tree = this._createTreeByProtocol( "w3", "w2", [] );
+      MessageProcessor.processOperation( {
+        "target" : "w4",
+        "action" : "create",
+        "type" : "rwt.widgets.GridItem",
+        "properties" : {
+          "parent" : "w3",
+          "index": 0,
+          "texts" : [ "foo" ]
+        }
+      } );
+      TestUtil.protocolCall( "w4", "clear" );
+
+      TestUtil.protocolCall( "w4", "forget" );
+      TestUtil.protocolCall( "w4", "restore" );
+
+      var item = ObjectRegistry.getObject( "w4" );
+      assertFalse( item.isCached() );
+      assertEquals( "...", item.getText( 0 ) );
+      shell.destroy();
+      tree.destroy();
+    },
+
     testCreateItem : function() {
       var item = new rwt.widgets.GridItem();
       assertTrue( item instanceof rwt.widgets.GridItem );
@@ -730,6 +779,70 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.GridItemTest", {
       assertEquals( 0, item.getColumnSpan( 1 ) );
     },
 
+    testRestore : function() {
+      var item = new rwt.widgets.GridItem();
+      item.setImages( [ [ "test1.jpg", 10, 10 ] ] );
+      item.setTexts( [ "bla", "blubg" ] );
+      item.setCellBackgrounds( [ "red", "blue" ] );
+      item.setFont( "arial" );
+      item.setVariant( "foo" );
+      item.setChecked( true );
+      item.clear();
+
+      item.restore();
+
+      assertTrue( item.isCached() );
+      assertTrue( item.isChecked() );
+      assertEquals( "bla", item.getText( 0 ) );
+      assertEquals( "blubg", item.getText( 1 ) );
+      assertEquals( [ "test1.jpg", 10, 10 ], item.getImage( 0 ) );
+      assertEquals( "blue", item.getCellBackground( 1 ) );
+      assertEquals( "arial", item.getCellFont( 0 ) );
+      assertEquals( "foo", item.getVariant() );
+    },
+
+    testRestore_withoutTexts : function() {
+      var item = new rwt.widgets.GridItem();
+      item.clear();
+
+      item.restore();
+
+      assertEquals( "", item.getText( 0 ) );
+    },
+
+    testRestore_withoutClear : function() {
+      var item = new rwt.widgets.GridItem();
+      item.setTexts( [ "bla" ] );
+
+      item.restore();
+
+      assertEquals( "bla", item.getText( 0 ) );
+    },
+
+    testRestore_afterMarkCached : function() {
+      var item = new rwt.widgets.GridItem();
+      item.setTexts( [ "bla" ] );
+      item.clear();
+      item.markCached();
+      item.setTexts( [ "foo" ] );
+
+      item.restore();
+
+      assertEquals( "foo", item.getText( 0 ) );
+    },
+
+    testForget : function() {
+      var item = new rwt.widgets.GridItem();
+      item.setTexts( [ "bla" ] );
+      item.clear();
+
+      item.forget();
+      item.restore();
+
+      assertFalse( item.isCached() );
+      assertEquals( "...", item.getText( 0 ) );
+    },
+
     testParent : function() {
       var item = new rwt.widgets.GridItem();
       var child = new rwt.widgets.GridItem( item, 0 );
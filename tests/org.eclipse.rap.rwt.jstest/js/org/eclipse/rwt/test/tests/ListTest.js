@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -110,6 +110,75 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ListTest", {
       widget.destroy();
     },
 
+    testInsertItemsByProtocol : function() {
+      var shell = TestUtil.createShellByProtocol( "w2" );
+      MessageProcessor.processOperation( {
+        "target" : "w3",
+        "action" : "create",
+        "type" : "rwt.widgets.List",
+        "properties" : {
+          "style" : [],
+          "parent" : "w2",
+          "items" : [ "a", "d" ]
+        }
+      } );
+      var widget = ObjectRegistry.getObject( "w3" );
+
+      MessageProcessor.processOperation( {
+        "target" : "w3",
+        "action" : "call",
+        "method" : "insertItems",
+        "properties" : {
+          "index" : 1,
+          "items" : [ "b", "c" ]
+        }
+      } );
+
+      var items = widget.getItems();
+      assertEquals( 4, widget.getItemsCount() );
+      assertEquals( "b", items[ 1 ].getLabel() );
+      assertEquals( "c", items[ 2 ].getLabel() );
+      assertEquals( "d", items[ 3 ].getLabel() );
+      assertTrue( items[ 2 ].hasState( "even" ) );
+      assertFalse( items[ 3 ].hasState( "even" ) );
+      shell.destroy();
+      widget.destroy();
+    },
+
+    testRemoveItemsByProtocol : function() {
+      var shell = TestUtil.createShellByProtocol( "w2" );
+      MessageProcessor.processOperation( {
+        "target" : "w3",
+        "action" : "create",
+        "type" : "rwt.widgets.List",
+        "properties" : {
+          "style" : [ "MULTI" ],
+          "parent" : "w2",
+          "items" : [ "a", "b", "c", "d" ],
+          "selectionIndices" : [ 1, 3 ]
+        }
+      } );
+      var widget = ObjectRegistry.getObject( "w3" );
+
+      MessageProcessor.processOperation( {
+        "target" : "w3",
+        "action" : "call",
+        "method" : "removeItems",
+        "properties" : {
+          "index" : 0,
+          "count" : 2
+        }
+      } );
+
+      var items = widget.getItems();
+      assertEquals( 2, widget.getItemsCount() );
+      assertEquals( "c", items[ 0 ].getLabel() );
+      assertTrue( items[ 0 ].hasState( "even" ) );
+      assertEquals( [ items[ 1 ] ], widget.getSelectedItems() );
+      shell.destroy();
+      widget.destroy();
+    },
+
     testSetItemsEscapeTextByProtocol : function() {
       var shell = TestUtil.createShellByProtocol( "w2" );
       MessageProcessor.processOperation( {
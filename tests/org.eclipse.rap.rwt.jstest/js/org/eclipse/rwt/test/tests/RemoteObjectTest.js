@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -105,12 +105,121 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.RemoteObjectTest", {
       assertFalse( remoteObject.isListening( "Modify" ) );
     },
 
+    testNotify_withThrottlePolicy_delaysRequest : function() {
+      remoteObject._.listen[ "Selection" ] = true;
+      remoteObject.setEventPolicy( [ "throttle", 100 ] );
+
+      remoteObject.notify( "Selection", { "index" : 1 } );
+      remoteObject.notify( "Selection", { "index" : 2 } );
+
+      assertEquals( 0, TestUtil.getRequestsSend() );
+      TestUtil.forceInterval( remoteObject._.policyTimer );
+      assertEquals( 1, TestUtil.getRequestsSend() );
+      assertEquals( 2, TestUtil.getMessageObject().getOperationCount() );
+      assertFalse( remoteObject._.policyTimer.isEnabled() );
+    },
+
+    testNotify_withThrottlePolicy_doesNotRestartTimer : function() {
+      remoteObject._.listen[ "Selection" ] = true;
+      remoteObject.setEventPolicy( [ "throttle", 100 ] );
+      remoteObject.notify( "Selection", { "index" : 1 } );
+      var restart = remoteObject._.policyTimer.restart;
+      var restarted = false;
+      remoteObject._.policyTimer.restart = function() {
+        restarted = true;
+        restart.apply( this, arguments );
+      };
+
+      remoteObject.notify( "Selection", { "index" : 2 } );
+
+      assertFalse( restarted );
+    },
+
+    testNotify_withDebouncePolicy_restartsTimer : function() {
+      remoteObject._.listen[ "Selection" ] = true;
+      remoteObject.setEventPolicy( [ "debounce", 300 ] );
+      remoteObject.notify( "Selection", { "index" : 1 } );
+      var restart = remoteObject._.policyTimer.restart;
+      var restarted = false;
+      remoteObject._.policyTimer.restart = function() {
+        restarted = true;
+        restart.apply( this, arguments );
+      };
+
+      remoteObject.notify( "Selection", { "index" : 2 } );
+
+      assertTrue( restarted );
+      assertEquals( 0, TestUtil.getRequestsSend() );
+      TestUtil.forceInterval( remoteObject._.policyTimer );
+      assertEquals( 1, TestUtil.getRequestsSend() );
+    },
+
+    testNotify_withSuppressSend_ignoresPolicy : function() {
+      remoteObject._.listen[ "KeyDown" ] = true;
+      remoteObject.setEventPolicy( [ "throttle", 100 ] );
+
+      remoteObject.notify( "KeyDown", {}, true );
+
+      assertFalse( remoteObject._.policyTimer.isEnabled() );
+    },
+
+    testSetEventPolicy_resetToNull : function() {
+      remoteObject._.listen[ "Selection" ] = true;
+      remoteObject.setEventPolicy( [ "throttle", 100 ] );
+
+      remoteObject.setEventPolicy( null );
+      remoteObject.notify( "Selection", { "index" : 1 } );
+
+      assertEquals( 1, TestUtil.getRequestsSend() );
+    },
+
+    testSetEventPolicyByProtocol : function() {
+      TestUtil.protocolSet( "w2", { "eventPolicy" : [ "debounce", 200 ] } );
+
+      assertEquals( "debounce", remoteObject._.policy );
+      assertEquals( 200, remoteObject._.policyTimer.getInterval() );
+    },
+
+    testDestroyByProtocol_disposesPolicyTimer : function() {
+      var composite = TestUtil.createWidgetByProtocol( "w3", "w2" );
+      var childRemoteObject = rwt.remote.RemoteObjectFactory.getRemoteObject( composite );
+      childRemoteObject._.listen[ "Selection" ] = true;
+      childRemoteObject.setEventPolicy( [ "throttle", 100 ] );
+      childRemoteObject.notify( "Selection", { "index" : 1 } );
+      var timer = childRemoteObject._.policyTimer;
+
+      rwt.remote.MessageProcessor.processOperation( {
+        "target" : "w3",
+        "action" : "destroy"
+      } );
+
+      assertTrue( timer.isDisposed() );
+      assertNull( childRemoteObject._.policyTimer );
+    },
+
+    testPolicyInterval_afterWidgetDisposed_doesNotSend : function() {
+      var composite = TestUtil.createWidgetByProtocol( "w3", "w2" );
+      var childRemoteObject = rwt.remote.RemoteObjectFactory.getRemoteObject( composite );
+      childRemoteObject._.listen[ "Selection" ] = true;
+      childRemoteObject.setEventPolicy( [ "throttle", 100 ] );
+      childRemoteObject.notify( "Selection", { "index" : 1 } );
+      var timer = childRemoteObject._.policyTimer;
+
+      composite.destroy();
+      TestUtil.flush();
+      TestUtil.forceInterval( timer );
+
+      assertEquals( 0, TestUtil.getRequestsSend() );
+      assertTrue( timer.isDisposed() );
+    },
+
     setUp : function() {
       shell = TestUtil.createShellByProtocol( "w2" );
       remoteObject = rwt.remote.RemoteObjectFactory.getRemoteObject( shell );
     },
 
     tearDown : function() {
+      remoteObject.setEventPolicy( null );
       shell.destroy();
       shell = null;
     }
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+
+/**
+ * Measures building JSON objects with 10, 100 and 10000 members and looking up their members by
+ * name. This is not a test, run it as a Java application.
+ */
+public class JsonObjectBenchmark {
+
+  private static final int[] SIZES = { 10, 100, 10000 };
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int ROUNDS = 10;
+  private static final int OPERATIONS = 1000000;
+
+  public static void main( String[] args ) {
+    for( int size : SIZES ) {
+      String[] names = createNames( size );
+      for( int i = 0; i < WARMUP_ROUNDS; i++ ) {
+        measureAdd( names );
+        measureGet( names );
+      }
+      long add = Long.MAX_VALUE;
+      long get = Long.MAX_VALUE;
+      for( int i = 0; i < ROUNDS; i++ ) {
+        add = Math.min( add, measureAdd( names ) );
+        get = Math.min( get, measureGet( names ) );
+      }
+      System.out.println( "members=" + size + " add=" + add + "ns/op get=" + get + "ns/op" );
+    }
+  }
+
+  private static long measureAdd( String[] names ) {
+    int objects = Math.max( 1, OPERATIONS / names.length / 10 );
+    long start = System.nanoTime();
+    int result = 0;
+    for( int i = 0; i < objects; i++ ) {
+      result += createObject( names ).size();
+    }
+    long time = System.nanoTime() - start;
+    consume( result );
+    return time / ( ( long )objects * names.length );
+  }
+
+  private static long measureGet( String[] names ) {
+    JsonObject object = createObject( names );
+    long start = System.nanoTime();
+    int result = 0;
+    for( int i = 0; i < OPERATIONS; i++ ) {
+      result += object.get( names[ i % names.length ] ).asInt();
+    }
+    long time = System.nanoTime() - start;
+    consume( result );
+    return time / OPERATIONS;
+  }
+
+  private static JsonObject createObject( String[] names ) {
+    JsonObject object = new JsonObject();
+    for( int i = 0; i < names.length; i++ ) {
+      object.add( names[ i ], i );
+    }
+    return object;
+  }
+
+  private static String[] createNames( int size ) {
+    String[] names = new String[ size ];
+    for( int i = 0; i < size; i++ ) {
+      names[ i ] = "member-" + i;
+    }
+    return names;
+  }
+
+  private static void consume( int result ) {
+    if( result == 42 ) {
+      System.out.println();
+    }
+  }
+
+}
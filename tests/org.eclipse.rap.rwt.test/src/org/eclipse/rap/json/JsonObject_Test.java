@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 EclipseSource.
+ * Copyright (c) 2008, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -706,6 +706,111 @@ public class JsonObject_Test {
     assertEquals( 257, object.indexOf( "a" ) );
   }
 
+  @Test
+  public void indexOf_forLargeObject() {
+    for( int i = 0; i < 1000; i++ ) {
+      object.add( "x-" + i, i );
+    }
+
+    assertEquals( 0, object.indexOf( "x-0" ) );
+    assertEquals( 500, object.indexOf( "x-500" ) );
+    assertEquals( 999, object.indexOf( "x-999" ) );
+    assertEquals( -1, object.indexOf( "x-1000" ) );
+  }
+
+  @Test
+  public void indexOf_returnsIndexOfLastMember_forLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "a", i );
+    }
+
+    assertEquals( 99, object.indexOf( "a" ) );
+    assertEquals( 99, object.get( "a" ).asInt() );
+  }
+
+  @Test
+  public void indexOf_returnsIndexOfLastMember_afterRemove_forLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+    object.add( "a", 1 );
+    object.add( "b", 2 );
+    object.add( "a", 3 );
+
+    object.remove( "a" );
+
+    assertEquals( 100, object.indexOf( "a" ) );
+    assertEquals( 101, object.indexOf( "b" ) );
+    object.remove( "a" );
+    assertEquals( -1, object.indexOf( "a" ) );
+    assertEquals( 100, object.indexOf( "b" ) );
+  }
+
+  @Test
+  public void indexOf_returnsUpdatedIndexAfterRemove_forLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+
+    object.remove( "x-10" );
+
+    assertEquals( -1, object.indexOf( "x-10" ) );
+    assertEquals( 9, object.indexOf( "x-9" ) );
+    assertEquals( 10, object.indexOf( "x-11" ) );
+    assertEquals( 98, object.indexOf( "x-99" ) );
+  }
+
+  @Test
+  public void set_replacesMember_forLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+
+    object.set( "x-50", "foo" );
+
+    assertEquals( 100, object.size() );
+    assertEquals( "foo", object.get( "x-50" ).asString() );
+  }
+
+  @Test
+  public void copyConstructor_indexesLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+
+    JsonObject copy = new JsonObject( object );
+
+    assertEquals( 50, copy.indexOf( "x-50" ) );
+    assertEquals( -1, copy.indexOf( "foo" ) );
+  }
+
+  @Test
+  public void unmodifiableObject_reflectsChangesOfLargeObject() {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+    JsonObject unmodifiableObject = JsonObject.unmodifiableObject( object );
+
+    object.add( "foo", 23 );
+    object.remove( "x-0" );
+
+    assertEquals( 23, unmodifiableObject.get( "foo" ).asInt() );
+    assertNull( unmodifiableObject.get( "x-0" ) );
+    assertEquals( 1, unmodifiableObject.get( "x-1" ).asInt() );
+  }
+
+  @Test
+  public void deserializedLargeObjectCanBeAccessed() throws Exception {
+    for( int i = 0; i < 100; i++ ) {
+      object.add( "x-" + i, i );
+    }
+
+    JsonObject deserializedObject = serializeAndDeserialize( object );
+
+    assertEquals( 50, deserializedObject.get( "x-50" ).asInt() );
+    assertNull( deserializedObject.get( "foo" ) );
+  }
+
   @Test
   public void hashIndexTable_copyConstructor() {
     HashIndexTable original = new HashIndexTable();
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Measures looking up existing singletons of 20 types in a singleton manager, from one thread and
+ * from four threads at the same time. This is not a test, run it as a Java application.
+ */
+public class SingletonManagerBenchmark {
+
+  private static final Class<?>[] TYPES = {
+    Object.class,
+    StringBuilder.class,
+    ArrayList.class,
+    LinkedList.class,
+    HashMap.class,
+    TreeMap.class,
+    HashSet.class,
+    TreeSet.class,
+    ArrayDeque.class,
+    Vector.class,
+    Stack.class,
+    Hashtable.class,
+    LinkedHashMap.class,
+    LinkedHashSet.class,
+    IdentityHashMap.class,
+    WeakHashMap.class,
+    ConcurrentHashMap.class,
+    ConcurrentLinkedQueue.class,
+    CopyOnWriteArrayList.class,
+    Date.class
+  };
+  private static final int[] THREADS = { 1, 4 };
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int ROUNDS = 10;
+  private static final int OPERATIONS = 10000000;
+
+  public static void main( String[] args ) throws InterruptedException {
+    SingletonManager singletonManager = new SingletonManager();
+    for( Class<?> type : TYPES ) {
+      singletonManager.getSingleton( type );
+    }
+    for( int threads : THREADS ) {
+      for( int i = 0; i < WARMUP_ROUNDS; i++ ) {
+        measureGet( singletonManager, threads );
+      }
+      long get = Long.MAX_VALUE;
+      for( int i = 0; i < ROUNDS; i++ ) {
+        get = Math.min( get, measureGet( singletonManager, threads ) );
+      }
+      System.out.println( "threads=" + threads + " get=" + get + "ns/op" );
+    }
+  }
+
+  private static long measureGet( final SingletonManager singletonManager, int threadCount )
+    throws InterruptedException
+  {
+    Thread[] threads = new Thread[ threadCount ];
+    for( int i = 0; i < threadCount; i++ ) {
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          int result = 0;
+          for( int i = 0; i < OPERATIONS; i++ ) {
+            result += singletonManager.getSingleton( TYPES[ i % TYPES.length ] ).hashCode();
+          }
+          consume( result );
+        }
+      } );
+    }
+    long start = System.nanoTime();
+    for( Thread thread : threads ) {
+      thread.start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+    long time = System.nanoTime() - start;
+    return time / OPERATIONS;
+  }
+
+  private static void consume( int result ) {
+    if( result == 42 ) {
+      System.out.println();
+    }
+  }
+
+}
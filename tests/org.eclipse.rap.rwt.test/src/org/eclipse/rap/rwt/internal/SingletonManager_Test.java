@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,11 +21,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -220,6 +223,46 @@ public class SingletonManager_Test {
     assertEquals( singleton.value, deserializedSingleton.value );
   }
 
+  @Test
+  public void testSerialize_withMultipleSingletons() throws Exception {
+    SingletonManager singletonManager = new SingletonManager();
+    SerializableTestSingleton singleton
+      = singletonManager.getSingleton( SerializableTestSingleton.class );
+    singleton.value = Integer.valueOf( 4711 );
+    singletonManager.getSingleton( OtherSerializableTestSingleton.class ).value = "foo";
+
+    SingletonManager deserialized = serializeAndDeserialize( singletonManager );
+
+    assertEquals( singleton.value,
+                  deserialized.getSingleton( SerializableTestSingleton.class ).value );
+    assertEquals( "foo", deserialized.getSingleton( OtherSerializableTestSingleton.class ).value );
+  }
+
+  @Test
+  public void testGetSingleton_withTypeFirstUsedAfterCreation() {
+    SingletonManager singletonManager = new SingletonManager();
+    Object singleton = singletonManager.getSingleton( TestSingleton.class );
+
+    Object lateSingleton = singletonManager.getSingleton( LateTestSingleton.class );
+
+    assertSame( singleton, singletonManager.getSingleton( TestSingleton.class ) );
+    assertSame( lateSingleton, singletonManager.getSingleton( LateTestSingleton.class ) );
+  }
+
+  @Test
+  public void testGetSingleton_reusesSlotsOfUnloadedTypes() throws Exception {
+    int rounds = 10;
+    int slotCount = SingletonManager.getSlotCount();
+
+    for( int i = 0; i < rounds; i++ ) {
+      Class<?> type = loadInSeparateClassLoader( UnloadableTestSingleton.class );
+      new SingletonManager().getSingleton( type );
+      System.gc();
+    }
+
+    assertTrue( SingletonManager.getSlotCount() - slotCount < rounds );
+  }
+
   @Test( expected = NotSerializableException.class )
   public void testSerializableWithNonSerializableSingleton() throws IOException {
     SingletonManager singletonManager = new SingletonManager();
@@ -228,6 +271,13 @@ public class SingletonManager_Test {
     serialize( singletonManager );
   }
 
+  private static Class<?> loadInSeparateClassLoader( Class<?> type ) throws Exception {
+    URL location = type.getProtectionDomain().getCodeSource().getLocation();
+    try( URLClassLoader classLoader = new URLClassLoader( new URL[] { location }, null ) ) {
+      return classLoader.loadClass( type.getName() );
+    }
+  }
+
   private static class TestSingleton {
   }
 
@@ -253,7 +303,18 @@ public class SingletonManager_Test {
     Integer value;
   }
 
+  private static class OtherSerializableTestSingleton implements Serializable {
+    private static final long serialVersionUID = 1L;
+    String value;
+  }
+
   private static class NonSerializableTestSingleton {
   }
 
+  private static class LateTestSingleton {
+  }
+
+  public static class UnloadableTestSingleton {
+  }
+
 }
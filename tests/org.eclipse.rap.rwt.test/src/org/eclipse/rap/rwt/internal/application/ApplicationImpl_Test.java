@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.rap.rwt.internal.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -23,12 +24,15 @@ import org.eclipse.rap.rwt.application.Application.OperationMode;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
 import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.engine.RWTClusterSupport;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.RWTLifeCycle;
 import org.eclipse.rap.rwt.internal.lifecycle.SimpleLifeCycle;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.TestServletContext;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,6 +52,11 @@ public class ApplicationImpl_Test {
     application = new ApplicationImpl( applicationContext, applicationConfiguration );
   }
 
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.LAZY_RESOURCE_REGISTRATION );
+  }
+
   @Test
   public void testDefaultOperationMode() {
     applicationContext.activate();
@@ -96,6 +105,21 @@ public class ApplicationImpl_Test {
     assertFilterRegistered( RWTClusterSupport.class );
   }
 
+  @Test
+  public void testSetOperationModeToSessionFailover_registersResourcesEagerly() {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    servletContext.setVersion( 3, 0 );
+    servletContext.addServlet( "rwtServlet", new RWTServlet() );
+
+    application.setOperationMode( OperationMode.SESSION_FAILOVER );
+    applicationContext.activate();
+
+    ResourceManagerImpl resourceManager
+      = ( ResourceManagerImpl )applicationContext.getResourceManager();
+    assertFalse( resourceManager.supportsLazyRegistration() );
+    assertEquals( 0, resourceManager.getPendingResourceCount() );
+  }
+
   @Test
   public void testSetOperationModeToSessionFailoverWithMissingRWTServlet() {
     servletContext.setVersion( 3, 0 );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,26 +10,34 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.engine;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.endsWith;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 
 public class RWTClusterSupport_Test {
@@ -50,6 +58,11 @@ public class RWTClusterSupport_Test {
     rwtClusterSupport = new RWTClusterSupport();
   }
 
+  @After
+  public void tearDown() {
+    System.clearProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY );
+  }
+
   @Test
   public void testDoFilter_passesParametersToFilterChain() throws Exception {
     rwtClusterSupport.doFilter( request, response, chain );
@@ -128,6 +141,72 @@ public class RWTClusterSupport_Test {
     verify( httpSession ).setAttribute( endsWith( "foo" ), same( deserializedUISession ) );
   }
 
+  @Test
+  public void testDoFilter_marksUnchangedUISessionAsChangedByDefault() throws Exception {
+    rwtClusterSupport.init( mock( FilterConfig.class ) );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    deserializedUISession.attachToHttpSession();
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, times( 2 ) ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withChangedSessionsOnly_skipsUnchangedUISession() throws Exception {
+    System.setProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY, "true" );
+    rwtClusterSupport.init( mock( FilterConfig.class ) );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    deserializedUISession.attachToHttpSession();
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, times( 1 ) ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_withChangedSessionsOnly_marksChangedUISession() throws Exception {
+    System.setProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY, "true" );
+    rwtClusterSupport.init( mock( FilterConfig.class ) );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    final UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    deserializedUISession.attachToHttpSession();
+    setUISession( httpSession, deserializedUISession );
+    doAnswer( new Answer<Object>() {
+      @Override
+      public Object answer( InvocationOnMock invocation ) {
+        deserializedUISession.setAttribute( "foo", "bar" );
+        return null;
+      }
+    } ).when( chain ).doFilter( same( request ), same( response ) );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, times( 2 ) ).setAttribute( anyString(), same( deserializedUISession ) );
+    assertFalse( deserializedUISession.isChanged() );
+  }
+
+  @Test
+  public void testDoFilter_withChangedSessionsOnly_marksNewUISession() throws Exception {
+    System.setProperty( RWTProperties.REPLICATE_CHANGED_SESSIONS_ONLY, "true" );
+    rwtClusterSupport.init( mock( FilterConfig.class ) );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl uiSession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, uiSession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( uiSession ) );
+  }
+
   private static HttpSession mockHttpSession() {
     return mockHttpSession( mock( ServletContext.class ) );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -57,7 +57,8 @@ public class ReadData_Test {
   public void testExecute_triggersLCAsReadData() {
     StringBuilder log = new StringBuilder();
     Display display = new Display();
-    new TestWidget( display, log );
+    TestWidget widget = new TestWidget( display, log );
+    Fixture.fakeSetProperty( widget.id, "foo", "bar" );
 
     readData.execute( display );
 
@@ -65,6 +66,17 @@ public class ReadData_Test {
                   LoggingWidgetRemoteAdapter.CLEAR_PRESERVED, log.toString() );
   }
 
+  @Test
+  public void testExecute_skipsLCAsReadDataWithoutOperations() {
+    StringBuilder log = new StringBuilder();
+    Display display = new Display();
+    new TestWidget( display, log );
+
+    readData.execute( display );
+
+    assertEquals( LoggingWidgetRemoteAdapter.CLEAR_PRESERVED, log.toString() );
+  }
+
   @Test
   public void testExecute_triggersLCAsPreservesValues() {
     StringBuilder log = new StringBuilder();
@@ -74,16 +86,17 @@ public class ReadData_Test {
 
     readData.execute( display );
 
-    assertEquals( LoggingWidgetLCA.READ_DATA +
-                  LoggingWidgetRemoteAdapter.CLEAR_PRESERVED +
+    assertEquals( LoggingWidgetRemoteAdapter.CLEAR_PRESERVED +
                   LoggingWidgetLCA.PRESERVE_VALUES, log.toString() );
   }
 
   private final class TestWidget extends Shell {
     private final StringBuilder log;
+    private final String id;
     private TestWidget( Display display, StringBuilder log ) {
       super( display );
       this.log = log;
+      id = super.getAdapter( RemoteAdapter.class ).getId();
     }
     @Override
     @SuppressWarnings("unchecked")
@@ -92,7 +105,7 @@ public class ReadData_Test {
       if( adapter == WidgetLCA.class ) {
         result = new LoggingWidgetLCA( log );
       } else if( adapter == RemoteAdapter.class ) {
-        result = new LoggingWidgetRemoteAdapter( "testId", log );
+        result = new LoggingWidgetRemoteAdapter( id, log );
       } else {
         result = super.getAdapter( adapter );
       }
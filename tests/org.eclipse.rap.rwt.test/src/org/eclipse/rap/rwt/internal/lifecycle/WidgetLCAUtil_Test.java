@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -110,28 +110,28 @@ public class WidgetLCAUtil_Test {
     List list = new List( shell, SWT.MULTI );
 
     boolean hasChanged;
-    hasChanged = WidgetLCAUtil.hasChanged( list, "items", new String[] { "a" } );
+    hasChanged = WidgetLCAUtil.hasChanged( list, "array", new String[] { "a" } );
     assertTrue( hasChanged );
 
     list.setItems( new String[] { "a" } );
     Fixture.markInitialized( display );
-    Fixture.preserveWidgets();
-    hasChanged = WidgetLCAUtil.hasChanged( list, "items", new String[] { "a" } );
+    WidgetLCAUtil.preserveProperty( list, "array", list.getItems() );
+    hasChanged = WidgetLCAUtil.hasChanged( list, "array", new String[] { "a" } );
     assertFalse( hasChanged );
 
     list.setItems( new String[] { "a" } );
-    Fixture.preserveWidgets();
-    hasChanged = WidgetLCAUtil.hasChanged( list, "items", new String[] { "b" } );
+    WidgetLCAUtil.preserveProperty( list, "array", list.getItems() );
+    hasChanged = WidgetLCAUtil.hasChanged( list, "array", new String[] { "b" } );
     assertTrue( hasChanged );
 
     list.setItems( new String[] { "a" } );
-    Fixture.preserveWidgets();
-    hasChanged = WidgetLCAUtil.hasChanged( list, "items", new String[] { "a", "b" } );
+    WidgetLCAUtil.preserveProperty( list, "array", list.getItems() );
+    hasChanged = WidgetLCAUtil.hasChanged( list, "array", new String[] { "a", "b" } );
     assertTrue( hasChanged );
 
     list.setItems( new String[] { "a" } );
-    Fixture.preserveWidgets();
-    hasChanged = WidgetLCAUtil.hasChanged( list, "items", null );
+    WidgetLCAUtil.preserveProperty( list, "array", list.getItems() );
+    hasChanged = WidgetLCAUtil.hasChanged( list, "array", null );
     assertTrue( hasChanged );
 
     list.setItems( new String[] { "a", "b", "c" } );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -61,6 +61,22 @@ public class WidgetUtil_Test {
     assertNull( WidgetUtil.find( composite, shellId ) );
   }
 
+  @Test
+  public void testFind_ignoresChildShells() {
+    Shell childShell = new Shell( shell );
+    Button button = new Button( childShell, SWT.PUSH );
+    String buttonId = WidgetUtil.getId( button );
+
+    assertNull( WidgetUtil.find( shell, buttonId ) );
+    assertSame( button, WidgetUtil.find( childShell, buttonId ) );
+  }
+
+  @Test
+  public void testFind_withUnknownId() {
+    assertNull( WidgetUtil.find( shell, "w12345" ) );
+    assertNull( WidgetUtil.find( shell, "foo" ) );
+  }
+
   @Test
   public void testGetVariant() {
     shell.setData( RWT.CUSTOM_VARIANT, "foo" );
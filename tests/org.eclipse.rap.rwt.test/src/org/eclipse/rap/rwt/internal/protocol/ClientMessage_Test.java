@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
@@ -64,6 +66,28 @@ public class ClientMessage_Test {
     assertTrue( operations.get( 1 ) instanceof NotifyOperation );
   }
 
+  @Test
+  public void testGetTargets_inOrderOfFirstOperation() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"set\", \"w4\", { \"foo\" : 23 } ],"
+                + "[ \"set\", \"w3\", { \"foo\" : 42 } ],"
+                + "[ \"notify\", \"w4\", \"event\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<String> targets = new ArrayList<>( message.getTargets() );
+
+    assertEquals( Arrays.asList( "w4", "w3" ), targets );
+  }
+
+  @Test
+  public void testGetTargets_withEmptyMessage() {
+    String json = "{ \"head\" : {}, \"operations\" : [] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    assertTrue( message.getTargets().isEmpty() );
+  }
+
   @Test
   public void testGetAllOperationsFor_withEmptyMessage() {
     String json = "{ \"head\" : {}, \"operations\" : [] }";
@@ -98,6 +122,81 @@ public class ClientMessage_Test {
     assertTrue( operations.isEmpty() );
   }
 
+  @Test
+  public void testGetCoalescedOperationsFor_mergesConsecutiveNotifies() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"Selection\", { \"count\" : 1 } ],"
+                + "[ \"set\", \"w3\", { \"selection\" : 2 } ],"
+                + "[ \"notify\", \"w3\", \"Selection\", { \"count\" : 2 } ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<Operation> operations
+      = message.getCoalescedOperationsFor( "w3", Arrays.asList( "Selection" ) );
+
+    assertEquals( 2, operations.size() );
+    assertTrue( operations.get( 0 ) instanceof SetOperation );
+    NotifyOperation notify = ( NotifyOperation )operations.get( 1 );
+    assertEquals( 2, notify.getProperties().get( "count" ).asInt() );
+  }
+
+  @Test
+  public void testGetCoalescedOperationsFor_keepsNotifiesOfOtherEvents() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"Selection\", { \"count\" : 1 } ],"
+                + "[ \"notify\", \"w3\", \"Modify\", {} ],"
+                + "[ \"notify\", \"w3\", \"Selection\", { \"count\" : 2 } ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<Operation> operations
+      = message.getCoalescedOperationsFor( "w3", Arrays.asList( "Selection", "Modify" ) );
+
+    assertEquals( 3, operations.size() );
+  }
+
+  @Test
+  public void testGetCoalescedOperationsFor_keepsNotifiesSeparatedByCall() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"Selection\", {} ],"
+                + "[ \"call\", \"w3\", \"foo\", {} ],"
+                + "[ \"notify\", \"w3\", \"Selection\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<Operation> operations
+      = message.getCoalescedOperationsFor( "w3", Arrays.asList( "Selection" ) );
+
+    assertEquals( 3, operations.size() );
+  }
+
+  @Test
+  public void testGetCoalescedOperationsFor_keepsNotifiesOfUnlistedEvents() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"Help\", {} ],"
+                + "[ \"notify\", \"w3\", \"Help\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<Operation> operations
+      = message.getCoalescedOperationsFor( "w3", Arrays.asList( "Selection" ) );
+
+    assertEquals( 2, operations.size() );
+  }
+
+  @Test
+  public void testGetCoalescedOperationsFor_withoutMatchingOperations() {
+    String json = "{ \"head\" : {}, \"operations\" : ["
+                + "[ \"notify\", \"w3\", \"Selection\", {} ]"
+                + "] }";
+    ClientMessage message = new ClientMessage( JsonObject.readFrom( json ) );
+
+    List<Operation> operations
+      = message.getCoalescedOperationsFor( "w5", Arrays.asList( "Selection" ) );
+
+    assertTrue( operations.isEmpty() );
+  }
+
   @Test
   public void testGetAllCallOperations() {
     String json = "{ \"head\" : {}, \"operations\" : ["
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -31,6 +33,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 
 public class DeferredRemoteObject_Test {
@@ -249,6 +252,125 @@ public class DeferredRemoteObject_Test {
     verify( writer, times( 1 ) ).appendSet( eq( objectId ), eq( "property" ), eq( 23 ) );
   }
 
+  @Test
+  public void testSet_rendersLastValueOnly() {
+    remoteObject.set( "property", 23 );
+    remoteObject.set( "property", "foo" );
+    remoteObject.set( "property", 42 );
+
+    remoteObject.render( writer );
+
+    verify( writer, never() ).appendSet( anyString(), anyString(), eq( "foo" ) );
+    verify( writer, never() ).appendSet( anyString(), anyString(), eq( 23 ) );
+    verify( writer ).appendSet( eq( objectId ), eq( "property" ), eq( 42 ) );
+  }
+
+  @Test
+  public void testSet_keepsOrderOfLastValues() {
+    remoteObject.set( "foo", 1 );
+    remoteObject.set( "bar", 2 );
+    remoteObject.set( "foo", 3 );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendCreate( objectId, "type" );
+    inOrder.verify( writer ).appendSet( objectId, "bar", 2 );
+    inOrder.verify( writer ).appendSet( objectId, "foo", 3 );
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void testSet_keepsValuesBeforeCall() {
+    remoteObject.set( "property", 1 );
+    remoteObject.call( "method", null );
+    remoteObject.set( "property", 2 );
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendSet( objectId, "property", 1 );
+    inOrder.verify( writer ).appendCall( objectId, "method", null );
+    inOrder.verify( writer ).appendSet( objectId, "property", 2 );
+  }
+
+  @Test
+  public void testCall_isNotDropped() {
+    remoteObject.call( "method", null );
+    remoteObject.call( "method", null );
+
+    remoteObject.render( writer );
+
+    verify( writer, times( 2 ) ).appendCall( objectId, "method", null );
+  }
+
+  @Test
+  public void testListen_rendersLastStateOnly() {
+    remoteObject.listen( "event", true );
+    remoteObject.set( "event", 1 );
+    remoteObject.listen( "event", false );
+
+    remoteObject.render( writer );
+
+    verify( writer, never() ).appendListen( objectId, "event", true );
+    verify( writer ).appendListen( objectId, "event", false );
+    verify( writer ).appendSet( objectId, "event", 1 );
+  }
+
+  @Test
+  public void testGetDroppedOperationCount() {
+    remoteObject.set( "property", 1 );
+    remoteObject.set( "property", 2 );
+    remoteObject.listen( "event", true );
+    remoteObject.listen( "event", false );
+
+    assertEquals( 2, remoteObject.getDroppedOperationCount() );
+  }
+
+  @Test
+  public void testGetDroppedOperationCount_isResetByRender() {
+    remoteObject.set( "property", 1 );
+    remoteObject.set( "property", 2 );
+
+    remoteObject.render( writer );
+
+    assertEquals( 0, remoteObject.getDroppedOperationCount() );
+  }
+
+  @Test
+  public void testRender_withManySupersededOperations() {
+    for( int i = 0; i < 100; i++ ) {
+      remoteObject.set( "foo", i );
+      remoteObject.set( "bar", i );
+    }
+    remoteObject.call( "method", null );
+    for( int i = 0; i < 100; i++ ) {
+      remoteObject.set( "foo", i );
+    }
+
+    remoteObject.render( writer );
+
+    InOrder inOrder = inOrder( writer );
+    inOrder.verify( writer ).appendCreate( objectId, "type" );
+    inOrder.verify( writer ).appendSet( objectId, "foo", 99 );
+    inOrder.verify( writer ).appendSet( objectId, "bar", 99 );
+    inOrder.verify( writer ).appendCall( objectId, "method", null );
+    inOrder.verify( writer ).appendSet( objectId, "foo", 99 );
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void testRender_withManyOperations() {
+    for( int i = 0; i < 100; i++ ) {
+      remoteObject.set( "property" + i, i );
+    }
+
+    remoteObject.render( writer );
+
+    verify( writer ).appendSet( objectId, "property0", 0 );
+    verify( writer ).appendSet( objectId, "property99", 99 );
+  }
+
   @Test
   public void testRender_omitsImmediatelyDestroyedObjects() {
     remoteObject.destroy();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -56,6 +56,25 @@ public class RemoteObjectLifeCycleAdapter_Test {
     verify( remoteObject ).render( same( ContextProvider.getProtocolWriter() ) );
   }
 
+  @Test
+  public void testRender_countsDroppedOperations() {
+    DeferredRemoteObject remoteObject1 = mockAndRegisterDeferredRemoteObject( "id1", null );
+    DeferredRemoteObject remoteObject2 = mockAndRegisterDeferredRemoteObject( "id2", null );
+    when( Integer.valueOf( remoteObject1.getDroppedOperationCount() ) )
+      .thenReturn( Integer.valueOf( 2 ) );
+    when( Integer.valueOf( remoteObject2.getDroppedOperationCount() ) )
+      .thenReturn( Integer.valueOf( 3 ) );
+
+    RemoteObjectLifeCycleAdapter.render();
+
+    assertEquals( 5, RemoteObjectLifeCycleAdapter.getDroppedOperationCount() );
+  }
+
+  @Test
+  public void testGetDroppedOperationCount_initiallyZero() {
+    assertEquals( 0, RemoteObjectLifeCycleAdapter.getDroppedOperationCount() );
+  }
+
   @Test
   public void testRender_removesAllDestroyedRemoteObjectsFromRegistry() {
     setDestroyed( mockAndRegisterDeferredRemoteObject( "deferred", null ) );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,11 @@
 package org.eclipse.rap.rwt.internal.resources;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -50,6 +52,7 @@ public class ClientResources_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.LAZY_RESOURCE_REGISTRATION );
     Fixture.tearDown();
   }
 
@@ -108,6 +111,51 @@ public class ClientResources_Test {
     assertTrue( clientJs.contains( "Copyright" ) );
   }
 
+  @Test
+  public void testRegisterResources_lazily() {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    applicationContext.getResourceDirectory().deleteDirectory();
+
+    clientResources.registerResources();
+
+    assertTrue( resourceManager.isRegistered( RAP_CLIENT_JS_PATH ) );
+    assertFalse( getDiskLocation( RAP_CLIENT_JS_PATH ).exists() );
+    assertFalse( getDiskLocation( "resource/static/html/blank.html" ).exists() );
+  }
+
+  @Test
+  public void testRegisterResources_lazilyWritesDependenciesOfClient() {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    applicationContext.getResourceDirectory().deleteDirectory();
+    clientResources.registerResources();
+
+    resourceManager.getLocation( RAP_CLIENT_JS_PATH );
+
+    assertTrue( getDiskLocation( RAP_CLIENT_JS_PATH ).exists() );
+    assertTrue( getDiskLocation( "resource/static/html/blank.html" ).exists() );
+  }
+
+  @Test
+  public void testRegisterResources_lazilyWritesThemeStoreOnGetRegisteredLocation() {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    applicationContext.getResourceDirectory().deleteDirectory();
+    clientResources.registerResources();
+    Theme theme = themeManager.getTheme( ThemeManager.FALLBACK_THEME_ID );
+    String themeStorePath = "rap-" + theme.getJsId() + ".json";
+    int pendingResources = ( ( ResourceManagerImpl )resourceManager ).getPendingResourceCount();
+
+    String location = theme.getRegisteredLocation();
+
+    assertEquals( "rwt-resources/" + themeStorePath, location );
+    assertTrue( getDiskLocation( themeStorePath ).exists() );
+    int remainingResources = ( ( ResourceManagerImpl )resourceManager ).getPendingResourceCount();
+    assertTrue( remainingResources < pendingResources - 1 );
+  }
+
+  private File getDiskLocation( String name ) {
+    return new File( applicationContext.getResourceDirectory().getDirectory(), name );
+  }
+
   private String getRegisteredContent( String name ) throws IOException {
     InputStream inputStream = resourceManager.getRegisteredContent( name );
     try {
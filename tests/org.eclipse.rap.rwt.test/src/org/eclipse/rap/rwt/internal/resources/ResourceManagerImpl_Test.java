@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,9 +20,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
@@ -391,6 +395,122 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  @Test
+  public void testRegisterLazily() {
+    ResourceLoader loader = mock( ResourceLoader.class );
+
+    resourceManager.registerLazily( "resource", loader );
+
+    assertTrue( resourceManager.isRegistered( "resource" ) );
+    assertFalse( getResourceCopyFile( "resource" ).exists() );
+    assertEquals( 1, resourceManager.getPendingResourceCount() );
+    verifyNoMoreInteractions( loader );
+  }
+
+  @Test
+  public void testSupportsLazyRegistration_initially() {
+    assertTrue( resourceManager.supportsLazyRegistration() );
+  }
+
+  @Test
+  public void testDisableLazyRegistration() {
+    resourceManager.disableLazyRegistration();
+
+    assertFalse( resourceManager.supportsLazyRegistration() );
+  }
+
+  @Test
+  public void testRegisterLazily_writesResourceOnGetLocation() throws IOException {
+    resourceManager.registerLazily( "resource", createResourceLoader() );
+
+    String location = resourceManager.getLocation( "resource" );
+
+    assertEquals( "rwt-resources/resource", location );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( getResourceCopyFile( "resource" ) ) );
+    assertEquals( 0, resourceManager.getPendingResourceCount() );
+  }
+
+  @Test
+  public void testRegisterLazily_writesResourceOnGetRegisteredContent() throws IOException {
+    resourceManager.registerLazily( "resource", createResourceLoader() );
+
+    InputStream content = resourceManager.getRegisteredContent( "resource" );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( content ) );
+  }
+
+  @Test
+  public void testRegisterLazily_callsLoaderOnce() throws IOException {
+    ResourceLoader loader = mock( ResourceLoader.class );
+    when( loader.getResourceAsStream( "resource" ) ).thenReturn( createInputStream() );
+    resourceManager.registerLazily( "resource", loader );
+
+    resourceManager.getLocation( "resource" );
+    resourceManager.getLocation( "resource" );
+
+    verify( loader, times( 1 ) ).getResourceAsStream( "resource" );
+  }
+
+  @Test
+  public void testRegisterLazily_withLoaderRequestingOtherResource() {
+    resourceManager.registerLazily( "image", createResourceLoader() );
+    resourceManager.registerLazily( "theme", new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) throws IOException {
+        String location = resourceManager.getLocation( "image" );
+        return new ByteArrayInputStream( location.getBytes( "UTF-8" ) );
+      }
+    } );
+
+    resourceManager.getLocation( "theme" );
+
+    assertTrue( getResourceCopyFile( "image" ).exists() );
+    assertEquals( 0, resourceManager.getPendingResourceCount() );
+  }
+
+  @Test
+  public void testRegisterLazily_withLoaderReturningNull() {
+    resourceManager.registerLazily( "resource", mock( ResourceLoader.class ) );
+
+    try {
+      resourceManager.getLocation( "resource" );
+      fail();
+    } catch( RuntimeException expected ) {
+      assertTrue( expected.getCause() instanceof IOException );
+    }
+  }
+
+  @Test
+  public void testRegisterLazily_withInvalidPath() {
+    try {
+      resourceManager.registerLazily( "path/", createResourceLoader() );
+      fail();
+    } catch( IllegalArgumentException expected ) {
+    }
+  }
+
+  @Test
+  public void testRegisterLazily_unregister() {
+    resourceManager.registerLazily( "resource", createResourceLoader() );
+
+    boolean unregistered = resourceManager.unregister( "resource" );
+
+    assertTrue( unregistered );
+    assertFalse( resourceManager.isRegistered( "resource" ) );
+    assertEquals( 0, resourceManager.getPendingResourceCount() );
+  }
+
+  @Test
+  public void testRegisterLazily_overriddenByRegister() throws IOException {
+    ResourceLoader loader = mock( ResourceLoader.class );
+    resourceManager.registerLazily( "resource", loader );
+
+    resourceManager.register( "resource", createInputStream() );
+    resourceManager.getLocation( "resource" );
+
+    verify( loader, never() ).getResourceAsStream( anyString() );
+  }
+
   private static byte[] read( File file ) throws IOException {
     FileInputStream inputStream = new FileInputStream( file );
     try {
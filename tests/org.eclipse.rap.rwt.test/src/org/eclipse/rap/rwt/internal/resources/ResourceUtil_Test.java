@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,21 @@
 package org.eclipse.rap.rwt.internal.resources;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.junit.After;
 import org.junit.Before;
@@ -33,6 +43,7 @@ public class ResourceUtil_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.LAZY_RESOURCE_REGISTRATION );
     Fixture.disposeOfServiceContext();
     Fixture.disposeOfApplicationContext();
   }
@@ -52,6 +63,34 @@ public class ResourceUtil_Test {
     assertEquals( input, new String( result, "UTF-8" ) );
   }
 
+  @Test
+  public void testRegister_lazily() throws IOException {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    ResourceManagerImpl resourceManager = mock( ResourceManagerImpl.class );
+    when( Boolean.valueOf( resourceManager.supportsLazyRegistration() ) ).thenReturn( Boolean.TRUE );
+    ResourceLoader loader = mock( ResourceLoader.class );
+
+    ResourceUtil.register( resourceManager, "resource", loader );
+
+    verify( resourceManager ).registerLazily( "resource", loader );
+    verify( resourceManager, never() ).register( any( String.class ), any( InputStream.class ) );
+  }
+
+  @Test
+  public void testRegister_eagerlyWhenLazyRegistrationIsNotSupported() throws IOException {
+    System.setProperty( RWTProperties.LAZY_RESOURCE_REGISTRATION, "true" );
+    ResourceManagerImpl resourceManager = mock( ResourceManagerImpl.class );
+    ResourceLoader loader = mock( ResourceLoader.class );
+    InputStream inputStream = new ByteArrayInputStream( new byte[ 0 ] );
+    when( loader.getResourceAsStream( "resource" ) ).thenReturn( inputStream );
+
+    ResourceUtil.register( resourceManager, "resource", loader );
+
+    verify( resourceManager ).register( eq( "resource" ), eq( inputStream ) );
+    verify( resourceManager, never() ).registerLazily( any( String.class ),
+                                                       any( ResourceLoader.class ) );
+  }
+
   private static String createTestString( int length ) {
     StringBuilder buffer = new StringBuilder( length );
     buffer.append( 'Ü' );
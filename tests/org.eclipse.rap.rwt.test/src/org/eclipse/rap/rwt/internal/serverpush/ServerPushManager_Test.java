@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -268,6 +268,18 @@ public class ServerPushManager_Test {
     manager.processRequest( ContextProvider.getResponse() );
   }
 
+  @Test
+  public void testProcessRequest_leavesUISessionUnchanged() {
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    manager.setRequestCheckInterval( 10 );
+    manager.activateServerPushFor( HANDLE_1 );
+    uiSession.attachToHttpSession();
+
+    manager.processRequest( createBrokenConnectionResponse() );
+
+    assertFalse( uiSession.isChanged() );
+  }
+
   @Test
   public void testMultipleCallBackRequests() throws Exception {
     manager.setRequestCheckInterval( 20 );
@@ -290,15 +302,7 @@ public class ServerPushManager_Test {
   @Test
   public void testCallBackRequestTerminatsWhenConnectionBreaks() throws Exception {
     manager.setRequestCheckInterval( 20 );
-    TestResponse response = new TestResponse() {
-      @Override
-      public PrintWriter getWriter() throws IOException {
-        PrintWriter failingWriter = mock( PrintWriter.class );
-        when( new Boolean( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
-        return failingWriter;
-      }
-    };
-    ServiceContext context2 = createServiceContext( response );
+    ServiceContext context2 = createServiceContext( createBrokenConnectionResponse() );
     CallBackRequestSimulator callBackRequestSimulator = new CallBackRequestSimulator( context2 );
     callBackRequestSimulator.sendRequest();
 
@@ -609,6 +613,17 @@ public class ServerPushManager_Test {
     ContextProvider.getUISession().setAttribute( "org.eclipse.swt.display", display );
   }
 
+  private static TestResponse createBrokenConnectionResponse() {
+    return new TestResponse() {
+      @Override
+      public PrintWriter getWriter() throws IOException {
+        PrintWriter failingWriter = mock( PrintWriter.class );
+        when( new Boolean( failingWriter.checkError() ) ).thenReturn( Boolean.TRUE );
+        return failingWriter;
+      }
+    };
+  }
+
   private static ServiceContext createServiceContext( TestResponse response ) {
     UISession uiSession = ContextProvider.getContext().getUISession();
     TestRequest request = new TestRequest();
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StartupContentCache_Test {
+
+  private static final List<Object> KEY = Arrays.<Object>asList( "/rap", "theme" );
+
+  private StartupContentCache cache;
+
+  @Before
+  public void setUp() {
+    cache = new StartupContentCache();
+  }
+
+  @Test
+  public void testGet_initial() {
+    assertNull( cache.get( KEY ) );
+  }
+
+  @Test
+  public void testPut() {
+    StartupContentCache.Entry entry = cache.put( KEY, "content" );
+
+    assertSame( entry, cache.get( Arrays.<Object>asList( "/rap", "theme" ) ) );
+    assertEquals( "content", entry.getContent() );
+  }
+
+  @Test
+  public void testPut_exceedingMaxEntries_evictsLeastRecentlyUsedEntry() {
+    for( int i = 0; i < StartupContentCache.MAX_ENTRIES; i++ ) {
+      cache.put( createKey( i ), "content" );
+    }
+    cache.get( createKey( 0 ) );
+
+    cache.put( KEY, "content" );
+
+    assertEquals( StartupContentCache.MAX_ENTRIES, cache.size() );
+    assertNotNull( cache.get( createKey( 0 ) ) );
+    assertNull( cache.get( createKey( 1 ) ) );
+    assertNotNull( cache.get( KEY ) );
+  }
+
+  @Test
+  public void testClear() {
+    cache.put( KEY, "content" );
+
+    cache.clear();
+
+    assertNull( cache.get( KEY ) );
+  }
+
+  @Test
+  public void testCreateETag_isQuoted() {
+    String etag = StartupContentCache.createETag( "content" );
+
+    assertTrue( etag.startsWith( "\"" ) );
+    assertTrue( etag.endsWith( "\"" ) );
+  }
+
+  @Test
+  public void testCreateETag_isStable() {
+    assertEquals( StartupContentCache.createETag( "content" ),
+                  StartupContentCache.createETag( "content" ) );
+  }
+
+  @Test
+  public void testCreateETag_differsForDifferentContent() {
+    assertNotEquals( StartupContentCache.createETag( "content" ),
+                     StartupContentCache.createETag( "other content" ) );
+  }
+
+  @Test
+  public void testMatches() {
+    assertTrue( StartupContentCache.matches( "\"abc\"", "\"abc\"" ) );
+  }
+
+  @Test
+  public void testMatches_withList() {
+    assertTrue( StartupContentCache.matches( "\"xyz\", \"abc\"", "\"abc\"" ) );
+  }
+
+  @Test
+  public void testMatches_withWildcard() {
+    assertTrue( StartupContentCache.matches( "*", "\"abc\"" ) );
+  }
+
+  @Test
+  public void testMatches_withDifferentETag() {
+    assertFalse( StartupContentCache.matches( "\"xyz\"", "\"abc\"" ) );
+  }
+
+  @Test
+  public void testMatches_withoutHeader() {
+    assertFalse( StartupContentCache.matches( null, "\"abc\"" ) );
+  }
+
+  private static List<Object> createKey( int index ) {
+    return Arrays.<Object>asList( "/rap", Integer.valueOf( index ) );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import static org.eclipse.rap.rwt.internal.service.StartupJson.METHOD_LOAD_FALLB
 import static org.eclipse.rap.rwt.internal.service.StartupJson.PROPERTY_URL;
 import static org.eclipse.rap.rwt.internal.service.StartupJson.THEME_STORE_TYPE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -148,6 +150,64 @@ public class StartupJson_Test {
     assertTrue( response.getContent().indexOf( DISPLAY_TYPE ) != -1 );
   }
 
+  @Test
+  public void testSend_setsETag() throws IOException {
+    Fixture.fakeNewGetRequest();
+    TestResponse response = ( TestResponse )ContextProvider.getResponse();
+
+    StartupJson.send( response );
+
+    assertNotNull( response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testSend_cachedResponseIsRevalidated() throws IOException {
+    Fixture.fakeNewGetRequest();
+    StartupJson.send( ContextProvider.getResponse() );
+
+    Fixture.fakeNewGetRequest();
+    TestResponse response = ( TestResponse )ContextProvider.getResponse();
+    StartupJson.send( response );
+
+    String cacheControl = response.getHeader( "Cache-Control" );
+    assertTrue( cacheControl.contains( "no-cache" ) );
+    assertFalse( cacheControl.contains( "no-store" ) );
+    assertEquals( "no-cache", response.getHeader( "Pragma" ) );
+    assertNotNull( response.getHeader( "Expires" ) );
+  }
+
+  @Test
+  public void testSend_withMatchingETag() throws IOException {
+    Fixture.fakeNewGetRequest();
+    TestResponse response = ( TestResponse )ContextProvider.getResponse();
+    StartupJson.send( response );
+    String etag = response.getHeader( "ETag" );
+
+    Fixture.fakeNewGetRequest();
+    TestRequest request = ( TestRequest )ContextProvider.getRequest();
+    request.setHeader( "If-None-Match", etag );
+    TestResponse subsequentResponse = ( TestResponse )ContextProvider.getResponse();
+    StartupJson.send( subsequentResponse );
+
+    assertEquals( 304, subsequentResponse.getStatus() );
+    assertEquals( "", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_withDifferentServletPath() throws IOException {
+    Fixture.fakeNewGetRequest();
+    TestResponse response = ( TestResponse )ContextProvider.getResponse();
+    StartupJson.send( response );
+
+    Fixture.fakeNewGetRequest();
+    ( ( TestRequest )ContextProvider.getRequest() ).setServletPath( "/foo" );
+    TestResponse subsequentResponse = ( TestResponse )ContextProvider.getResponse();
+    StartupJson.send( subsequentResponse );
+
+    assertNotEquals( response.getHeader( "ETag" ), subsequentResponse.getHeader( "ETag" ) );
+    assertTrue( subsequentResponse.getContent().contains( "\"foo\"" ) );
+  }
+
   private void registerEntryPoint( HashMap<String, String> properties ) {
     EntryPointManager entryPointManager = getApplicationContext().getEntryPointManager();
     EntryPointFactory factory = mock( EntryPointFactory.class );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,16 +14,23 @@ package org.eclipse.rap.rwt.internal.service;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import org.eclipse.rap.rwt.client.WebClient;
@@ -32,6 +39,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
 import org.eclipse.rap.rwt.internal.theme.CssImage;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.junit.After;
 import org.junit.Before;
@@ -82,6 +90,7 @@ public class StartupPage_Test {
 
   @Test
   public void testSuccessiveMarkup() throws IOException {
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( "<some html>" );
     startupPage.send( response );
@@ -92,8 +101,154 @@ public class StartupPage_Test {
     assertEquals( response.getContent(), subsequentResponse.getContent() );
   }
 
+  @Test
+  public void testSend_setsETag() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( "<some html>" );
+
+    startupPage.send( response );
+
+    assertNotNull( response.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testSend_cachedResponseIsRevalidated() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( "<some html>" );
+    startupPage.send( response );
+
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    String cacheControl = subsequentResponse.getHeader( "Cache-Control" );
+    assertTrue( cacheControl.contains( "no-cache" ) );
+    assertFalse( cacheControl.contains( "no-store" ) );
+    assertEquals( "no-cache", subsequentResponse.getHeader( "Pragma" ) );
+    assertNotNull( subsequentResponse.getHeader( "Expires" ) );
+  }
+
+  @Test
+  public void testSend_withDefaultEntryPoint() throws IOException {
+    Map<String,String> properties = new HashMap<String,String>();
+    properties.put( WebClient.PAGE_TITLE, "title" );
+    getApplicationContext().getEntryPointManager().register( "/", TestEntryPoint.class, properties );
+    getRequest().setServletPath( "" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_TITLE ) );
+    startupPage.send( response );
+
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    verify( startupPage, times( 1 ) ).writeTitle( any( PrintWriter.class ) );
+    assertEquals( "title", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_afterEntryPointChanged() throws IOException {
+    EntryPointManager entryPointManager = getApplicationContext().getEntryPointManager();
+    registerEntryPoint( WebClient.PAGE_TITLE, "title" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_TITLE ) );
+    startupPage.send( response );
+
+    entryPointManager.deregisterAll();
+    registerEntryPoint( WebClient.PAGE_TITLE, "other title" );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertEquals( "other title", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_rendersPageOnlyOnce() throws IOException {
+    registerEntryPoint( WebClient.PAGE_TITLE, "title" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_TITLE ) );
+    startupPage.send( response );
+
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    verify( startupPage, times( 1 ) ).writeTitle( any( PrintWriter.class ) );
+    assertEquals( "title", subsequentResponse.getContent() );
+    assertEquals( response.getHeader( "ETag" ), subsequentResponse.getHeader( "ETag" ) );
+  }
+
+  @Test
+  public void testSend_withDifferentLocale() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_NO_SCRIPT_MESSAGE ) );
+    startupPage.send( response );
+
+    getRequest().setLocales( Locale.GERMAN );
+    startupPage.send( new TestResponse() );
+
+    verify( startupPage, times( 2 ) ).writeNoScriptMessage( any( PrintWriter.class ) );
+  }
+
+  @Test
+  public void testSend_afterAddJsLibrary() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_LIBRARIES ) );
+    startupPage.send( response );
+
+    startupPage.addJsLibrary( "library.js" );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertTrue( subsequentResponse.getContent().contains( "library.js" ) );
+  }
+
+  @Test
+  public void testSend_withMatchingETag() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( "<some html>" );
+    startupPage.send( response );
+
+    getRequest().setHeader( "If-None-Match", response.getHeader( "ETag" ) );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertEquals( 304, subsequentResponse.getStatus() );
+    assertEquals( "", subsequentResponse.getContent() );
+  }
+
+  @Test
+  public void testSend_withMatchingETag_keepsRevalidationHeaders() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( "<some html>" );
+    startupPage.send( response );
+
+    getRequest().setHeader( "If-None-Match", response.getHeader( "ETag" ) );
+    TestResponse subsequentResponse = new TestResponse();
+    startupPage.send( subsequentResponse );
+
+    assertEquals( response.getHeader( "ETag" ), subsequentResponse.getHeader( "ETag" ) );
+    assertFalse( subsequentResponse.getHeader( "Cache-Control" ).contains( "no-store" ) );
+  }
+
+  @Test
+  public void testSend_withOutdatedETag() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( "<some html>" );
+    getRequest().setHeader( "If-None-Match", "\"outdated\"" );
+
+    startupPage.send( response );
+
+    assertEquals( "<some html>", response.getContent() );
+  }
+
   @Test
   public void testSendWithUnknownToken() throws IOException {
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( "unknown" ) );
 
@@ -123,7 +278,7 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeTitle( response.getWriter() );
+    verify( startupPage ).writeTitle( any( PrintWriter.class ) );
     assertEquals( "", response.getContent() );
   }
 
@@ -189,63 +344,68 @@ public class StartupPage_Test {
 
     startupPage.send( response );
 
-    verify( startupPage ).writeBody( response.getWriter() );
+    verify( startupPage ).writeBody( any( PrintWriter.class ) );
     assertEquals( "", response.getContent() );
   }
 
   @Test
   public void testSendReplacesLibraryToken() throws IOException {
     startupPage.setClientJsLibrary( "client.js" );
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( StartupPageTemplate.TOKEN_LIBRARIES ) );
 
     startupPage.send( response );
 
-    verify( startupPage ).writeScriptTag( response.getWriter(), "client.js" );
+    verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "client.js" ) );
   }
 
   @Test
   public void testAppendsJsLibrariesAfterClientLibrary() throws IOException {
     startupPage.addJsLibrary( "library.js" );
     startupPage.setClientJsLibrary( "client.js" );
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( StartupPageTemplate.TOKEN_LIBRARIES ) );
 
     startupPage.send( response );
 
     InOrder order = inOrder( startupPage );
-    order.verify( startupPage ).writeScriptTag( response.getWriter(), "client.js" );
-    order.verify( startupPage ).writeScriptTag( response.getWriter(), "library.js" );
+    order.verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "client.js" ) );
+    order.verify( startupPage ).writeScriptTag( any( PrintWriter.class ), eq( "library.js" ) );
   }
 
   @Test
   public void testSendReplacesBackgroundImageToken() throws IOException {
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( StartupPageTemplate.TOKEN_BACKGROUND_IMAGE ) );
 
     startupPage.send( response );
 
-    verify( startupPage ).writeBackgroundImage( response.getWriter() );
+    verify( startupPage ).writeBackgroundImage( any( PrintWriter.class ) );
   }
 
   @Test
   public void testSendReplacesNoScriptMessageToken() throws IOException {
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( StartupPageTemplate.TOKEN_NO_SCRIPT_MESSAGE ) );
 
     startupPage.send( response );
 
-    verify( startupPage ).writeNoScriptMessage( response.getWriter() );
+    verify( startupPage ).writeNoScriptMessage( any( PrintWriter.class ) );
   }
 
   @Test
   public void testSendReplacesAppScriptToken() throws IOException {
+    registerEntryPoint( null, null );
     startupPage.activate();
     mockTemplate( variableFrom( StartupPageTemplate.TOKEN_APP_SCRIPT ) );
 
     startupPage.send( response );
 
-    verify( startupPage ).writeAppScript( response.getWriter() );
+    verify( startupPage ).writeAppScript( any( PrintWriter.class ) );
   }
 
   @Test
@@ -285,6 +445,10 @@ public class StartupPage_Test {
     assertEquals( tag, response.getContent().trim() );
   }
 
+  private static TestRequest getRequest() {
+    return ( TestRequest )ContextProvider.getRequest();
+  }
+
   private void mockTemplate( String template ) {
     startupPage.startupPageTemplate = new StartupPageTemplate( template );
   }
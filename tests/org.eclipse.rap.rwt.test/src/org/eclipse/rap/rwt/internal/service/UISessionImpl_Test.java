@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,9 +38,11 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -114,6 +116,72 @@ public class UISessionImpl_Test {
     assertSame( result, uiSession );
   }
 
+  @Test
+  public void testIsChanged_initiallyTrue() {
+    UISessionImpl uiSession2 = new UISessionImpl( applicationContext, httpSession, "foo" );
+
+    assertTrue( uiSession2.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_falseAfterAttachToHttpSession() {
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterMarkChanged() {
+    uiSession.markChanged();
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterSetAttribute() {
+    uiSession.setAttribute( "name", "value" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterRemoveAttribute() {
+    uiSession.removeAttribute( "name" );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterAddUISessionListener() {
+    uiSession.addUISessionListener( mock( UISessionListener.class ) );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_afterRemoveUISessionListener() {
+    uiSession.removeUISessionListener( mock( UISessionListener.class ) );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_falseAfterAddAndRemoveTransientUISessionListener() {
+    UISessionListener listener = mock( UISessionListener.class );
+
+    uiSession.addTransientUISessionListener( listener );
+    uiSession.removeTransientUISessionListener( listener );
+
+    assertFalse( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testIsChanged_falseAfterSerialization() throws Exception {
+    uiSession.setAttribute( "name", "value" );
+
+    UISessionImpl deserializedUISession = serializeAndDeserialize( uiSession );
+
+    assertFalse( deserializedUISession.isChanged() );
+  }
+
   @Test
   public void testGetInstanceFromSession() {
     UISessionImpl result = UISessionImpl.getInstanceFromSession( httpSession, null );
@@ -320,6 +388,26 @@ public class UISessionImpl_Test {
     assertTrue( resultCaptor.get() );
   }
 
+  @Test
+  public void testSetAttribute_concurrentlyWithDestroy() throws Throwable {
+    for( int i = 0; i < 100; i++ ) {
+      final UISessionImpl session = createBoundUISession();
+      Thread thread = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          session.setAttribute( "name", "value" );
+        }
+      } );
+
+      thread.start();
+      session.valueUnbound( null );
+      thread.join();
+
+      assertFalse( session.getAttributeNames().hasMoreElements() );
+      assertFalse( session.setAttribute( "name", "value" ) );
+    }
+  }
+
   @Test
   public void testRemoveAttribute_failsWithNullName() {
     try {
@@ -367,15 +455,31 @@ public class UISessionImpl_Test {
   }
 
   @Test
-  public void testGetAttributeNames_returnsSnapshot() {
+  public void testGetAttributeNames_toleratesModificationWhileEnumerating() {
     uiSession.setAttribute( "name", new Object() );
+    uiSession.setAttribute( "other.name", new Object() );
 
     Enumeration attributeNames = uiSession.getAttributeNames();
-    uiSession.setAttribute( "other.name", new Object() );
+    Set<Object> names = new HashSet<>();
+    while( attributeNames.hasMoreElements() ) {
+      names.add( attributeNames.nextElement() );
+      uiSession.setAttribute( "name." + names.size(), new Object() );
+    }
 
-    assertTrue( attributeNames.hasMoreElements() );
+    assertTrue( names.contains( "name" ) );
+    assertTrue( names.contains( "other.name" ) );
+  }
+
+  @Test
+  public void testGetAttributeNames_includesAttributesSetToNull() {
+    uiSession.setAttribute( "name", new Object() );
+
+    uiSession.setAttribute( "name", null );
+
+    Enumeration attributeNames = uiSession.getAttributeNames();
     assertEquals( "name", attributeNames.nextElement() );
     assertFalse( attributeNames.hasMoreElements() );
+    assertNull( uiSession.getAttribute( "name" ) );
   }
 
   @Test
@@ -448,6 +552,33 @@ public class UISessionImpl_Test {
     assertFalse( aboutUnboundListener.get() );
   }
 
+  @Test
+  public void testAddUISessionListener_concurrentlyWithDestroy() throws Throwable {
+    for( int i = 0; i < 100; i++ ) {
+      final UISessionImpl session = createBoundUISession();
+      final AtomicBoolean added = new AtomicBoolean();
+      final AtomicBoolean notified = new AtomicBoolean();
+      final UISessionListener listener = new UISessionListener() {
+        @Override
+        public void beforeDestroy( UISessionEvent event ) {
+          notified.set( true );
+        }
+      };
+      Thread thread = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          added.set( session.addUISessionListener( listener ) );
+        }
+      } );
+
+      thread.start();
+      session.valueUnbound( null );
+      thread.join();
+
+      assertEquals( added.get(), notified.get() );
+    }
+  }
+
   @Test
   public void testRemoveUISessionListener_failsWithNullArgument() {
     try {
@@ -467,6 +598,27 @@ public class UISessionImpl_Test {
     assertFalse( removed );
   }
 
+  @Test
+  public void testAddTransientUISessionListener_isNotifiedBeforeDestroy() {
+    UISessionListener listener = mock( UISessionListener.class );
+    uiSession.addTransientUISessionListener( listener );
+
+    httpSession.invalidate();
+
+    verify( listener ).beforeDestroy( any( UISessionEvent.class ) );
+  }
+
+  @Test
+  public void testRemoveTransientUISessionListener() {
+    UISessionListener listener = mock( UISessionListener.class );
+    uiSession.addTransientUISessionListener( listener );
+
+    uiSession.removeTransientUISessionListener( listener );
+    httpSession.invalidate();
+
+    verify( listener, never() ).beforeDestroy( any( UISessionEvent.class ) );
+  }
+
   @Test
   public void testBeforeDestroyEvent_hasServiceContext() {
     final AtomicBoolean resultCaptor = new AtomicBoolean();
@@ -818,6 +970,10 @@ public class UISessionImpl_Test {
     assertEquals( "foo", uiSession.getConnectionId() );
   }
 
+  private UISessionImpl createBoundUISession() {
+    return new UISessionImpl( applicationContext, new TestHttpSession() );
+  }
+
   private static Client mockClientWithLocale( Locale locale ) {
     Client client = mock( Client.class );
     ClientInfo clientInfo = mock( ClientInfo.class );
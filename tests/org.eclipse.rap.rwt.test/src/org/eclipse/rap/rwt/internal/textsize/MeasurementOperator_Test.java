@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,13 +21,20 @@ import static org.eclipse.rap.rwt.internal.textsize.MeasurementOperator.PARAM_RE
 import static org.eclipse.rap.rwt.internal.textsize.MeasurementOperator.TYPE;
 import static org.eclipse.rap.rwt.internal.textsize.MeasurementUtil.getId;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
@@ -41,6 +48,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -128,6 +136,61 @@ public class MeasurementOperator_Test {
     verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
   }
 
+  @Test
+  public void testOperationHandler_handleCall_recalculatesOnlyAffectedShells() {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    operator.addProbeToMeasure( FONT_DATA_1 );
+    Shell shell = new Shell( display );
+    Shell otherShell = new Shell( display );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_1, shell );
+    Listener listener = mock( Listener.class );
+    Listener otherListener = mock( Listener.class );
+    shell.addListener( SWT.Resize, listener );
+    otherShell.addListener( SWT.Resize, otherListener );
+
+    JsonObject parameters = createMeasurementResult( FONT_DATA_1, MEASUREMENT_ITEM_1 );
+    getOperationHandler( TYPE ).handleCall( METHOD_STORE_MEASUREMENTS, parameters );
+
+    verify( listener, times( 2 ) ).handleEvent( any( Event.class ) );
+    verify( otherListener, never() ).handleEvent( any( Event.class ) );
+  }
+
+  @Test
+  public void testRemoveScopes() {
+    Shell shell = new Shell( display );
+    Shell otherShell = new Shell( display );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_1, shell );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_1, otherShell );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_2, otherShell );
+
+    Set<Control> scopes = operator.removeScopes( Arrays.asList( MEASUREMENT_ITEM_1 ) );
+
+    assertEquals( new HashSet<Control>( Arrays.asList( shell, otherShell ) ), scopes );
+  }
+
+  @Test
+  public void testRemoveScopes_removesScopesOfItems() {
+    Shell shell = new Shell( display );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_1, shell );
+    operator.removeScopes( Arrays.asList( MEASUREMENT_ITEM_1 ) );
+
+    Set<Control> scopes = operator.removeScopes( Arrays.asList( MEASUREMENT_ITEM_1 ) );
+
+    assertEquals( Collections.emptySet(), scopes );
+  }
+
+  @Test
+  public void testRemoveScopes_withUnscopedItem() {
+    Shell shell = new Shell( display );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_1, shell );
+    operator.addItemToMeasure( MEASUREMENT_ITEM_2 );
+
+    Set<Control> scopes
+      = operator.removeScopes( Arrays.asList( MEASUREMENT_ITEM_1, MEASUREMENT_ITEM_2 ) );
+
+    assertNull( scopes );
+  }
+
   @Test
   public void testAddItemToMeasure() {
     operator.addItemToMeasure( MEASUREMENT_ITEM_1 );
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Layout;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class MeasurementScope_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Shell shell;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    shell = new Shell( display );
+  }
+
+  @Test
+  public void testGetCurrent_initial() {
+    assertNull( MeasurementScope.getCurrent() );
+  }
+
+  @Test
+  public void testEnter() {
+    MeasurementScope.enter( shell );
+
+    assertSame( shell, MeasurementScope.getCurrent() );
+  }
+
+  @Test
+  public void testEnter_returnsPreviousScope() {
+    MeasurementScope.enter( shell );
+
+    Control previous = MeasurementScope.enter( new Composite( shell, SWT.NONE ) );
+
+    assertSame( shell, previous );
+  }
+
+  @Test
+  public void testExit_restoresPreviousScope() {
+    Control previous = MeasurementScope.enter( shell );
+
+    MeasurementScope.exit( previous );
+
+    assertNull( MeasurementScope.getCurrent() );
+  }
+
+  @Test
+  public void testLayout_entersScope() {
+    final Control[] scope = new Control[ 1 ];
+    shell.setLayout( new Layout() {
+      @Override
+      protected Point computeSize( Composite composite, int wHint, int hHint, boolean flush ) {
+        return new Point( 0, 0 );
+      }
+      @Override
+      protected void layout( Composite composite, boolean flushCache ) {
+        scope[ 0 ] = MeasurementScope.getCurrent();
+      }
+    } );
+
+    shell.layout();
+
+    assertSame( shell, scope[ 0 ] );
+    assertNull( MeasurementScope.getCurrent() );
+  }
+
+  @Test
+  public void testPack_entersScope() {
+    final Control[] scope = new Control[ 1 ];
+    Composite composite = new Composite( shell, SWT.NONE ) {
+      @Override
+      public Point computeSize( int wHint, int hHint, boolean changed ) {
+        scope[ 0 ] = MeasurementScope.getCurrent();
+        return super.computeSize( wHint, hHint, changed );
+      }
+    };
+    composite.setLayout( new GridLayout() );
+
+    composite.pack();
+
+    assertSame( composite, scope[ 0 ] );
+    assertNull( MeasurementScope.getCurrent() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,7 +14,9 @@ package org.eclipse.rap.rwt.internal.textsize;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
@@ -29,9 +31,11 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.ControlUtil;
 import org.eclipse.swt.internal.widgets.IColumnAdapter;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
@@ -87,6 +91,74 @@ public class TextSizeRecalculation_Test {
     checkRePackTookPlace();
   }
 
+  @Test
+  public void testExecute_withControls() {
+    createWidgetTree();
+    registerResizeListeners();
+    turnOnImmediateResizeEventHandling();
+    fakeMeasurementResults();
+
+    TextSizeRecalculation.execute( Collections.<Control>singleton( scrolledCompositeContent ) );
+
+    checkResizeTookPlace();
+  }
+
+  @Test
+  public void testExecute_withControls_skipsUnaffectedShells() {
+    createWidgetTree();
+    Shell otherShell = new Shell( display );
+    ResizeListener otherShellResizeListener = new ResizeListener();
+    otherShell.addControlListener( otherShellResizeListener );
+    turnOnImmediateResizeEventHandling();
+    fakeMeasurementResults();
+
+    TextSizeRecalculation.execute( Collections.<Control>singleton( packedControl ) );
+
+    assertEquals( 0, otherShellResizeListener.resizeCount() );
+  }
+
+  @Test
+  public void testExecute_withControls_rePacksAffectedControlsOnly() {
+    createWidgetTree();
+    turnOnImmediateResizeEventHandling();
+    fakeMeasurementResults();
+
+    TextSizeRecalculation.execute( Collections.<Control>singleton( packedControl ) );
+
+    assertEquals( new Point( 100, 22 ), packedControl.getSize() );
+    assertFalse( ControlUtil.getControlAdapter( packedControl ).isPacked() );
+    assertTrue( packedTableColumn.getAdapter( IColumnAdapter.class ).isPacked() );
+    assertTrue( packedTreeColumn.getAdapter( IColumnAdapter.class ).isPacked() );
+  }
+
+  @Test
+  public void testExecute_withControls_ignoresDisposedControls() {
+    createWidgetTree();
+    ResizeListener resizeListener = new ResizeListener();
+    shell.addControlListener( resizeListener );
+    turnOnImmediateResizeEventHandling();
+    packedControl.dispose();
+
+    TextSizeRecalculation.execute( Collections.<Control>singleton( packedControl ) );
+
+    assertEquals( 0, resizeListener.resizeCount() );
+  }
+
+  @Test
+  public void testExecute_recordsRecalculationLayoutCount() {
+    createWidgetTree();
+    turnOnImmediateResizeEventHandling();
+    fakeMeasurementResults();
+    LayoutStatistics statistics = LayoutStatistics.getInstance();
+    int layoutCount = statistics.getLayoutCount();
+
+    TextSizeRecalculation.execute();
+
+    assertTrue( statistics.getRecalculationLayoutCount() > 0 );
+    assertEquals( statistics.getLayoutCount() - layoutCount,
+                  statistics.getRecalculationLayoutCount() );
+  }
+
   /*
    * See bug 421942: [Dialog] Initial size is too big
    */
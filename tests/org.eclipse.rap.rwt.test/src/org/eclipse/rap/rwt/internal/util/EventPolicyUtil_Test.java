@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.testfixture.internal.Fixture.getProtocolMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.protocol.Operation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class EventPolicyUtil_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Control control;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    control = new Shell( display );
+  }
+
+  @Test
+  public void testRender_initial() {
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertNull( findSetProperty() );
+  }
+
+  @Test
+  public void testRender_unchanged() {
+    Fixture.markInitialized( control );
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+
+    Fixture.clearPreserved();
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertNull( findSetProperty() );
+  }
+
+  @Test
+  public void testRender_throttle() {
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertEquals( new JsonArray().add( "throttle" ).add( 100 ), findSetProperty() );
+  }
+
+  @Test
+  public void testRender_debounce() {
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    control.setData( RWT.EVENT_DEBOUNCE, Integer.valueOf( 200 ) );
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertEquals( new JsonArray().add( "debounce" ).add( 200 ), findSetProperty() );
+  }
+
+  @Test
+  public void testRender_debounceTakesPrecedence() {
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+    control.setData( RWT.EVENT_DEBOUNCE, Integer.valueOf( 200 ) );
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertEquals( new JsonArray().add( "debounce" ).add( 200 ), findSetProperty() );
+  }
+
+  @Test
+  public void testRender_reset() {
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    control.setData( RWT.EVENT_THROTTLE, null );
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertEquals( JsonValue.NULL, findSetProperty() );
+  }
+
+  @Test
+  public void testRender_zeroResetsPolicy() {
+    control.setData( RWT.EVENT_DEBOUNCE, Integer.valueOf( 100 ) );
+    Fixture.markInitialized( control );
+    Fixture.clearPreserved();
+
+    control.setData( RWT.EVENT_DEBOUNCE, Integer.valueOf( 0 ) );
+    EventPolicyUtil.renderEventPolicy( control );
+
+    assertEquals( JsonValue.NULL, findSetProperty() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetData_withNonIntegerValue() {
+    control.setData( RWT.EVENT_THROTTLE, "100" );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetData_withNegativeValue() {
+    control.setData( RWT.EVENT_DEBOUNCE, Integer.valueOf( -1 ) );
+  }
+
+  @Test
+  public void testHasEventPolicy() {
+    assertFalse( EventPolicyUtil.hasEventPolicy( control ) );
+
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+
+    assertTrue( EventPolicyUtil.hasEventPolicy( control ) );
+  }
+
+  @Test
+  public void testGetOperations_withoutPolicy_returnsAllOperations() {
+    fakeSelectionNotifies();
+
+    List<Operation> operations = getOperations();
+
+    assertEquals( 3, operations.size() );
+  }
+
+  @Test
+  public void testGetOperations_withPolicy_mergesSelectionNotifies() {
+    control.setData( RWT.EVENT_THROTTLE, Integer.valueOf( 100 ) );
+    fakeSelectionNotifies();
+
+    List<Operation> operations = getOperations();
+
+    assertEquals( 2, operations.size() );
+    assertTrue( operations.get( 0 ) instanceof SetOperation );
+    NotifyOperation notify = ( NotifyOperation )operations.get( 1 );
+    assertEquals( 2, notify.getProperties().get( "index" ).asInt() );
+  }
+
+  private void fakeSelectionNotifies() {
+    String id = getId( control );
+    Fixture.fakeNotifyOperation( id, "Selection", new JsonObject().add( "index", 1 ) );
+    Fixture.fakeSetOperation( id, new JsonObject().add( "selection", 2 ) );
+    Fixture.fakeNotifyOperation( id, "Selection", new JsonObject().add( "index", 2 ) );
+  }
+
+  private List<Operation> getOperations() {
+    return EventPolicyUtil.getOperations( ProtocolUtil.getClientMessage(), control );
+  }
+
+  private JsonValue findSetProperty() {
+    String property = EventPolicyUtil.PROP_EVENT_POLICY;
+    SetOperation operation = getProtocolMessage().findSetOperation( control, property );
+    return operation == null ? null : operation.getProperties().get( property );
+  }
+
+}
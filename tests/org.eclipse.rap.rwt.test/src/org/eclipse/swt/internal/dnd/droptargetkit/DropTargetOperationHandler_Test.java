@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import static org.eclipse.swt.internal.dnd.DNDUtil.hasDetailChanged;
 import static org.eclipse.swt.internal.dnd.DNDUtil.hasFeedbackChanged;
 import static org.eclipse.swt.internal.dnd.droptargetkit.DropTargetOperationHandler.determineDataTypes;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -24,12 +25,14 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.dnd.ClientFileTransfer;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientFileImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -93,6 +96,7 @@ public class DropTargetOperationHandler_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.DRAG_OVER_INTERVAL );
     Fixture.tearDown();
   }
 
@@ -293,6 +297,67 @@ public class DropTargetOperationHandler_Test {
     assertTrue( hasDataTypeChanged() );
   }
 
+  @Test
+  public void testHandleNotifyDragOver_notifiesRepeatedEventsByDefault() {
+    handler.handleNotify( "DragOver", createDragOverProperties( 100 ) );
+    handler.handleNotify( "DragOver", createDragOverProperties( 110 ) );
+
+    verify( dropTarget, times( 2 ) ).notifyListeners( eq( DND.DragOver ), any( Event.class ) );
+  }
+
+  @Test
+  public void testHandleNotifyDragOver_skipsRepeatedEventWithinInterval() {
+    System.setProperty( RWTProperties.DRAG_OVER_INTERVAL, "50" );
+
+    handler.handleNotify( "DragOver", createDragOverProperties( 100 ) );
+    handler.handleNotify( "DragOver", createDragOverProperties( 110 ) );
+
+    verify( dropTarget, times( 1 ) ).notifyListeners( eq( DND.DragOver ), any( Event.class ) );
+  }
+
+  @Test
+  public void testHandleNotifyDragOver_notifiesRepeatedEventAfterInterval() {
+    System.setProperty( RWTProperties.DRAG_OVER_INTERVAL, "50" );
+
+    handler.handleNotify( "DragOver", createDragOverProperties( 100 ) );
+    handler.handleNotify( "DragOver", createDragOverProperties( 150 ) );
+
+    verify( dropTarget, times( 2 ) ).notifyListeners( eq( DND.DragOver ), any( Event.class ) );
+  }
+
+  @Test
+  public void testHandleNotifyDragOver_notifiesChangedOperationWithinInterval() {
+    System.setProperty( RWTProperties.DRAG_OVER_INTERVAL, "50" );
+
+    handler.handleNotify( "DragOver", createDragOverProperties( 100 ) );
+    handler.handleNotify( "DragOver", createDragOverProperties( 110 ).set( "operation", "copy" ) );
+
+    verify( dropTarget, times( 2 ) ).notifyListeners( eq( DND.DragOver ), any( Event.class ) );
+  }
+
+  @Test
+  public void testHandleNotifyDragOver_notifiesEventAfterDragEnterWithinInterval() {
+    System.setProperty( RWTProperties.DRAG_OVER_INTERVAL, "50" );
+
+    handler.handleNotify( "DragOver", createDragOverProperties( 100 ) );
+    handler.handleNotify( "DragEnter", createDragOverProperties( 105 ) );
+    handler.handleNotify( "DragOver", createDragOverProperties( 110 ) );
+
+    verify( dropTarget, times( 2 ) ).notifyListeners( eq( DND.DragOver ), any( Event.class ) );
+  }
+
+  private JsonObject createDragOverProperties( int time ) {
+    return new JsonObject()
+      .add( "x", 10 )
+      .add( "y", 20 )
+      .add( "time", time )
+      .add( "operation", "move" )
+      .add( "feedback", DND.FEEDBACK_NONE )
+      .add( "dataType", getHTMLTransferDataType() )
+      .add( "item", getId( item ) )
+      .add( "source", getId( sourceControl ) );
+  }
+
   @Test
   public void testHandleNotifyDragLeave_notifiesListeners() {
     JsonObject properties = new JsonObject()
@@ -526,6 +591,30 @@ public class DropTargetOperationHandler_Test {
     assertTrue( HTMLTransfer.getInstance().isSupportedType( dataTypes[ 1 ] ) );
   }
 
+  @Test
+  public void testDetermineDataType_returnsNewInstances() {
+    TransferData[] dataTypes1 = determineDataTypes( dragSource, dropTarget );
+    dataTypes1[ 0 ].data = "payload";
+
+    TransferData[] dataTypes2 = determineDataTypes( dragSource, dropTarget );
+
+    assertEquals( 2, dataTypes2.length );
+    assertNotSame( dataTypes1[ 0 ], dataTypes2[ 0 ] );
+    assertNull( dataTypes2[ 0 ].data );
+    assertEquals( dataTypes1[ 0 ].type, dataTypes2[ 0 ].type );
+  }
+
+  @Test
+  public void testDetermineDataType_afterTransferChanged() {
+    determineDataTypes( dragSource, dropTarget );
+
+    dropTarget.setTransfer( new Transfer[]{ TextTransfer.getInstance() } );
+    TransferData[] dataTypes = determineDataTypes( dragSource, dropTarget );
+
+    assertEquals( 1, dataTypes.length );
+    assertTrue( TextTransfer.getInstance().isSupportedType( dataTypes[ 0 ] ) );
+  }
+
   private static int getHTMLTransferDataType() {
     return "html".hashCode();
   }
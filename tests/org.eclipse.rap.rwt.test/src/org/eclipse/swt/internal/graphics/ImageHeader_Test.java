@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  @Test
+  public void testRead_PNG() {
+    assertHeaderMatchesImageData( SWT.IMAGE_PNG, createDirectImageData() );
+  }
+
+  @Test
+  public void testRead_JPEG() {
+    assertHeaderMatchesImageData( SWT.IMAGE_JPEG, createDirectImageData() );
+  }
+
+  @Test
+  public void testRead_GIF() {
+    assertHeaderMatchesImageData( SWT.IMAGE_GIF, createIndexedImageData() );
+  }
+
+  @Test
+  public void testRead_BMP() {
+    assertHeaderMatchesImageData( SWT.IMAGE_BMP, createDirectImageData() );
+  }
+
+  @Test
+  public void testRead_ICO() {
+    assertHeaderMatchesImageData( SWT.IMAGE_ICO, createIndexedImageData() );
+  }
+
+  @Test
+  public void testRead_TIFF() {
+    // the TIFF encoder only accepts unpadded scanlines
+    PaletteData palette = new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    ImageData imageData = new ImageData( 37, 23, 24, palette, 1, new byte[ 37 * 3 * 23 ] );
+
+    assertHeaderMatchesImageData( SWT.IMAGE_TIFF, imageData );
+  }
+
+  @Test
+  public void testRead_unknownFormat() {
+    assertNull( ImageHeader.read( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 } ) );
+  }
+
+  @Test
+  public void testRead_emptyImage() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  @Test
+  public void testRead_truncatedImage() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_PNG );
+    byte[] truncated = new byte[ 16 ];
+    System.arraycopy( bytes, 0, truncated, 0, truncated.length );
+
+    assertNull( ImageHeader.read( truncated ) );
+  }
+
+  @Test
+  public void testRead_BMPWithRLECompression() {
+    PaletteData palette = createIndexedImageData().palette;
+    ImageData imageData = new ImageData( 32, 16, 8, palette );
+
+    assertHeaderMatchesImageData( SWT.IMAGE_BMP_RLE, imageData );
+  }
+
+  @Test
+  public void testRead_BMPWithUnsupportedCompression() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_BMP );
+    // BI_JPEG
+    bytes[ 30 ] = 4;
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  @Test
+  public void testRead_BMPWithTruncatedData() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_BMP );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 1 ) ) );
+  }
+
+  @Test
+  public void testRead_PNGWithCorruptData() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_PNG );
+    int data = indexOf( bytes, "IDAT" ) + 4;
+    bytes[ data ] ^= 0xFF;
+
+    assertNull( ImageHeader.read( bytes ) );
+  }
+
+  @Test
+  public void testRead_PNGWithTruncatedData() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_PNG );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 12 ) ) );
+  }
+
+  @Test
+  public void testRead_JPEGWithTruncatedData() {
+    byte[] bytes = save( createDirectImageData(), SWT.IMAGE_JPEG );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 2 ) ) );
+  }
+
+  @Test
+  public void testRead_GIFWithTruncatedData() {
+    byte[] bytes = save( createIndexedImageData(), SWT.IMAGE_GIF );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 1 ) ) );
+  }
+
+  @Test
+  public void testRead_ICOWithTruncatedData() {
+    byte[] bytes = save( createIndexedImageData(), SWT.IMAGE_ICO );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 1 ) ) );
+  }
+
+  @Test
+  public void testRead_TIFFWithTruncatedData() {
+    PaletteData palette = new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    ImageData imageData = new ImageData( 37, 23, 24, palette, 1, new byte[ 37 * 3 * 23 ] );
+    byte[] bytes = save( imageData, SWT.IMAGE_TIFF );
+
+    assertNull( ImageHeader.read( truncate( bytes, bytes.length - 1 ) ) );
+  }
+
+  private static void assertHeaderMatchesImageData( int format, ImageData imageData ) {
+    byte[] bytes = save( imageData, format );
+
+    ImageHeader header = ImageHeader.read( bytes );
+
+    ImageData decoded = new ImageData( new ByteArrayInputStream( bytes ) );
+    assertEquals( format, header.type );
+    assertEquals( decoded.width, header.width );
+    assertEquals( decoded.height, header.height );
+  }
+
+  private static byte[] save( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] truncate( byte[] bytes, int length ) {
+    byte[] result = new byte[ length ];
+    System.arraycopy( bytes, 0, result, 0, length );
+    return result;
+  }
+
+  private static int indexOf( byte[] bytes, String ascii ) {
+    byte[] pattern = ascii.getBytes( StandardCharsets.US_ASCII );
+    for( int i = 0; i <= bytes.length - pattern.length; i++ ) {
+      int j = 0;
+      while( j < pattern.length && bytes[ i + j ] == pattern[ j ] ) {
+        j++;
+      }
+      if( j == pattern.length ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static ImageData createDirectImageData() {
+    PaletteData palette = new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    ImageData result = new ImageData( 37, 23, 24, palette );
+    for( int x = 0; x < result.width; x++ ) {
+      result.setPixel( x, x % result.height, 0xFF8000 );
+    }
+    return result;
+  }
+
+  private static ImageData createIndexedImageData() {
+    PaletteData palette = new PaletteData( new RGB[] {
+      new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
+    } );
+    ImageData result = new ImageData( 32, 16, 1, palette );
+    for( int x = 0; x < result.width; x++ ) {
+      result.setPixel( x, x % result.height, 1 );
+    }
+    return result;
+  }
+
+}
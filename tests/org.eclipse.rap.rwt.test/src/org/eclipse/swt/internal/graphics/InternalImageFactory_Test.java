@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,14 +19,16 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
@@ -72,13 +74,41 @@ public class InternalImageFactory_Test {
   }
 
   @Test
-  public void testReadImageData() throws IOException {
+  public void testReadImageHeader() throws IOException {
     InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    ImageData data = InternalImageFactory.readImageData( new BufferedInputStream( inputStream ) );
+    ImageHeader header = InternalImageFactory.readImageHeader( readBytes( inputStream ) );
     inputStream.close();
 
-    assertEquals( 100, data.width );
-    assertEquals( 50, data.height );
+    assertEquals( 100, header.width );
+    assertEquals( 50, header.height );
+  }
+
+  @Test( expected = SWTException.class )
+  public void testReadImageHeader_withInvalidImage() {
+    InternalImageFactory.readImageHeader( new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 } );
+  }
+
+  @Test( expected = SWTException.class )
+  public void testReadImageHeader_withCorruptImageData() throws IOException {
+    InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    byte[] bytes = readBytes( inputStream );
+    inputStream.close();
+    // the header is valid, but the image data does not match its checksum anymore
+    bytes[ indexOfImageData( bytes ) ] ^= 0xFF;
+
+    InternalImageFactory.readImageHeader( bytes );
+  }
+
+  @Test
+  public void testFindInternalImage_fromInputStreamProvidesImageData() throws IOException {
+    InputStream stream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
+    InternalImage internalImage = internalImageFactory.findInternalImage( stream );
+    stream.close();
+
+    ImageData imageData = internalImage.getImageData();
+
+    assertEquals( 100, imageData.width );
+    assertEquals( 50, imageData.height );
   }
 
   @Test
@@ -215,6 +245,26 @@ public class InternalImageFactory_Test {
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
   }
 
+  private static int indexOfImageData( byte[] pngBytes ) {
+    int offset = 8;
+    while( !new String( pngBytes, offset + 4, 4, StandardCharsets.US_ASCII ).equals( "IDAT" ) ) {
+      offset += 12 + ( pngBytes[ offset ] << 24 | ( pngBytes[ offset + 1 ] & 0xFF ) << 16
+                       | ( pngBytes[ offset + 2 ] & 0xFF ) << 8 | pngBytes[ offset + 3 ] & 0xFF );
+    }
+    return offset + 8;
+  }
+
+  private static byte[] readBytes( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      outputStream.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return outputStream.toByteArray();
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
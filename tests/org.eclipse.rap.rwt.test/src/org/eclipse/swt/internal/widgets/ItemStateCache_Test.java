@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ItemStateCache_Test {
+
+  private Table table;
+  private ItemStateCache cache;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    table = new Table( shell, SWT.NONE );
+    cache = new ItemStateCache( 2 );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testRestore_withoutPut() {
+    TableItem item = new TableItem( table, SWT.NONE );
+
+    assertFalse( cache.restore( item ) );
+  }
+
+  @Test
+  public void testRestore_mergesPreservedValues() {
+    TableItem item = new TableItem( table, SWT.NONE );
+    getAdapter( item ).preserve( "texts", "foo" );
+    getAdapter( item ).preserve( "index", Integer.valueOf( 1 ) );
+    cache.put( item );
+    getAdapter( item ).clearPreserved();
+    getAdapter( item ).preserve( "index", Integer.valueOf( 2 ) );
+
+    boolean restored = cache.restore( item );
+
+    assertTrue( restored );
+    assertEquals( "foo", getAdapter( item ).getPreserved( "texts" ) );
+    assertEquals( Integer.valueOf( 2 ), getAdapter( item ).getPreserved( "index" ) );
+  }
+
+  @Test
+  public void testRestore_restoresPreservedVariant() {
+    TableItem item = new TableItem( table, SWT.NONE );
+    getAdapter( item ).preserveVariant( "foo" );
+    cache.put( item );
+    getAdapter( item ).clearPreserved();
+
+    cache.restore( item );
+
+    assertTrue( getAdapter( item ).hasPreservedVariant() );
+    assertEquals( "foo", getAdapter( item ).getPreservedVariant() );
+  }
+
+  @Test
+  public void testRestore_removesState() {
+    TableItem item = new TableItem( table, SWT.NONE );
+    cache.put( item );
+
+    cache.restore( item );
+
+    assertEquals( 0, cache.size() );
+    assertFalse( cache.restore( item ) );
+  }
+
+  @Test
+  public void testPut_evictsLeastRecentlyClearedItems() {
+    TableItem item1 = new TableItem( table, SWT.NONE );
+    TableItem item2 = new TableItem( table, SWT.NONE );
+    TableItem item3 = new TableItem( table, SWT.NONE );
+
+    cache.put( item1 );
+    cache.put( item2 );
+    cache.put( item3 );
+
+    assertEquals( 2, cache.size() );
+    assertFalse( cache.restore( item1 ) );
+    assertTrue( cache.restore( item3 ) );
+  }
+
+  @Test
+  public void testPut_returnsEvictedItem() {
+    TableItem item1 = new TableItem( table, SWT.NONE );
+    TableItem item2 = new TableItem( table, SWT.NONE );
+    TableItem item3 = new TableItem( table, SWT.NONE );
+
+    assertNull( cache.put( item1 ) );
+    assertNull( cache.put( item2 ) );
+    assertSame( item1, cache.put( item3 ) );
+  }
+
+  @Test
+  public void testPut_withSameItem_doesNotEvict() {
+    TableItem item1 = new TableItem( table, SWT.NONE );
+    TableItem item2 = new TableItem( table, SWT.NONE );
+    cache.put( item1 );
+    cache.put( item2 );
+
+    assertNull( cache.put( item2 ) );
+    assertEquals( 2, cache.size() );
+  }
+
+  @Test
+  public void testRemove() {
+    TableItem item = new TableItem( table, SWT.NONE );
+    cache.put( item );
+
+    cache.remove( item );
+
+    assertEquals( 0, cache.size() );
+    assertFalse( cache.restore( item ) );
+  }
+
+  @Test
+  public void testDisposeItem_removesState() {
+    TableItem item = new TableItem( table, SWT.NONE );
+    ItemStateCache tableCache = table.getAdapter( ITableAdapter.class ).getItemStateCache();
+    tableCache.put( item );
+
+    item.dispose();
+
+    assertEquals( 0, tableCache.size() );
+  }
+
+  @Test
+  public void testDisposeTreeItem_removesState() {
+    Tree tree = new Tree( table.getParent(), SWT.NONE );
+    TreeItem item = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item, SWT.NONE );
+    ItemStateCache treeCache = tree.getAdapter( ITreeAdapter.class ).getItemStateCache();
+    treeCache.put( item );
+    treeCache.put( subItem );
+
+    item.dispose();
+
+    assertEquals( 0, treeCache.size() );
+  }
+
+  private static WidgetRemoteAdapter getAdapter( TableItem item ) {
+    return ( WidgetRemoteAdapter )WidgetUtil.getAdapter( item );
+  }
+
+}
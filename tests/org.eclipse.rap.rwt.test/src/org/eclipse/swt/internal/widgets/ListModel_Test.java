@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.swt.internal.widgets.ListModel.Change;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ListModel_Test {
+
+  private ListModel model;
+
+  @Before
+  public void setUp() {
+    model = new ListModel( false );
+    model.setItems( new String[] { "a", "b", "c", "d" } );
+  }
+
+  @Test
+  public void testGetChangesSince_withoutChanges() {
+    int revision = model.markRevision();
+
+    assertTrue( model.getChangesSince( revision ).isEmpty() );
+  }
+
+  @Test
+  public void testGetChangesSince_mergesAppendedItems() {
+    int revision = model.markRevision();
+
+    model.add( "e" );
+    model.add( "f" );
+
+    List<Change> changes = model.getChangesSince( revision );
+    assertEquals( 1, changes.size() );
+    assertChange( changes.get( 0 ), 4, 0, "e", "f" );
+  }
+
+  @Test
+  public void testGetChangesSince_mergesRemovedRange() {
+    int revision = model.markRevision();
+
+    model.remove( 1, 2 );
+
+    List<Change> changes = model.getChangesSince( revision );
+    assertEquals( 1, changes.size() );
+    assertChange( changes.get( 0 ), 1, 2 );
+  }
+
+  @Test
+  public void testGetChangesSince_mergesItemsAddedAfterRemoveAll() {
+    int revision = model.markRevision();
+
+    model.removeAll();
+    model.add( "x" );
+
+    List<Change> changes = model.getChangesSince( revision );
+    assertEquals( 1, changes.size() );
+    assertChange( changes.get( 0 ), 0, 4, "x" );
+  }
+
+  @Test
+  public void testGetChangesSince_keepsSetItemSeparate() {
+    int revision = model.markRevision();
+
+    model.setItem( 1, "x" );
+    model.setItem( 2, "y" );
+
+    List<Change> changes = model.getChangesSince( revision );
+    assertEquals( 2, changes.size() );
+    assertChange( changes.get( 0 ), 1, 1, "x" );
+    assertChange( changes.get( 1 ), 2, 1, "y" );
+  }
+
+  @Test
+  public void testGetChangesSince_doesNotMergeAcrossMarkedRevision() {
+    int first = model.markRevision();
+    model.add( "e" );
+    int second = model.markRevision();
+
+    model.add( "f" );
+
+    assertEquals( 2, model.getChangesSince( first ).size() );
+    List<Change> changes = model.getChangesSince( second );
+    assertEquals( 1, changes.size() );
+    assertChange( changes.get( 0 ), 5, 0, "f" );
+  }
+
+  @Test
+  public void testGetChangesSince_afterSetItems() {
+    int revision = model.markRevision();
+
+    model.setItems( new String[] { "x" } );
+
+    assertNull( model.getChangesSince( revision ) );
+    assertTrue( model.getChangesSince( model.getRevision() ).isEmpty() );
+  }
+
+  @Test
+  public void testSetItems_withSameItemsKeepsRevision() {
+    model.setItems( new String[] { "x", "y" } );
+    model.setSelection( 1 );
+    int revision = model.markRevision();
+
+    model.setItems( new String[] { "x", "y" } );
+
+    assertEquals( revision, model.getRevision() );
+    assertTrue( model.getChangesSince( revision ).isEmpty() );
+    assertEquals( -1, model.getSelectionIndex() );
+  }
+
+  @Test
+  public void testGetChangesSince_afterChangeLogOverflow() {
+    int revision = model.markRevision();
+
+    for( int i = 0; i < 20; i++ ) {
+      model.setItem( 0, "x" + i );
+    }
+
+    assertNull( model.getChangesSince( revision ) );
+  }
+
+  @Test
+  public void testGetRevision_isIncrementedByModifications() {
+    int revision = model.getRevision();
+
+    model.add( "e" );
+    model.remove( 0 );
+
+    assertEquals( revision + 2, model.getRevision() );
+  }
+
+  private static void assertChange( Change change, int index, int removeCount, String... items ) {
+    assertEquals( index, change.getIndex() );
+    assertEquals( removeCount, change.getRemoveCount() );
+    assertArrayEquals( items, change.getInsertedItems() );
+  }
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class PreservedValues_Test {
+
+  private PreservedValues values;
+
+  @Before
+  public void setUp() {
+    values = new PreservedValues( PreservedValues_Test.class );
+  }
+
+  @Test
+  public void testPut() {
+    values.put( "foo", "bar" );
+    values.put( "int", Integer.valueOf( 23 ) );
+    values.put( "boolean", Boolean.TRUE );
+
+    assertEquals( "bar", values.get( "foo" ) );
+    assertEquals( Integer.valueOf( 23 ), values.get( "int" ) );
+    assertEquals( Boolean.TRUE, values.get( "boolean" ) );
+  }
+
+  @Test
+  public void testPut_replacesValueOfOtherKind() {
+    values.putInt( "foo", 23 );
+
+    values.put( "foo", "bar" );
+
+    assertEquals( "bar", values.get( "foo" ) );
+    assertFalse( values.containsInt( "foo", 23 ) );
+  }
+
+  @Test
+  public void testClear() {
+    values.put( "foo", "bar" );
+    values.putInt( "int", 23 );
+
+    values.clear();
+
+    assertFalse( values.contains( "foo" ) );
+    assertFalse( values.contains( "int" ) );
+    assertNull( values.get( "foo" ) );
+  }
+
+  @Test
+  public void testClear_releasesObjectReferences() {
+    Object value = new Object();
+    WeakReference<Object> reference = new WeakReference<>( value );
+    values.put( "foo", value );
+    value = null;
+
+    values.clear();
+
+    assertTrue( isCollected( reference ) );
+  }
+
+  @Test
+  public void testClear_releasesObjectReferencesOfMergedValues() {
+    PreservedValues other = new PreservedValues( PreservedValues_Test.class );
+    Object value = new Object();
+    WeakReference<Object> reference = new WeakReference<>( value );
+    other.put( "foo", value );
+    value = null;
+    values.merge( other );
+    other.clear();
+
+    values.clear();
+
+    assertTrue( isCollected( reference ) );
+  }
+
+  @Test
+  public void testCopy_isIndependent() {
+    values.put( "foo", "bar" );
+
+    PreservedValues copy = values.copy();
+    values.clear();
+
+    assertEquals( "bar", copy.get( "foo" ) );
+    copy.clear();
+    assertFalse( copy.contains( "foo" ) );
+  }
+
+  @Test
+  public void testMerge_keepsOwnValues() {
+    PreservedValues other = new PreservedValues( PreservedValues_Test.class );
+    other.put( "foo", "other" );
+    other.putBoolean( "boolean", true );
+    values.put( "foo", "own" );
+
+    values.merge( other );
+
+    assertEquals( "own", values.get( "foo" ) );
+    assertTrue( values.containsBoolean( "boolean", true ) );
+  }
+
+  private static boolean isCollected( WeakReference<?> reference ) {
+    for( int i = 0; i < 20 && reference.get() != null; i++ ) {
+      System.gc();
+    }
+    return reference.get() == null;
+  }
+
+}
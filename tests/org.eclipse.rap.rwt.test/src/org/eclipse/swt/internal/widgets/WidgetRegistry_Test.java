@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.lang.ref.WeakReference;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WidgetRegistry_Test {
+
+  private WidgetRegistry registry;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    registry = new WidgetRegistry();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetInstance_isSingletonPerUISession() {
+    WidgetRegistry instance = WidgetRegistry.getInstance( RWT.getUISession() );
+
+    assertSame( instance, WidgetRegistry.getInstance( RWT.getUISession() ) );
+  }
+
+  @Test
+  public void testFind() {
+    Widget widget = mock( Widget.class );
+
+    registry.register( "w23", widget );
+
+    assertSame( widget, registry.find( "w23" ) );
+  }
+
+  @Test
+  public void testFind_withUnknownId() {
+    registry.register( "w23", mock( Widget.class ) );
+
+    assertNull( registry.find( "w24" ) );
+  }
+
+  @Test
+  public void testFind_withNullId() {
+    assertNull( registry.find( null ) );
+  }
+
+  @Test
+  public void testRegister_ignoresIdsNotCreatedByIdGenerator() {
+    registry.register( "foo", mock( Widget.class ) );
+    registry.register( "w", mock( Widget.class ) );
+    registry.register( "w2a", mock( Widget.class ) );
+    registry.register( "r23", mock( Widget.class ) );
+
+    assertEquals( 0, registry.size() );
+    assertNull( registry.find( "foo" ) );
+  }
+
+  @Test
+  public void testRegister_replacesWidgetWithSameId() {
+    Widget widget = mock( Widget.class );
+    registry.register( "w23", mock( Widget.class ) );
+
+    registry.register( "w23", widget );
+
+    assertSame( widget, registry.find( "w23" ) );
+    assertEquals( 1, registry.size() );
+  }
+
+  @Test
+  public void testRemove() {
+    registry.register( "w23", mock( Widget.class ) );
+
+    registry.remove( "w23" );
+
+    assertNull( registry.find( "w23" ) );
+    assertEquals( 0, registry.size() );
+  }
+
+  @Test
+  public void testRemove_keepsOtherWidgets() {
+    Widget[] widgets = new Widget[ 1000 ];
+    for( int i = 0; i < widgets.length; i++ ) {
+      widgets[ i ] = mock( Widget.class );
+      registry.register( "w" + ( i + 2 ), widgets[ i ] );
+    }
+
+    for( int i = 0; i < widgets.length; i += 2 ) {
+      registry.remove( "w" + ( i + 2 ) );
+    }
+
+    assertEquals( widgets.length / 2, registry.size() );
+    for( int i = 0; i < widgets.length; i++ ) {
+      Widget expected = i % 2 == 0 ? null : widgets[ i ];
+      assertSame( expected, registry.find( "w" + ( i + 2 ) ) );
+    }
+  }
+
+  @Test
+  public void testRegistersCreatedWidgets() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+
+    WidgetRegistry instance = WidgetRegistry.getInstance( RWT.getUISession() );
+    assertSame( shell, instance.find( getId( shell ) ) );
+    assertSame( button, instance.find( getId( button ) ) );
+  }
+
+  @Test
+  public void testRemovesDisposedWidgets() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    Button button = new Button( shell, SWT.PUSH );
+
+    shell.dispose();
+
+    WidgetRegistry instance = WidgetRegistry.getInstance( RWT.getUISession() );
+    assertNull( instance.find( getId( shell ) ) );
+    assertNull( instance.find( getId( button ) ) );
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    registry.register( getId( shell ), shell );
+
+    WidgetRegistry deserialized = serializeAndDeserialize( registry );
+
+    Widget widget = deserialized.find( getId( shell ) );
+    assertEquals( 1, deserialized.size() );
+    assertEquals( getId( shell ), getId( widget ) );
+  }
+
+  @Test
+  public void testSerialize_skipsCollectedWidgets() throws Exception {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    registry.register( getId( shell ), shell );
+    Widget widget = mock( Widget.class );
+    WeakReference<Widget> reference = new WeakReference<>( widget );
+    registry.register( "w1000", widget );
+    widget = null;
+    for( int i = 0; i < 20 && reference.get() != null; i++ ) {
+      System.gc();
+    }
+
+    WidgetRegistry deserialized = serializeAndDeserialize( registry );
+
+    assertEquals( 1, deserialized.size() );
+    assertNull( deserialized.find( "w1000" ) );
+    assertNotNull( deserialized.find( getId( shell ) ) );
+  }
+
+}
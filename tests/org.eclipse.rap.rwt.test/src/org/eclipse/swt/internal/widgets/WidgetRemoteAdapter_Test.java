@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,74 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testPreserveProperty_withInt() {
+    adapter.preserve( "prop", 1234 );
+
+    assertEquals( Integer.valueOf( 1234 ), adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", 1234 ) );
+    assertFalse( adapter.isPreserved( "prop", 1235 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_withBoolean() {
+    adapter.preserve( "prop", true );
+
+    assertEquals( Boolean.TRUE, adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", true ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testPreserveProperty_primitiveReplacedByObject() {
+    adapter.preserve( "prop", 1234 );
+
+    adapter.preserve( "prop", "foo" );
+
+    assertEquals( "foo", adapter.getPreserved( "prop" ) );
+    assertFalse( adapter.isPreserved( "prop", 1234 ) );
+  }
+
+  @Test
+  public void testIsPreserved_withoutPreservedValue() {
+    assertFalse( adapter.isPreserved( "prop", 0 ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testIsPreserved_isCleared() {
+    adapter.preserve( "prop", 1234 );
+
+    adapter.clearPreserved();
+
+    assertFalse( adapter.isPreserved( "prop", 1234 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_isSeparatedPerAdapter() {
+    WidgetRemoteAdapter other = new WidgetRemoteAdapter( "other" );
+    adapter.preserve( "prop", "foo" );
+
+    other.preserve( "other", "bar" );
+
+    assertNull( other.getPreserved( "prop" ) );
+    assertNull( adapter.getPreserved( "other" ) );
+  }
+
+  @Test
+  public void testRestorePreservedState() {
+    adapter.preserve( "prop", 1234 );
+    adapter.preserve( "other", "foo" );
+    WidgetRemoteAdapter.PreservedState state = adapter.getPreservedState();
+    adapter.clearPreserved();
+    adapter.preserve( "other", "bar" );
+
+    adapter.restorePreservedState( state );
+
+    assertEquals( Integer.valueOf( 1234 ), adapter.getPreserved( "prop" ) );
+    assertEquals( "bar", adapter.getPreserved( "other" ) );
+  }
+
   @Test
   public void testGetRenderRunnables_initial() {
     assertEquals( 0, adapter.getRenderRunnables().length );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -156,7 +156,7 @@ public class CanvasLCA_Test {
     JsonArray expectedStrokeStyle = JsonArray.readFrom( "[74, 74, 74, 255]" );
     assertEquals( expectedStrokeStyle, init.getParameters().get( "strokeStyle" ) );
     CallOperation draw = getGCOperation( canvas, "draw" );
-    assertEquals( 4, draw.getParameters().get( "operations" ).asArray().size() );
+    assertEquals( 1, draw.getParameters().get( "operations" ).asArray().size() );
   }
 
   @Test
@@ -173,7 +173,7 @@ public class CanvasLCA_Test {
     lca.renderChanges( canvas );
 
     CallOperation draw = getGCOperation( canvas, "draw" );
-    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+    assertEquals( 1, draw.getParameters().get( "operations" ).asArray().size() );
   }
 
   // see bug 323080
@@ -218,7 +218,7 @@ public class CanvasLCA_Test {
     lca.renderChanges( canvas );
 
     CallOperation draw = getGCOperation( canvas, "draw" );
-    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+    assertEquals( 1, draw.getParameters().get( "operations" ).asArray().size() );
     assertEquals( 0, adapter.getGCOperations().length );
   }
 
@@ -289,7 +289,7 @@ public class CanvasLCA_Test {
     assertEquals( 150, init.getParameters().get( "width" ).asInt() );
     assertEquals( 150, init.getParameters().get( "height" ).asInt() );
     CallOperation draw = getGCOperation( canvas, "draw" );
-    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+    assertEquals( 1, draw.getParameters().get( "operations" ).asArray().size() );
   }
 
   @Test
@@ -313,7 +313,33 @@ public class CanvasLCA_Test {
     lca.renderChanges( canvas );
 
     CallOperation draw = getGCOperation( canvas, "draw" );
-    assertEquals( 8, draw.getParameters().get( "operations" ).asArray().size() );
+    assertEquals( 1, draw.getParameters().get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testRenderOperations_redrawUnchanged() throws IOException {
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+    canvas.setSize( 50, 50 );
+    canvas.setFont( new Font( display, "Arial", 11, SWT.NORMAL ) );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( canvas );
+    Fixture.preserveWidgets();
+    canvas.addPaintListener( new PaintListener() {
+      @Override
+      public void paintControl( PaintEvent event ) {
+        event.gc.drawLine( 1, 2, 3, 4 );
+      }
+    } );
+    canvas.redraw();
+    lca.renderChanges( canvas );
+    Fixture.fakeNewRequest();
+    Fixture.fakePhase( PhaseId.PROCESS_ACTION );
+
+    canvas.redraw();
+    lca.renderChanges( canvas );
+
+    assertNull( getGCOperation( canvas, "init" ) );
+    assertNull( getGCOperation( canvas, "draw" ) );
   }
 
   @Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@ package org.eclipse.swt.internal.widgets.canvaskit;
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
 import static org.eclipse.swt.internal.widgets.canvaskit.GCOperationWriter.getGcId;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -22,6 +24,7 @@ import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
+import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.swt.SWT;
@@ -73,6 +76,7 @@ public class GCOperationWriter_Test {
 
     GCOperationWriter operationWriter = new GCOperationWriter( canvas );
     operationWriter.initialize();
+    operationWriter.render();
 
     TestMessage message = Fixture.getProtocolMessage();
     CallOperation init = message.findCallOperation( getGcId( canvas ), "init" );
@@ -192,10 +196,8 @@ public class GCOperationWriter_Test {
     gc.drawLine( 10, 11, 20, 21 );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 1, ops ) );
-    assertEquals( "[\"moveTo\",10,11]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineTo\",20,21]", getOperation( 3, ops ) );
-    assertEquals( "[\"stroke\"]", getOperation( 4, ops ) );
+    assertEquals( "[\"polylines\",false,[10,11,20,21]]", getOperation( 1, ops ) );
+    assertEquals( 2, ops.size() );
   }
 
   @Test
@@ -203,10 +205,53 @@ public class GCOperationWriter_Test {
     gc.drawLine( 10, 11, 20, 21 );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 0, ops ) );
-    assertEquals( "[\"moveTo\",10.5,11.5]", getOperation( 1, ops ) );
-    assertEquals( "[\"lineTo\",20.5,21.5]", getOperation( 2, ops ) );
-    assertEquals( "[\"stroke\"]", getOperation( 3, ops ) );
+    assertEquals( "[\"polylines\",false,[10.5,11.5,20.5,21.5]]", getOperation( 0, ops ) );
+  }
+
+  @Test
+  public void testDrawLine_keepsConnectedLinesAsSubpaths() {
+    gc.drawLine( 10, 11, 20, 21 );
+    gc.drawLine( 20, 21, 30, 25 );
+    gc.drawLine( 30, 25, 40, 11 );
+
+    JsonArray ops = getGCOperations( canvas );
+    String expected = "[\"polylines\",false,[10.5,11.5,20.5,21.5],[20.5,21.5,30.5,25.5],"
+                    + "[30.5,25.5,40.5,11.5]]";
+    assertEquals( expected, getOperation( 0, ops ) );
+    assertEquals( 1, ops.size() );
+  }
+
+  @Test
+  public void testDrawLine_coalescesDisconnectedLinesAsSubpaths() {
+    gc.drawLine( 10, 11, 20, 21 );
+    gc.drawLine( 30, 31, 40, 41 );
+
+    JsonArray ops = getGCOperations( canvas );
+    String expected = "[\"polylines\",false,[10.5,11.5,20.5,21.5],[30.5,31.5,40.5,41.5]]";
+    assertEquals( expected, getOperation( 0, ops ) );
+    assertEquals( 1, ops.size() );
+  }
+
+  @Test
+  public void testDrawLine_doesNotCoalesceAcrossOtherOperations() {
+    gc.drawLine( 10, 11, 20, 21 );
+    gc.setForeground( new Color( display, 1, 2, 3 ) );
+    gc.drawLine( 20, 21, 30, 31 );
+
+    JsonArray ops = getGCOperations( canvas );
+    assertEquals( "[\"polylines\",false,[10.5,11.5,20.5,21.5]]", getOperation( 0, ops ) );
+    assertEquals( "[\"polylines\",false,[20.5,21.5,30.5,31.5]]", getOperation( 2, ops ) );
+  }
+
+  @Test
+  public void testDrawLine_doesNotCoalesceTranslucentLines() {
+    gc.setAlpha( 100 );
+    gc.drawLine( 10, 11, 20, 21 );
+    gc.drawLine( 20, 21, 30, 31 );
+
+    JsonArray ops = getGCOperations( canvas );
+    assertEquals( "[\"polylines\",false,[10.5,11.5,20.5,21.5]]", getOperation( 1, ops ) );
+    assertEquals( "[\"polylines\",false,[20.5,21.5,30.5,31.5]]", getOperation( 2, ops ) );
   }
 
   @Test
@@ -216,13 +261,33 @@ public class GCOperationWriter_Test {
 
     JsonArray ops = getGCOperations( canvas );
     assertEquals( "[\"strokeStyle\",[255,0,7,255]]", getOperation( 0, ops ) );
-    assertEquals( "[\"save\"]", getOperation( 1, ops ) );
-    assertEquals( "[\"fillStyle\",[255,0,7,255]]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineWidth\",1]", getOperation( 3, ops ) );
-    assertEquals( "[\"beginPath\"]", getOperation( 4, ops ) );
-    assertEquals( "[\"rect\",27,44,1,1]", getOperation( 5, ops ) );
-    assertEquals( "[\"fill\"]", getOperation( 6, ops ) );
-    assertEquals( "[\"restore\"]", getOperation( 7, ops ) );
+    assertEquals( "[\"points\",[255,0,7,255],27,44]", getOperation( 1, ops ) );
+  }
+
+  @Test
+  public void testDrawPoint_coalescesPoints() {
+    gc.setForeground( new Color( display, 255, 0, 7 ) );
+    gc.drawPoint( 27, 44 );
+    gc.drawPoint( 28, 45 );
+    gc.drawLine( 10, 11, 20, 21 );
+    gc.drawPoint( 29, 46 );
+
+    JsonArray ops = getGCOperations( canvas );
+    assertEquals( "[\"points\",[255,0,7,255],27,44,28,45]", getOperation( 1, ops ) );
+    assertEquals( "[\"polylines\",false,[10.5,11.5,20.5,21.5]]", getOperation( 2, ops ) );
+    assertEquals( "[\"points\",[255,0,7,255],29,46]", getOperation( 3, ops ) );
+  }
+
+  @Test
+  public void testDrawPoint_usesForegroundAfterChange() {
+    gc.setForeground( new Color( display, 255, 0, 7 ) );
+    gc.drawPoint( 27, 44 );
+    gc.setForeground( new Color( display, 1, 2, 3 ) );
+    gc.drawPoint( 28, 45 );
+
+    JsonArray ops = getGCOperations( canvas );
+    assertEquals( "[\"points\",[255,0,7,255],27,44]", getOperation( 1, ops ) );
+    assertEquals( "[\"points\",[1,2,3,255],28,45]", getOperation( 3, ops ) );
   }
 
   @Test
@@ -264,12 +329,21 @@ public class GCOperationWriter_Test {
     gc.drawPolyline( new int[]{ 10, 20, 30, 40, 50, 60, 90, 100 } );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 1, ops ) );
-    assertEquals( "[\"moveTo\",10,20]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineTo\",30,40]", getOperation( 3, ops ) );
-    assertEquals( "[\"lineTo\",50,60]", getOperation( 4, ops ) );
-    assertEquals( "[\"lineTo\",90,100]", getOperation( 5, ops ) );
-    assertEquals( "[\"stroke\"]", getOperation( 6, ops ) );
+    String expected = "[\"polylines\",false,[10,20,30,40,50,60,90,100]]";
+    assertEquals( expected, getOperation( 1, ops ) );
+  }
+
+  @Test
+  public void testDrawPolyLine_coalescesWithLines() {
+    gc.drawLine( 1, 2, 3, 4 );
+    gc.drawPolyline( new int[]{ 10, 20, 30, 40 } );
+    gc.drawLine( 30, 40, 50, 60 );
+
+    JsonArray ops = getGCOperations( canvas );
+    String expected = "[\"polylines\",false,[1.5,2.5,3.5,4.5],[10.5,20.5,30.5,40.5],"
+                    + "[30.5,40.5,50.5,60.5]]";
+    assertEquals( expected, getOperation( 0, ops ) );
+    assertEquals( 1, ops.size() );
   }
 
   @Test
@@ -278,13 +352,8 @@ public class GCOperationWriter_Test {
     gc.drawPolygon( new int[]{ 10, 20, 30, 40, 50, 60, 90, 100 } );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 1, ops ) );
-    assertEquals( "[\"moveTo\",10,20]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineTo\",30,40]", getOperation( 3, ops ) );
-    assertEquals( "[\"lineTo\",50,60]", getOperation( 4, ops ) );
-    assertEquals( "[\"lineTo\",90,100]", getOperation( 5, ops ) );
-    assertEquals( "[\"lineTo\",10,20]", getOperation( 6, ops ) );
-    assertEquals( "[\"stroke\"]", getOperation( 7, ops ) );
+    String expected = "[\"polylines\",false,[10,20,30,40,50,60,90,100,10,20]]";
+    assertEquals( expected, getOperation( 1, ops ) );
   }
 
   @Test
@@ -293,13 +362,8 @@ public class GCOperationWriter_Test {
     gc.fillPolygon( new int[]{ 10, 20, 30, 40, 50, 60, 90, 100 } );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 1, ops ) );
-    assertEquals( "[\"moveTo\",10,20]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineTo\",30,40]", getOperation( 3, ops ) );
-    assertEquals( "[\"lineTo\",50,60]", getOperation( 4, ops ) );
-    assertEquals( "[\"lineTo\",90,100]", getOperation( 5, ops ) );
-    assertEquals( "[\"lineTo\",10,20]", getOperation( 6, ops ) );
-    assertEquals( "[\"fill\"]", getOperation( 7, ops ) );
+    String expected = "[\"polylines\",true,[10,20,30,40,50,60,90,100,10,20]]";
+    assertEquals( expected, getOperation( 1, ops ) );
   }
 
   @Test
@@ -307,12 +371,8 @@ public class GCOperationWriter_Test {
     gc.drawPolyline( new int[]{ 10, 20, 30, 40, 50, 60, 90, 100 } );
 
     JsonArray ops = getGCOperations( canvas );
-    assertEquals( "[\"beginPath\"]", getOperation( 0, ops ) );
-    assertEquals( "[\"moveTo\",10.5,20.5]", getOperation( 1, ops ) );
-    assertEquals( "[\"lineTo\",30.5,40.5]", getOperation( 2, ops ) );
-    assertEquals( "[\"lineTo\",50.5,60.5]", getOperation( 3, ops ) );
-    assertEquals( "[\"lineTo\",90.5,100.5]", getOperation( 4, ops ) );
-    assertEquals( "[\"stroke\"]", getOperation( 5, ops ) );
+    String expected = "[\"polylines\",false,[10.5,20.5,30.5,40.5,50.5,60.5,90.5,100.5]]";
+    assertEquals( expected, getOperation( 0, ops ) );
   }
 
   @Test
@@ -689,6 +749,81 @@ public class GCOperationWriter_Test {
     assertEquals( "[\"resetClip\"]", getOperation( 0, ops ) );
   }
 
+  @Test
+  public void testRender_skipsUnchangedFrame() {
+    gc.drawLine( 10, 11, 20, 21 );
+    writeGCOperations( canvas );
+    Fixture.fakeNewRequest();
+    getGCAdapter( canvas ).clearGCOperations();
+    gc.drawLine( 10, 11, 20, 21 );
+
+    writeGCOperations( canvas );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findCallOperation( getGcId( canvas ), "init" ) );
+    assertNull( message.findCallOperation( getGcId( canvas ), "draw" ) );
+  }
+
+  @Test
+  public void testRender_rendersChangedFrame() {
+    gc.drawLine( 10, 11, 20, 21 );
+    writeGCOperations( canvas );
+    Fixture.fakeNewRequest();
+    getGCAdapter( canvas ).clearGCOperations();
+    gc.drawLine( 10, 11, 20, 22 );
+
+    JsonArray ops = getGCOperations( canvas );
+
+    assertEquals( "[\"polylines\",false,[10.5,11.5,20.5,22.5]]", getOperation( 0, ops ) );
+  }
+
+  @Test
+  public void testRender_rendersChangedFrameWithSameHashCode() {
+    gc.drawPoint( 27, 44 );
+    writeGCOperations( canvas );
+    Fixture.fakeNewRequest();
+    getGCAdapter( canvas ).clearGCOperations();
+    // the operations of both frames have the same hash code
+    gc.drawPoint( 28, 34 );
+
+    writeGCOperations( canvas );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( getGcId( canvas ), "draw" ) );
+  }
+
+  @Test
+  public void testRender_rendersUnchangedFrameAfterResize() {
+    gc.drawLine( 10, 11, 20, 21 );
+    writeGCOperations( canvas );
+    Fixture.fakeNewRequest();
+    canvas.setSize( 200, 200 );
+    getGCAdapter( canvas ).setPaintRect( new Rectangle( 0, 0, 100, 200 ) );
+    getGCAdapter( canvas ).clearGCOperations();
+    gc.drawLine( 10, 11, 20, 21 );
+
+    writeGCOperations( canvas );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( getGcId( canvas ), "draw" ) );
+  }
+
+  @Test
+  public void testRender_rendersUnchangedFrameWithClientPaintListener() {
+    canvas.addListener( SWT.Paint, new ClientListener( "" ) );
+    gc.drawLine( 10, 11, 20, 21 );
+    writeGCOperations( canvas );
+    Fixture.fakeNewRequest();
+    getGCAdapter( canvas ).clearGCOperations();
+    gc.drawLine( 10, 11, 20, 21 );
+
+    writeGCOperations( canvas );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( getGcId( canvas ), "init" ) );
+    assertNotNull( message.findCallOperation( getGcId( canvas ), "draw" ) );
+  }
+
   @Test
   public void testGetGcId() {
     String gcId = GCOperationWriter.getGcId( canvas );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,8 +29,10 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -165,16 +167,41 @@ public class DisplayLCA_Test {
     Composite shell = new CustomLCAShell( display, lca );
     Widget button = new CustomLCAWidget( shell, lca );
     Widget text = new CustomLCAWidget( shell, lca );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakeNotifyOperation( getId( shell ), "Activate", new JsonObject() );
+    Fixture.fakeSetProperty( getId( text ), "foo", "baz" );
 
     displayLCA.readData( display );
 
     InOrder inOrder = inOrder( lca );
-    inOrder.verify( lca ).readData( shell );
-    inOrder.verify( lca ).readData( button );
     inOrder.verify( lca ).readData( text );
+    inOrder.verify( lca ).readData( shell );
+    verify( lca, never() ).readData( button );
     verifyNoMoreInteractions( lca );
   }
 
+  @Test
+  public void testReadData_withoutOperations() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    new CustomLCAWidget( shell, lca );
+
+    displayLCA.readData( display );
+
+    verifyZeroInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_ignoresUnknownTargets() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    new CustomLCAShell( display, lca );
+    Fixture.fakeSetProperty( "w999", "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verifyZeroInteractions( lca );
+  }
+
   @Test
   public void testReadDisplayBounds() {
     Fixture.fakeSetProperty( getId( display ), "bounds", createJsonArray( 0, 0, 30, 70 ) );
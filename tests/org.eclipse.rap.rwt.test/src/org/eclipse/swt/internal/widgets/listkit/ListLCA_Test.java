@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import java.io.IOException;
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
 import org.eclipse.rap.rwt.remote.OperationHandler;
@@ -140,6 +141,106 @@ public class ListLCA_Test {
     assertNull( message.findSetOperation( list, "items" ) );
   }
 
+  @Test
+  public void testRenderItems_insertsAddedItems() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.add( "Item 4" );
+    list.add( "Item 5" );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation operation = message.findCallOperation( list, "insertItems" );
+    assertEquals( 3, operation.getParameters().get( "index" ).asInt() );
+    JsonArray expected = new JsonArray().add( "Item 4" ).add( "Item 5" );
+    assertEquals( expected, operation.getParameters().get( "items" ) );
+    assertNull( message.findSetOperation( list, "items" ) );
+  }
+
+  @Test
+  public void testRenderItems_removesItemRange() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3", "Item 4", "Item 5" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.remove( 1, 2 );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation operation = message.findCallOperation( list, "removeItems" );
+    assertEquals( 1, operation.getParameters().get( "index" ).asInt() );
+    assertEquals( 2, operation.getParameters().get( "count" ).asInt() );
+    assertNull( message.findCallOperation( list, "insertItems" ) );
+  }
+
+  @Test
+  public void testRenderItems_replacesChangedItem() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.setItem( 1, "changed" );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    CallOperation remove = message.findCallOperation( list, "removeItems" );
+    CallOperation insert = message.findCallOperation( list, "insertItems" );
+    assertEquals( 1, remove.getParameters().get( "count" ).asInt() );
+    assertEquals( new JsonArray().add( "changed" ), insert.getParameters().get( "items" ) );
+    assertNull( message.findSetOperation( list, "items" ) );
+  }
+
+  @Test
+  public void testRenderItems_setsItemsAfterLargeChange() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.setItem( 0, "changed 1" );
+    list.setItem( 1, "changed 2" );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    JsonArray expected = new JsonArray().add( "changed 1" ).add( "changed 2" ).add( "Item 3" );
+    assertEquals( expected, message.findSetProperty( list, "items" ) );
+    assertNull( message.findCallOperation( list, "insertItems" ) );
+  }
+
+  @Test
+  public void testRenderItems_setsItemsAfterSetItems() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3", "Item 4" } );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findSetOperation( list, "items" ) );
+    assertNull( message.findCallOperation( list, "insertItems" ) );
+  }
+
+  @Test
+  public void testRenderItems_unchangedAfterSetItemsWithSameItems() throws IOException {
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    Fixture.markInitialized( display );
+    Fixture.markInitialized( list );
+    Fixture.preserveWidgets();
+
+    list.setItems( new String[] { "Item 1", "Item 2", "Item 3" } );
+    lca.renderChanges( list );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( 0, message.getOperationCount() );
+  }
+
   @Test
   public void testRenderInitialSelectionIndices() throws IOException {
     lca.render( list );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,7 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.internal.widgets.ITableAdapter;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.buttonkit.ButtonOperationHandler;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Display;
@@ -445,7 +446,7 @@ public class TableItemLCA_Test {
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected = new JsonArray();
     expected.add( JsonValue.NULL );
-    expected.add( new JsonArray().add( "rwt-resources/generated/90fb0bfe.gif" ).add( 58 ).add( 12 ) );
+    expected.add( new JsonArray().add( "rwt-resources/generated/c337807e.gif" ).add( 58 ).add( 12 ) );
     assertEquals( expected, message.findSetProperty( item, "images" ) );
   }
 
@@ -850,6 +851,75 @@ public class TableItemLCA_Test {
     assertNotNull( message.findCallOperation( item, "clear" ) );
   }
 
+  @Test
+  public void testRenderRestore_withUnchangedItem() throws IOException {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1 );
+    TableItem item = table.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+
+    lca.preserveValues( item );
+    item.setText( "foo" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( item, "restore" ) );
+    assertNull( message.findSetOperation( item, "texts" ) );
+  }
+
+  @Test
+  public void testRenderRestore_withChangedItem() throws IOException {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1 );
+    TableItem item = table.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+
+    lca.preserveValues( item );
+    item.setText( "bar" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( item, "restore" ) );
+    assertEquals( "bar", message.findSetProperty( item, "texts" ).asArray().get( 0 ).asString() );
+  }
+
+  @Test
+  public void testRenderRestore_withResetProperty() throws IOException {
+    table = new Table( shell, SWT.VIRTUAL | SWT.CHECK );
+    table.setItemCount( 1 );
+    TableItem item = table.getItem( 0 );
+    item.setText( "foo" );
+    item.setChecked( true );
+    clearInPreviousRequest( item );
+
+    lca.preserveValues( item );
+    item.setText( "foo" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertEquals( JsonValue.FALSE, message.findSetProperty( item, "checked" ) );
+  }
+
+  @Test
+  public void testRenderRestore_withoutCachedState() throws IOException {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1 );
+    TableItem item = table.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+    table.getAdapter( ITableAdapter.class ).getItemStateCache().remove( item );
+
+    lca.preserveValues( item );
+    item.setText( "foo" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findCallOperation( item, "restore" ) );
+    assertEquals( "foo", message.findSetProperty( item, "texts" ).asArray().get( 0 ).asString() );
+  }
+
   @Test
   public void testRenderData() throws IOException {
     registerDataKeys( new String[]{ "foo", "bar" } );
@@ -878,4 +948,52 @@ public class TableItemLCA_Test {
     assertEquals( 0, message.getOperationCount() );
   }
 
+  @Test
+  public void testRenderClear_withEvictedState_rendersForget() throws IOException {
+    int count = ItemStateCache.DEFAULT_CAPACITY + 1;
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( count );
+    for( int i = 0; i < count - 1; i++ ) {
+      TableItem item = table.getItem( i );
+      item.setText( "foo" );
+      Fixture.markInitialized( item );
+      lca.preserveValues( item );
+      table.clear( i );
+      lca.renderChanges( item );
+    }
+    TableItem lastItem = table.getItem( count - 1 );
+    lastItem.setText( "foo" );
+    Fixture.markInitialized( lastItem );
+    Fixture.fakeNewRequest();
+
+    lca.preserveValues( lastItem );
+    table.clear( count - 1 );
+    lca.renderChanges( lastItem );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( table.getItem( 0 ), "forget" ) );
+    assertNull( message.findCallOperation( table.getItem( 1 ), "forget" ) );
+  }
+
+  @Test
+  public void testDispose_removesCachedState() throws IOException {
+    table = new Table( shell, SWT.VIRTUAL );
+    table.setItemCount( 1 );
+    TableItem item = table.getItem( 0 );
+    clearInPreviousRequest( item );
+
+    item.dispose();
+
+    assertEquals( 0, table.getAdapter( ITableAdapter.class ).getItemStateCache().size() );
+  }
+
+  private void clearInPreviousRequest( TableItem item ) throws IOException {
+    Fixture.markInitialized( item );
+    lca.preserveValues( item );
+    table.clear( 0 );
+    lca.renderChanges( item );
+    Fixture.clearPreserved();
+    Fixture.fakeNewRequest();
+  }
+
 }
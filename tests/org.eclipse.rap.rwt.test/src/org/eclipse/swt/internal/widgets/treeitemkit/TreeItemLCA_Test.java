@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,7 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.widgets.ITreeAdapter;
+import org.eclipse.swt.internal.widgets.ItemStateCache;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
 import org.eclipse.swt.internal.widgets.treekit.TreeOperationHandler;
 import org.eclipse.swt.widgets.Display;
@@ -480,7 +481,7 @@ public class TreeItemLCA_Test {
     TestMessage message = Fixture.getProtocolMessage();
     JsonArray expected = new JsonArray()
       .add( JsonValue.NULL )
-      .add( new JsonArray().add( "rwt-resources/generated/90fb0bfe.gif" ).add( 58 ).add( 12 ) );
+      .add( new JsonArray().add( "rwt-resources/generated/c337807e.gif" ).add( 58 ).add( 12 ) );
     assertEquals( expected, message.findSetProperty( item, "images" ) );
   }
 
@@ -1002,4 +1003,104 @@ public class TreeItemLCA_Test {
     assertNotNull( message.findCallOperation( item, "clear" ) );
   }
 
+  @Test
+  public void testRenderRestore_withUnchangedItem() throws IOException {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+
+    lca.preserveValues( item );
+    item.setText( "foo" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( item, "restore" ) );
+    assertNull( message.findSetOperation( item, "texts" ) );
+  }
+
+  @Test
+  public void testRenderRestore_withChangedItem() throws IOException {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+
+    lca.preserveValues( item );
+    item.setText( "bar" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( item, "restore" ) );
+    assertEquals( "bar", message.findSetProperty( item, "texts" ).asArray().get( 0 ).asString() );
+  }
+
+  @Test
+  public void testRenderRestore_withoutCachedState() throws IOException {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    item.setText( "foo" );
+    clearInPreviousRequest( item );
+    tree.getAdapter( ITreeAdapter.class ).getItemStateCache().remove( item );
+
+    lca.preserveValues( item );
+    item.setText( "foo" );
+    lca.renderChanges( item );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNull( message.findCallOperation( item, "restore" ) );
+    assertEquals( "foo", message.findSetProperty( item, "texts" ).asArray().get( 0 ).asString() );
+  }
+
+  @Test
+  public void testRenderClear_withEvictedState_rendersForget() throws IOException {
+    int count = ItemStateCache.DEFAULT_CAPACITY + 1;
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( count );
+    for( int i = 0; i < count - 1; i++ ) {
+      TreeItem item = tree.getItem( i );
+      item.setText( "foo" );
+      Fixture.markInitialized( item );
+      lca.preserveValues( item );
+      tree.clear( i, false );
+      lca.renderChanges( item );
+    }
+    TreeItem lastItem = tree.getItem( count - 1 );
+    lastItem.setText( "foo" );
+    Fixture.markInitialized( lastItem );
+    Fixture.fakeNewRequest();
+
+    lca.preserveValues( lastItem );
+    tree.clear( count - 1, false );
+    lca.renderChanges( lastItem );
+
+    TestMessage message = Fixture.getProtocolMessage();
+    assertNotNull( message.findCallOperation( tree.getItem( 0 ), "forget" ) );
+    assertNull( message.findCallOperation( tree.getItem( 1 ), "forget" ) );
+  }
+
+  @Test
+  public void testDispose_removesCachedState() throws IOException {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 1 );
+    TreeItem item = tree.getItem( 0 );
+    clearInPreviousRequest( item );
+
+    item.dispose();
+
+    assertEquals( 0, tree.getAdapter( ITreeAdapter.class ).getItemStateCache().size() );
+  }
+
+  private void clearInPreviousRequest( TreeItem item ) throws IOException {
+    Fixture.markInitialized( item );
+    lca.preserveValues( item );
+    tree.clear( 0, false );
+    lca.renderChanges( item );
+    Fixture.clearPreserved();
+    Fixture.fakeNewRequest();
+  }
+
 }
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.layout;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class GridLayout_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Composite composite;
+  private GridLayout layout;
+  private Button button;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    composite.setSize( 200, 100 );
+    layout = new GridLayout( 2, false );
+    composite.setLayout( layout );
+    button = new Button( composite, SWT.PUSH );
+    button.setText( "foo" );
+    button.setLayoutData( new GridData( SWT.FILL, SWT.FILL, true, true ) );
+    new Button( composite, SWT.PUSH ).setText( "bar" );
+  }
+
+  @Test
+  public void testLayout_countsLayoutPasses() {
+    composite.layout();
+    composite.layout();
+
+    assertEquals( 2, getStatistics().getLayoutCount() );
+  }
+
+  @Test
+  public void testLayout_reusesSolution() {
+    composite.layout();
+    Rectangle bounds = button.getBounds();
+
+    composite.layout( false );
+
+    assertEquals( 1, getStatistics().getReusedSolutionCount() );
+    assertEquals( bounds, button.getBounds() );
+  }
+
+  @Test
+  public void testLayout_reusedSolutionRestoresBounds() {
+    composite.layout();
+    Rectangle bounds = button.getBounds();
+    button.setBounds( 0, 0, 1, 1 );
+
+    composite.layout( false );
+
+    assertEquals( bounds, button.getBounds() );
+  }
+
+  @Test
+  public void testLayout_withChangedFlushesSolution() {
+    composite.layout();
+
+    composite.layout( true );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testLayout_withChangedChildFlushesSolution() {
+    composite.layout();
+
+    composite.layout( new Control[] { button } );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testLayout_withChangedLayoutData() {
+    composite.layout();
+    Rectangle bounds = button.getBounds();
+
+    ( ( GridData )button.getLayoutData() ).horizontalIndent = 10;
+    composite.layout( false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+    assertEquals( bounds.x + 10, button.getBounds().x );
+  }
+
+  @Test
+  public void testLayout_withReplacedLayoutData() {
+    composite.layout();
+
+    button.setLayoutData( new GridData( SWT.FILL, SWT.FILL, true, true ) );
+    composite.layout( false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testLayout_withChangedLayoutSettings() {
+    composite.layout();
+    Rectangle bounds = button.getBounds();
+
+    layout.numColumns = 1;
+    composite.layout( false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+    assertNotEquals( bounds, button.getBounds() );
+  }
+
+  @Test
+  public void testLayout_withChangedSize() {
+    composite.layout();
+    Rectangle bounds = button.getBounds();
+
+    composite.setSize( 300, 100 );
+    composite.layout( false );
+
+    assertNotEquals( bounds, button.getBounds() );
+  }
+
+  @Test
+  public void testComputeSize_reusesSolution() {
+    Point size = composite.computeSize( SWT.DEFAULT, SWT.DEFAULT, false );
+
+    Point reused = composite.computeSize( SWT.DEFAULT, SWT.DEFAULT, false );
+
+    assertEquals( 1, getStatistics().getReusedSolutionCount() );
+    assertEquals( size, reused );
+  }
+
+  @Test
+  public void testComputeSize_doesNotAffectLayoutSolution() {
+    composite.layout();
+    composite.computeSize( SWT.DEFAULT, SWT.DEFAULT, false );
+
+    composite.layout( false );
+
+    assertEquals( 1, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testComputeSize_withFlushCache() {
+    composite.computeSize( SWT.DEFAULT, SWT.DEFAULT, false );
+
+    composite.computeSize( SWT.DEFAULT, SWT.DEFAULT, true );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  private static LayoutStatistics getStatistics() {
+    return LayoutStatistics.getInstance();
+  }
+
+}
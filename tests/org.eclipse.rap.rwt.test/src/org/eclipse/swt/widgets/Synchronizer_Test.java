@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static java.util.Arrays.asList;
+import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.UISessionImpl;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Synchronizer_Test {
+
+  private Display display;
+  private Synchronizer synchronizer;
+  private List<Integer> log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    synchronizer = new Synchronizer( display );
+    log = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testAsyncExec_increasesMessageCount() {
+    synchronizer.asyncExec( new LoggingRunnable( log, 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( log, 2 ) );
+
+    assertEquals( 2, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testAsyncExec_setsHasRunnables() {
+    synchronizer.asyncExec( new LoggingRunnable( log, 1 ) );
+
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testAsyncExec_marksUISessionChanged() {
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    uiSession.attachToHttpSession();
+
+    synchronizer.asyncExec( new LoggingRunnable( log, 1 ) );
+
+    assertTrue( uiSession.isChanged() );
+  }
+
+  @Test
+  public void testRemoveFirst_preservesOrder() {
+    LoggingRunnable runnable1 = new LoggingRunnable( log, 1 );
+    LoggingRunnable runnable2 = new LoggingRunnable( log, 2 );
+    synchronizer.asyncExec( runnable1 );
+    synchronizer.asyncExec( runnable2 );
+
+    assertSame( runnable1, synchronizer.removeFirst().runnable );
+    assertSame( runnable2, synchronizer.removeFirst().runnable );
+    assertNull( synchronizer.removeFirst() );
+  }
+
+  @Test
+  public void testRemoveFirst_resetsHasRunnablesWhenEmpty() {
+    synchronizer.asyncExec( new LoggingRunnable( log, 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( log, 2 ) );
+
+    synchronizer.removeFirst();
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+    synchronizer.removeFirst();
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsQueuedRunnablesInBatch() {
+    for( int i = 0; i < 3; i++ ) {
+      synchronizer.asyncExec( new LoggingRunnable( log, i ) );
+    }
+
+    boolean result = synchronizer.runAsyncMessages( false );
+
+    assertTrue( result );
+    assertEquals( 0, synchronizer.getMessageCount() );
+    assertEquals( asList( 0, 1, 2 ), log );
+  }
+
+  @Test
+  public void testRunAsyncMessages_limitsBatchSize() {
+    int count = Synchronizer.MESSAGE_LIMIT + 1;
+    for( int i = 0; i < count; i++ ) {
+      synchronizer.asyncExec( new LoggingRunnable( log, i ) );
+    }
+
+    synchronizer.runAsyncMessages( false );
+
+    assertEquals( Synchronizer.MESSAGE_LIMIT, log.size() );
+    assertEquals( 1, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_leavesRunnablesAddedDuringBatch() {
+    synchronizer.asyncExec( new Runnable() {
+      @Override
+      public void run() {
+        synchronizer.asyncExec( new LoggingRunnable( log, 2 ) );
+        log.add( Integer.valueOf( 1 ) );
+      }
+    } );
+
+    synchronizer.runAsyncMessages( false );
+
+    assertEquals( asList( 1 ), log );
+    assertEquals( 1, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_all() {
+    int count = Synchronizer.MESSAGE_LIMIT * 2;
+    for( int i = 0; i < count; i++ ) {
+      synchronizer.asyncExec( new LoggingRunnable( log, i ) );
+    }
+
+    synchronizer.runAsyncMessages( true );
+
+    assertEquals( count, log.size() );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_withEmptyQueue() {
+    assertFalse( synchronizer.runAsyncMessages( false ) );
+  }
+
+  @Test
+  public void testAsyncExec_fromConcurrentThreads() throws InterruptedException {
+    int threadCount = 4;
+    final int runnablesPerThread = 1000;
+    Thread[] threads = new Thread[ threadCount ];
+    for( int i = 0; i < threadCount; i++ ) {
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          for( int j = 0; j < runnablesPerThread; j++ ) {
+            synchronizer.addLast( new RunnableLock( new LoggingRunnable( log, j ) ) );
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    int removed = 0;
+    while( synchronizer.removeFirst() != null ) {
+      removed++;
+    }
+
+    assertEquals( threadCount * runnablesPerThread, removed );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testSerialization_preservesPendingRunnables() throws Exception {
+    for( int i = 0; i < 3; i++ ) {
+      synchronizer.asyncExec( new SerializableRunnable( i ) );
+    }
+
+    Synchronizer deserialized = serializeAndDeserialize( synchronizer );
+
+    assertEquals( 3, deserialized.getMessageCount() );
+    assertEquals( 0, ( ( SerializableRunnable )deserialized.removeFirst().runnable ).value );
+    assertEquals( 1, ( ( SerializableRunnable )deserialized.removeFirst().runnable ).value );
+    assertEquals( 2, ( ( SerializableRunnable )deserialized.removeFirst().runnable ).value );
+    assertNull( deserialized.removeFirst() );
+  }
+
+  private static class LoggingRunnable implements Runnable {
+
+    private final List<Integer> log;
+    private final int value;
+
+    LoggingRunnable( List<Integer> log, int value ) {
+      this.log = log;
+      this.value = value;
+    }
+
+    @Override
+    public void run() {
+      log.add( Integer.valueOf( value ) );
+    }
+
+  }
+
+  private static class SerializableRunnable implements Runnable, Serializable {
+
+    final int value;
+
+    SerializableRunnable( int value ) {
+      this.value = value;
+    }
+
+    @Override
+    public void run() {
+    }
+
+  }
+
+}
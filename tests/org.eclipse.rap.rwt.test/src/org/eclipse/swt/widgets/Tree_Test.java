@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1475,6 +1475,81 @@ public class Tree_Test {
     assertEquals( 30, item.getFlatIndex() );
   }
 
+  @Test
+  public void testFlatIndicesAfterStructuralChanges() {
+    TreeItem[] roots = new TreeItem[ 3 ];
+    for( int i = 0; i < roots.length; i++ ) {
+      roots[ i ] = new TreeItem( tree, SWT.NONE );
+      for( int j = 0; j < 3; j++ ) {
+        TreeItem child = new TreeItem( roots[ i ], SWT.NONE );
+        new TreeItem( child, SWT.NONE );
+        new TreeItem( child, SWT.NONE );
+      }
+    }
+    roots[ 0 ].setExpanded( true );
+    roots[ 0 ].getItem( 1 ).setExpanded( true );
+    roots[ 2 ].setExpanded( true );
+    assertFlatIndices();
+
+    roots[ 0 ].getItem( 0 ).setExpanded( true );
+    roots[ 2 ].setExpanded( false );
+    assertFlatIndices();
+
+    new TreeItem( roots[ 0 ].getItem( 1 ), SWT.NONE, 0 );
+    new TreeItem( tree, SWT.NONE, 1 );
+    roots[ 0 ].getItem( 0 ).dispose();
+    assertFlatIndices();
+
+    roots[ 0 ].getItem( 0 ).setItemCount( 5 );
+    roots[ 0 ].getItem( 0 ).removeAll();
+    roots[ 1 ].setExpanded( true );
+    assertFlatIndices();
+  }
+
+  @Test
+  public void testVirtualFlatIndicesAfterSetItemCount() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.setItemCount( 10 );
+    TreeItem item = tree.getItem( 2 );
+    item.setItemCount( 20 );
+    item.setExpanded( true );
+
+    tree.setItemCount( 5 );
+    item.setItemCount( 4 );
+
+    assertEquals( 9, tree.getVisibleItemsCount() );
+    assertEquals( 7, tree.getItem( 3 ).getFlatIndex() );
+    assertNull( tree.getVisibleItem( 4, false ) );
+    assertSame( item.getItem( 1 ), tree.getVisibleItem( 4, true ) );
+  }
+
+  @Test
+  public void testGetVisibleItem_outOfRange() {
+    new TreeItem( tree, SWT.NONE );
+
+    assertNull( tree.getVisibleItem( -1, false ) );
+    assertNull( tree.getVisibleItem( 1, false ) );
+  }
+
+  private void assertFlatIndices() {
+    List<TreeItem> visibleItems = new ArrayList<>();
+    collectVisibleItems( tree.getItems(), visibleItems );
+    assertEquals( visibleItems.size(), tree.getVisibleItemsCount() );
+    for( int i = 0; i < visibleItems.size(); i++ ) {
+      assertEquals( i, visibleItems.get( i ).getFlatIndex() );
+      assertSame( visibleItems.get( i ), tree.getVisibleItem( i, false ) );
+    }
+  }
+
+  private static void collectVisibleItems( TreeItem[] items, List<TreeItem> result ) {
+    for( TreeItem item : items ) {
+      result.add( item );
+      if( item.getExpanded() ) {
+        collectVisibleItems( item.getItems(), result );
+      }
+    }
+  }
+
   @Test
   public void testTopItem() {
     tree.setSize( 300, 85 );
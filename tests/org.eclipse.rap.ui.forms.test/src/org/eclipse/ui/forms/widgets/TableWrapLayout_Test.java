@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.forms.widgets;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.LayoutStatistics;
+import org.eclipse.swt.widgets.*;
+import org.junit.*;
+
+
+public class TableWrapLayout_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  private Composite composite;
+  private TableWrapLayout layout;
+  private Label label;
+
+  @Before
+  public void setUp() {
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    composite = new Composite( shell, SWT.NONE );
+    composite.setSize( 200, 100 );
+    layout = new TableWrapLayout();
+    layout.numColumns = 2;
+    composite.setLayout( layout );
+    label = new Label( composite, SWT.WRAP );
+    label.setText( "foo bar" );
+    label.setLayoutData( new TableWrapData( TableWrapData.FILL_GRAB ) );
+    new Label( composite, SWT.NONE ).setText( "baz" );
+  }
+
+  @Test
+  public void testLayout_reusesSolution() {
+    composite.layout();
+    Rectangle bounds = label.getBounds();
+    label.setBounds( 0, 0, 1, 1 );
+
+    composite.layout( false );
+
+    assertEquals( 1, getStatistics().getReusedSolutionCount() );
+    assertEquals( bounds, label.getBounds() );
+  }
+
+  @Test
+  public void testLayout_withChangedFlushesSolution() {
+    composite.layout();
+
+    composite.layout( true );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testLayout_withChangedLayoutData() {
+    composite.layout();
+    Rectangle bounds = label.getBounds();
+
+    ( ( TableWrapData )label.getLayoutData() ).indent = 10;
+    composite.layout( false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+    assertEquals( bounds.x + 10, label.getBounds().x );
+  }
+
+  @Test
+  public void testLayout_withChangedLayoutSettings() {
+    composite.layout();
+    Rectangle bounds = label.getBounds();
+
+    layout.leftMargin = 20;
+    composite.layout( false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+    assertNotEquals( bounds, label.getBounds() );
+  }
+
+  @Test
+  public void testComputeSize_reusesSolution() {
+    Point size = composite.computeSize( 150, SWT.DEFAULT, false );
+
+    Point reused = composite.computeSize( 150, SWT.DEFAULT, false );
+
+    assertEquals( 1, getStatistics().getReusedSolutionCount() );
+    assertEquals( size, reused );
+  }
+
+  @Test
+  public void testComputeSize_withChangedHint() {
+    composite.computeSize( 150, SWT.DEFAULT, false );
+
+    composite.computeSize( 100, SWT.DEFAULT, false );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  @Test
+  public void testComputeSize_withChanged() {
+    composite.computeSize( 150, SWT.DEFAULT, false );
+
+    composite.computeSize( 150, SWT.DEFAULT, true );
+
+    assertEquals( 0, getStatistics().getReusedSolutionCount() );
+  }
+
+  private static LayoutStatistics getStatistics() {
+    return LayoutStatistics.getInstance();
+  }
+
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.internal.forms.widgets;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.internal.forms.widgets.FormTextMarkup.Node;
+import org.junit.*;
+import org.xml.sax.SAXException;
+
+
+public class FormTextMarkup_Test {
+
+  @Rule
+  public TestContext context = new TestContext();
+
+  @Before
+  public void setUp() {
+    FormTextMarkup.clearCache();
+  }
+
+  @After
+  public void tearDown() {
+    FormTextMarkup.clearCache();
+  }
+
+  @Test
+  public void testParse_elementsAndAttributes() throws Exception {
+    FormTextMarkup markup = FormTextMarkup.parse( "<form><p vspace=\"false\">foo</p></form>" );
+
+    Node root = markup.getRoot();
+    assertEquals( "form", root.getName() );
+    assertEquals( 1, root.getChildCount() );
+    Node paragraph = root.getChild( 0 );
+    assertEquals( "p", paragraph.getName() );
+    assertEquals( "false", paragraph.getAttribute( "vspace" ) );
+    assertNull( paragraph.getAttribute( "addVerticalSpace" ) );
+    assertTrue( paragraph.getChild( 0 ).isText() );
+    assertEquals( "foo", paragraph.getChild( 0 ).getText() );
+  }
+
+  @Test
+  public void testParse_mergesTextAroundComments() throws Exception {
+    FormTextMarkup markup = FormTextMarkup.parse( "<form>foo &amp; <!-- comment -->bar</form>" );
+
+    Node root = markup.getRoot();
+    assertEquals( 1, root.getChildCount() );
+    assertEquals( "foo & bar", root.getChild( 0 ).getText() );
+  }
+
+  @Test
+  public void testParse_ignoresCDATA() throws Exception {
+    FormTextMarkup markup = FormTextMarkup.parse( "<form>foo<![CDATA[<b>]]>bar</form>" );
+
+    Node root = markup.getRoot();
+    assertEquals( 2, root.getChildCount() );
+    assertEquals( "foo", root.getChild( 0 ).getText() );
+    assertEquals( "bar", root.getChild( 1 ).getText() );
+  }
+
+  @Test( expected = SAXException.class )
+  public void testParse_invalidMarkup() throws Exception {
+    FormTextMarkup.parse( "<form><p>foo</form>" );
+  }
+
+  @Test
+  public void testParse_cachesMarkup() throws Exception {
+    FormTextMarkup markup = FormTextMarkup.parse( "<form><p>foo</p></form>" );
+
+    assertSame( markup, FormTextMarkup.parse( "<form><p>foo</p></form>" ) );
+    assertEquals( 1, FormTextMarkup.getCacheSize() );
+  }
+
+  @Test
+  public void testParse_limitsCacheSize() throws Exception {
+    for( int i = 0; i <= FormTextMarkup.MAX_CACHE_SIZE; i++ ) {
+      FormTextMarkup.parse( "<form>" + i + "</form>" );
+    }
+
+    assertEquals( FormTextMarkup.MAX_CACHE_SIZE, FormTextMarkup.getCacheSize() );
+  }
+
+  @Test
+  public void testParse_doesNotCacheLongMarkup() throws Exception {
+    StringBuffer buffer = new StringBuffer( "<form>" );
+    while( buffer.length() <= FormTextMarkup.MAX_CACHED_LENGTH ) {
+      buffer.append( "<p>foo</p>" );
+    }
+    buffer.append( "</form>" );
+
+    FormTextMarkup.parse( buffer.toString() );
+
+    assertEquals( 0, FormTextMarkup.getCacheSize() );
+  }
+
+  @Test
+  public void testParse_streamIsNotCached() throws Exception {
+    byte[] bytes = "<form><p>foo</p></form>".getBytes( "UTF-8" );
+
+    FormTextMarkup.parse( new ByteArrayInputStream( bytes ) );
+
+    assertEquals( 0, FormTextMarkup.getCacheSize() );
+  }
+
+  @Test
+  public void testParseTaggedText_createsParagraphsPerModel() {
+    new Display();
+    String text = "<form><p>foo <b>bar</b></p><li style=\"text\" value=\"1.\">baz</li></form>";
+    FormTextModel model1 = new FormTextModel();
+    FormTextModel model2 = new FormTextModel();
+
+    model1.parseTaggedText( text, false );
+    model2.parseTaggedText( text, false );
+
+    Paragraph[] paragraphs = model1.getParagraphs();
+    assertEquals( 2, paragraphs.length );
+    assertTrue( paragraphs[ 1 ] instanceof BulletParagraph );
+    assertEquals( "1.", ( ( BulletParagraph )paragraphs[ 1 ] ).getBulletText() );
+    assertEquals( 2, paragraphs[ 0 ].getSegments().length );
+    assertNotSame( paragraphs[ 0 ], model2.getParagraphs()[ 0 ] );
+    assertEquals( model1.getAccessibleText(), model2.getAccessibleText() );
+  }
+
+}
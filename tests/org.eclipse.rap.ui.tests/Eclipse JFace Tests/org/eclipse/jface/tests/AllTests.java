@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ public class AllTests extends TestSuite {
         addTest(new org.eclipse.jface.tests.action.AllTests());
         addTest(new org.eclipse.jface.tests.dialogs.AllTests());
         addTest(new org.eclipse.jface.tests.images.AllTests());
+        addTest(new org.eclipse.jface.tests.databinding.AllTests());
         addTest(new org.eclipse.jface.tests.viewers.AllTests());
         addTest(new org.eclipse.jface.tests.layout.AllTests());
         addTest(new org.eclipse.jface.tests.preferences.AllTests());
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Composite;
+
+/**
+ * A table viewer that counts how often its content is refreshed as a whole
+ * and how often single elements are inserted, added or removed.
+ */
+class CountingTableViewer extends TableViewer {
+
+	int refreshCount;
+	int insertCount;
+	int addCount;
+	int removeCount;
+
+	CountingTableViewer(Composite parent) {
+		super(parent);
+	}
+
+	void resetCounts() {
+		refreshCount = 0;
+		insertCount = 0;
+		addCount = 0;
+		removeCount = 0;
+	}
+
+	public void refresh(boolean updateLabels) {
+		refreshCount++;
+		super.refresh(updateLabels);
+	}
+
+	public void insert(Object element, int position) {
+		insertCount++;
+		super.insert(element, position);
+	}
+
+	public void add(Object[] elements) {
+		addCount++;
+		super.add(elements);
+	}
+
+	public void remove(Object[] elements) {
+		removeCount++;
+		super.remove(elements);
+	}
+}
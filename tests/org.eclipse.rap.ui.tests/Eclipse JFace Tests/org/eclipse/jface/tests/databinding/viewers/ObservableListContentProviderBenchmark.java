@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.swt.SWTObservables;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TableColumn;
+
+/**
+ * Measures how long it takes to replace the whole content of a
+ * {@link WritableList} with 100 to 100000 elements that is shown in a table
+ * viewer, once with the changes applied in bulk and once with the elements
+ * updated one by one. This is not part of the test suites, run it as a JUnit
+ * test.
+ */
+public class ObservableListContentProviderBenchmark extends TestCase {
+
+	private static final int[] SIZES = { 100, 1000, 10000, 100000 };
+	// updating elements one by one is quadratic in the size of the list
+	private static final int MAX_INDIVIDUAL_SIZE = 10000;
+
+	private Display display;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+	}
+
+	public void testReplaceAll() {
+		runBenchmark(SWT.NONE);
+	}
+
+	public void testReplaceAll_virtual() {
+		runBenchmark(SWT.VIRTUAL);
+	}
+
+	private void runBenchmark(int style) {
+		// warm up
+		measureReplaceAll(SIZES[0], style, true);
+		measureReplaceAll(SIZES[0], style, false);
+		for (int i = 0; i < SIZES.length; i++) {
+			int size = SIZES[i];
+			long bulk = measureReplaceAll(size, style, true);
+			String individual = "-";
+			if (size <= MAX_INDIVIDUAL_SIZE) {
+				individual = String.valueOf(measureReplaceAll(size, style,
+						false));
+			}
+			System.out.println(getName() + " size=" + size + " bulk=" + bulk
+					+ "ms individual=" + individual + "ms");
+		}
+	}
+
+	private long measureReplaceAll(int size, int style, boolean bulkUpdate) {
+		Shell shell = new Shell(display);
+		try {
+			TableViewer viewer = new TableViewer(shell, style);
+			// without columns the table measures all items to find the widest
+			new TableColumn(viewer.getTable(), SWT.NONE).setWidth(100);
+			ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+			if (!bulkUpdate) {
+				contentProvider.setBulkUpdateThreshold(Integer.MAX_VALUE);
+			}
+			viewer.setContentProvider(contentProvider);
+			viewer.setLabelProvider(new LabelProvider());
+			WritableList list = new WritableList(
+					SWTObservables.getRealm(display), createElements(size,
+							"old"), null);
+			viewer.setInput(list);
+			List newElements = createElements(size, "new");
+
+			long start = System.currentTimeMillis();
+			list.clear();
+			list.addAll(newElements);
+			long result = System.currentTimeMillis() - start;
+
+			assertEquals(size, viewer.getTable().getItemCount());
+			return result;
+		} finally {
+			shell.dispose();
+		}
+	}
+
+	private static List createElements(int size, String prefix) {
+		List result = new ArrayList(size);
+		for (int i = 0; i < size; i++) {
+			result.add(prefix + i);
+		}
+		return result;
+	}
+}
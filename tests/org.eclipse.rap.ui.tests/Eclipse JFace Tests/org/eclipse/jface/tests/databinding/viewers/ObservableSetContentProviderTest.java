@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.jface.databinding.swt.SWTObservables;
+import org.eclipse.jface.databinding.viewers.IViewerUpdater;
+import org.eclipse.jface.databinding.viewers.ObservableSetContentProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+public class ObservableSetContentProviderTest extends TestCase {
+
+	private Display display;
+	private Shell shell;
+	private CountingTableViewer viewer;
+	private IObservableSet input;
+	private ObservableSetContentProvider contentProvider;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+		viewer = new CountingTableViewer(shell);
+		input = new WritableSet(SWTObservables.getRealm(display));
+		for (int i = 0; i < 10; i++) {
+			input.add("element " + i);
+		}
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		super.tearDown();
+	}
+
+	public void testDefaultBulkUpdateThreshold() {
+		contentProvider = new ObservableSetContentProvider();
+
+		assertEquals(100, contentProvider.getBulkUpdateThreshold());
+	}
+
+	public void testChangeBelowThreshold_updatesElementsOneByOne() {
+		setContentProvider(new ObservableSetContentProvider(), 3);
+
+		input.addAll(Arrays.asList(new String[] { "a", "b" }));
+
+		assertEquals(1, viewer.addCount);
+		assertEquals(0, viewer.refreshCount);
+		assertEquals(12, viewer.getTable().getItemCount());
+	}
+
+	public void testChangeAtThreshold_refreshesViewer() {
+		setContentProvider(new ObservableSetContentProvider(), 3);
+
+		input.addAll(Arrays.asList(new String[] { "a", "b", "c" }));
+
+		assertEquals(0, viewer.addCount);
+		assertEquals(1, viewer.refreshCount);
+		assertEquals(13, viewer.getTable().getItemCount());
+	}
+
+	public void testBulkUpdate_preservesSelection() {
+		setContentProvider(new ObservableSetContentProvider(), 3);
+		viewer.setSelection(new StructuredSelection("element 5"));
+
+		input.addAll(Arrays.asList(new String[] { "a", "b", "c" }));
+
+		IStructuredSelection selection = (IStructuredSelection) viewer
+				.getSelection();
+		assertEquals(1, viewer.refreshCount);
+		assertEquals(Collections.singletonList("element 5"), selection.toList());
+	}
+
+	public void testBulkUpdate_updatesKnownAndRealizedElements() {
+		setContentProvider(new ObservableSetContentProvider(), 3);
+		contentProvider.getRealizedElements();
+		processEvents();
+
+		input.removeAll(Arrays.asList(new String[] { "element 0",
+				"element 1", "element 2" }));
+		processEvents();
+
+		assertEquals(1, viewer.refreshCount);
+		assertEquals(new HashSet(input), contentProvider.getKnownElements());
+		assertEquals(new HashSet(input), contentProvider.getRealizedElements());
+	}
+
+	public void testExplicitViewerUpdater_neverRefreshesViewer() {
+		CountingViewerUpdater updater = new CountingViewerUpdater(viewer);
+		setContentProvider(new ObservableSetContentProvider(updater), 3);
+
+		input.addAll(Arrays.asList(new String[] { "a", "b", "c", "d" }));
+
+		assertEquals(1, updater.addCount);
+		assertEquals(0, viewer.refreshCount);
+		assertEquals(14, viewer.getTable().getItemCount());
+	}
+
+	public void testMaxThreshold_neverRefreshesViewer() {
+		setContentProvider(new ObservableSetContentProvider(),
+				Integer.MAX_VALUE);
+
+		input.clear();
+
+		assertEquals(0, viewer.refreshCount);
+		assertEquals(0, viewer.getTable().getItemCount());
+	}
+
+	private void setContentProvider(ObservableSetContentProvider provider,
+			int threshold) {
+		contentProvider = provider;
+		contentProvider.setBulkUpdateThreshold(threshold);
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(input);
+		viewer.resetCounts();
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// loop until there are no more events to dispatch
+		}
+	}
+
+	static class CountingViewerUpdater implements IViewerUpdater {
+
+		private final CountingTableViewer viewer;
+		int addCount;
+
+		CountingViewerUpdater(CountingTableViewer viewer) {
+			this.viewer = viewer;
+		}
+
+		public void insert(Object element, int position) {
+			viewer.insert(element, position);
+		}
+
+		public void remove(Object element, int position) {
+			viewer.remove(element);
+		}
+
+		public void replace(Object oldElement, Object newElement, int position) {
+			viewer.replace(newElement, position);
+		}
+
+		public void move(Object element, int oldPosition, int newPosition) {
+			viewer.remove(element);
+			viewer.insert(element, newPosition);
+		}
+
+		public void add(Object[] elements) {
+			addCount++;
+			viewer.add(elements);
+		}
+
+		public void remove(Object[] elements) {
+			viewer.remove(elements);
+		}
+	}
+}
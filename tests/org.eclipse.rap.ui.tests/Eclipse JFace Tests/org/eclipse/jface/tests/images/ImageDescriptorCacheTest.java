@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import java.lang.ref.WeakReference;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.internal.ImageDescriptorCache;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.graphics.ImageFactory;
+import org.eclipse.swt.widgets.Display;
+
+
+public class ImageDescriptorCacheTest extends TestCase {
+
+  private Display display;
+  private ImageDescriptorCache cache;
+  private ImageDescriptor descriptor;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    display = Display.getCurrent();
+    cache = ImageDescriptorCache.getInstance( display );
+    PaletteData palette = new PaletteData( new RGB[] { new RGB( 0, 128, 255 ) } );
+    descriptor = ImageDescriptor.createFromImageData( new ImageData( 3, 5, 1, palette ) );
+  }
+
+  public void testCreateResource_sharesInternalImage() throws Exception {
+    long hitCount = cache.getHitCount();
+    long missCount = cache.getMissCount();
+
+    Image image1 = ( Image )descriptor.createResource( display );
+    Image image2 = ( Image )descriptor.createResource( display );
+
+    assertNotSame( image1, image2 );
+    assertSame( image1.internalImage, image2.internalImage );
+    assertEquals( missCount + 1, cache.getMissCount() );
+    assertEquals( hitCount + 1, cache.getHitCount() );
+    descriptor.destroyResource( image1 );
+    descriptor.destroyResource( image2 );
+  }
+
+  public void testDestroyResource_removesUnreferencedEntry() throws Exception {
+    int size = cache.getSize();
+    Image image1 = ( Image )descriptor.createResource( display );
+    Image image2 = ( Image )descriptor.createResource( display );
+
+    descriptor.destroyResource( image1 );
+    assertEquals( size + 1, cache.getSize() );
+    descriptor.destroyResource( image2 );
+
+    assertEquals( size, cache.getSize() );
+  }
+
+  public void testCreateImage_bypassesCache() {
+    long missCount = cache.getMissCount();
+    int size = cache.getSize();
+
+    descriptor.createImage( display );
+
+    assertEquals( missCount, cache.getMissCount() );
+    assertEquals( size, cache.getSize() );
+  }
+
+  public void testCreateResource_sharesOverlayCompositions() throws Exception {
+    Image base = descriptor.createImage( display );
+    Image otherBase = ImageFactory.createImageInstance( display, base.internalImage );
+    ImageDescriptor overlay = ImageDescriptor.getMissingImageDescriptor();
+    ImageDescriptor icon1 = new DecorationOverlayIcon( base, overlay, IDecoration.TOP_LEFT );
+    ImageDescriptor icon2 = new DecorationOverlayIcon( otherBase, overlay, IDecoration.TOP_LEFT );
+    long hitCount = cache.getHitCount();
+
+    Image image1 = ( Image )icon1.createResource( display );
+    Image image2 = ( Image )icon2.createResource( display );
+
+    assertEquals( icon1, icon2 );
+    assertSame( image1.internalImage, image2.internalImage );
+    assertEquals( hitCount + 1, cache.getHitCount() );
+    icon1.destroyResource( image1 );
+    icon2.destroyResource( image2 );
+  }
+
+  public void testGetInstance_withoutContext() {
+    ServiceContext context = ContextProvider.getContext();
+    ContextProvider.releaseContextHolder();
+    try {
+      assertSame( cache, ImageDescriptorCache.getInstance( display ) );
+      assertNull( ImageDescriptorCache.getInstance( null ) );
+    } finally {
+      ContextProvider.setContext( context );
+    }
+  }
+
+  public void testCreateResource_doesNotRetainDescriptorOfReleasedSession() throws Exception {
+    int size = cache.getSize();
+    Image base = descriptor.createImage( display );
+    ImageDescriptor overlay = ImageDescriptor.getMissingImageDescriptor();
+    ImageDescriptor icon = new DecorationOverlayIcon( base, overlay, IDecoration.TOP_LEFT );
+    icon.createResource( display );
+    WeakReference<ImageDescriptor> iconReference = new WeakReference<>( icon );
+    WeakReference<Image> baseReference = new WeakReference<>( base );
+    assertEquals( size + 1, cache.getSize() );
+
+    // a session that ends does not necessarily destroy its resources
+    icon = null;
+    base = null;
+
+    assertTrue( isCollected( iconReference ) );
+    assertTrue( isCollected( baseReference ) );
+    assertEquals( size, getSizeAfterExpunge( size ) );
+  }
+
+  private static boolean isCollected( WeakReference<?> reference ) {
+    for( int i = 0; i < 20 && reference.get() != null; i++ ) {
+      System.gc();
+    }
+    return reference.get() == null;
+  }
+
+  // entries of collected descriptors are dropped once their references have been enqueued
+  private int getSizeAfterExpunge( int expectedSize ) throws InterruptedException {
+    for( int i = 0; i < 20 && cache.getSize() != expectedSize; i++ ) {
+      System.gc();
+      Thread.sleep( 10 );
+    }
+    return cache.getSize();
+  }
+
+}